@@ -191,7 +191,7 @@ public class LeakTest extends AbstractLanguageLauncher {
                 addResidue(residues, inst, "nativeWeakRef", this::collectionSize);
                 addResidue(residues, inst, "managedNativeLookup", this::collectionSize);
                 addResidue(residues, inst, "nativeTypeLookup", this::objectArraySize);
-                addResidue(residues, inst, "nativeStubLookup", this::objectArraySize);
+                addResidue(residues, inst, "nativeStubLookup", this::collectionSize);
                 addResidue(residues, inst, "nativeStorageReferences", this::collectionSize);
                 addResidue(residues, inst, "pyCapsuleReferences", this::collectionSize);
                 if (!residues.isEmpty()) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.oracle.graal.python.builtins.objects.cext.common.HandleTable;
+import com.oracle.graal.python.builtins.objects.cext.common.LongObjectHashMap;
+import com.oracle.graal.python.util.OverflowException;
+
+public class CApiHandleTableTests {
+
+    @Test
+    public void testLongObjectHashMapAgainstHashMap() {
+        Random random = new Random(42);
+        LongObjectHashMap<Object> map = new LongObjectHashMap<>();
+        HashMap<Long, Object> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            // aligned pointer-like keys collide in the low bits
+            long key = (random.nextInt(20_000) + 1L) << 4;
+            if (random.nextInt(3) == 0) {
+                assertSame(expected.remove(key), map.remove(key));
+            } else {
+                Object value = new Object();
+                assertSame(expected.put(key, value), map.put(key, value));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (var e : expected.entrySet()) {
+            assertSame(e.getValue(), map.get(e.getKey()));
+        }
+        int[] visited = new int[1];
+        map.forEach((v, k) -> {
+            assertSame(expected.get(k), v);
+            visited[0]++;
+        });
+        assertEquals(expected.size(), visited[0]);
+        for (Long key : expected.keySet()) {
+            map.remove(key);
+        }
+        assertTrue(map.isEmpty());
+        assertNull(map.get(16));
+    }
+
+    @Test
+    public void testHandleTableReuseAndCompaction() throws OverflowException {
+        HandleTable table = new HandleTable(1);
+        int n = 10_000;
+        int[] handles = new int[n];
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            handles[i] = table.reserve();
+            assertNotEquals(0, handles[i]);
+            assertTrue(seen.add(handles[i]));
+            table.set(handles[i], Integer.valueOf(i));
+        }
+        assertEquals(n, table.size());
+        int grownCapacity = table.capacity();
+
+        // free all but every 100th handle
+        for (int i = 0; i < n; i++) {
+            if (i % 100 != 0) {
+                assertEquals(Integer.valueOf(i), table.remove(handles[i]));
+            }
+        }
+        assertTrue(table.shouldCompact());
+        table.compact();
+        for (int i = 0; i < n; i += 100) {
+            assertEquals(Integer.valueOf(i), table.get(handles[i]));
+        }
+
+        // the lowest free index is handed out next
+        int next = table.reserve();
+        assertEquals(2, next);
+        table.set(next, "x");
+        assertEquals("x", table.remove(next));
+
+        // once the tail is empty, compaction releases it
+        for (int i = n / 2; i < n; i += 100) {
+            table.remove(handles[i]);
+        }
+        table.compact();
+        assertTrue(table.capacity() < grownCapacity);
+        for (int i = 0; i < n / 2; i += 100) {
+            assertEquals(Integer.valueOf(i), table.get(handles[i]));
+        }
+    }
+}
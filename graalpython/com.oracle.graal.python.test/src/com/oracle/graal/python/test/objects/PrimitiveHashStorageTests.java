@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.objects;
+
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.oracle.graal.python.builtins.modules.SysModuleBuiltins;
+import com.oracle.graal.python.builtins.objects.common.LongKeyHashStorage;
+import com.oracle.graal.python.builtins.objects.common.StringKeyHashStorage;
+import com.oracle.graal.python.lib.PyObjectHashNode;
+import com.oracle.truffle.api.strings.TruffleString;
+
+public class PrimitiveHashStorageTests {
+    @Test
+    public void testLongKeysInsertionOrderAndGrowth() {
+        LongKeyHashStorage storage = LongKeyHashStorage.create(0);
+        LinkedHashMap<Long, Long> expected = new LinkedHashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long key = random.nextInt(5_000) - 2_500;
+            long value = random.nextLong();
+            storage.put(key, value);
+            expected.put(key, value);
+        }
+        assertLongKeys(expected, storage);
+    }
+
+    @Test
+    public void testLongKeysWithCollidingHashes() {
+        LongKeyHashStorage storage = LongKeyHashStorage.create(0);
+        LinkedHashMap<Long, Long> expected = new LinkedHashMap<>();
+        // all these keys have the same Python hash
+        for (int i = 0; i < 100; i++) {
+            long key = 7 + i * SysModuleBuiltins.HASH_MODULUS;
+            storage.put(key, i);
+            expected.put(key, (long) i);
+        }
+        // -1 and -2 have the same Python hash too
+        storage.put(-1, 1);
+        storage.put(-2, 2);
+        expected.put(-1L, 1L);
+        expected.put(-2L, 2L);
+        assertLongKeys(expected, storage);
+        assertEquals(-1, storage.findEntry(7 + 100 * SysModuleBuiltins.HASH_MODULUS));
+    }
+
+    @Test
+    public void testLongKeysCopyIsIndependent() {
+        LongKeyHashStorage storage = LongKeyHashStorage.create(1, 1);
+        LongKeyHashStorage copy = (LongKeyHashStorage) storage.copy();
+        copy.put(1, 2);
+        copy.put(2, 2);
+        assertEquals(1, storage.length());
+        assertEquals(1, storage.getValue(storage.findEntry(1)));
+        assertEquals(2, copy.length());
+        assertEquals(2, copy.getValue(copy.findEntry(1)));
+    }
+
+    @Test
+    public void testStringKeys() {
+        TruffleString.EqualNode equalNode = TruffleString.EqualNode.getUncached();
+        StringKeyHashStorage storage = StringKeyHashStorage.create(0);
+        List<TruffleString> keys = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            TruffleString key = TruffleString.fromJavaStringUncached("key" + i, TS_ENCODING);
+            keys.add(key);
+            storage.put(key, hash(key), i, equalNode);
+        }
+        for (int i = 0; i < keys.size(); i += 2) {
+            // equal, but not identical key
+            TruffleString key = TruffleString.fromJavaStringUncached("key" + i, TS_ENCODING);
+            storage.put(key, hash(key), -i, equalNode);
+        }
+        assertEquals(keys.size(), storage.length());
+        for (int i = 0; i < keys.size(); i++) {
+            assertSame(keys.get(i), storage.getKey(i));
+            assertEquals(i % 2 == 0 ? -i : i, storage.getValue(i));
+            assertEquals(i, storage.findEntry(keys.get(i), hash(keys.get(i)), equalNode));
+        }
+        TruffleString missing = TruffleString.fromJavaStringUncached("missing", TS_ENCODING);
+        assertEquals(-1, storage.findEntry(missing, hash(missing), equalNode));
+    }
+
+    private static long hash(TruffleString key) {
+        return PyObjectHashNode.hash(key, TruffleString.HashCodeNode.getUncached());
+    }
+
+    private static void assertLongKeys(LinkedHashMap<Long, Long> expected, LongKeyHashStorage storage) {
+        assertEquals(expected.size(), storage.length());
+        int index = 0;
+        for (Entry<Long, Long> entry : expected.entrySet()) {
+            assertEquals((long) entry.getKey(), storage.getKey(index));
+            assertEquals((long) entry.getValue(), storage.getValue(index));
+            assertEquals(index, storage.findEntry(entry.getKey()));
+            index++;
+        }
+    }
+}
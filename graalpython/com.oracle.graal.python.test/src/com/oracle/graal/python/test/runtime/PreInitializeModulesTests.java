@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Value;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Pre-initializes a context the same way the native image build does, see
+ * {@code -Dpolyglot.image-build-time.PreinitializeContexts}, and checks the modules imported by
+ * {@code python.PreInitializeModules}.
+ */
+public class PreInitializeModulesTests {
+    private static final String[] PROPERTIES = {"polyglot.image-build-time.PreinitializeContexts", "polyglot.engine.AllowExperimentalOptions", "polyglot.python.PythonPath",
+                    "polyglot.python.PreInitializeModules"};
+
+    private Path appDir;
+
+    @Before
+    public void setUp() throws IOException {
+        appDir = Files.createTempDirectory("graalpy-preinit-");
+        Files.writeString(appDir.resolve("preinit_app.py"), "import sys\n" +
+                        "value = 42\n" +
+                        "path_at_import = list(sys.path)\n");
+    }
+
+    @After
+    public void tearDown() throws IOException, ReflectiveOperationException {
+        for (String property : PROPERTIES) {
+            System.clearProperty(property);
+        }
+        Method reset = getEngineHolderMethod("resetPreInitializedEngine");
+        if (reset != null) {
+            reset.invoke(null);
+        }
+        try (Stream<Path> files = Files.walk(appDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private static Method getEngineHolderMethod(String name) throws ReflectiveOperationException {
+        Class<?> holder = Class.forName("org.graalvm.polyglot.Engine$ImplHolder", true, Engine.class.getClassLoader());
+        Method method = holder.getDeclaredMethod(name);
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            // InaccessibleObjectException when org.graalvm.polyglot is not opened to the tests
+            return null;
+        }
+        return method;
+    }
+
+    @Test
+    public void modulesAreImportedFromPythonPathOnly() throws ReflectiveOperationException {
+        System.setProperty("polyglot.image-build-time.PreinitializeContexts", "python");
+        System.setProperty("polyglot.engine.AllowExperimentalOptions", "true");
+        System.setProperty("polyglot.python.PythonPath", appDir.toString());
+        System.setProperty("polyglot.python.PreInitializeModules", "preinit_app");
+        Method preInitialize = getEngineHolderMethod("preInitializeEngine");
+        Assume.assumeNotNull(preInitialize);
+        try {
+            preInitialize.invoke(null);
+        } catch (InvocationTargetException e) {
+            throw new AssertionError(e.getCause());
+        }
+
+        try (Context context = Context.newBuilder("python").allowExperimentalOptions(true).allowAllAccess(true) //
+                        .option("python.PythonPath", appDir.toString()) //
+                        .option("python.PreInitializeModules", "preinit_app").build()) {
+            assertTrue("module was not pre-initialized", context.eval("python", "import sys; 'preinit_app' in sys.modules").asBoolean());
+            assertEquals(42, context.eval("python", "sys.modules['preinit_app'].value").asInt());
+            // the home directories are "." at build time, they must not be searched
+            Value path = context.eval("python", "sys.modules['preinit_app'].path_at_import");
+            assertEquals(1, path.getArraySize());
+            assertEquals(appDir.toString(), path.getArrayElement(0).asString());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.junit.Test;
+
+import com.oracle.graal.python.builtins.modules.re.TRegexSharedCache;
+import com.oracle.graal.python.runtime.PythonContext;
+
+public class RegexSharedCacheMultiContextTests {
+    private static final String MATCH = "import re\n" +
+                    "bool(re.compile(r'(?P<x>[a-f]+)-shared-cache-\\d{3}').search('abc-shared-cache-123'))\n";
+
+    private static Context newContext(Engine engine) {
+        return Context.newBuilder("python").engine(engine).allowExperimentalOptions(true).allowAllAccess(true).build();
+    }
+
+    private static TRegexSharedCache getCache(Context context) {
+        context.enter();
+        try {
+            return PythonContext.get(null).getLanguage().getSharedTRegexCache();
+        } finally {
+            context.leave();
+        }
+    }
+
+    @Test
+    public void secondContextReusesCompiledRegex() {
+        try (Engine engine = Engine.create()) {
+            try (Context first = newContext(engine); Context second = newContext(engine)) {
+                first.initialize("python");
+                second.initialize("python");
+                TRegexSharedCache cache = getCache(first);
+                assertNotNull(cache);
+                assertSame(cache, getCache(second));
+
+                assertTrue(first.eval("python", MATCH).asBoolean());
+                int size = cache.size();
+                long hits = cache.getHitCount();
+
+                assertTrue(second.eval("python", MATCH).asBoolean());
+                assertEquals(size, cache.size());
+                assertTrue(cache.getHitCount() > hits);
+            }
+        }
+    }
+
+    @Test
+    public void zeroSizeDisablesSharing() {
+        try (Engine engine = Engine.newBuilder("python").allowExperimentalOptions(true).option("python.RegexCacheSize", "0").build()) {
+            try (Context context = newContext(engine)) {
+                assertTrue(context.eval("python", MATCH).asBoolean());
+                assertNull(getCache(context));
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+import org.junit.Test;
+
+public class SysMonitoringMultiContextTests {
+    private static final Source CODE = Source.create("python", "import sys\n" +
+                    "def f():\n" +
+                    "    return 1\n");
+
+    private static Context newContext(Engine engine) {
+        Context context = Context.newBuilder("python").engine(engine).allowExperimentalOptions(true).allowAllAccess(true).build();
+        context.eval(CODE);
+        return context;
+    }
+
+    private static int countStarts(Context context, String result) {
+        context.eval("python", "events = []\n" +
+                        "def cb(code, offset):\n" +
+                        "    events.append(code.co_name)\n" +
+                        "    return " + result + "\n" +
+                        "sys.monitoring.use_tool_id(0, 'test')\n" +
+                        "sys.monitoring.register_callback(0, sys.monitoring.events.PY_START, cb)\n" +
+                        "sys.monitoring.set_local_events(0, f.__code__, sys.monitoring.events.PY_START)\n" +
+                        "f()\n" +
+                        "f()\n");
+        return context.eval("python", "len(events)").asInt();
+    }
+
+    @Test
+    public void localEventsAndDisableArePerContext() {
+        try (Engine engine = Engine.create()) {
+            try (Context first = newContext(engine); Context second = newContext(engine)) {
+                assertEquals(1, countStarts(first, "sys.monitoring.DISABLE"));
+                assertEquals(0, second.eval("python", "sys.monitoring.get_local_events(0, f.__code__)").asInt());
+                assertEquals(2, countStarts(second, "None"));
+                assertEquals(1, first.eval("python", "f(); len(events)").asInt());
+            }
+        }
+    }
+}
@@ -236,6 +236,22 @@ class TestGC1(unittest.TestCase):
             c = GCTestClass.getCounters()
             assert c == (1,1,1,1)
 
+    def test_release_more_than_one_batch(self):
+        if GRAALPY:
+            # more than three times the default NativeReleaseBatchSize, so the objects are
+            # released by the polling thread and the background release thread in several batches
+            n = 3 * 1024 + 17
+            gc.enable()
+            GCTestClass.resetCounters()
+            objects = [GCTestClass() for _ in range(n)]
+            assert GCTestClass.getCounters() == (n, n, 0, 0)
+            del objects
+            deadline = time.time() + 60
+            while GCTestClass.getCounters()[3] < n and time.time() < deadline:
+                gc.collect()
+                time.sleep(0.1)
+            assert GCTestClass.getCounters() == (n, n, n, n), GCTestClass.getCounters()
+
 #
 # class TestGC2(CPyExtTestCase):
 #
@@ -310,3 +310,65 @@ def test_code_identity():
     assert bar_copy.__code__.co_filename == 'asdf'
     assert foo.__code__.co_filename != 'asdf'
     assert bar.__code__.co_filename != 'asdf'
+
+
+def test_lazy_function_bodies():
+    import sys
+    if sys.implementation.name != "graalpy" or not __graalpython__.is_bytecode_dsl_interpreter:
+        return
+    import subprocess
+    script = r"""
+import marshal, warnings
+
+def outer(x):
+    "outer doc"
+    y = x + 1
+    def inner(z):
+        return x + y + z
+    return inner
+
+def gen(n):
+    for i in range(n):
+        yield i * i
+
+class A:
+    def m(self):
+        return "A"
+
+class B(A):
+    def m(self):
+        return "B" + super().m()
+
+def never_called():
+    return [undefined_name for _ in range(3)]
+
+assert outer.__doc__ == "outer doc"
+assert outer.__code__.co_argcount == 1
+assert outer.__code__.co_varnames[0] == "x"
+assert outer(1)(3) == 6
+assert list(gen(4)) == [0, 1, 4, 9]
+assert B().m() == "BA"
+assert "undefined_name" in never_called.__code__.co_names
+code = marshal.loads(marshal.dumps(outer.__code__))
+assert code.co_name == "outer"
+exec(compile("def f():\n    return 42\n", "<lazy>", "exec"), g := {})
+assert g["f"]() == 42
+with warnings.catch_warnings(record=True) as w:
+    warnings.simplefilter("always")
+    exec(compile("def h():\n    return 1 is 1\n", "<lazy>", "exec"), g)
+    assert g["h"]() is True
+    assert g["h"]() is True
+syntax_warnings = [x for x in w if issubclass(x.category, SyntaxWarning)]
+assert len(syntax_warnings) == 1, [str(x.message) for x in w]
+assert '"is" with' in str(syntax_warnings[0].message), str(syntax_warnings[0].message)
+print("ok", flush=True)
+"""
+    result = subprocess.run(
+        [sys.executable, "--experimental-options", "--python.LazyFunctionBodies", "-c", script],
+        stdout=subprocess.PIPE,
+        stderr=subprocess.PIPE,
+        text=True,
+        timeout=60,
+    )
+    assert result.returncode == 0, result.stderr
+    assert result.stdout.rstrip().endswith("ok"), result.stdout
@@ -39,6 +39,7 @@
 
 import unittest
 import csv
+import sys
 from tempfile import TemporaryFile
 
 class TestUnicodeCharacters(unittest.TestCase):
@@ -75,6 +76,53 @@ class TestUnicodeCharacters(unittest.TestCase):
                              expected + writer.dialect.lineterminator)
 
 
+class TestFieldScanning(unittest.TestCase):
+    def test_unquoted_fields(self):
+        data = ['a,bb,,ccc\r\n', 'x\n', 'y', '\n', ',\n']
+        self.assertEqual(list(csv.reader(data)), [['a', 'bb', '', 'ccc'], ['x'], ['y'], [], ['', '']])
 
+    def test_quoted_fields(self):
+        data = ['a,"b,""c""",d\n', '"multi\n', 'line" tail,e\n', '"x"y,z\n']
+        self.assertEqual(list(csv.reader(data)), [['a', 'b,"c"', 'd'], ['multi\nline tail', 'e'], ['xy', 'z']])
 
+    def test_escapechar(self):
+        data = ['ab\\,c,d\\\\e,"f\\"g"\n']
+        self.assertEqual(list(csv.reader(data, escapechar='\\')), [['ab,c', 'd\\e', 'f"g']])
 
+    def test_dialect_options(self):
+        self.assertEqual(list(csv.reader(['a, b,  "c"\n'], skipinitialspace=True)), [['a', 'b', 'c']])
+        self.assertEqual(list(csv.reader(['a;"b";c\n'], delimiter=';', quoting=csv.QUOTE_NONE)), [['a', '"b"', 'c']])
+        self.assertEqual(list(csv.reader(['1,2.5,"x"\n'], quoting=csv.QUOTE_NONNUMERIC)), [[1.0, 2.5, 'x']])
+        with self.assertRaises(ValueError):
+            list(csv.reader(['1,x\n'], quoting=csv.QUOTE_NONNUMERIC))
+
+    def test_newline_in_unquoted_field(self):
+        with self.assertRaises(csv.Error):
+            list(csv.reader(['a\rb,c\n']))
+
+    def test_field_size_limit(self):
+        old_limit = csv.field_size_limit(4)
+        try:
+            self.assertEqual(list(csv.reader(['abcd,"efgh"\n'])), [['abcd', 'efgh']])
+            for data in ['abcde\n', '"abcde"\n', 'ab\\cde\n']:
+                with self.assertRaises(csv.Error):
+                    list(csv.reader([data], escapechar='\\'))
+        finally:
+            csv.field_size_limit(old_limit)
+
+    def test_line_num(self):
+        reader = csv.reader(['a,"b\n', 'c"\n', 'd\n'])
+        self.assertEqual(next(reader), ['a', 'b\nc'])
+        self.assertEqual(reader.line_num, 2)
+        self.assertEqual(next(reader), ['d'])
+        self.assertEqual(reader.line_num, 3)
+
+    @unittest.skipUnless(sys.implementation.name == 'graalpy', "GraalPy extension")
+    def test_readrows(self):
+        reader = csv.reader(['%d,x\n' % i for i in range(5)])
+        self.assertEqual(reader.readrows(2), [['0', 'x'], ['1', 'x']])
+        self.assertEqual(next(reader), ['2', 'x'])
+        self.assertEqual(reader.readrows(), [['3', 'x'], ['4', 'x']])
+        self.assertEqual(reader.readrows(), [])
+        with self.assertRaises(ValueError):
+            reader.readrows(0)
@@ -629,3 +629,47 @@ class TestBasic(unittest.TestCase):
         klass = type(reversed(deque()))
         for s in ('abcd', range(2000)):
             self.assertEqual(list(klass(deque(s))), list(reversed(s)))
+
+    def test_random_operations_against_list(self):
+        rnd = random.Random(42)
+        for maxlen in (None, 7, 100):
+            d = deque(maxlen=maxlen)
+            l = []
+            for _ in range(3000):
+                op = rnd.randrange(8)
+                v = rnd.randrange(1000)
+                if op == 0:
+                    d.append(v)
+                    l.append(v)
+                elif op == 1:
+                    d.appendleft(v)
+                    l.insert(0, v)
+                    if maxlen is not None:
+                        del l[maxlen:]
+                elif op == 2 and l:
+                    self.assertEqual(d.pop(), l.pop())
+                elif op == 3 and l:
+                    self.assertEqual(d.popleft(), l.pop(0))
+                elif op == 4 and l:
+                    n = rnd.randrange(-2 * len(l), 2 * len(l))
+                    d.rotate(n)
+                    n %= len(l)
+                    l[:] = l[-n:] + l[:-n]
+                elif op == 5 and l:
+                    i = rnd.randrange(-len(l), len(l))
+                    del d[i]
+                    del l[i]
+                elif op == 6 and (maxlen is None or len(l) < maxlen):
+                    i = rnd.randrange(-len(l) - 1, len(l) + 1)
+                    d.insert(i, v)
+                    l.insert(i, v)
+                elif op == 7 and l:
+                    i = rnd.randrange(-len(l), len(l))
+                    d[i] = v
+                    l[i] = v
+                if maxlen is not None:
+                    del l[:-maxlen]
+                self.assertEqual(list(d), l)
+                if l:
+                    self.assertEqual(d[-1], l[-1])
+                    self.assertEqual(d[len(l) // 2], l[len(l) // 2])
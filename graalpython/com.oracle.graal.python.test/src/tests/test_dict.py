@@ -1630,3 +1630,74 @@ def test_removing_attr_from_economic_map():
     del o.foo
 
     assert "foo" not in o.__dict__
+
+def test_int_and_str_keys_with_int_values():
+    # these dicts start with the primitive storage strategies
+    d = {}
+    for i in range(-1000, 1000):
+        d[i] = i * 2
+    assert len(d) == 2000
+    assert d[-1] == -2 and d[-2] == -4
+    assert d[True] == 2 and d[1.0] == 2 and 1.5 not in d and "1" not in d
+    assert list(d)[:3] == [-1000, -999, -998]
+    assert sum(d.values()) == sum(i * 2 for i in range(-1000, 1000))
+    assert d == {i: i * 2 for i in range(-1000, 1000)}
+    c = d.copy()
+    c[0] = 42
+    assert d[0] == 0 and c[0] == 42
+
+    s = {}
+    for w in "the quick brown fox jumps over the lazy dog".split():
+        s[w] = s.get(w, 0) + 1
+    assert s == {"the": 2, "quick": 1, "brown": 1, "fox": 1, "jumps": 1, "over": 1, "lazy": 1, "dog": 1}
+    assert s[str("the")] == 2 and 1 not in s
+
+    class StrSubclass(str):
+        pass
+
+    assert s[StrSubclass("fox")] == 1
+
+    class EqualToOne:
+        def __hash__(self):
+            return 1
+
+        def __eq__(self, other):
+            return other == 1
+
+    assert d[EqualToOne()] == 2
+
+
+def test_int_and_str_keys_generalization():
+    def make(*keys):
+        # built incrementally to start with the primitive storage strategies
+        d = {}
+        for i, k in enumerate(keys):
+            d[k] = i + 1
+        return d
+
+    d = make(1, 2, 3)
+    d[2] = "two"
+    d[True] = 10
+    d["four"] = 4
+    assert d == {1: 10, 2: "two", 3: 3, "four": 4}
+    assert list(d.keys())[0] is not True
+
+    d = make(1, 2, 3)
+    del d[2]
+    d[4] = 4
+    assert list(d.items()) == [(1, 1), (3, 3), (4, 4)]
+    assert d.pop(1) == 1 and d.popitem() == (4, 4) and d == {3: 3}
+
+    d = make("a", "b")
+    d[False] = 0
+    assert d == {"a": 1, "b": 2, False: 0}
+
+    d = make(1, 2, 3)
+    for k in d:
+        d[3] = "three"
+    assert list(d.values()) == [1, 2, "three"]
+
+    d = {}
+    d[True] = 1
+    d[1] = 2
+    assert list(d.items()) == [(True, 2)]
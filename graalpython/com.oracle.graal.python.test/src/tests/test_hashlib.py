@@ -39,6 +39,7 @@
 
 import hashlib
 import hmac
+import threading
 import unittest
 
 
@@ -80,6 +81,25 @@ class HashlibTest(unittest.TestCase):
         hm = hmac.new(self._get_buffer(), b'data', digestmod=hashlib.sha256)
         self.assertEqual('c449f6626bf7f997cda786d07895f086c2fa18eab25b1c08c4de66a5d46a2a08', hm.hexdigest())
 
+    def test_concurrent_update_of_shared_digest(self):
+        # large updates run without the GIL, the digest object must still see every update whole
+        chunk = bytes(range(256)) * 64
+        shared = hashlib.sha256()
+        hm = hmac.new(b'key', digestmod=hashlib.sha256)
+
+        def work():
+            for _ in range(20):
+                shared.update(chunk)
+                hm.update(chunk)
+
+        threads = [threading.Thread(target=work) for _ in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        self.assertEqual(hashlib.sha256(chunk * 80).hexdigest(), shared.hexdigest())
+        self.assertEqual(hmac.new(b'key', chunk * 80, digestmod=hashlib.sha256).hexdigest(), hm.hexdigest())
+
     @staticmethod
     def _get_buffer():
         ba = bytearray(b'ab')
@@ -194,3 +194,115 @@ def test_local_property_25274():
 
 
 
+
+
+def test_persistent_code_cache():
+    if sys.implementation.name != "graalpy":
+        return
+    import subprocess
+    import tempfile
+
+    with tempfile.TemporaryDirectory() as tmp:
+        cache_dir = os.path.join(tmp, "cache")
+        mod_dir = os.path.join(tmp, "src")
+        os.mkdir(mod_dir)
+        mod_file = os.path.join(mod_dir, "code_cache_mod.py")
+
+        def run(*args):
+            result = subprocess.run(
+                [sys.executable, "-B", "--experimental-options", f"--python.CodeCacheDir={cache_dir}",
+                 "--log.python.com.oracle.graal.python.runtime.PersistentCodeCache.level=FINER", *args,
+                 "-c", "import code_cache_mod; print(code_cache_mod.f(3))"],
+                env={**os.environ, "PYTHONPATH": mod_dir},
+                stdout=subprocess.PIPE,
+                stderr=subprocess.PIPE,
+                text=True,
+                timeout=120,
+            )
+            assert result.returncode == 0, result.stderr
+            cache_hit = f"Loaded {mod_file} from code cache entry" in result.stderr
+            return result.stdout.strip(), cache_hit
+
+        with open(mod_file, "w") as f:
+            f.write("def f(x):\n    return [i * 2 for i in range(x)]\n")
+        assert run() == ("[0, 2, 4]", False)
+        entries = [e for e in os.listdir(cache_dir) if e.endswith(".gpyc")]
+        assert entries
+        # second run is served from the cache
+        assert run() == ("[0, 2, 4]", True)
+        assert sorted(e for e in os.listdir(cache_dir) if e.endswith(".gpyc")) == sorted(entries)
+
+        # a changed source maps to a new entry, storing it evicts the least recently used entries
+        filler = os.path.join(cache_dir, "0" * 64 + ".gpyc")
+        with open(filler, "wb") as f:
+            f.write(bytes(2 * 1024 * 1024))
+        os.utime(filler, (0, 0))
+        with open(mod_file, "w") as f:
+            f.write("def f(x):\n    return [i * 3 for i in range(x)]\n")
+        assert run("--python.CodeCacheMaxSize=1") == ("[0, 3, 6]", False)
+        assert not os.path.exists(filler)
+        assert run() == ("[0, 3, 6]", True)
+
+        # corrupted entries are ignored and rewritten
+        for e in os.listdir(cache_dir):
+            with open(os.path.join(cache_dir, e), "r+b") as f:
+                f.seek(-1, os.SEEK_END)
+                last = f.read(1)
+                f.seek(-1, os.SEEK_END)
+                f.write(bytes([last[0] ^ 0xff]))
+        assert run() == ("[0, 3, 6]", False)
+        assert run() == ("[0, 3, 6]", True)
+
+
+def test_import_prefetch():
+    if sys.implementation.name != "graalpy":
+        return
+    import subprocess
+    import tempfile
+
+    with tempfile.TemporaryDirectory() as tmp:
+        pkg = os.path.join(tmp, "prefetch_pkg")
+        os.makedirs(os.path.join(pkg, "sub"))
+        main = (
+            "import time\n"
+            "warnings = __import__('warnings')\n"
+            "stats = __graalpython__.import_prefetch_statistics\n"
+            "deadline = time.monotonic() + 60\n"
+            "# wait until the workers compiled __init__.py, a.py and sub/__init__.py\n"
+            "while stats()['compiled'] < 3:\n"
+            "    assert time.monotonic() < deadline, 'import prefetching did not finish'\n"
+            "    time.sleep(0.01)\n"
+            "with warnings.catch_warnings(record=True) as w:\n"
+            "    warnings.simplefilter('always')\n"
+            "    __import__('prefetch_pkg')\n"
+            "import prefetch_pkg\n"
+            "from prefetch_pkg import sub\n"
+            "print(prefetch_pkg.VALUE, sub.VALUE)\n"
+            "print(stats()['used'] >= 3)\n"
+            "print(any('invalid escape sequence' in str(x.message) for x in w))\n"
+        )
+        files = {
+            "prefetch_main.py": main,
+            "prefetch_pkg/__init__.py": "from . import a, warn\nfrom .a import b\nVALUE = a.VALUE + b\n",
+            "prefetch_pkg/a.py": "try:\n    from .broken import x\nexcept SyntaxError as e:\n    b = e.lineno\nVALUE = 40\n",
+            "prefetch_pkg/broken.py": "x = 1\nx = (\n",
+            # the prefetched code is discarded and the warning reported by the importing thread
+            "prefetch_pkg/warn.py": "s = '\\d'\n",
+            "prefetch_pkg/sub/__init__.py": "from ..a import VALUE as A\nVALUE = A + 1\n",
+        }
+        for name, content in files.items():
+            with open(os.path.join(tmp, name), "w") as f:
+                f.write(content)
+        # prefetched files are found by their canonical path, import them through a symlink
+        link = os.path.join(tmp, "link")
+        os.symlink(tmp, link)
+        result = subprocess.run(
+            [sys.executable, "-B", "--experimental-options", "--python.ImportPrefetchThreads=4", "-c", "import prefetch_main"],
+            env={**os.environ, "PYTHONPATH": link},
+            stdout=subprocess.PIPE,
+            stderr=subprocess.PIPE,
+            text=True,
+            timeout=120,
+        )
+        assert result.returncode == 0, result.stderr
+        assert result.stdout.split() == ["42", "41", "True", "True"], result.stdout
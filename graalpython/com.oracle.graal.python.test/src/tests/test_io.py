@@ -347,6 +347,32 @@ sys.stdout = StdoutAtShutdown()
         self.assertEqual(second_pickled, b'1234')
         self.assertEqual(third_pickled, b'abcd')
 
+    @unittest.skipUnless(sys.implementation.name == 'graalpy', "CPython lets readinto write into the result bytes")
+    def test_buffered_read_does_not_share_raw_buffer(self):
+        class KeepingRawIO(_io._RawIOBase):
+            def __init__(self):
+                self.kept = []
+
+            def readable(self):
+                return True
+
+            def readinto(self, b):
+                b[:] = b'a' * len(b)
+                self.kept.append(b)
+                return len(b)
+
+        raw = KeepingRawIO()
+        r = _io.BufferedReader(raw, buffer_size=8)
+        read_result = r.read(16)
+        read1_result = r.read1(16)
+        readinto_buffer = bytearray(16)
+        r.readinto(readinto_buffer)
+        for b in raw.kept:
+            b[:] = b'z' * len(b)
+        self.assertEqual(read_result, b'a' * 16)
+        self.assertEqual(read1_result, b'a' * 16)
+        self.assertEqual(readinto_buffer, b'a' * 16)
+
     def test_stringio_overwrite(self):
         s = _io.StringIO('hello')
         s.seek(2)
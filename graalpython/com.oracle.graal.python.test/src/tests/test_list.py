@@ -729,6 +729,61 @@ class ListTest(list_tests.CommonTest):
         l.extend(l)
         self.assertEqual([1,2,3,4,10,20,30,40], l)
 
+    def test_sort_with_primitive_keys(self):
+        import random
+        rnd = random.Random(42)
+        key_sets = [
+            [rnd.randrange(-5, 5) for _ in range(300)],
+            [rnd.randrange(-2 ** 63, 2 ** 63) for _ in range(300)],
+            [rnd.choice([True, False, 0, 1, -1]) for _ in range(300)],
+            [rnd.choice([0.0, -0.0, 1.5, -2.5, float('inf')]) for _ in range(300)],
+            [rnd.choice(["", "a", "b", "ab", "\u20ac", "\U0001f600"]) for _ in range(300)],
+            # mixed keys take the generic path
+            [rnd.choice([1, 2.5, 2 ** 70]) for _ in range(300)],
+        ]
+        for keys in key_sets:
+            items = list(enumerate(keys))
+            for reverse in (False, True):
+                expected = sorted(items, key=lambda item: item[1], reverse=reverse)
+                # the sort must be stable, in both directions
+                for a, b in zip(expected, expected[1:]):
+                    if a[1] == b[1]:
+                        self.assertLess(a[0], b[0])
+                actual = list(items)
+                calls = []
+                actual.sort(key=lambda item: calls.append(item) or item[1], reverse=reverse)
+                self.assertEqual(expected, actual)
+                self.assertEqual(items, calls)
+
+        nans = [float('nan'), 1.0, float('nan'), 0.0]
+        l = list(nans)
+        l.sort(key=lambda x: x)
+        self.assertEqual(sorted(map(id, nans)), sorted(map(id, l)))
+
+    def test_sort_large_lists(self):
+        # long enough to be sorted in parallel
+        import random
+        from collections import Counter
+        rnd = random.Random(7)
+        n = 300000
+        for values in ([rnd.randrange(-2 ** 31, 2 ** 31) for _ in range(n)],
+                       [rnd.randrange(-2 ** 63, 2 ** 63) for _ in range(n)],
+                       [rnd.random() for _ in range(n)]):
+            l = list(values)
+            l.sort()
+            self.assertTrue(all(a <= b for a, b in zip(l, l[1:])))
+            self.assertEqual(Counter(values), Counter(l))
+            l.sort(reverse=True)
+            self.assertTrue(all(a >= b for a, b in zip(l, l[1:])))
+
+        items = [(rnd.randrange(1000), i) for i in range(n)]
+        l = list(items)
+        l.sort(key=lambda item: item[0])
+        self.assertEqual(sorted(items), l)
+        l = list(items)
+        l.sort(key=lambda item: str(item[0]), reverse=True)
+        self.assertEqual(sorted(items, key=lambda item: (str(item[0]), -item[1]), reverse=True), l)
+
 class ListCompareTest(CompareTest):
 
     def test_compare(self):
@@ -0,0 +1,130 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import cProfile
+import pstats
+import sys
+import threading
+import unittest
+
+
+def fib(n):
+    return n if n < 2 else fib(n - 1) + fib(n - 2)
+
+
+def leaf():
+    return 1
+
+
+def caller(n):
+    for _ in range(n):
+        leaf()
+
+
+def find(stats, function):
+    for (filename, lineno, name), value in stats.stats.items():
+        if name == function.__name__ and lineno == function.__code__.co_firstlineno:
+            return value
+    raise AssertionError(f"{function.__name__} not in profile")
+
+
+class DeterministicProfileTest(unittest.TestCase):
+
+    def profile(self, func, *args, **kwargs):
+        profiler = cProfile.Profile(**kwargs)
+        profiler.enable()
+        try:
+            func(*args)
+        finally:
+            profiler.disable()
+        return pstats.Stats(profiler)
+
+    def test_call_counts(self):
+        stats = self.profile(caller, 25)
+        cc, nc, tt, ct, callers = find(stats, leaf)
+        self.assertEqual(nc, 25)
+        self.assertEqual(cc, 25)
+        self.assertGreaterEqual(ct, tt)
+        self.assertEqual(find(stats, caller)[1], 1)
+
+    def test_callers(self):
+        stats = self.profile(caller, 7)
+        callers = find(stats, leaf)[4]
+        self.assertEqual([(key[2], value[1]) for key, value in callers.items()], [("caller", 7)])
+
+    def test_recursion(self):
+        stats = self.profile(fib, 10)
+        cc, nc, tt, ct, callers = find(stats, fib)
+        self.assertEqual(nc, 177)
+        self.assertEqual(cc, 1)
+
+    def test_no_subcalls(self):
+        profiler = cProfile.Profile(subcalls=False)
+        profiler.enable()
+        caller(3)
+        profiler.disable()
+        for entry in profiler.getstats():
+            if getattr(entry.code, "co_name", None) == "caller":
+                self.assertFalse(entry.calls)
+                break
+        else:
+            self.fail("caller not in profile")
+
+    def test_clear(self):
+        profiler = cProfile.Profile()
+        profiler.enable()
+        leaf()
+        profiler.disable()
+        profiler.clear()
+        profiler.enable()
+        leaf()
+        leaf()
+        profiler.disable()
+        self.assertEqual(find(pstats.Stats(profiler), leaf)[1], 2)
+
+    @unittest.skipIf(sys.implementation.name != "graalpy", "CPython only profiles the thread that enabled the profiler")
+    def test_threads(self):
+        profiler = cProfile.Profile()
+        profiler.enable()
+        threads = [threading.Thread(target=caller, args=(10,)) for _ in range(3)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        profiler.disable()
+        self.assertEqual(find(pstats.Stats(profiler), leaf)[1], 30)
@@ -118,3 +118,25 @@ def test_iter():
         l.append(i)
 
     assert l == [b'\x02', b'\x03', b'\x04']
+
+
+def test_random_access_read_only_file_mapping():
+    import struct
+    import tempfile
+    # larger than the emulated backend's read window, so reads cross window boundaries
+    data = bytes(range(256)) * 1024
+    with tempfile.TemporaryFile() as f:
+        f.write(data)
+        f.flush()
+        m = mmap.mmap(f.fileno(), 0, access=mmap.ACCESS_READ)
+        try:
+            view = memoryview(m)
+            for offset in [0, 1, 65535, 65534, 131071, 200000, len(data) - 8]:
+                assert struct.unpack_from("<Q", m, offset) == struct.unpack_from("<Q", data, offset)
+                assert m[offset] == data[offset]
+                assert view[offset:offset + 8].tobytes() == data[offset:offset + 8]
+            assert m[65530:65550] == data[65530:65550]
+            assert bytes(view[-100000:]) == data[-100000:]
+            view.release()
+        finally:
+            m.close()
@@ -83,8 +83,7 @@ if sys.implementation.name == 'graalpy':
             res = wait(fds, timeout)
             delta = time.monotonic() - start
             assert not res
-            # The GraalPy multiprocessing wait path actively polls fake file descriptors and may
-            # overshoot under scheduling contention.
+            # may overshoot under scheduling contention
             assert delta < timeout * 8
             assert delta > timeout / 2
 
@@ -102,3 +101,49 @@ if sys.implementation.name == 'graalpy':
         res = wait([b, x], 3)
         assert res == [x], "res3"
         assert x.recv() == 33, "res4"
+
+
+    @graalpy_multiprocessing
+    @skip_if_sandboxed("Sandboxed runs use an emulated backend for multiprocessing wait")
+    def test_wait_wakes_up_on_send():
+        import threading
+        a, b = multiprocessing.Pipe()
+        x, y = multiprocessing.connection.Pipe(False)  # Truffle multiprocessing pipe
+        # without and with real file descriptors to wait on as well
+        for fds in [[x], [b, x]]:
+            sender = threading.Timer(0.5, lambda: y.send(7))
+            sender.start()
+            res = wait(fds)
+            sender.join()
+            assert res == [x], res
+            assert x.recv() == 7
+
+
+    @dataclass
+    class PickledPoint:
+        x: int
+        y: int
+
+
+    @graalpy_multiprocessing
+    def test_send_objects_without_pickling():
+        x, y = multiprocessing.connection.Pipe(False)  # Truffle multiprocessing pipe
+        shared = [1, 2]
+        values = [
+            None, True, 42, 2 ** 100, -1.5, "abc", b"\x00\x01" * 1000,
+            (1, "a", (b"b", None)), [1, [2.0, {"k": (3,)}]], {1: "one", "two": [2]},
+            frozenset({1, "x", (2, 3)}),
+            # not transferable, these are pickled
+            PickledPoint(1, 2), [PickledPoint(3, 4)], bytearray(b"xyz"), [shared, shared],
+        ]
+        for value in values:
+            y.send(value)
+            received = x.recv()
+            assert received == value, (received, value)
+            assert type(received) is type(value)
+        y.send([shared, shared])
+        received = x.recv()
+        assert received[0] is received[1]
+        # an object sent without pickling can still be received as bytes
+        y.send({"a": 1})
+        assert multiprocessing.reduction.ForkingPickler.loads(x.recv_bytes()) == {"a": 1}
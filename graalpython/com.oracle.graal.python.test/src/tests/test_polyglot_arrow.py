@@ -0,0 +1,150 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import array
+import sys
+import unittest
+
+from tests.util import skip_if_sandboxed, storage_to_native
+
+
+@unittest.skipUnless(sys.implementation.name == 'graalpy', "GraalPy-specific Arrow data exchange")
+@skip_if_sandboxed("Arrow data exchange needs native memory")
+class ArrowColumnTest(unittest.TestCase):
+
+    def roundtrip(self, obj):
+        from polyglot.arrow import to_arrow, from_arrow
+        return from_arrow(to_arrow(obj))
+
+    def test_schema_capsule(self):
+        from polyglot.arrow import to_arrow
+        column = to_arrow([1, 2, 3])
+        self.assertEqual(len(column), 3)
+        self.assertEqual(type(column.__arrow_c_schema__()).__name__, "PyCapsule")
+        schema, data = column.__arrow_c_array__()
+        self.assertEqual(type(schema).__name__, "PyCapsule")
+        self.assertEqual(type(data).__name__, "PyCapsule")
+
+    def test_int_list(self):
+        values = list(range(-5, 1000))
+        imported = self.roundtrip(values)
+        self.assertEqual(imported, values)
+        # the imported storage wraps the exported memory, writes must not be visible there
+        imported[0] = 42
+        imported.append(2 ** 100)
+        imported.reverse()
+        self.assertEqual(imported, [2 ** 100] + values[:0:-1] + [42])
+        self.assertEqual(self.roundtrip([2 ** 40, -1]), [2 ** 40, -1])
+
+    def test_float_list(self):
+        self.assertEqual(self.roundtrip([1.5, -2.0, float("inf")]), [1.5, -2.0, float("inf")])
+        self.assertEqual(self.roundtrip([1, 2.5, None]), [1.0, 2.5, None])
+
+    def test_bool_list(self):
+        self.assertEqual(self.roundtrip([True, False, True]), [True, False, True])
+        self.assertEqual(self.roundtrip([True, None, False]), [True, None, False])
+
+    def test_nulls(self):
+        self.assertEqual(self.roundtrip([]), [])
+        self.assertEqual(self.roundtrip([None, None]), [None, None])
+        self.assertEqual(self.roundtrip([None, 1, None]), [None, 1, None])
+
+    def test_buffers(self):
+        for typecode in "bBhHiIlLqQ":
+            values = array.array(typecode, range(100))
+            self.assertEqual(self.roundtrip(values), values.tolist(), typecode)
+        for typecode in "fd":
+            values = array.array(typecode, [0.5, -1.25, 3.0])
+            self.assertEqual(self.roundtrip(values), values.tolist(), typecode)
+        self.assertEqual(self.roundtrip(memoryview(b"\x00\x01\xff")), [0, 1, 255])
+        self.assertEqual(self.roundtrip(memoryview(array.array("i", range(10)))[2:8]), [2, 3, 4, 5, 6, 7])
+        self.assertRaises(BufferError, self.roundtrip, memoryview(array.array("i", range(10)))[2:8:2])
+
+    def test_schema_only(self):
+        from polyglot.arrow import to_arrow, from_arrow
+
+        class SchemaOnlyFormat:
+            # pairs the schema-only export with the data of the full export, so the data is only
+            # read back correctly if both agree on the format
+            def __init__(self, values):
+                self.column = to_arrow(values)
+
+            def __arrow_c_array__(self, requested_schema=None):
+                return self.column.__arrow_c_schema__(), self.column.__arrow_c_array__()[1]
+
+        for values in ([], [1, 2], [2 ** 40], [1.5, 2], [True, False], [1, None], [None], [None, True]):
+            self.assertEqual(from_arrow(SchemaOnlyFormat(values)), values)
+        self.assertRaises(TypeError, to_arrow([1, "a"]).__arrow_c_schema__)
+
+    def test_native_storage(self):
+        values = [1, None, 3]
+        storage_to_native(values)
+        self.assertEqual(self.roundtrip(values), [1, None, 3])
+        floats = [0.5, 1]
+        storage_to_native(floats)
+        self.assertEqual(self.roundtrip(floats), [0.5, 1.0])
+
+    def test_java_vector(self):
+        import java
+        if not __graalpython__.host_import_enabled:
+            self.skipTest("needs host lookup")
+        try:
+            int_vector_class = java.type("org.apache.arrow.vector.IntVector")
+            allocator_class = java.type("org.apache.arrow.memory.RootAllocator")
+        except KeyError:
+            self.skipTest("arrow-vector is not on the class path")
+        from polyglot.arrow import enable_java_integration, from_arrow
+        enable_java_integration()
+        allocator = allocator_class()
+        try:
+            vector = int_vector_class("values", allocator)
+            vector.allocateNew(4)
+            for i in range(4):
+                vector.set(i, i * 10)
+            vector.setNull(2)
+            vector.setValueCount(4)
+            self.assertEqual(from_arrow(vector), [0, 10, None, 30])
+            vector.close()
+        finally:
+            allocator.close()
+
+    def test_unsupported(self):
+        self.assertRaises(TypeError, self.roundtrip, [1, "a"])
+        self.assertRaises(OverflowError, self.roundtrip, [2 ** 64])
+        from polyglot.arrow import from_arrow
+        self.assertRaises(AttributeError, from_arrow, [1, 2])
@@ -483,6 +483,119 @@ class WithTempFilesTests(unittest.TestCase):
             os.chmod(fd, orig_mode)
         self.assertEqual(orig_mode, os.stat(TEST_FULL_PATH1).st_mode & 0o777)
 
+    def test_pread_pwrite(self):
+        fd = os.open(TEST_FULL_PATH1, os.O_RDWR)
+        try:
+            self.assertEqual(6, os.write(fd, b'abcdef'))
+            self.assertEqual(2, os.pwrite(fd, b'XY', 1))
+            self.assertEqual(6, os.lseek(fd, 0, os.SEEK_CUR))
+            self.assertEqual(b'XYd', os.pread(fd, 3, 1))
+            self.assertEqual(b'ef', os.pread(fd, 10, 4))
+            self.assertEqual(b'', os.pread(fd, 10, 100))
+            self.assertEqual(6, os.lseek(fd, 0, os.SEEK_CUR))
+        finally:
+            os.close(fd)
+
+    def test_readv_writev(self):
+        fd = os.open(TEST_FULL_PATH1, os.O_RDWR)
+        try:
+            self.assertEqual(9, os.writev(fd, [b'abc', bytearray(b'de'), memoryview(b'fghi')]))
+            os.lseek(fd, 0, os.SEEK_SET)
+            bufs = [bytearray(2), bytearray(0), bytearray(3), bytearray(10)]
+            self.assertEqual(9, os.readv(fd, bufs))
+            self.assertEqual([b'ab', b'', b'cde', b'fghi' + bytes(6)], [bytes(b) for b in bufs])
+            self.assertEqual(0, os.readv(fd, [bytearray(4)]))
+            self.assertRaises(TypeError, os.readv, fd, 42)
+            self.assertRaises((TypeError, BufferError), os.readv, fd, [b'readonly'])
+        finally:
+            os.close(fd)
+
+    def test_preadv_pwritev(self):
+        fd = os.open(TEST_FULL_PATH1, os.O_RDWR)
+        try:
+            self.assertEqual(6, os.write(fd, b'abcdef'))
+            self.assertEqual(3, os.pwritev(fd, [b'X', bytearray(b'YZ')], 2))
+            self.assertEqual(6, os.lseek(fd, 0, os.SEEK_CUR))
+            bufs = [bytearray(2), bytearray(3)]
+            self.assertEqual(4, os.preadv(fd, bufs, 2))
+            self.assertEqual([b'XY', b'Zf\0'], [bytes(b) for b in bufs])
+            self.assertEqual(0, os.preadv(fd, [bytearray(4)], 100))
+            self.assertEqual(6, os.lseek(fd, 0, os.SEEK_CUR))
+        finally:
+            os.close(fd)
+
+    def test_fileio_readinto(self):
+        with io.open(TEST_FULL_PATH1, 'wb') as f:
+            f.write(b'0123456789')
+        with io.open(TEST_FULL_PATH1, 'rb', buffering=0) as f:
+            ba = bytearray(4)
+            self.assertEqual(4, f.readinto(ba))
+            self.assertEqual(b'0123', ba)
+            arr = array.array('b', [0] * 4)
+            self.assertEqual(3, f.readinto(memoryview(arr)[1:]))
+            self.assertEqual(b'\x00456', arr.tobytes())
+            self.assertEqual(3, f.readinto(bytearray(8)))
+            self.assertEqual(0, f.readinto(bytearray(8)))
+        with io.open(TEST_FULL_PATH1, 'rb') as f:
+            self.assertEqual(b'0123456789', f.read())
+
+    @unittest.skipUnless(sys.platform == 'linux' or __graalpython__.posix_module_backend() == 'java',
+                         'zero-copy transfers are only available on Linux')
+    def test_sendfile_copy_file_range(self):
+        data = bytes(range(256)) * 1024
+        with io.open(TEST_FULL_PATH1, 'wb') as f:
+            f.write(data)
+        dst_path = TEST_FULL_PATH1 + '.copy'
+        src = os.open(TEST_FULL_PATH1, os.O_RDONLY)
+        dst = os.open(dst_path, os.O_WRONLY | os.O_CREAT | os.O_TRUNC)
+        try:
+            offset = 0
+            while True:
+                sent = os.sendfile(dst, src, offset, 100000)
+                if sent == 0:
+                    break
+                offset += sent
+            self.assertEqual(len(data), offset)
+            self.assertEqual(0, os.lseek(src, 0, os.SEEK_CUR))
+            self.assertEqual(10, os.sendfile(dst, src, None, 10))
+            self.assertEqual(10, os.lseek(src, 0, os.SEEK_CUR))
+            self.assertEqual(5, os.copy_file_range(src, dst, 5, 20, 0))
+            self.assertEqual(10, os.lseek(src, 0, os.SEEK_CUR))
+            # only None means the current file offset, negative offsets are invalid
+            with self.assertRaises(OSError) as cm:
+                os.sendfile(dst, src, -1, 10)
+            self.assertEqual(errno.EINVAL, cm.exception.errno)
+            # some kernels report EOVERFLOW for copy_file_range
+            for offsets in ((-1, None), (None, -2)):
+                with self.assertRaises(OSError) as cm:
+                    os.copy_file_range(src, dst, 5, *offsets)
+                self.assertIn(cm.exception.errno, (errno.EINVAL, errno.EOVERFLOW))
+            self.assertEqual(10, os.lseek(src, 0, os.SEEK_CUR))
+        finally:
+            os.close(src)
+            os.close(dst)
+        try:
+            with io.open(dst_path, 'rb') as f:
+                self.assertEqual(data[20:25] + data[5:] + data[:10], f.read())
+        finally:
+            os.unlink(dst_path)
+
+    @unittest.skipUnless(sys.platform == 'linux' or __graalpython__.posix_module_backend() == 'java',
+                         'zero-copy transfers are only available on Linux')
+    def test_splice(self):
+        with io.open(TEST_FULL_PATH1, 'wb') as f:
+            f.write(b'0123456789')
+        r, w = os.pipe()
+        fd = os.open(TEST_FULL_PATH1, os.O_RDONLY)
+        try:
+            self.assertEqual(4, os.splice(fd, w, 4, offset_src=3))
+            self.assertEqual(b'3456', os.read(r, 4))
+            self.assertEqual(0, os.lseek(fd, 0, os.SEEK_CUR))
+        finally:
+            os.close(fd)
+            os.close(r)
+            os.close(w)
+
     @unittest.skipUnless(__graalpython__.posix_module_backend() != 'java' or sys.platform != 'darwin',
                          'TODO: issue with readlink on MacOS')
     def test_readlink(self):
@@ -2393,3 +2393,43 @@ class SREScannerTest(unittest.TestCase):
         match = scanner.search()
         self.assertIsInstance(match, re.Match)
         self.assertEqual(match.group(0), b"dog")
+
+
+_SHARED_REGEX_CACHE_SCRIPT = """
+import re
+for _ in range(3):
+    re.purge()
+    assert re.compile("a+").match("aaa").group() == "aaa"
+    assert re.compile(b"a+").match(b"aaa").group() == b"aaa"
+    assert re.compile("a+", re.I).match("AAa").group() == "AAa"
+    assert re.compile("a+").match("AAa") is None
+    assert re.compile("a+").fullmatch("aab") is None
+    assert re.compile("a+").search("baa").span() == (1, 3)
+    try:
+        re.compile("(a")
+    except re.error as e:
+        assert e.pattern == "(a" and e.pos == 0, (e.pattern, e.pos)
+    else:
+        assert False
+print("ok", flush=True)
+"""
+
+
+def test_shared_regex_cache():
+    # compiled regexes are shared by pattern text, so equal text with a different type or flags must not be mixed up
+    exec(_SHARED_REGEX_CACHE_SCRIPT, {})
+
+
+@unittest.skipUnless(sys.implementation.name == 'graalpy', "GraalPy option")
+def test_shared_regex_cache_size():
+    import subprocess
+    for size in (0, 1):
+        result = subprocess.run(
+            [sys.executable, "--experimental-options", f"--python.RegexCacheSize={size}", "-c", _SHARED_REGEX_CACHE_SCRIPT],
+            stdout=subprocess.PIPE,
+            stderr=subprocess.PIPE,
+            text=True,
+            timeout=60,
+        )
+        assert result.returncode == 0, result.stderr
+        assert result.stdout.rstrip().endswith("ok"), result.stdout
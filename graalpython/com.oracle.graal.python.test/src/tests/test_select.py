@@ -39,6 +39,7 @@
 
 import os
 import select
+import socket
 import tempfile
 import unittest
 
@@ -98,3 +99,46 @@ class SelectTests(unittest.TestCase):
             finally:
                 os.close(r_pipe)
                 os.close(w_pipe)
+
+
+class PollTests(unittest.TestCase):
+    def setUp(self):
+        self.a, self.b = socket.socketpair()
+        self.a.setblocking(False)
+        self.b.setblocking(False)
+
+    def tearDown(self):
+        self.a.close()
+        self.b.close()
+
+    def test_poll_keeps_registrations(self):
+        p = select.poll()
+        p.register(self.a, select.POLLIN)
+        self.assertEqual(p.poll(0), [])
+        self.b.send(b'x')
+        for _ in range(2):
+            # the registration survives between calls
+            self.assertEqual(p.poll(1000), [(self.a.fileno(), select.POLLIN)])
+        self.a.recv(1)
+        self.assertEqual(p.poll(0), [])
+        p.modify(self.a, select.POLLOUT)
+        self.assertEqual(p.poll(1000), [(self.a.fileno(), select.POLLOUT)])
+        p.unregister(self.a)
+        self.assertRaises(KeyError, p.unregister, self.a)
+        self.assertEqual(p.poll(0), [])
+
+    def test_epoll(self):
+        with select.epoll() as ep:
+            ep.register(self.a.fileno(), select.EPOLLIN)
+            self.assertRaises(FileExistsError, ep.register, self.a.fileno(), select.EPOLLIN)
+            self.assertEqual(ep.poll(0), [])
+            self.b.send(b'x')
+            self.assertEqual(ep.poll(1), [(self.a.fileno(), select.EPOLLIN)])
+            ep.modify(self.a, select.EPOLLIN | select.EPOLLOUT)
+            self.assertEqual(ep.poll(1, 1), [(self.a.fileno(), select.EPOLLIN | select.EPOLLOUT)])
+            ep.unregister(self.a)
+            self.assertRaises(FileNotFoundError, ep.unregister, self.a)
+            self.assertRaises(FileNotFoundError, ep.modify, self.a, select.EPOLLIN)
+            self.assertRaises(ValueError, ep.poll, 0, 0)
+        self.assertTrue(ep.closed)
+        self.assertRaises(ValueError, ep.poll, 0)
@@ -0,0 +1,169 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import sys
+import unittest
+
+monitoring = sys.monitoring
+E = monitoring.events
+TOOL = 3
+
+
+def simple(x):
+    y = x + 1
+    return y
+
+
+def raising():
+    raise KeyError("k")
+
+
+def caller():
+    return len([1, 2, 3])
+
+
+class MonitoringTest(unittest.TestCase):
+
+    def setUp(self):
+        monitoring.use_tool_id(TOOL, "test")
+
+    def tearDown(self):
+        monitoring.set_events(TOOL, 0)
+        monitoring.free_tool_id(TOOL)
+
+    def record(self, event, *names):
+        events = []
+        monitoring.register_callback(TOOL, event, lambda code, *args: events.append((code.co_name,) + args) if code.co_name in names else None)
+        return events
+
+    def test_tool_ids(self):
+        self.assertEqual(monitoring.get_tool(TOOL), "test")
+        self.assertRaises(ValueError, monitoring.use_tool_id, TOOL, "again")
+        self.assertRaises(ValueError, monitoring.use_tool_id, 6, "invalid")
+        self.assertRaises(ValueError, monitoring.get_tool, -1)
+        self.assertRaises(TypeError, monitoring.use_tool_id, TOOL + 1, 42)
+        self.assertRaises(ValueError, monitoring.set_events, TOOL + 1, E.PY_START)
+        self.assertIsNone(monitoring.get_tool(TOOL + 1))
+        self.assertEqual(monitoring.DEBUGGER_ID, 0)
+        self.assertEqual(monitoring.PROFILER_ID, 2)
+
+    def test_event_sets(self):
+        self.assertEqual(monitoring.get_events(TOOL), E.NO_EVENTS)
+        monitoring.set_events(TOOL, E.PY_START | E.PY_RETURN)
+        self.assertEqual(monitoring.get_events(TOOL), E.PY_START | E.PY_RETURN)
+        self.assertRaises(ValueError, monitoring.set_events, TOOL, E.C_RETURN)
+        self.assertRaises(ValueError, monitoring.register_callback, TOOL, E.PY_START | E.PY_RETURN, None)
+        self.assertRaises(TypeError, monitoring.get_local_events, TOOL, simple)
+
+    def test_start_and_return(self):
+        starts = self.record(E.PY_START, "simple")
+        returns = self.record(E.PY_RETURN, "simple")
+        monitoring.set_events(TOOL, E.PY_START | E.PY_RETURN)
+        simple(1)
+        monitoring.set_events(TOOL, 0)
+        simple(2)
+        self.assertEqual(len(starts), 1)
+        self.assertEqual(len(returns), 1)
+        self.assertEqual(returns[0][2], 2)
+
+    def test_line(self):
+        lines = self.record(E.LINE, "simple")
+        monitoring.set_events(TOOL, E.LINE)
+        simple(1)
+        monitoring.set_events(TOOL, 0)
+        first = simple.__code__.co_firstlineno
+        self.assertEqual([line for _, line in lines], [first + 1, first + 2])
+
+    def test_call(self):
+        calls = self.record(E.CALL, "caller")
+        monitoring.set_events(TOOL, E.CALL)
+        caller()
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(len(calls), 1)
+        self.assertIs(calls[0][2], len)
+        self.assertEqual(calls[0][3], [1, 2, 3])
+
+    def test_raise(self):
+        raises = self.record(E.RAISE, "raising")
+        monitoring.set_events(TOOL, E.RAISE)
+        try:
+            raising()
+        except KeyError:
+            pass
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(len(raises), 1)
+        self.assertIsInstance(raises[0][2], KeyError)
+
+    def test_disable_and_restart(self):
+        lines = []
+
+        def line(code, line):
+            if code is simple.__code__:
+                lines.append(line)
+                return monitoring.DISABLE
+
+        monitoring.register_callback(TOOL, E.LINE, line)
+        monitoring.set_events(TOOL, E.LINE)
+        simple(1)
+        simple(2)
+        self.assertEqual(len(lines), 2)
+        monitoring.restart_events()
+        simple(3)
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(len(lines), 4)
+
+    def test_local_events(self):
+        starts = self.record(E.PY_START, "simple", "caller")
+        monitoring.set_local_events(TOOL, simple.__code__, E.PY_START)
+        self.assertEqual(monitoring.get_local_events(TOOL, simple.__code__), E.PY_START)
+        simple(1)
+        caller()
+        monitoring.set_local_events(TOOL, simple.__code__, 0)
+        simple(1)
+        self.assertEqual([name for name, _ in starts], ["simple"])
+
+    def test_free_tool_id(self):
+        starts = []
+        monitoring.register_callback(TOOL, E.PY_START, lambda *args: starts.append(args))
+        monitoring.set_events(TOOL, E.PY_START)
+        monitoring.free_tool_id(TOOL)
+        simple(1)
+        self.assertEqual(starts, [])
+        self.assertIsNone(monitoring.get_tool(TOOL))
+        monitoring.use_tool_id(TOOL, "test")
+        self.assertEqual(monitoring.get_events(TOOL), 0)
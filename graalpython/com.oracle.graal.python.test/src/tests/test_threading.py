@@ -114,3 +114,189 @@ os._exit(0)
     )
     assert result.returncode == 0, result.stderr
     assert result.stdout.rstrip().endswith("ok"), result.stdout
+
+
+def test_switchinterval_lets_all_cpu_bound_threads_run():
+    import threading
+    import time
+
+    old_interval = sys.getswitchinterval()
+    assert abs(old_interval - 0.005) < 1e-9, old_interval
+    sys.setswitchinterval(0.001)
+    try:
+        assert abs(sys.getswitchinterval() - 0.001) < 1e-9
+        counters = [0] * 4
+        stop = False
+
+        def spin(i):
+            while not stop:
+                counters[i] += 1
+
+        threads = [threading.Thread(target=spin, args=(i,)) for i in range(len(counters))]
+        for t in threads:
+            t.start()
+        time.sleep(0.5)
+        stop = True
+        for t in threads:
+            t.join()
+        assert all(c > 0 for c in counters), counters
+    finally:
+        sys.setswitchinterval(old_interval)
+
+
+@unittest.skipUnless(sys.implementation.name == "graalpy", "GraalPy specific option")
+def test_free_threading_builtin_containers():
+    import subprocess
+
+    script = r"""
+import sys
+import threading
+
+assert not sys._is_gil_enabled()
+import collections
+lst = []
+d = {}
+s = set()
+dq = collections.deque()
+
+def work(n):
+    for i in range(10000):
+        lst.append(i)
+        d[(n, i)] = i
+        d.pop((n, i - 1), None)
+        s.add((n, i))
+        s.discard((n, i - 1))
+        dq.append(i)
+
+def run(target, args):
+    threads = [threading.Thread(target=target, args=a) for a in args]
+    for t in threads:
+        t.start()
+    for t in threads:
+        t.join(30)
+        assert not t.is_alive(), "deadlock"
+
+run(work, [(n,) for n in range(4)])
+assert len(lst) == 40000, len(lst)
+assert len(d) == 4, len(d)
+assert len(s) == 4, len(s)
+assert len(dq) == 40000, len(dq)
+
+# keys calling back into Python must not hold the lock of the container,
+# otherwise these two threads would deadlock on each other's dictionary
+class Key:
+    def __init__(self, other):
+        self.other = other
+    def __hash__(self):
+        return 42
+    def __eq__(self, o):
+        self.other.get(0)
+        return self is o
+
+a = {}
+b = {}
+def cross(first, second):
+    for i in range(300):
+        first[Key(second)] = i
+        second.get(0)
+
+run(cross, [(a, b), (b, a)])
+assert len(a) == 300 and len(b) == 300, (len(a), len(b))
+
+# iterating a list that another thread shrinks must not raise IndexError
+shared = []
+done = threading.Event()
+def mutate():
+    while not done.is_set():
+        shared.extend([None] * 100)
+        del shared[10:]
+def iterate():
+    try:
+        for _ in range(2000):
+            for x in shared:
+                assert x is None
+    finally:
+        done.set()
+mutator = threading.Thread(target=mutate)
+mutator.start()
+iterate()
+mutator.join(30)
+assert not mutator.is_alive(), "deadlock"
+print("ok", flush=True)
+"""
+
+    result = subprocess.run(
+        [sys.executable, "--experimental-options", "--python.FreeThreading", "-c", script],
+        stdout=subprocess.PIPE,
+        stderr=subprocess.PIPE,
+        text=True,
+        timeout=60,
+    )
+    assert result.returncode == 0, result.stderr
+    assert result.stdout.rstrip().endswith("ok"), result.stdout
+    assert sys._is_gil_enabled()
+
+
+@unittest.skipUnless(sys.implementation.name == "graalpy", "GraalPy-specific GIL statistics")
+def test_gil_statistics():
+    import subprocess
+
+    result = subprocess.run(
+        [sys.executable, "-c", "print(__graalpython__.gil_statistics())"],
+        stdout=subprocess.PIPE,
+        stderr=subprocess.PIPE,
+        text=True,
+        timeout=60,
+    )
+    assert result.stdout.strip() == "None", (result.stdout, result.stderr)
+
+    script = r"""
+import sys
+import threading
+import time
+
+sys.setswitchinterval(0.001)
+stop = False
+started = threading.Barrier(3)
+
+def spin():
+    started.wait()
+    while not stop:
+        pass
+
+def totals(ident):
+    s = __graalpython__.gil_statistics()[ident]
+    return sum(s["wait"]), sum(s["hold"])
+
+threads = [threading.Thread(target=spin) for _ in range(2)]
+for t in threads:
+    t.start()
+started.wait()
+time.sleep(0.2)
+first = [totals(t.ident) for t in threads]
+time.sleep(0.3)
+second = [totals(t.ident) for t in threads]
+stop = True
+for t in threads:
+    t.join()
+
+stats = __graalpython__.gil_statistics()
+for t in threads:
+    s = stats[t.ident]
+    assert list(s) == ["wait", "hold", "wait_total", "hold_total"], list(s)
+    assert all(isinstance(c, int) for c in s["wait"] + s["hold"]), s
+    assert s["wait_total"] > 0 and s["hold_total"] > 0, s
+for (wait1, hold1), (wait2, hold2) in zip(first, second):
+    # both threads keep handing the GIL to each other
+    assert wait2 > wait1 and hold2 > hold1, (first, second)
+print("ok", flush=True)
+"""
+    result = subprocess.run(
+        [sys.executable, "--experimental-options", "--python.GilStatistics", "-c", script],
+        stdout=subprocess.PIPE,
+        stderr=subprocess.PIPE,
+        text=True,
+        timeout=60,
+    )
+    assert result.returncode == 0, result.stderr
+    assert result.stdout.rstrip().endswith("ok"), result.stdout
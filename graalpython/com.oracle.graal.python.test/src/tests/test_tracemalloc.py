@@ -0,0 +1,117 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import sys
+import tracemalloc
+import unittest
+
+
+class Allocated:
+    __slots__ = ()
+
+
+def allocate(n):
+    return [Allocated() for _ in range(n)]
+
+
+ALLOCATE_LINE = allocate.__code__.co_firstlineno + 1
+
+
+class TracemallocTest(unittest.TestCase):
+
+    def setUp(self):
+        tracemalloc.start()
+
+    def tearDown(self):
+        tracemalloc.stop()
+
+    def find(self, stats, lineno):
+        for stat in stats:
+            frame = stat.traceback[0]
+            if frame.filename == __file__ and frame.lineno == lineno:
+                return stat
+        self.fail(f"no statistic for line {lineno}")
+
+    def test_start_stop(self):
+        self.assertTrue(tracemalloc.is_tracing())
+        self.assertEqual(tracemalloc.get_traceback_limit(), 1)
+        tracemalloc.stop()
+        self.assertFalse(tracemalloc.is_tracing())
+        self.assertRaises(ValueError, tracemalloc.start, 0)
+        tracemalloc.start(5)
+        self.assertEqual(tracemalloc.get_traceback_limit(), 5)
+
+    def test_object_traceback(self):
+        obj = Allocated()
+        traceback = tracemalloc.get_object_traceback(obj)
+        self.assertIsNotNone(traceback)
+        self.assertEqual(traceback[0].filename, __file__)
+        self.assertEqual(traceback[0].lineno, sys._getframe().f_lineno - 4)
+
+    def test_traceback_limit(self):
+        tracemalloc.stop()
+        tracemalloc.start(2)
+        objects = allocate(1)
+        traceback = tracemalloc.get_object_traceback(objects[0])
+        self.assertEqual(len(traceback), 2)
+        # oldest frame first
+        self.assertEqual(traceback[1].lineno, ALLOCATE_LINE)
+
+    def test_statistics(self):
+        objects = allocate(100)
+        snapshot = tracemalloc.take_snapshot()
+        stat = self.find(snapshot.statistics("lineno"), ALLOCATE_LINE)
+        self.assertGreaterEqual(stat.count, 100)
+        self.assertGreater(stat.size, 0)
+        current, peak = tracemalloc.get_traced_memory()
+        self.assertGreaterEqual(peak, current)
+        self.assertGreater(current, 0)
+        del objects
+
+    def test_compare_to(self):
+        before = tracemalloc.take_snapshot()
+        objects = allocate(50)
+        after = tracemalloc.take_snapshot()
+        stat = self.find(after.compare_to(before, "lineno"), ALLOCATE_LINE)
+        self.assertGreaterEqual(stat.count_diff, 50)
+        del objects
+
+    def test_clear_traces(self):
+        obj = Allocated()
+        tracemalloc.clear_traces()
+        self.assertIsNone(tracemalloc.get_object_traceback(obj))
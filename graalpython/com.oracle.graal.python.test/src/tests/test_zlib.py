@@ -426,3 +426,51 @@ def test_gzip_decompress_post_eof_unused_data():
     assert decompressor.unused_data == b'first'
     assert decompressor.decompress(b'second') == b''
     assert decompressor.unused_data == b'firstsecond'
+
+
+def test_concurrent_compress_and_decompress():
+    import threading
+
+    data = bytes(range(256)) * 512
+    expected = zlib.compress(data)
+    errors = []
+
+    def work():
+        try:
+            for _ in range(10):
+                assert zlib.decompress(zlib.compress(data)) == data
+                assert zlib.compress(data) == expected
+        except BaseException as e:
+            errors.append(e)
+
+    threads = [threading.Thread(target=work) for _ in range(4)]
+    for t in threads:
+        t.start()
+    for t in threads:
+        t.join()
+    assert not errors, errors
+
+
+def test_concurrent_decompress_errors():
+    import threading
+
+    # large enough to be decompressed without the GIL; the errors are raised after re-acquiring it
+    corrupt = b'\x78\x9c' + bytes(range(256)) * 16
+    errors = []
+
+    def work():
+        try:
+            for _ in range(10):
+                assert_raises(zlib.error, zlib.decompress, corrupt)
+                assert_raises(zlib.error, zlib.decompressobj().decompress, corrupt)
+                if hasattr(zlib, '_ZlibDecompressor'):
+                    assert_raises(zlib.error, zlib._ZlibDecompressor().decompress, corrupt)
+        except BaseException as e:
+            errors.append(e)
+
+    threads = [threading.Thread(target=work) for _ in range(4)]
+    for t in threads:
+        t.start()
+    for t in threads:
+        t.join()
+    assert not errors, errors
@@ -63,6 +63,7 @@ import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.ImpModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.SignalModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.cext.PythonCextBuiltinRegistry;
+import com.oracle.graal.python.builtins.modules.re.TRegexSharedCache;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PNotImplemented;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
@@ -85,6 +86,7 @@ import com.oracle.graal.python.compiler.ParserCallbacksImpl;
 import com.oracle.graal.python.compiler.bytecode_dsl.BytecodeDSLCompiler;
 import com.oracle.graal.python.compiler.bytecode_dsl.BytecodeDSLCompiler.BytecodeDSLCompilerResult;
 import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
+import com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport;
 import com.oracle.graal.python.nodes.bytecode_dsl.BytecodeDSLCodeUnit;
 import com.oracle.graal.python.nodes.call.CallDispatchers;
 import com.oracle.graal.python.nodes.call.CallNode;
@@ -102,8 +104,10 @@ import com.oracle.graal.python.pegparser.sst.StmtTy;
 import com.oracle.graal.python.pegparser.sst.TypeParamTy;
 import com.oracle.graal.python.pegparser.tokenizer.SourceRange;
 import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.ImportPrefetcher;
 import com.oracle.graal.python.runtime.IndirectCallData.BoundaryCallData;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
+import com.oracle.graal.python.runtime.PersistentCodeCache;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
 import com.oracle.graal.python.runtime.PythonImageBuildOptions;
@@ -298,6 +302,13 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
      */
     public final Assumption noTracingOrProfilingAssumption = Assumption.create("No tracing function was set");
 
+    /**
+     * This assumption will be valid if no context enabled any {@code sys.monitoring} events at any
+     * point.
+     */
+    public final Assumption noMonitoringAssumption = Assumption.create("No sys.monitoring events were enabled");
+    public final MonitoringSupport.GlobalEvents monitoringEvents = new MonitoringSupport.GlobalEvents();
+
     @CompilationFinal private boolean singleContext = true;
 
     @Idempotent
@@ -360,6 +371,9 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
     @CompilationFinal(dimensions = 1) private volatile Object[] engineOptionsStorage;
     @CompilationFinal private volatile OptionValues engineOptions;
     @CompilationFinal private boolean useNativePrimitiveStorage;
+    @CompilationFinal private boolean freeThreading;
+    @CompilationFinal private boolean lazyFunctionBodies;
+    private volatile TRegexSharedCache sharedTRegexCache;
 
     /** For fast access to the PythonThreadState object by the owning thread. */
     private final ContextThreadLocal<PythonThreadState> threadState = locals.createContextThreadLocal(PythonContext.PythonThreadState::new);
@@ -458,6 +472,11 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
             assert areOptionsCompatible(options, PythonOptions.createEngineOptions(env)) : "invalid engine options";
         }
         this.useNativePrimitiveStorage = getEngineOption(PythonOptions.UseNativePrimitiveStorageStrategy);
+        this.freeThreading = getEngineOption(PythonOptions.FreeThreading);
+        this.lazyFunctionBodies = PythonOptions.ENABLE_BYTECODE_DSL_INTERPRETER && getEngineOption(PythonOptions.LazyFunctionBodies);
+        if (this.sharedTRegexCache == null && getEngineOption(PythonOptions.RegexCacheSize) > 0) {
+            initializeSharedTRegexCache();
+        }
 
         return context;
     }
@@ -476,6 +495,29 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         return useNativePrimitiveStorage;
     }
 
+    /**
+     * Whether Python threads run without the GIL, see {@link PythonOptions#FreeThreading}.
+     */
+    public boolean isFreeThreading() {
+        return freeThreading;
+    }
+
+    /**
+     * Whether nested function bodies are compiled on first use, see
+     * {@link PythonOptions#LazyFunctionBodies}.
+     */
+    public boolean isLazyFunctionBodies() {
+        return lazyFunctionBodies;
+    }
+
+    /**
+     * The compiled regexes shared by all contexts of this language instance, or {@code null} if
+     * disabled by {@link PythonOptions#RegexCacheSize}.
+     */
+    public TRegexSharedCache getSharedTRegexCache() {
+        return sharedTRegexCache;
+    }
+
     @Override
     protected OptionDescriptors getOptionDescriptors() {
         return PythonOptions.DESCRIPTORS;
@@ -502,6 +544,13 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         context.initialize();
     }
 
+    private synchronized void initializeSharedTRegexCache() {
+        // contexts of the same engine may be created concurrently
+        if (sharedTRegexCache == null) {
+            sharedTRegexCache = new TRegexSharedCache(getEngineOption(PythonOptions.RegexCacheSize));
+        }
+    }
+
     private synchronized void initializeLanguage() {
         if (!isLanguageInitialized) {
             TpSlots.initializeBuiltinSlots(this);
@@ -589,10 +638,36 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
             if (context.getEnv().getOptions().get(PythonOptions.ParserLogFiles)) {
                 LOGGER.log(Level.FINE, () -> "parse '" + source.getName() + "'");
             }
-            Parser parser = Compiler.createParser(source.getCharacters().toString(), errorCb, type, interactiveTerminal, allowIncompleteInput);
-            ModTy mod = (ModTy) parser.parse();
-            assert mod != null;
-            return compileModule(context, mod, source, topLevel, optimize, argumentNames, errorCb, futureFeatures);
+            PersistentCodeCache codeCache = null;
+            byte[] cacheDigest = null;
+            ImportPrefetcher prefetcher = type == InputType.FILE && !interactiveTerminal && argumentNames == null ? context.getImportPrefetcher() : null;
+            RootCallTarget callTarget = null;
+            if (PersistentCodeCache.isCacheable(source, type, topLevel, interactiveTerminal, argumentNames)) {
+                codeCache = context.getPersistentCodeCache();
+                if (codeCache != null) {
+                    cacheDigest = PersistentCodeCache.digest(source, optimize, futureFeatures);
+                    RootCallTarget cached = codeCache.load(context, source, cacheDigest);
+                    if (cached != null) {
+                        return cached;
+                    }
+                }
+                if (prefetcher != null) {
+                    callTarget = prefetcher.take(source);
+                }
+            }
+            if (callTarget == null) {
+                Parser parser = Compiler.createParser(source.getCharacters().toString(), errorCb, type, interactiveTerminal, allowIncompleteInput);
+                ModTy mod = (ModTy) parser.parse();
+                assert mod != null;
+                if (prefetcher != null) {
+                    prefetcher.submitImports(context, mod, source, optimize);
+                }
+                callTarget = compileModule(context, mod, source, topLevel, optimize, argumentNames, errorCb, futureFeatures);
+            }
+            if (cacheDigest != null) {
+                codeCache.store(context, source, cacheDigest, callTarget);
+            }
+            return callTarget;
         } catch (PException e) {
             if (topLevel) {
                 PythonUtils.getOrCreateCallTarget(new TopLevelExceptionHandler(this, e)).call();
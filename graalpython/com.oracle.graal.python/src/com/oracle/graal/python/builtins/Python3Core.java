@@ -112,6 +112,7 @@ import com.oracle.graal.python.builtins.modules.StatResultBuiltins;
 import com.oracle.graal.python.builtins.modules.StringModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.StructModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.SysModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.SysconfigModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.ThreadModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.TimeModuleBuiltins;
@@ -346,6 +347,8 @@ import com.oracle.graal.python.builtins.objects.random.RandomBuiltins;
 import com.oracle.graal.python.builtins.objects.range.RangeBuiltins;
 import com.oracle.graal.python.builtins.objects.referencetype.ReferenceTypeBuiltins;
 import com.oracle.graal.python.builtins.objects.reversed.ReversedBuiltins;
+import com.oracle.graal.python.builtins.objects.select.EpollBuiltins;
+import com.oracle.graal.python.builtins.objects.select.PollBuiltins;
 import com.oracle.graal.python.builtins.objects.set.BaseSetBuiltins;
 import com.oracle.graal.python.builtins.objects.set.FrozenSetBuiltins;
 import com.oracle.graal.python.builtins.objects.set.SetBuiltins;
@@ -671,6 +674,8 @@ public abstract class Python3Core {
                         new XMLParserBuiltins(),
                         new AstModuleBuiltins(),
                         PythonImageBuildOptions.WITHOUT_NATIVE_POSIX && (PythonImageBuildOptions.WITHOUT_JAVA_INET || !env.isSocketIOAllowed()) ? null : new SelectModuleBuiltins(),
+                        PythonImageBuildOptions.WITHOUT_NATIVE_POSIX && (PythonImageBuildOptions.WITHOUT_JAVA_INET || !env.isSocketIOAllowed()) ? null : new PollBuiltins(),
+                        PythonImageBuildOptions.WITHOUT_NATIVE_POSIX && (PythonImageBuildOptions.WITHOUT_JAVA_INET || !env.isSocketIOAllowed()) ? null : new EpollBuiltins(),
                         PythonImageBuildOptions.WITHOUT_NATIVE_POSIX && (PythonImageBuildOptions.WITHOUT_JAVA_INET || !env.isSocketIOAllowed()) ? null : new SocketModuleBuiltins(),
                         PythonImageBuildOptions.WITHOUT_NATIVE_POSIX && (PythonImageBuildOptions.WITHOUT_JAVA_INET || !env.isSocketIOAllowed()) ? null : new SocketBuiltins(),
                         PythonImageBuildOptions.WITHOUT_PLATFORM_ACCESS ? null : new SignalModuleBuiltins(),
@@ -681,6 +686,7 @@ public abstract class Python3Core {
                         new UnicodeDataModuleBuiltins(),
                         new LocaleModuleBuiltins(),
                         new SysModuleBuiltins(),
+                        new SysMonitoringModuleBuiltins(),
                         new MemoryViewBuiltins(),
                         new MemoryViewIteratorBuiltins(),
                         new SuperBuiltins(),
@@ -871,7 +877,8 @@ public abstract class Python3Core {
     public static class SysModuleState {
         private int recursionLimit = TruffleOptions.AOT ? NATIVE_REC_LIM : REC_LIM;
         private int checkInterval = 100;
-        private double switchInterval = 0.005;
+        // in microseconds, like CPython
+        private double switchInterval = 5000;
 
         public int getRecursionLimit() {
             return recursionLimit;
@@ -1122,11 +1129,18 @@ public abstract class Python3Core {
 
     /**
      * Returns an array whose runtime type is {@code Object[]}, but all elements are instances of
-     * {@link TruffleString}.
+     * {@link TruffleString}. Submodules such as {@code sys.monitoring} are only reachable through
+     * their parent and are not included.
      */
     @TruffleBoundary
     public final Object[] builtinModuleNames() {
-        return builtinModules.keySet().toArray();
+        ArrayList<Object> names = new ArrayList<>(builtinModules.size());
+        for (TruffleString name : builtinModules.keySet()) {
+            if (name.toJavaStringUncached().indexOf('.') < 0) {
+                names.add(name);
+            }
+        }
+        return names.toArray();
     }
 
     public final PythonModule getBuiltins() {
@@ -82,7 +82,9 @@ import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import org.graalvm.polyglot.Value;
@@ -100,6 +102,9 @@ import com.oracle.graal.python.builtins.modules.cext.PythonCextCapsuleBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
 import com.oracle.graal.python.builtins.objects.array.PArray;
+import com.oracle.graal.python.builtins.objects.buffer.BufferFlags;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
 import com.oracle.graal.python.builtins.objects.capsule.PyCapsule;
@@ -135,6 +140,7 @@ import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.set.PSet;
 import com.oracle.graal.python.builtins.objects.str.StringUtils;
+import com.oracle.graal.python.builtins.objects.thread.PThread;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.lib.OsEnvironGetNode;
 import com.oracle.graal.python.lib.PyNumberLongNode;
@@ -169,20 +175,26 @@ import com.oracle.graal.python.pegparser.InputType;
 import com.oracle.graal.python.runtime.ExecutionContext;
 import com.oracle.graal.python.runtime.ExecutionContext.BoundaryCallContext;
 import com.oracle.graal.python.runtime.ExecutionContext.InteropCallContext;
+import com.oracle.graal.python.runtime.GlobalInterpreterLock.GilStatistics.ThreadStatistics;
+import com.oracle.graal.python.runtime.ImportPrefetcher;
 import com.oracle.graal.python.runtime.IndirectCallData.BoundaryCallData;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonImageBuildOptions;
 import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.arrow.ArrowColumns;
+import com.oracle.graal.python.runtime.arrow.ArrowColumns.NativeColumn;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonExitException;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.NativePrimitiveSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.NativeSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.graal.python.util.TimeUtils;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -1384,6 +1396,54 @@ public final class GraalPythonModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "gil_statistics", maxNumOfPositionalArgs = 0, doc = "Returns a dict mapping thread idents to histograms of GIL wait and hold times, or None if the GilStatistics option is disabled.\n" +
+                    "Bucket 0 counts durations below 1us, bucket i durations in [2**(i-1), 2**i) us.")
+    @GenerateNodeFactory
+    public abstract static class GilStatisticsNode extends PythonBuiltinNode {
+
+        @Specialization
+        @TruffleBoundary
+        Object gilStatistics() {
+            PythonContext context = getContext();
+            Map<Thread, ThreadStatistics> statistics = context.getGilStatistics();
+            if (statistics == null) {
+                return PNone.NONE;
+            }
+            PythonLanguage language = context.getLanguage();
+            LinkedHashMap<Object, Object> result = new LinkedHashMap<>();
+            for (Map.Entry<Thread, ThreadStatistics> e : statistics.entrySet()) {
+                ThreadStatistics s = e.getValue();
+                LinkedHashMap<String, Object> entry = new LinkedHashMap<>();
+                entry.put("wait", PFactory.createList(language, new LongSequenceStorage(s.getWaitHistogram())));
+                entry.put("hold", PFactory.createList(language, new LongSequenceStorage(s.getHoldHistogram())));
+                entry.put("wait_total", s.getTotalWaitNs() / (double) TimeUtils.SEC_TO_NS);
+                entry.put("hold_total", s.getTotalHoldNs() / (double) TimeUtils.SEC_TO_NS);
+                result.put(PThread.getThreadId(e.getKey()), PFactory.createDictFromMap(language, entry));
+            }
+            return PFactory.createDictFromMapGeneric(language, result);
+        }
+    }
+
+    @Builtin(name = "import_prefetch_statistics", maxNumOfPositionalArgs = 0, doc = "Returns a dict with the number of modules that were compiled by the import prefetcher ('compiled') and\n" +
+                    "the number of those that were used by imports ('used'), or None if import prefetching is disabled.")
+    @GenerateNodeFactory
+    public abstract static class ImportPrefetchStatisticsNode extends PythonBuiltinNode {
+
+        @Specialization
+        @TruffleBoundary
+        Object importPrefetchStatistics() {
+            PythonContext context = getContext();
+            ImportPrefetcher prefetcher = context.getImportPrefetcher();
+            if (prefetcher == null) {
+                return PNone.NONE;
+            }
+            LinkedHashMap<String, Object> result = new LinkedHashMap<>();
+            result.put("compiled", prefetcher.getCompiledCount());
+            result.put("used", prefetcher.getUsedCount());
+            return PFactory.createDictFromMap(context.getLanguage(), result);
+        }
+    }
+
     @Builtin(name = "replicate_extensions_in_venv", minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
     public abstract static class ReplicateExtNode extends PythonBuiltinNode {
@@ -1547,4 +1607,108 @@ public final class GraalPythonModuleBuiltins extends PythonBuiltins {
             return PFactory.createTuple(ctx.getLanguage(inliningTarget), new Object[]{arrowSchemaCapsule, arrowArrayCapsule});
         }
     }
+
+    /**
+     * Exports a list or a buffer of primitives as a single Arrow column. Returns the schema capsule
+     * if {@code schema_only} is true, otherwise a tuple of the schema and the array capsule as
+     * expected from {@code __arrow_c_array__}.
+     */
+    @Builtin(name = "export_arrow_column", minNumOfPositionalArgs = 2, parameterNames = {"obj", "schema_only"})
+    @GenerateNodeFactory
+    public abstract static class ExportArrowColumn extends PythonBinaryBuiltinNode {
+
+        @Specialization
+        static Object doList(PList list, boolean schemaOnly,
+                        @Bind Node inliningTarget,
+                        @Shared @Cached PythonCextCapsuleBuiltins.PyCapsuleNewNode pyCapsuleNewNode) {
+            PythonContext ctx = ensureNativeAccess(inliningTarget);
+            SequenceStorage storage = list.getSequenceStorage();
+            if (schemaOnly) {
+                String format = ArrowColumns.formatOfStorage(inliningTarget, list, storage);
+                return createCapsules(inliningTarget, ctx, format, null, true, pyCapsuleNewNode);
+            }
+            NativeColumn column = ArrowColumns.fromStorage(inliningTarget, list, storage);
+            return createCapsules(inliningTarget, ctx, column.getFormat(), column, false, pyCapsuleNewNode);
+        }
+
+        @Specialization(guards = "!isList(obj)", limit = "3")
+        static Object doBuffer(VirtualFrame frame, Object obj, boolean schemaOnly,
+                        @Bind Node inliningTarget,
+                        @Cached("createFor($node)") InteropCallData callData,
+                        @CachedLibrary("obj") PythonBufferAcquireLibrary acquireLib,
+                        @CachedLibrary(limit = "1") PythonBufferAccessLibrary bufferLib,
+                        @Shared @Cached PythonCextCapsuleBuiltins.PyCapsuleNewNode pyCapsuleNewNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (!acquireLib.hasBuffer(obj)) {
+                throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.TypeError, ErrorMessages.CANNOT_EXPORT_P_TO_ARROW, obj);
+            }
+            PythonContext ctx = ensureNativeAccess(inliningTarget);
+            Object buffer = acquireLib.acquire(obj, BufferFlags.PyBUF_C_CONTIGUOUS | BufferFlags.PyBUF_FORMAT, frame, callData);
+            try {
+                int itemSize = bufferLib.getItemSize(buffer);
+                String format = ArrowColumns.bufferFormatToArrow(bufferLib.getFormatString(buffer), itemSize);
+                if (format == null) {
+                    throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.TypeError, ErrorMessages.CANNOT_EXPORT_P_TO_ARROW, obj);
+                }
+                NativeColumn column = null;
+                if (!schemaOnly) {
+                    column = ArrowColumns.fromBuffer(bufferLib.getInternalOrCopiedByteArray(buffer), bufferLib.getBufferLength(buffer), format, itemSize);
+                }
+                return createCapsules(inliningTarget, ctx, format, column, schemaOnly, pyCapsuleNewNode);
+            } finally {
+                bufferLib.release(buffer, frame, callData);
+            }
+        }
+
+        private static PythonContext ensureNativeAccess(Node inliningTarget) {
+            PythonContext ctx = getContext(inliningTarget);
+            if (!ctx.isNativeAccessAllowed()) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.SystemError, ErrorMessages.ARROW_EXCHANGE_REQUIRES_NATIVE_ACCESS);
+            }
+            return ctx;
+        }
+
+        private static Object createCapsules(Node inliningTarget, PythonContext ctx, String format, NativeColumn column, boolean schemaOnly,
+                        PythonCextCapsuleBuiltins.PyCapsuleNewNode pyCapsuleNewNode) {
+            long schemaDestructor = ctx.arrowSupport.getArrowSchemaDestructor(inliningTarget);
+            long schemaCapsuleNamePointer = ctx.stringToNativeUtf8Bytes(ArrowSchema.CAPSULE_NAME, true);
+            ArrowSchema arrowSchema = ArrowColumns.exportSchema(ctx, inliningTarget, format);
+            PyCapsule arrowSchemaCapsule = pyCapsuleNewNode.execute(inliningTarget, arrowSchema.memoryAddress(), schemaCapsuleNamePointer, schemaDestructor);
+            if (schemaOnly) {
+                if (column != null) {
+                    column.free();
+                }
+                return arrowSchemaCapsule;
+            }
+            long arrayDestructor = ctx.arrowSupport.getArrowArrayDestructor(inliningTarget);
+            long arrayCapsuleNamePointer = ctx.stringToNativeUtf8Bytes(ArrowArray.CAPSULE_NAME, true);
+            ArrowArray arrowArray = ArrowColumns.exportArray(ctx, inliningTarget, column);
+            PyCapsule arrowArrayCapsule = pyCapsuleNewNode.execute(inliningTarget, arrowArray.memoryAddress(), arrayCapsuleNamePointer, arrayDestructor);
+            return PFactory.createTuple(ctx.getLanguage(inliningTarget), new Object[]{arrowSchemaCapsule, arrowArrayCapsule});
+        }
+    }
+
+    /**
+     * Creates a list from the capsules returned by {@code __arrow_c_array__}.
+     */
+    @Builtin(name = "import_arrow_column", minNumOfPositionalArgs = 2, parameterNames = {"schema_capsule", "array_capsule"})
+    @GenerateNodeFactory
+    public abstract static class ImportArrowColumn extends PythonBinaryBuiltinNode {
+
+        @Specialization
+        static PList doImport(Object schemaCapsule, Object arrayCapsule,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached PythonCextCapsuleBuiltins.PyCapsuleGetPointerNode getPointerNode) {
+            PythonContext ctx = getContext(inliningTarget);
+            if (!ctx.isNativeAccessAllowed()) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.SystemError, ErrorMessages.ARROW_EXCHANGE_REQUIRES_NATIVE_ACCESS);
+            }
+            long schemaCapsuleNamePointer = ctx.stringToNativeUtf8Bytes(ArrowSchema.CAPSULE_NAME, true);
+            ArrowSchema arrowSchema = ArrowSchema.wrap(getPointerNode.execute(inliningTarget, schemaCapsule, schemaCapsuleNamePointer));
+            long arrayCapsuleNamePointer = ctx.stringToNativeUtf8Bytes(ArrowArray.CAPSULE_NAME, true);
+            ArrowArray arrowArray = ArrowArray.wrap(getPointerNode.execute(inliningTarget, arrayCapsule, arrayCapsuleNamePointer));
+            return PFactory.createList(language, ArrowColumns.toStorage(ctx, inliningTarget, arrowSchema, arrowArray));
+        }
+    }
 }
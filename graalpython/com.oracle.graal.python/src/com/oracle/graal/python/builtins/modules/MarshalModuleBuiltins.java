@@ -941,7 +941,7 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                 } else if (v instanceof CodeUnit) {
                     if (PythonOptions.ENABLE_BYTECODE_DSL_INTERPRETER) {
                         writeByte(TYPE_GRAALPYTHON_DSL_CODE_UNIT | flag);
-                        writeBytecodeDSLCodeUnit((BytecodeDSLCodeUnit) v);
+                        writeBytecodeDSLCodeUnit(((BytecodeDSLCodeUnit) v).getCompiledCodeUnit());
                     } else {
                         writeByte(TYPE_GRAALPYTHON_CODE_UNIT | flag);
                         writeBytecodeCodeUnit((BytecodeCodeUnit) v);
@@ -1452,7 +1452,7 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         private void writeCodeUnit(CodeUnit code) throws IOException {
             if (PythonOptions.ENABLE_BYTECODE_DSL_INTERPRETER) {
                 writeByte(TYPE_GRAALPYTHON_DSL_CODE_UNIT);
-                writeBytecodeDSLCodeUnit((BytecodeDSLCodeUnit) code);
+                writeBytecodeDSLCodeUnit(((BytecodeDSLCodeUnit) code).getCompiledCodeUnit());
             } else {
                 writeByte(TYPE_GRAALPYTHON_CODE_UNIT);
                 writeBytecodeCodeUnit((BytecodeCodeUnit) code);
@@ -1720,6 +1720,20 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Marshals a code object in the format expected by {@link #fromBytecodeFile}. Any marshalling
+     * failure is reported as an {@link IOException} so that callers writing caches can just skip
+     * the entry.
+     */
+    @TruffleBoundary
+    public static byte[] toBytecodeFile(PythonLanguage language, PCode code) throws IOException {
+        try {
+            return Marshal.dump(language, code, CURRENT_VERSION);
+        } catch (Marshal.MarshalError | ReparseError e) {
+            throw new IOException("cannot marshal code object", e);
+        }
+    }
+
     @TruffleBoundary
     public static Object fromBytecodeFile(PythonLanguage language, TruffleFile bytecodeFile, TruffleFile sourceFile, byte[] bytes, int offset, int length, long cacheKey) throws IOException {
         MarshalModuleBuiltins.Marshal marshal = new MarshalModuleBuiltins.Marshal(language, bytes, length + offset, cacheKey, bytecodeFile, 0);
@@ -68,6 +68,7 @@ import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.modules.SysModuleBuiltins.AuditNode;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
@@ -94,6 +95,9 @@ import com.oracle.graal.python.lib.PyObjectAsFileDescriptor;
 import com.oracle.graal.python.lib.PyObjectGetAttr;
 import com.oracle.graal.python.lib.PyObjectGetItem;
 import com.oracle.graal.python.lib.PyObjectSizeNode;
+import com.oracle.graal.python.lib.PySequenceCheckNode;
+import com.oracle.graal.python.lib.PySequenceGetItemNode;
+import com.oracle.graal.python.lib.PySequenceSizeNode;
 import com.oracle.graal.python.lib.PyUnicodeCheckNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
@@ -106,6 +110,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
@@ -212,6 +217,7 @@ public final class PosixModuleBuiltins extends PythonBuiltins {
         addConstants(PosixConstants.accessMode);
         addConstants(PosixConstants.exitStatus);
         addConstants(PosixConstants.rtld);
+        addConstants(PosixConstants.spliceFlags);
         for (IntConstant c : PosixConstants.winapiLoadLibraryFlags) {
             if (c.defined) {
                 addBuiltinConstant('_' + c.name, c.getValueIfDefined());
@@ -968,6 +974,34 @@ public final class PosixModuleBuiltins extends PythonBuiltins {
                 gil.acquire();
             }
         }
+
+        /**
+         * Reads directly into {@code buf} at {@code offset}, retrying on {@code EINTR}. Unlike
+         * {@link #read} this does not allocate a fresh bytes object for the result.
+         */
+        public static int readInto(int fd, byte[] buf, int offset, int length,
+                        Node inliningTarget,
+                        PosixSupportLibrary posixLib,
+                        PosixSupport posixSupport,
+                        InlinedBranchProfile errorProfile, GilNode gil) throws PosixException {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.readInto(posixSupport, fd, buf, offset, length);
+                    } catch (PosixErrnoException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            throw e;
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
     }
 
     @Builtin(name = "write", minNumOfPositionalArgs = 2, parameterNames = {"fd", "data"})
@@ -1023,6 +1057,498 @@ public final class PosixModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "pread", minNumOfPositionalArgs = 3, parameterNames = {"fd", "length", "offset"})
+    @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "length", conversion = ClinicConversion.Index)
+    @ArgumentClinic(name = "offset", conversionClass = OffsetConversionNode.class)
+    @GenerateNodeFactory
+    abstract static class PreadNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.PreadNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PBytes pread(VirtualFrame frame, int fd, int length, long offset,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            if (length < 0) {
+                int error = OSErrorEnum.EINVAL.getNumber();
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, error, posixLib.strerror(context.getPosixSupport(), error));
+            }
+            byte[] data = new byte[length];
+            int n;
+            try {
+                n = preadInto(fd, data, length, offset, inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+            return PFactory.createBytes(context.getLanguage(inliningTarget), data, n);
+        }
+
+        static int preadInto(int fd, byte[] buf, int length, long offset,
+                        Node inliningTarget,
+                        PosixSupportLibrary posixLib,
+                        PosixSupport posixSupport,
+                        InlinedBranchProfile errorProfile, GilNode gil) throws PosixException {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.pread(posixSupport, fd, buf, 0, length, offset);
+                    } catch (PosixErrnoException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            throw e;
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    @Builtin(name = "pwrite", minNumOfPositionalArgs = 3, parameterNames = {"fd", "data", "offset"})
+    @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer)
+    @ArgumentClinic(name = "offset", conversionClass = OffsetConversionNode.class)
+    @GenerateNodeFactory
+    abstract static class PwriteNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.PwriteNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        static int pwrite(VirtualFrame frame, int fd, Object dataBuffer, long offset,
+                        @Bind Node inliningTarget,
+                        @Cached("createFor($node)") InteropCallData callData,
+                        @CachedLibrary("dataBuffer") PythonBufferAccessLibrary bufferLib,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            try {
+                byte[] data = bufferLib.getInternalOrCopiedByteArray(dataBuffer);
+                int len = bufferLib.getBufferLength(dataBuffer);
+                return pwrite(fd, data, len, offset, inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } finally {
+                bufferLib.release(dataBuffer, frame, callData);
+            }
+        }
+
+        static int pwrite(int fd, byte[] data, int length, long offset,
+                        Node inliningTarget,
+                        PosixSupportLibrary posixLib,
+                        PosixSupport posixSupport,
+                        InlinedBranchProfile errorProfile, GilNode gil) throws PosixException {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.pwrite(posixSupport, fd, data, 0, length, offset);
+                    } catch (PosixErrnoException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            throw e;
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    /**
+     * Acquires a buffer for each item of {@code buffers}, releasing the ones acquired so far if
+     * any of them fails.
+     */
+    static Object[] acquireBuffers(VirtualFrame frame, Node inliningTarget, String fname, Object buffers, boolean writable,
+                    PySequenceCheckNode sequenceCheckNode, PySequenceSizeNode sizeNode, PySequenceGetItemNode getItemNode,
+                    PythonBufferAcquireLibrary acquireLib, PythonBufferAccessLibrary bufferLib, InteropCallData callData) {
+        if (!sequenceCheckNode.execute(inliningTarget, buffers)) {
+            throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.ARG_D_MUST_BE_S, fname, 2, "sequence");
+        }
+        int count = sizeNode.execute(frame, inliningTarget, buffers);
+        Object[] acquired = new Object[count];
+        int i = 0;
+        try {
+            for (; i < count; i++) {
+                Object item = getItemNode.execute(frame, buffers, i);
+                acquired[i] = writable ? acquireLib.acquireWritable(item, frame, callData) : acquireLib.acquireReadonly(item, frame, callData);
+            }
+        } catch (PException e) {
+            releaseBuffers(frame, acquired, i, bufferLib, callData);
+            throw e;
+        }
+        return acquired;
+    }
+
+    static void releaseBuffers(VirtualFrame frame, Object[] buffers, int count, PythonBufferAccessLibrary bufferLib, InteropCallData callData) {
+        for (int i = 0; i < count; i++) {
+            bufferLib.release(buffers[i], frame, callData);
+        }
+    }
+
+    static int totalBufferLength(Object[] buffers, PythonBufferAccessLibrary bufferLib) {
+        long total = 0;
+        for (Object buffer : buffers) {
+            total += bufferLib.getBufferLength(buffer);
+        }
+        // like a short read/write, the caller has to deal with the rest
+        return (int) Math.min(total, Integer.MAX_VALUE - 8);
+    }
+
+    /** Copies the first {@code n} bytes of {@code data} into consecutive {@code buffers}. */
+    static void scatterToBuffers(Object[] buffers, byte[] data, int n, PythonBufferAccessLibrary bufferLib) {
+        int pos = 0;
+        for (int i = 0; i < buffers.length && pos < n; i++) {
+            int len = Math.min(bufferLib.getBufferLength(buffers[i]), n - pos);
+            bufferLib.writeFromByteArray(buffers[i], 0, data, pos, len);
+            pos += len;
+        }
+    }
+
+    /** Returns the contents of consecutive {@code buffers}, up to {@code total} bytes. */
+    static byte[] gatherFromBuffers(Object[] buffers, int total, PythonBufferAccessLibrary bufferLib) {
+        if (buffers.length == 1) {
+            return bufferLib.getInternalOrCopiedByteArray(buffers[0]);
+        }
+        byte[] data = new byte[total];
+        int pos = 0;
+        for (int i = 0; i < buffers.length && pos < total; i++) {
+            int len = Math.min(bufferLib.getBufferLength(buffers[i]), total - pos);
+            bufferLib.readIntoByteArray(buffers[i], 0, data, pos, len);
+            pos += len;
+        }
+        return data;
+    }
+
+    static void checkNoRWFlags(VirtualFrame frame, Node inliningTarget, int flags, PosixSupportLibrary posixLib, PythonContext context, PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+        // the RWF_* flags of preadv2/pwritev2 are not supported by any backend
+        if (flags != 0) {
+            int error = OSErrorEnum.EOPNOTSUPP.getNumber();
+            throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, error, posixLib.strerror(context.getPosixSupport(), error));
+        }
+    }
+
+    /*
+     * readv, writev, preadv and pwritev are implemented with a single read or write of one
+     * contiguous array, which keeps the atomicity guarantees of the vectored system calls.
+     */
+    @Builtin(name = "readv", minNumOfPositionalArgs = 2, parameterNames = {"fd", "buffers"})
+    @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class ReadvNode extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.ReadvNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long readv(VirtualFrame frame, int fd, Object buffers,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached PySequenceCheckNode sequenceCheckNode,
+                        @Cached PySequenceSizeNode sizeNode,
+                        @Cached PySequenceGetItemNode getItemNode,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary acquireLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached("createFor($node)") InteropCallData callData,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            Object[] acquired = acquireBuffers(frame, inliningTarget, "readv()", buffers, true, sequenceCheckNode, sizeNode, getItemNode, acquireLib, bufferLib, callData);
+            try {
+                int total = totalBufferLength(acquired, bufferLib);
+                byte[] data;
+                boolean direct = acquired.length == 1 && bufferLib.hasInternalByteArray(acquired[0]);
+                if (direct) {
+                    data = bufferLib.getInternalByteArray(acquired[0]);
+                } else {
+                    data = new byte[total];
+                }
+                int n = ReadNode.readInto(fd, data, 0, total, inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
+                if (!direct) {
+                    scatterToBuffers(acquired, data, n, bufferLib);
+                }
+                return n;
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } finally {
+                releaseBuffers(frame, acquired, acquired.length, bufferLib, callData);
+            }
+        }
+    }
+
+    @Builtin(name = "writev", minNumOfPositionalArgs = 2, parameterNames = {"fd", "buffers"})
+    @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class WritevNode extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.WritevNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long writev(VirtualFrame frame, int fd, Object buffers,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached PySequenceCheckNode sequenceCheckNode,
+                        @Cached PySequenceSizeNode sizeNode,
+                        @Cached PySequenceGetItemNode getItemNode,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary acquireLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached("createFor($node)") InteropCallData callData,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            Object[] acquired = acquireBuffers(frame, inliningTarget, "writev()", buffers, false, sequenceCheckNode, sizeNode, getItemNode, acquireLib, bufferLib, callData);
+            try {
+                int total = totalBufferLength(acquired, bufferLib);
+                byte[] data = gatherFromBuffers(acquired, total, bufferLib);
+                return WriteNode.write(fd, data, total, inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } finally {
+                releaseBuffers(frame, acquired, acquired.length, bufferLib, callData);
+            }
+        }
+    }
+
+    @Builtin(name = "preadv", minNumOfPositionalArgs = 3, parameterNames = {"fd", "buffers", "offset", "flags"})
+    @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "offset", conversionClass = OffsetConversionNode.class)
+    @ArgumentClinic(name = "flags", conversion = ClinicConversion.Int, defaultValue = "0")
+    @GenerateNodeFactory
+    abstract static class PreadvNode extends PythonQuaternaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.PreadvNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long preadv(VirtualFrame frame, int fd, Object buffers, long offset, int flags,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached PySequenceCheckNode sequenceCheckNode,
+                        @Cached PySequenceSizeNode sizeNode,
+                        @Cached PySequenceGetItemNode getItemNode,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary acquireLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached("createFor($node)") InteropCallData callData,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            checkNoRWFlags(frame, inliningTarget, flags, posixLib, context, constructAndRaiseNode);
+            Object[] acquired = acquireBuffers(frame, inliningTarget, "preadv()", buffers, true, sequenceCheckNode, sizeNode, getItemNode, acquireLib, bufferLib, callData);
+            try {
+                int total = totalBufferLength(acquired, bufferLib);
+                boolean direct = acquired.length == 1 && bufferLib.hasInternalByteArray(acquired[0]);
+                byte[] data = direct ? bufferLib.getInternalByteArray(acquired[0]) : new byte[total];
+                int n = PreadNode.preadInto(fd, data, total, offset, inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
+                if (!direct) {
+                    scatterToBuffers(acquired, data, n, bufferLib);
+                }
+                return n;
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } finally {
+                releaseBuffers(frame, acquired, acquired.length, bufferLib, callData);
+            }
+        }
+    }
+
+    @Builtin(name = "pwritev", minNumOfPositionalArgs = 3, parameterNames = {"fd", "buffers", "offset", "flags"})
+    @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "offset", conversionClass = OffsetConversionNode.class)
+    @ArgumentClinic(name = "flags", conversion = ClinicConversion.Int, defaultValue = "0")
+    @GenerateNodeFactory
+    abstract static class PwritevNode extends PythonQuaternaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.PwritevNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long pwritev(VirtualFrame frame, int fd, Object buffers, long offset, int flags,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached PySequenceCheckNode sequenceCheckNode,
+                        @Cached PySequenceSizeNode sizeNode,
+                        @Cached PySequenceGetItemNode getItemNode,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary acquireLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached("createFor($node)") InteropCallData callData,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            checkNoRWFlags(frame, inliningTarget, flags, posixLib, context, constructAndRaiseNode);
+            Object[] acquired = acquireBuffers(frame, inliningTarget, "pwritev()", buffers, false, sequenceCheckNode, sizeNode, getItemNode, acquireLib, bufferLib, callData);
+            try {
+                int total = totalBufferLength(acquired, bufferLib);
+                byte[] data = gatherFromBuffers(acquired, total, bufferLib);
+                return PwriteNode.pwrite(fd, data, total, offset, inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } finally {
+                releaseBuffers(frame, acquired, acquired.length, bufferLib, callData);
+            }
+        }
+    }
+
+    @Builtin(name = "sendfile", minNumOfPositionalArgs = 4, parameterNames = {"out_fd", "in_fd", "offset", "count"})
+    @ArgumentClinic(name = "out_fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "in_fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "offset", conversionClass = OptionalOffsetConversionNode.class)
+    @ArgumentClinic(name = "count", conversion = ClinicConversion.LongIndex)
+    @GenerateNodeFactory
+    abstract static class SendfileNode extends PythonClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.SendfileNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long sendfile(VirtualFrame frame, int outFd, int inFd, long offset, long count,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.sendfile(context.getPosixSupport(), outFd, inFd, offset, count);
+                    } catch (PosixException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            gil.acquire(); // need GIL to construct OSError
+                            throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    @Builtin(name = "copy_file_range", minNumOfPositionalArgs = 3, parameterNames = {"src", "dst", "count", "offset_src", "offset_dst"})
+    @ArgumentClinic(name = "src", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "dst", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "count", conversion = ClinicConversion.LongIndex)
+    @ArgumentClinic(name = "offset_src", conversionClass = OptionalOffsetConversionNode.class)
+    @ArgumentClinic(name = "offset_dst", conversionClass = OptionalOffsetConversionNode.class)
+    @GenerateNodeFactory
+    abstract static class CopyFileRangeNode extends PythonClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.CopyFileRangeNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long copyFileRange(VirtualFrame frame, int src, int dst, long count, long offsetSrc, long offsetDst,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.copyFileRange(context.getPosixSupport(), src, offsetSrc, dst, offsetDst, count);
+                    } catch (PosixException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            gil.acquire(); // need GIL to construct OSError
+                            throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    @Builtin(name = "splice", minNumOfPositionalArgs = 3, parameterNames = {"src", "dst", "count", "offset_src", "offset_dst", "flags"})
+    @ArgumentClinic(name = "src", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "dst", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "count", conversion = ClinicConversion.LongIndex)
+    @ArgumentClinic(name = "offset_src", conversionClass = OptionalOffsetConversionNode.class)
+    @ArgumentClinic(name = "offset_dst", conversionClass = OptionalOffsetConversionNode.class)
+    @ArgumentClinic(name = "flags", conversion = ClinicConversion.Int, defaultValue = "0")
+    @GenerateNodeFactory
+    abstract static class SpliceNode extends PythonClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.SpliceNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long splice(VirtualFrame frame, int src, int dst, long count, long offsetSrc, long offsetDst, int flags,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.splice(context.getPosixSupport(), src, offsetSrc, dst, offsetDst, count, flags);
+                    } catch (PosixException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            gil.acquire(); // need GIL to construct OSError
+                            throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
     @Builtin(name = "dup", minNumOfPositionalArgs = 1, parameterNames = {"fd"})
     @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
     @GenerateNodeFactory
@@ -3582,6 +4108,38 @@ public final class PosixModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Converts the offset arguments of {@code sendfile}, {@code copy_file_range} and
+     * {@code splice}. {@code None} (or a missing argument) becomes
+     * {@link PosixSupportLibrary#USE_FILE_OFFSET}, negative offsets fail with {@code EINVAL} like
+     * the system calls do.
+     */
+    public abstract static class OptionalOffsetConversionNode extends ArgumentCastNode {
+
+        @Specialization
+        static long doNone(@SuppressWarnings("unused") PNone value) {
+            return PosixSupportLibrary.USE_FILE_OFFSET;
+        }
+
+        @Specialization(guards = "!isPNone(value)")
+        static long doOthers(VirtualFrame frame, Object value,
+                        @Bind Node inliningTarget,
+                        @Cached PyLongAsLongNode asLongNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            long offset = asLongNode.execute(frame, inliningTarget, value);
+            if (offset < 0) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, OSErrorEnum.EINVAL);
+            }
+            return offset;
+        }
+
+        @ClinicConverterFactory
+        @NeverDefault
+        public static OptionalOffsetConversionNode create() {
+            return PosixModuleBuiltinsFactory.OptionalOffsetConversionNodeGen.create();
+        }
+    }
+
     /**
      * Equivalent of CPython's {@code fildes_converter()}, which in turn delegates to
      * {@code PyObject_AsFileDescriptor}. Always returns an {@code int}.
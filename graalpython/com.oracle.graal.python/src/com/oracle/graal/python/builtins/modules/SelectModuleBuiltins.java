@@ -41,6 +41,12 @@
 package com.oracle.graal.python.builtins.modules;
 
 import static com.oracle.graal.python.runtime.PosixConstants.FD_SETSIZE;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLERR;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLHUP;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLIN;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLNVAL;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLOUT;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLPRI;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 import static com.oracle.graal.python.util.TimeUtils.SEC_TO_NS;
 
@@ -53,6 +59,7 @@ import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.select.PPoller;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.lib.PyObjectAsFileDescriptor;
 import com.oracle.graal.python.lib.PyObjectGetItem;
@@ -74,6 +81,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.ChannelNotSelectableE
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.SelectResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Timeval;
+import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.util.ArrayBuilder;
@@ -95,12 +103,24 @@ import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 public final class SelectModuleBuiltins extends PythonBuiltins {
 
     /*
-     * ATTENTION: if we ever add "poll" support, update the code in
-     * MultiprocessingModuleBuilins#SelectNode to use it if available
+     * ATTENTION: MultiprocessingGraalPyModuleBuiltins#SelectNode waits on file descriptors with the
+     * same PosixSupportLibrary poller messages as poll and epoll. Update it as well when the poller
+     * semantics change.
      */
 
     public SelectModuleBuiltins() {
         addBuiltinConstant("error", PythonErrorType.OSError);
+        addBuiltinConstant("POLLIN", POLLIN);
+        addBuiltinConstant("POLLPRI", POLLPRI);
+        addBuiltinConstant("POLLOUT", POLLOUT);
+        addBuiltinConstant("POLLERR", POLLERR);
+        addBuiltinConstant("POLLHUP", POLLHUP);
+        addBuiltinConstant("POLLNVAL", POLLNVAL);
+        addBuiltinConstant("EPOLLIN", POLLIN);
+        addBuiltinConstant("EPOLLPRI", POLLPRI);
+        addBuiltinConstant("EPOLLOUT", POLLOUT);
+        addBuiltinConstant("EPOLLERR", POLLERR);
+        addBuiltinConstant("EPOLLHUP", POLLHUP);
     }
 
     @Override
@@ -116,6 +136,24 @@ public final class SelectModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "poll", minNumOfPositionalArgs = 0)
+    @GenerateNodeFactory
+    abstract static class PollNode extends PythonBuiltinNode {
+        @Specialization
+        static PPoller poll(VirtualFrame frame,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Bind PythonContext context,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            try {
+                return PFactory.createPoller(language, context, posixLib.pollerCreate(context.getPosixSupport()));
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+        }
+    }
+
     @Builtin(name = "select", minNumOfPositionalArgs = 3, parameterNames = {"rlist", "wlist", "xlist", "timeout"})
     @GenerateNodeFactory
     abstract static class SelectNode extends PythonBuiltinNode {
@@ -248,6 +248,7 @@ import com.oracle.graal.python.runtime.formatting.IntegerFormatter;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.util.CharsetMapping;
 import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.graal.python.util.TimeUtils;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.CompilerDirectives.ValueType;
@@ -2121,11 +2122,26 @@ public final class SysModuleBuiltins extends PythonBuiltins {
             if (interval <= 0.0) {
                 throw raiseNode.raise(inliningTarget, ValueError, SWITCH_INTERVAL_MUST_BE_POSITIVE);
             }
-            PythonContext.get(inliningTarget).getSysModuleState().setSwitchInterval(FACTOR * interval);
+            PythonContext context = PythonContext.get(inliningTarget);
+            context.getSysModuleState().setSwitchInterval(FACTOR * interval);
+            context.setGilSwitchInterval(Math.max(1, (long) (interval * TimeUtils.SEC_TO_NS)));
             return PNone.NONE;
         }
     }
 
+    @Builtin(name = "_is_gil_enabled", minNumOfPositionalArgs = 1, declaresExplicitSelf = true, doc = "_is_gil_enabled($module, /)\n" +
+                    "--\n" +
+                    "\n" +
+                    "Return True if the GIL is currently enabled and False otherwise.")
+    @GenerateNodeFactory
+    abstract static class IsGilEnabledNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean isGilEnabled(@SuppressWarnings("unused") PythonModule sys,
+                        @Bind PythonLanguage language) {
+            return !language.isFreeThreading();
+        }
+    }
+
     @Builtin(name = J_EXIT, declaresExplicitSelf = true, minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, doc = "exit($module, status=None, /)\n" +
                     "--\n" +
                     "\n" +
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_SYS;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.CALL;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.C_RAISE;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.C_RETURN;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.EVENTS;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.EVENT_NAMES;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.LOCAL_EVENTS;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.TOOLS;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.List;
+
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.annotations.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.Python3Core;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltinsClinicProviders.FreeToolIdNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltinsClinicProviders.GetEventsNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltinsClinicProviders.GetLocalEventsNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltinsClinicProviders.GetToolNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltinsClinicProviders.RegisterCallbackNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltinsClinicProviders.SetEventsNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltinsClinicProviders.SetLocalEventsNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltinsClinicProviders.UseToolIdNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
+import com.oracle.graal.python.builtins.objects.namespace.PSimpleNamespace;
+import com.oracle.graal.python.lib.PyUnicodeCheckNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.PRootNode;
+import com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.MonitoringState;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * {@code sys.monitoring} (PEP 669). The events are delivered by the bytecode interpreters, see
+ * {@link MonitoringSupport}.
+ */
+@CoreFunctions(defineModule = SysMonitoringModuleBuiltins.J_SYS_MONITORING)
+public final class SysMonitoringModuleBuiltins extends PythonBuiltins {
+    public static final String J_SYS_MONITORING = "sys.monitoring";
+    public static final TruffleString T_SYS_MONITORING = tsLiteral(J_SYS_MONITORING);
+
+    private static final int C_RETURN_EVENTS = (1 << C_RETURN) | (1 << C_RAISE);
+    private static final int C_CALL_EVENTS = C_RETURN_EVENTS | (1 << CALL);
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return SysMonitoringModuleBuiltinsFactory.getFactories();
+    }
+
+    @Override
+    public void initialize(Python3Core core) {
+        addBuiltinConstant("DEBUGGER_ID", 0);
+        addBuiltinConstant("COVERAGE_ID", 1);
+        addBuiltinConstant("PROFILER_ID", 2);
+        addBuiltinConstant("OPTIMIZER_ID", 5);
+        super.initialize(core);
+    }
+
+    @Override
+    public void postInitialize(Python3Core core) {
+        super.postInitialize(core);
+        PythonModule module = core.lookupBuiltinModule(T_SYS_MONITORING);
+        MonitoringState state = core.getContext().getMonitoringState();
+        module.setAttribute(tsLiteral("DISABLE"), state.getDisable());
+        module.setAttribute(tsLiteral("MISSING"), state.getMissing());
+        PSimpleNamespace events = PFactory.createSimpleNamespace(core.getLanguage());
+        for (int event = 0; event < EVENTS; event++) {
+            events.setAttribute(tsLiteral(EVENT_NAMES[event]), 1 << event);
+        }
+        events.setAttribute(tsLiteral("NO_EVENTS"), 0);
+        module.setAttribute(tsLiteral("events"), events);
+        core.lookupBuiltinModule(T_SYS).setAttribute(tsLiteral("monitoring"), module);
+    }
+
+    private static void checkValidTool(Node inliningTarget, int tool) {
+        if (tool < 0 || tool >= TOOLS) {
+            throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.INVALID_TOOL_D, tool);
+        }
+    }
+
+    private static void checkToolInUse(Node inliningTarget, MonitoringState state, int tool) {
+        checkValidTool(inliningTarget, tool);
+        if (!state.isToolInUse(tool)) {
+            throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.TOOL_D_IS_NOT_IN_USE, tool);
+        }
+    }
+
+    private static int checkEventSet(Node inliningTarget, int eventSet, int limit, TruffleString message) {
+        if ((eventSet & C_RETURN_EVENTS) != 0 && (eventSet & C_CALL_EVENTS) != C_CALL_EVENTS) {
+            throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.CANNOT_SET_C_RETURN_OR_C_RAISE_INDEPENDENTLY);
+        }
+        int events = eventSet & ~C_RETURN_EVENTS;
+        if (events < 0 || events >= (1 << limit)) {
+            throw PRaiseNode.raiseStatic(inliningTarget, ValueError, message, events);
+        }
+        return events;
+    }
+
+    private static MonitoringSupport getMonitoringSupport(Node inliningTarget, Object code) {
+        if (!(code instanceof PCode pcode)) {
+            throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.CODE_MUST_BE_A_CODE_OBJECT);
+        }
+        RootNode rootNode = pcode.getRootNodeForExtraction();
+        return rootNode instanceof PRootNode pRootNode ? pRootNode.getMonitoringSupport() : null;
+    }
+
+    @Builtin(name = "use_tool_id", minNumOfPositionalArgs = 2, parameterNames = {"tool_id", "name"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class UseToolIdNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UseToolIdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        @TruffleBoundary
+        static PNone use(int tool, Object name,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            if (!PyUnicodeCheckNode.executeUncached(name)) {
+                throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.TOOL_NAME_MUST_BE_A_STR);
+            }
+            MonitoringState state = PythonContext.get(inliningTarget).getMonitoringState();
+            if (state.isToolInUse(tool)) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.TOOL_D_IS_ALREADY_IN_USE, tool);
+            }
+            state.useTool(tool, name);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "free_tool_id", minNumOfPositionalArgs = 1, parameterNames = {"tool_id"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class FreeToolIdNode extends PythonUnaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return FreeToolIdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        @TruffleBoundary
+        static PNone free(int tool,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            PythonContext context = PythonContext.get(inliningTarget);
+            context.getMonitoringState().freeTool(inliningTarget, context.getLanguage(), tool);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_tool", minNumOfPositionalArgs = 1, parameterNames = {"tool_id"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class GetToolNode extends PythonUnaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return GetToolNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        @TruffleBoundary
+        static Object get(int tool,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            Object name = PythonContext.get(inliningTarget).getMonitoringState().getToolName(tool);
+            return name != null ? name : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_events", minNumOfPositionalArgs = 1, parameterNames = {"tool_id"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class GetEventsNode extends PythonUnaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return GetEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        @TruffleBoundary
+        static int get(int tool,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            return PythonContext.get(inliningTarget).getMonitoringState().getEvents(tool);
+        }
+    }
+
+    @Builtin(name = "set_events", minNumOfPositionalArgs = 2, parameterNames = {"tool_id", "event_set"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "event_set", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class SetEventsNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SetEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        @TruffleBoundary
+        static PNone set(int tool, int eventSet,
+                        @Bind Node inliningTarget) {
+            PythonContext context = PythonContext.get(inliningTarget);
+            MonitoringState state = context.getMonitoringState();
+            checkToolInUse(inliningTarget, state, tool);
+            int events = checkEventSet(inliningTarget, eventSet, EVENTS, ErrorMessages.INVALID_EVENT_SET_X);
+            state.setEvents(inliningTarget, context.getLanguage(), tool, events);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_local_events", minNumOfPositionalArgs = 2, parameterNames = {"tool_id", "code"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class GetLocalEventsNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return GetLocalEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        @TruffleBoundary
+        static int get(int tool, Object code,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            MonitoringSupport support = getMonitoringSupport(inliningTarget, code);
+            return support != null ? PythonContext.get(inliningTarget).getMonitoringState().getLocalEvents(support, tool) : 0;
+        }
+    }
+
+    @Builtin(name = "set_local_events", minNumOfPositionalArgs = 3, parameterNames = {"tool_id", "code", "event_set"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "event_set", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class SetLocalEventsNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SetLocalEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        @TruffleBoundary
+        static PNone set(int tool, Object code, int eventSet,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            MonitoringSupport support = getMonitoringSupport(inliningTarget, code);
+            PythonContext context = PythonContext.get(inliningTarget);
+            checkToolInUse(inliningTarget, context.getMonitoringState(), tool);
+            int events = checkEventSet(inliningTarget, eventSet, LOCAL_EVENTS, ErrorMessages.INVALID_LOCAL_EVENT_SET_X);
+            if (support != null) {
+                context.getMonitoringState().setLocalEvents(inliningTarget, context.getLanguage(), support, tool, events);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "register_callback", minNumOfPositionalArgs = 3, parameterNames = {"tool_id", "event", "func"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "event", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class RegisterCallbackNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return RegisterCallbackNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        @TruffleBoundary
+        static Object register(int tool, int event, Object func,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            if (Integer.bitCount(event) != 1) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.CALLBACK_CAN_ONLY_BE_SET_FOR_ONE_EVENT);
+            }
+            int eventId = Integer.numberOfTrailingZeros(event);
+            if (eventId >= EVENTS) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.INVALID_EVENT_D, event);
+            }
+            Object previous = PythonContext.get(inliningTarget).getMonitoringState().registerCallback(tool, eventId, func == PNone.NONE ? null : func);
+            return previous != null ? previous : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "restart_events")
+    @GenerateNodeFactory
+    abstract static class RestartEventsNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone restart(
+                        @Bind PythonContext context) {
+            context.getMonitoringState().restartEvents(context.getLanguage());
+            return PNone.NONE;
+        }
+    }
+}
@@ -42,16 +42,33 @@ package com.oracle.graal.python.builtins.modules;
 
 import static com.oracle.graal.python.nodes.BuiltinNames.J__TRACEMALLOC;
 
+import java.util.HashMap;
 import java.util.List;
 
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
 import com.oracle.graal.python.annotations.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.TracemallocModuleBuiltinsClinicProviders.StartNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.TracemallocState;
+import com.oracle.graal.python.runtime.TracemallocState.Trace;
+import com.oracle.graal.python.runtime.TracemallocState.Traceback;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
@@ -71,13 +88,139 @@ public final class TracemallocModuleBuiltins extends PythonBuiltins {
         super.initialize(core);
     }
 
+    private static TracemallocState getState(Node node) {
+        return PythonContext.get(node).getTracemallocState();
+    }
+
+    private static PTuple toTuple(PythonLanguage language, Traceback traceback, HashMap<Traceback, PTuple> cache) {
+        PTuple tuple = cache.get(traceback);
+        if (tuple == null) {
+            Object[] frames = new Object[traceback.getFrameCount()];
+            for (int i = 0; i < frames.length; i++) {
+                frames[i] = PFactory.createTuple(language, new Object[]{traceback.getFilename(i), traceback.getLine(i)});
+            }
+            tuple = PFactory.createTuple(language, frames);
+            cache.put(traceback, tuple);
+        }
+        return tuple;
+    }
+
+    @Builtin(name = "start", minNumOfPositionalArgs = 0, parameterNames = {"nframe"})
+    @ArgumentClinic(name = "nframe", conversion = ClinicConversion.Int, defaultValue = "1")
+    @GenerateNodeFactory
+    abstract static class StartNode extends PythonUnaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return StartNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        @TruffleBoundary
+        static PNone start(int nframe,
+                        @Bind Node inliningTarget) {
+            if (nframe < 1 || nframe > TracemallocState.MAX_NFRAME) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.THE_NUMBER_OF_FRAMES_MUST_BE_IN_RANGE, TracemallocState.MAX_NFRAME);
+            }
+            getState(inliningTarget).start(nframe);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "stop")
+    @GenerateNodeFactory
+    abstract static class StopNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static PNone stop(
+                        @Bind Node inliningTarget) {
+            getState(inliningTarget).stop();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "is_tracing")
+    @GenerateNodeFactory
+    abstract static class IsTracingNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static boolean isTracing(
+                        @Bind Node inliningTarget) {
+            return getState(inliningTarget).isTracing();
+        }
+    }
+
+    @Builtin(name = "clear_traces")
+    @GenerateNodeFactory
+    abstract static class ClearTracesNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static PNone clear(
+                        @Bind Node inliningTarget) {
+            getState(inliningTarget).clearTraces();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_traceback_limit")
+    @GenerateNodeFactory
+    abstract static class GetTracebackLimitNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static int get(
+                        @Bind Node inliningTarget) {
+            return getState(inliningTarget).getTracebackLimit();
+        }
+    }
+
+    @Builtin(name = "get_traced_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracedMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static PTuple get(
+                        @Bind Node inliningTarget) {
+            TracemallocState state = getState(inliningTarget);
+            long current = state.getTracedMemory();
+            long peak = state.getPeakTracedMemory();
+            return PFactory.createTuple(PythonLanguage.get(inliningTarget), new Object[]{current, peak});
+        }
+    }
+
+    @Builtin(name = "reset_peak")
+    @GenerateNodeFactory
+    abstract static class ResetPeakNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static PNone reset(
+                        @Bind Node inliningTarget) {
+            getState(inliningTarget).resetPeak();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_tracemalloc_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracemallocMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static long get(
+                        @Bind Node inliningTarget) {
+            return getState(inliningTarget).getTracemallocMemory();
+        }
+    }
+
     @Builtin(name = "_get_object_traceback", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     abstract static class GetObjectTracebackNode extends PythonBuiltinNode {
         @Specialization
+        @TruffleBoundary
         static Object getObjectTraceback(Object obj,
                         @Bind Node inliningTarget) {
-            throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.NotImplementedError);
+            Traceback traceback = getState(inliningTarget).getObjectTraceback(obj);
+            if (traceback == null) {
+                return PNone.NONE;
+            }
+            return toTuple(PythonLanguage.get(inliningTarget), traceback, new HashMap<>());
         }
     }
 
@@ -85,9 +228,23 @@ public final class TracemallocModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class GetTracesNode extends PythonBuiltinNode {
         @Specialization
-        static Object getTraces(
+        @TruffleBoundary
+        static PList getTraces(
                         @Bind Node inliningTarget) {
-            throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.NotImplementedError);
+            PythonLanguage language = PythonLanguage.get(inliningTarget);
+            TracemallocState state = getState(inliningTarget);
+            Trace[] traces = state.suspendAndGetTraces();
+            try {
+                HashMap<Traceback, PTuple> tracebacks = new HashMap<>();
+                Object[] result = new Object[traces.length];
+                for (int i = 0; i < traces.length; i++) {
+                    Traceback traceback = traces[i].getTraceback();
+                    result[i] = PFactory.createTuple(language, new Object[]{0, traces[i].getSize(), toTuple(language, traceback, tracebacks), traceback.getTotalFrames()});
+                }
+                return PFactory.createList(language, result);
+            } finally {
+                state.resume();
+            }
         }
     }
 }
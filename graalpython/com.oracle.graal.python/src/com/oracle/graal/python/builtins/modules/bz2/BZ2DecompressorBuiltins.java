@@ -141,11 +141,9 @@ public final class BZ2DecompressorBuiltins extends PythonBuiltins {
                         @Bind PythonLanguage language,
                         @Cached SequenceStorageNodes.GetInternalByteArrayNode toBytes,
                         @Exclusive @Cached Bz2Nodes.Bz2NativeDecompress decompress) {
-            synchronized (self) {
-                byte[] bytes = toBytes.execute(inliningTarget, data.getSequenceStorage());
-                int len = data.getSequenceStorage().length();
-                return PFactory.createBytes(language, decompress.execute(inliningTarget, self, bytes, len, maxLength));
-            }
+            byte[] bytes = toBytes.execute(inliningTarget, data.getSequenceStorage());
+            int len = data.getSequenceStorage().length();
+            return PFactory.createBytes(language, decompress.execute(inliningTarget, self, bytes, len, maxLength));
         }
 
         @Specialization(guards = {"!self.isEOF()"})
@@ -154,11 +152,8 @@ public final class BZ2DecompressorBuiltins extends PythonBuiltins {
                         @Bind PythonLanguage language,
                         @Cached BytesNodes.ToBytesNode toBytes,
                         @Exclusive @Cached Bz2Nodes.Bz2NativeDecompress decompress) {
-            synchronized (self) {
-                byte[] bytes = toBytes.execute(frame, data);
-                int len = bytes.length;
-                return PFactory.createBytes(language, decompress.execute(inliningTarget, self, bytes, len, maxLength));
-            }
+            byte[] bytes = toBytes.execute(frame, data);
+            return PFactory.createBytes(language, decompress.execute(inliningTarget, self, bytes, bytes.length, maxLength));
         }
 
         @SuppressWarnings("unused")
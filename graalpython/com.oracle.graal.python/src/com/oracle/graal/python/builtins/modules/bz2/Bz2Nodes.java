@@ -57,6 +57,7 @@ import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueErr
 
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFIBz2Support;
 import com.oracle.graal.python.runtime.NativeLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -93,6 +94,12 @@ public class Bz2Nodes {
     protected static final int BZ_OUTBUFF_FULL = (-8);
     protected static final int BZ_CONFIG_ERROR = (-9);
 
+    /*
+     * Not a libbzip2 code: reported while the GIL is released when a native index does not fit
+     * into an int, and raised by errorHandling once the GIL is held again.
+     */
+    private static final int INDEX_OVERFLOW_ERROR = Integer.MIN_VALUE;
+
     protected static final int INITIAL_BUFFER_SIZE = 8192;
 
     @GenerateInline(false)       // footprint reduction 40 -> 21
@@ -113,13 +120,34 @@ public class Bz2Nodes {
                         @Bind Node inliningTarget,
                         @Cached NativeLibrary.InvokeNativeFunction compress,
                         @Cached GetOutputNativeBufferNode getBuffer,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode raiseNode) {
             NFIBz2Support bz2Support = context.getNFIBz2Support();
-            int err = bz2Support.compress(self.getBzs(), bytes, len, action, INITIAL_BUFFER_SIZE, compress);
+            int err;
+            byte[] result = null;
+            /*
+             * Only the native call and the copy of its output run without the GIL. Errors are
+             * raised after re-acquiring it, and the monitor is always left first, so we never wait
+             * for the GIL while holding it.
+             */
+            gil.release(context, len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+            try {
+                synchronized (self) {
+                    err = bz2Support.compress(self.getBzs(), bytes, len, action, INITIAL_BUFFER_SIZE, compress);
+                    if (err == BZ_OK) {
+                        result = getBuffer.execute(inliningTarget, self.getBzs(), context);
+                    }
+                }
+            } finally {
+                gil.acquire(context);
+            }
             if (err != BZ_OK) {
                 errorHandling(inliningTarget, err, raiseNode);
             }
-            return getBuffer.execute(inliningTarget, self.getBzs(), context);
+            if (result == null) {
+                errorHandling(inliningTarget, INDEX_OVERFLOW_ERROR, raiseNode);
+            }
+            return result;
         }
 
     }
@@ -137,7 +165,44 @@ public class Bz2Nodes {
                         @Cached InlinedBranchProfile isEofProfile,
                         @Cached InlinedBranchProfile bzsAvailProfile,
                         @Cached InlinedBranchProfile noInputBufferInUseProfile,
-                        @Cached(inline = false) Bz2NativeInternalDecompress decompress) {
+                        @Cached(inline = false) Bz2NativeInternalDecompress decompress,
+                        @Cached GetOutputNativeBufferNode getBuffer,
+                        @Cached(inline = false) GilNode gil,
+                        @Cached PRaiseNode raiseNode) {
+            PythonContext context = PythonContext.get(inliningTarget);
+            int err;
+            byte[] result = null;
+            // see Bz2NativeCompress
+            gil.release(context, len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+            try {
+                synchronized (self) {
+                    err = decompressInput(inliningTarget, self, bytes, len, maxLength, hasNextIntProfile, isEofProfile, bzsAvailProfile, noInputBufferInUseProfile, decompress);
+                    if (err >= 0) {
+                        result = getBuffer.execute(inliningTarget, self.getBzs(), context);
+                    }
+                }
+            } finally {
+                gil.acquire(context);
+            }
+            if (err < 0) {
+                errorHandling(inliningTarget, err, raiseNode);
+            }
+            if (result == null) {
+                errorHandling(inliningTarget, INDEX_OVERFLOW_ERROR, raiseNode);
+            }
+            return result;
+        }
+
+        /**
+         * Feeds the input to the native decompressor and updates the buffering state of
+         * {@code self}. Runs without the GIL, so it returns an error code instead of raising.
+         */
+        private static int decompressInput(Node inliningTarget, BZ2Object.BZ2Decompressor self, byte[] bytes, int len, int maxLength,
+                        InlinedConditionProfile hasNextIntProfile,
+                        InlinedBranchProfile isEofProfile,
+                        InlinedBranchProfile bzsAvailProfile,
+                        InlinedBranchProfile noInputBufferInUseProfile,
+                        Bz2NativeInternalDecompress decompress) {
             boolean inputBufferInUse;
             /* Prepend unconsumed input if necessary */
             if (hasNextIntProfile.profile(inliningTarget, self.getNextIn() != null)) {
@@ -174,7 +239,10 @@ public class Bz2Nodes {
                 inputBufferInUse = false;
             }
 
-            byte[] result = decompress.execute(self, maxLength);
+            int err = decompress.execute(self, maxLength);
+            if (err < 0) {
+                return err;
+            }
 
             if (self.isEOF()) {
                 isEofProfile.enter(inliningTarget);
@@ -217,26 +285,26 @@ public class Bz2Nodes {
                     self.setNextInIndex(0);
                 }
             }
-
-            return result;
+            return BZ_OK;
         }
     }
 
     @GenerateInline(false)       // footprint reduction 40 -> 21
     public abstract static class Bz2NativeInternalDecompress extends Node {
 
-        public abstract byte[] execute(BZ2Object.BZ2Decompressor self, int maxLength);
+        /**
+         * Returns {@link #BZ_OK}, {@link #BZ_STREAM_END} or a negative error code to be passed to
+         * {@link Bz2Nodes#errorHandling} once the GIL is held.
+         */
+        public abstract int execute(BZ2Object.BZ2Decompressor self, int maxLength);
 
         @Specialization
-        static byte[] nativeInternalDecompress(BZ2Object.BZ2Decompressor self, int maxLength,
+        static int nativeInternalDecompress(BZ2Object.BZ2Decompressor self, int maxLength,
                         @Bind Node inliningTarget,
                         @Cached NativeLibrary.InvokeNativeFunction decompress,
                         @Cached NativeLibrary.InvokeNativeFunction getBzsAvailInReal,
                         @Cached NativeLibrary.InvokeNativeFunction getNextInIndex,
-                        @Cached GetOutputNativeBufferNode getBuffer,
-                        @Cached InlinedConditionProfile errProfile,
-                        @Cached InlinedBranchProfile ofProfile,
-                        @Cached PRaiseNode raiseNode) {
+                        @Cached InlinedBranchProfile ofProfile) {
             PythonContext context = PythonContext.get(inliningTarget);
             NFIBz2Support bz2Support = context.getNFIBz2Support();
             byte[] in = self.getNextIn();
@@ -249,14 +317,12 @@ public class Bz2Nodes {
                 self.setBzsAvailInReal(bzsAvailInReal);
             } catch (OverflowException of) {
                 ofProfile.enter(inliningTarget);
-                throw raiseNode.raise(inliningTarget, SystemError, VALUE_TOO_LARGE_TO_FIT_INTO_INDEX);
+                return INDEX_OVERFLOW_ERROR;
             }
             if (err == BZ_STREAM_END) {
                 self.setEOF();
-            } else if (errProfile.profile(inliningTarget, err != BZ_OK)) {
-                errorHandling(inliningTarget, err, raiseNode);
             }
-            return getBuffer.execute(inliningTarget, self.getBzs(), context);
+            return err;
         }
     }
 
@@ -264,21 +330,24 @@ public class Bz2Nodes {
     @GenerateCached(false)
     public abstract static class GetOutputNativeBufferNode extends Node {
 
+        /**
+         * Returns {@code null} if the output does not fit into a Java array. This may run without
+         * the GIL, so raising is left to the caller.
+         */
         public abstract byte[] execute(Node inliningTarget, Object bzst, PythonContext context);
 
         @Specialization
         static byte[] getBuffer(Node inliningTarget, Object bzst, PythonContext context,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction getBufferSize,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction getBuffer,
-                        @Cached InlinedBranchProfile ofProfile,
-                        @Cached PRaiseNode raiseNode) {
+                        @Cached InlinedBranchProfile ofProfile) {
             NFIBz2Support bz2Support = context.getNFIBz2Support();
             int size;
             try {
                 size = PInt.intValueExact(bz2Support.getOutputBufferSize(bzst, getBufferSize));
             } catch (OverflowException of) {
                 ofProfile.enter(inliningTarget);
-                throw raiseNode.raise(inliningTarget, SystemError, VALUE_TOO_LARGE_TO_FIT_INTO_INDEX);
+                return null;
             }
             if (size == 0) {
                 return PythonUtils.EMPTY_BYTE_ARRAY;
@@ -307,6 +376,8 @@ public class Bz2Nodes {
                 throw raise.raise(inliningTarget, RuntimeError, INVALID_SEQUENCE_OF_COMMANDS);
             case BZ_CONFIG_ERROR:
                 throw raise.raise(inliningTarget, ValueError, LIBBZIP2_WAS_NOT_COMPILED_CORRECTLY);
+            case INDEX_OVERFLOW_ERROR:
+                throw raise.raise(inliningTarget, SystemError, VALUE_TOO_LARGE_TO_FIT_INTO_INDEX);
             default:
                 throw raise.raise(inliningTarget, OSError, UNRECOGNIZED_ERROR_FROM_LIBBZIP2_D, bzerror);
         }
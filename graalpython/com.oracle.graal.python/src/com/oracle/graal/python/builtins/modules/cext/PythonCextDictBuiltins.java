@@ -102,6 +102,7 @@ import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.Hashi
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageSetItemWithHash;
 import com.oracle.graal.python.builtins.objects.common.KeywordsStorage;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.GetItemNode;
+import com.oracle.graal.python.builtins.objects.common.StringKeyHashStorage;
 import com.oracle.graal.python.builtins.objects.dict.DictBuiltins.ClearNode;
 import com.oracle.graal.python.builtins.objects.dict.DictBuiltins.PopNode;
 import com.oracle.graal.python.builtins.objects.dict.DictNodes;
@@ -701,8 +702,8 @@ public final class PythonCextDictBuiltins {
                         @Cached HashingStorageIteratorKey getIterKey,
                         @Cached PyUnicodeCheckNode check) {
             HashingStorage storage = dict.getDictStorage();
-            // Keywords and dynamic object storages only allow strings
-            if (storageProfile.profile(inliningTarget, storage instanceof KeywordsStorage || storage instanceof DynamicObjectStorage)) {
+            // Keywords, dynamic object and str-keyed primitive storages only allow strings
+            if (storageProfile.profile(inliningTarget, storage instanceof KeywordsStorage || storage instanceof DynamicObjectStorage || storage instanceof StringKeyHashStorage)) {
                 return 1;
             }
             HashingStorageIterator it = getIter.execute(inliningTarget, storage);
@@ -62,6 +62,9 @@ public final class CSVDialect extends PythonBuiltinObject {
     final int escapeCharCodePoint; /* code point representation for handling utf-32 escape chars */
     final int quoteCharCodePoint; /* code point representation for handling utf-32 quote chars */
 
+    final int[] unquotedFieldStops; /* code points ending a run of plain chars in an unquoted field */
+    final int[] quotedFieldStops; /* code points ending a run of plain chars in a quoted field */
+
     public CSVDialect(Object cls, Shape instanceShape, TruffleString delimiter, int delimiterCodePoint, boolean doubleQuote, TruffleString escapeChar, int escapeCharCodePoint,
                     TruffleString lineTerminator, TruffleString quoteChar, int quoteCharCodePoint, QuoteStyle quoting, boolean skipInitialSpace, boolean strict) {
         super(cls, instanceShape);
@@ -81,5 +84,17 @@ public final class CSVDialect extends PythonBuiltinObject {
         this.delimiterCodePoint = delimiterCodePoint;
         this.escapeCharCodePoint = escapeCharCodePoint;
         this.quoteCharCodePoint = quoteCharCodePoint;
+
+        if (escapeCharCodePoint == NOT_SET_CODEPOINT) {
+            this.unquotedFieldStops = new int[]{delimiterCodePoint, '\n', '\r'};
+        } else {
+            this.unquotedFieldStops = new int[]{delimiterCodePoint, '\n', '\r', escapeCharCodePoint};
+        }
+        boolean quoteIsSpecial = quoteCharCodePoint != NOT_SET_CODEPOINT && quoting != QuoteStyle.QUOTE_NONE;
+        if (escapeCharCodePoint == NOT_SET_CODEPOINT) {
+            this.quotedFieldStops = quoteIsSpecial ? new int[]{quoteCharCodePoint} : new int[0];
+        } else {
+            this.quotedFieldStops = quoteIsSpecial ? new int[]{quoteCharCodePoint, escapeCharCodePoint} : new int[]{escapeCharCodePoint};
+        }
     }
 }
@@ -51,11 +51,13 @@ import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState
 import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.START_RECORD;
 import static com.oracle.graal.python.builtins.modules.csv.QuoteStyle.QUOTE_NONE;
 import static com.oracle.graal.python.builtins.modules.csv.QuoteStyle.QUOTE_NONNUMERIC;
+import static com.oracle.graal.python.builtins.objects.str.StringUtils.codepointIndexToByteIndex;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 
 import java.util.List;
 
 import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
 import com.oracle.graal.python.annotations.Slot;
 import com.oracle.graal.python.annotations.Slot.SlotKind;
 import com.oracle.graal.python.annotations.Builtin;
@@ -63,6 +65,7 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState;
+import com.oracle.graal.python.builtins.modules.csv.CSVReaderBuiltinsClinicProviders.ReadRowsNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
 import com.oracle.graal.python.builtins.objects.type.slots.TpSlotIterNext.TpIterNextBuiltin;
@@ -73,7 +76,9 @@ import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.builtins.ListNodes.AppendNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
@@ -91,7 +96,6 @@ import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleStringBuilder;
 import com.oracle.truffle.api.strings.TruffleStringBuilder.AppendCodePointNode;
 import com.oracle.truffle.api.strings.TruffleStringBuilder.ToStringNode;
-import com.oracle.truffle.api.strings.TruffleStringIterator;
 
 @CoreFunctions(extendClasses = PythonBuiltinClassType.CSVReader)
 public final class CSVReaderBuiltins extends PythonBuiltins {
@@ -123,9 +127,12 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
         @Specialization
         static Object nextPos(VirtualFrame frame, CSVReader self,
                         @Bind Node inliningTarget,
-                        @Cached TruffleString.CreateCodePointIteratorNode createCodePointIteratorNode,
-                        @Cached TruffleStringIterator.NextNode stringNextNode,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.CodePointAtIndexUTF32Node codePointAtIndexNode,
+                        @Cached TruffleString.IntIndexOfAnyIntUTF32Node indexOfAnyIntUTF32Node,
+                        @Cached TruffleString.SubstringByteIndexNode substringByteIndexNode,
                         @Cached TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
+                        @Cached TruffleStringBuilder.AppendSubstringByteIndexNode appendSubstringByteIndexNode,
                         @Cached TruffleStringBuilder.ToStringNode toStringNode,
                         @Cached PyNumberFloatNode pyNumberFloatNode,
                         @Cached AppendNode appendNode,
@@ -166,10 +173,18 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
                 }
 
                 self.lineNum++;
-                TruffleStringIterator tsi = createCodePointIteratorNode.execute(line, TS_ENCODING);
-                while (tsi.hasNext()) {
-                    final int codepoint = stringNextNode.execute(tsi, TS_ENCODING);
-                    parseProcessCodePoint(inliningTarget, self, fields, codepoint, appendCodePointNode, toStringNode, pyNumberFloatNode, appendNode, raiseNode);
+                int length = codePointLengthNode.execute(line, TS_ENCODING);
+                int idx = 0;
+                while (idx < length) {
+                    int next = parseProcessRun(inliningTarget, self, fields, line, idx, length, codePointAtIndexNode, indexOfAnyIntUTF32Node, substringByteIndexNode,
+                                    appendSubstringByteIndexNode, pyNumberFloatNode, appendNode, raiseNode);
+                    if (next == idx) {
+                        /* the code point at idx needs the state machine */
+                        final int codepoint = codePointAtIndexNode.execute(line, idx++);
+                        parseProcessCodePoint(inliningTarget, self, fields, codepoint, appendCodePointNode, toStringNode, pyNumberFloatNode, appendNode, raiseNode);
+                    } else {
+                        idx = next;
+                    }
                 }
                 parseProcessCodePoint(inliningTarget, self, fields, EOL, appendCodePointNode, toStringNode, pyNumberFloatNode, appendNode, raiseNode);
 
@@ -177,6 +192,79 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
             return fields;
         }
 
+        /**
+         * Consumes the run of code points starting at {@code idx} that the state machine in
+         * {@link #parseProcessCodePoint} would merely append to the current field, using a single
+         * index-of search for the next code point that is special in the current state. Unquoted
+         * fields that start and end within the line are turned into substrings of the line without
+         * going through the field builder at all. Returns the index of the first code point that
+         * was not consumed, which is {@code idx} if the state machine has to handle it.
+         */
+        private static int parseProcessRun(Node inliningTarget, CSVReader self, PList fields, TruffleString line, int idx, int length,
+                        TruffleString.CodePointAtIndexUTF32Node codePointAtIndexNode, TruffleString.IntIndexOfAnyIntUTF32Node indexOfAnyIntUTF32Node,
+                        TruffleString.SubstringByteIndexNode substringByteIndexNode, TruffleStringBuilder.AppendSubstringByteIndexNode appendSubstringByteIndexNode,
+                        PyNumberFloatNode pyNumberFloatNode, AppendNode appendNode, PRaiseNode raiseNode) {
+            CSVDialect dialect = self.dialect;
+            switch (self.state) {
+                case START_RECORD:
+                case START_FIELD: {
+                    int codePoint = codePointAtIndexNode.execute(line, idx);
+                    if (codePoint == NEWLINE_CODEPOINT || codePoint == CARRIAGE_RETURN_CODEPOINT || codePoint == dialect.delimiterCodePoint ||
+                                    codePoint == dialect.escapeCharCodePoint || (codePoint == dialect.quoteCharCodePoint && dialect.quoting != QUOTE_NONE) ||
+                                    (codePoint == SPACE_CODEPOINT && dialect.skipInitialSpace)) {
+                        return idx;
+                    }
+                    /* begin new unquoted field */
+                    int end = indexOfAnyIntUTF32Node.execute(line, idx + 1, length, dialect.unquotedFieldStops);
+                    if (end < 0) {
+                        end = length;
+                    }
+                    checkFieldLimit(inliningTarget, self, end - idx, raiseNode);
+                    if (end < length && codePointAtIndexNode.execute(line, end) == dialect.escapeCharCodePoint) {
+                        /* the field continues after the escaped character */
+                        if (dialect.quoting == QUOTE_NONNUMERIC) {
+                            self.numericField = true;
+                        }
+                        appendSubstringByteIndexNode.execute(self.field, line, codepointIndexToByteIndex(idx), codepointIndexToByteIndex(end - idx));
+                        self.state = IN_FIELD;
+                        return end;
+                    }
+                    TruffleString field = substringByteIndexNode.execute(line, codepointIndexToByteIndex(idx), codepointIndexToByteIndex(end - idx), TS_ENCODING, false);
+                    parseSaveField(inliningTarget, self, fields, field, dialect.quoting == QUOTE_NONNUMERIC, pyNumberFloatNode, appendNode);
+                    if (end == length) {
+                        /* the EOL that follows would end the record */
+                        self.state = START_RECORD;
+                        return end;
+                    } else if (codePointAtIndexNode.execute(line, end) == dialect.delimiterCodePoint) {
+                        self.state = START_FIELD;
+                    } else {
+                        self.state = EAT_CRNL;
+                    }
+                    return end + 1;
+                }
+                case IN_FIELD:
+                    return parseAppendRun(inliningTarget, self, line, idx, length, dialect.unquotedFieldStops, indexOfAnyIntUTF32Node, appendSubstringByteIndexNode, raiseNode);
+                case IN_QUOTED_FIELD:
+                    return parseAppendRun(inliningTarget, self, line, idx, length, dialect.quotedFieldStops, indexOfAnyIntUTF32Node, appendSubstringByteIndexNode, raiseNode);
+                default:
+                    return idx;
+            }
+        }
+
+        private static int parseAppendRun(Node inliningTarget, CSVReader self, TruffleString line, int idx, int length, int[] stops,
+                        TruffleString.IntIndexOfAnyIntUTF32Node indexOfAnyIntUTF32Node, TruffleStringBuilder.AppendSubstringByteIndexNode appendSubstringByteIndexNode,
+                        PRaiseNode raiseNode) {
+            int end = stops.length == 0 ? -1 : indexOfAnyIntUTF32Node.execute(line, idx, length, stops);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > idx) {
+                checkFieldLimit(inliningTarget, self, self.field.byteLength() / 4 + end - idx, raiseNode);
+                appendSubstringByteIndexNode.execute(self.field, line, codepointIndexToByteIndex(idx), codepointIndexToByteIndex(end - idx));
+            }
+            return end;
+        }
+
         @SuppressWarnings("fallthrough")
         private static void parseProcessCodePoint(Node inliningTarget, CSVReader self, PList fields, int codePoint, AppendCodePointNode appendCodePointNode, ToStringNode toStringNode,
                         PyNumberFloatNode pyNumberFloatNode, AppendNode appendNode, PRaiseNode raiseNode) {
@@ -336,8 +424,14 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
         private static void parseSaveField(Node inliningTarget, CSVReader self, PList fields, ToStringNode toStringNode, PyNumberFloatNode pyNumberFloatNode, AppendNode appendNode) {
             TruffleString field = toStringNode.execute(self.field);
             self.field = TruffleStringBuilder.createUTF32();
-            if (self.numericField) {
-                self.numericField = false;
+            boolean numeric = self.numericField;
+            self.numericField = false;
+            parseSaveField(inliningTarget, self, fields, field, numeric, pyNumberFloatNode, appendNode);
+        }
+
+        private static void parseSaveField(Node inliningTarget, CSVReader self, PList fields, TruffleString field, boolean numeric, PyNumberFloatNode pyNumberFloatNode, AppendNode appendNode) {
+            assert !self.numericField;
+            if (numeric) {
                 appendNode.execute(fields, pyNumberFloatNode.execute(inliningTarget, field));
             } else {
                 appendNode.execute(fields, field);
@@ -345,12 +439,50 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
         }
 
         private static void parseAddCodePoint(Node inliningTarget, CSVReader self, int codePoint, TruffleStringBuilder.AppendCodePointNode appendCodePointNode, PRaiseNode raise) {
-            assert TS_ENCODING == TruffleString.Encoding.UTF_32;
-            int cpLen = self.field.byteLength() / 4;        // assumes UTF-32
-            if (cpLen + 1 > self.fieldLimit) {
+            checkFieldLimit(inliningTarget, self, self.field.byteLength() / 4 + 1, raise);
+            appendCodePointNode.execute(self.field, codePoint, 1, true);
+        }
+
+        private static void checkFieldLimit(Node inliningTarget, CSVReader self, int cpLen, PRaiseNode raise) {
+            assert TS_ENCODING == TruffleString.Encoding.UTF_32;    // field lengths assume UTF-32
+            if (cpLen > self.fieldLimit) {
                 throw raise.raise(inliningTarget, PythonBuiltinClassType.CSVError, ErrorMessages.LARGER_THAN_FIELD_SIZE_LIMIT, self.fieldLimit);
             }
-            appendCodePointNode.execute(self.field, codePoint, 1, true);
+        }
+    }
+
+    @Builtin(name = "readrows", minNumOfPositionalArgs = 1, parameterNames = {"$self", "size"}, doc = READROWS_DOC)
+    @ArgumentClinic(name = "size", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "DEFAULT_READROWS_SIZE")
+    @GenerateNodeFactory
+    public abstract static class ReadRowsNode extends PythonBinaryClinicBuiltinNode {
+        static final int DEFAULT_READROWS_SIZE = 1024;
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return ReadRowsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PList doIt(VirtualFrame frame, CSVReader self, int size,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached NextReaderNode nextReaderNode,
+                        @Cached AppendNode appendNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (size <= 0) {
+                throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.S_MUST_BE_GREATER_THAN_ZERO, "size");
+            }
+            PList rows = PFactory.createList(language);
+            for (int i = 0; i < size; i++) {
+                Object row;
+                try {
+                    row = nextReaderNode.execute(frame, self);
+                } catch (IteratorExhausted e) {
+                    break;
+                }
+                appendNode.execute(rows, row);
+            }
+            return rows;
         }
     }
 
@@ -371,4 +503,9 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
             return self.lineNum;
         }
     }
+
+    private static final String READROWS_DOC = "readrows(size=1024)\n" +
+                    "\n" +
+                    "Read up to size records at once and return them as a list.  An empty\n" +
+                    "list is returned when the input is exhausted.";
 }
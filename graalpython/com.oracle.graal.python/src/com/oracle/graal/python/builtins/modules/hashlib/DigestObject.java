@@ -196,9 +196,13 @@ public abstract class DigestObject extends PythonBuiltinObject {
     abstract boolean wasReset();
 
     /**
-     * Must not be called if {@link #wasReset()} returns true.
+     * May be called without holding the GIL, so concurrent updates, digests and copies of the same
+     * object are serialized on the object itself.
+     *
+     * @return false if the object can no longer be updated, because {@link #wasReset()} returns
+     *         true
      */
-    abstract void update(byte[] data, int length);
+    abstract boolean update(byte[] data, int length);
 
     abstract DigestObject copy() throws CloneNotSupportedException;
 
@@ -226,7 +230,7 @@ public abstract class DigestObject extends PythonBuiltinObject {
         }
 
         @Override
-        final byte[] digest() {
+        final synchronized byte[] digest() {
             if (cachedDigest == null) {
                 try {
                     cachedDigest = calculateDigestOnClone();
@@ -239,12 +243,13 @@ public abstract class DigestObject extends PythonBuiltinObject {
         }
 
         @Override
-        final void update(byte[] data, int length) {
+        final synchronized boolean update(byte[] data, int length) {
             if (wasReset) {
-                throw CompilerDirectives.shouldNotReachHere("update() called after digest() on an implementation the does not support clone()");
+                return false;
             }
             cachedDigest = null;
             doUpdate(data, length);
+            return true;
         }
 
         abstract byte[] calculateDigestOnClone() throws CloneNotSupportedException;
@@ -264,7 +269,7 @@ public abstract class DigestObject extends PythonBuiltinObject {
 
         @Override
         @TruffleBoundary
-        DigestObject copy() throws CloneNotSupportedException {
+        synchronized DigestObject copy() throws CloneNotSupportedException {
             return PFactory.createDigestObject(PythonLanguage.get(null), getType(), getAlgorithm(), digest.clone());
         }
 
@@ -303,7 +308,7 @@ public abstract class DigestObject extends PythonBuiltinObject {
 
         @Override
         @TruffleBoundary
-        DigestObject copy() throws CloneNotSupportedException {
+        synchronized DigestObject copy() throws CloneNotSupportedException {
             return PFactory.createDigestObject(PythonLanguage.get(null), getType(), getAlgorithm(), mac.clone());
         }
 
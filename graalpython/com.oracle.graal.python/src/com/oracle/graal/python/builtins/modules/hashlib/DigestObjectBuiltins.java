@@ -59,6 +59,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.util.PythonUtils;
@@ -135,15 +136,25 @@ public final class DigestObjectBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached("createFor($node)") InteropCallData callData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode raiseNode) {
-            if (self.wasReset()) {
-                throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.UPDATING_FINALIZED_DIGEST_IS_NOT_SUPPORTED);
-            }
+            boolean updated;
             try {
-                self.update(bufferLib.getInternalOrCopiedByteArray(buffer), bufferLib.getBufferLength(buffer));
+                byte[] data = bufferLib.getInternalOrCopiedByteArray(buffer);
+                int len = bufferLib.getBufferLength(buffer);
+                // the buffer stays acquired while the GIL is released, so it cannot be resized
+                gil.release(len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+                try {
+                    updated = self.update(data, len);
+                } finally {
+                    gil.acquire();
+                }
             } finally {
                 bufferLib.release(buffer, frame, callData);
             }
+            if (!updated) {
+                throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.UPDATING_FINALIZED_DIGEST_IS_NOT_SUPPORTED);
+            }
             return PNone.NONE;
         }
     }
@@ -98,6 +98,7 @@ import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProv
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.crypto.BouncyCastleSupportProvider;
 import com.oracle.graal.python.runtime.object.PFactory;
@@ -285,13 +286,14 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
                         @Shared("concatStr") @Cached TruffleString.ConcatNode concatStr,
                         @Shared("acquireLib") @CachedLibrary(limit = "2") PythonBufferAcquireLibrary acquireLib,
                         @Shared("bufferLib") @CachedLibrary(limit = "2") PythonBufferAccessLibrary bufferLib,
+                        @Shared("gil") @Cached GilNode gil,
                         @Exclusive @Cached PRaiseNode raiseNode) {
             // cast guaranteed in our initialize
             EconomicMapStorage constructors = self.getModuleState(EconomicMapStorage.class);
             Object name = getItemNode.execute(frame, inliningTarget, constructors, digestmod);
             if (name != null) {
                 assert name instanceof TruffleString; // guaranteed in our initialize
-                return hmacNew(self, key, msg, name, inliningTarget, castStr, castJStr, concatStr, acquireLib, bufferLib, raiseNode);
+                return hmacNew(self, key, msg, name, inliningTarget, castStr, castJStr, concatStr, acquireLib, bufferLib, gil, raiseNode);
             } else {
                 throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.UnsupportedDigestmodError);
             }
@@ -305,6 +307,7 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
                         @Shared("concatStr") @Cached TruffleString.ConcatNode concatStr,
                         @Shared("acquireLib") @CachedLibrary(limit = "2") PythonBufferAcquireLibrary acquireLib,
                         @Shared("bufferLib") @CachedLibrary(limit = "2") PythonBufferAccessLibrary bufferLib,
+                        @Shared("gil") @Cached GilNode gil,
                         @Exclusive @Cached PRaiseNode raiseNode) {
             TruffleString digestmod = castStr.execute(inliningTarget, digestmodObj);
             Object key;
@@ -325,7 +328,15 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
                 try {
                     byte[] msgBytes = msg == null ? null : bufferLib.getInternalOrCopiedByteArray(msg);
                     int msgLen = msg == null ? 0 : bufferLib.getBufferLength(msg);
-                    Mac mac = createMac(digestmod, bufferLib.getInternalOrCopiedByteArray(key), bufferLib.getBufferLength(key), msgBytes, msgLen);
+                    byte[] keyBytes = bufferLib.getInternalOrCopiedByteArray(key);
+                    int keyLen = bufferLib.getBufferLength(key);
+                    Mac mac;
+                    gil.release(msgLen >= GilNode.RELEASE_MIN_INPUT_SIZE);
+                    try {
+                        mac = createMac(digestmod, keyBytes, keyLen, msgBytes, msgLen);
+                    } finally {
+                        gil.acquire();
+                    }
                     return PFactory.createDigestObject(PythonLanguage.get(inliningTarget), PythonBuiltinClassType.HashlibHmac,
                                     castJStr.execute(concatStr.execute(HMAC_PREFIX, digestmod, TS_ENCODING, true)), mac);
                 } catch (InvalidKeyException | NoSuchAlgorithmException e) {
@@ -365,6 +376,7 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
                         @Cached("createFor($node)") InteropCallData callData,
                         @CachedLibrary(limit = "2") PythonBufferAcquireLibrary acquireLib,
                         @CachedLibrary(limit = "2") PythonBufferAccessLibrary bufferLib,
+                        @Cached(inline = false) GilNode gil,
                         @Cached PRaiseNode raise) {
             Object buffer;
             if (value instanceof PNone) {
@@ -379,7 +391,12 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
                 int bytesLen = buffer == null ? 0 : bufferLib.getBufferLength(buffer);
                 MessageDigest digest;
                 try {
-                    digest = createDigest(javaName, bytes, bytesLen);
+                    gil.release(bytesLen >= GilNode.RELEASE_MIN_INPUT_SIZE);
+                    try {
+                        digest = createDigest(javaName, bytes, bytesLen);
+                    } finally {
+                        gil.acquire();
+                    }
                 } catch (NoSuchAlgorithmException e) {
                     throw raise.raise(inliningTarget, PythonBuiltinClassType.UnsupportedDigestmodError, e);
                 }
@@ -490,6 +507,7 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
                         @Cached PyLongAsLongNode asLongNode,
                         @Cached InlinedConditionProfile noDklenProfile,
                         @Cached TruffleString.ToJavaStringNode toJavaStringNode,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode raiseNode) {
             try {
                 String javaHashName = toJavaStringNode.execute(hashName);
@@ -513,7 +531,15 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
                 }
                 byte[] passwordBytes = passwordLib.getInternalOrCopiedExactByteArray(password);
                 byte[] saltBytes = saltLib.getInternalOrCopiedExactByteArray(salt);
-                return PFactory.createBytes(language, generate(javaHashName, passwordBytes, saltBytes, (int) iterations, (int) dklen));
+                byte[] derivedKey;
+                // key derivation is deliberately slow, always let other threads run meanwhile
+                gil.release(true);
+                try {
+                    derivedKey = generate(javaHashName, passwordBytes, saltBytes, (int) iterations, (int) dklen);
+                } finally {
+                    gil.acquire();
+                }
+                return PFactory.createBytes(language, derivedKey);
             } catch (GeneralSecurityException e) {
                 throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.UnsupportedDigestmodError, UNSUPPORTED_HASH_TYPE, hashName);
             } finally {
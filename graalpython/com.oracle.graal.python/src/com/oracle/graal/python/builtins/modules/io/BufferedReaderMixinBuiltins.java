@@ -100,6 +100,7 @@ import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.ArrayUtils;
 import com.oracle.truffle.api.dsl.Bind;
@@ -148,7 +149,8 @@ public final class BufferedReaderMixinBuiltins extends AbstractBufferedIOBuiltin
                         @Cached PyNumberAsSizeNode asSizeNode,
                         @Cached InlinedConditionProfile osError,
                         @Cached PRaiseNode lazyRaiseNode) {
-            PByteArray memobj = PFactory.createByteArray(language, new byte[len]);
+            byte[] buf = new byte[len];
+            PByteArray memobj = PFactory.createByteArray(language, buf);
             // TODO _PyIO_trap_eintr [GR-23297]
             Object res = callMethodReadInto.execute(frame, inliningTarget, self.getRaw(), T_READINTO, memobj);
             if (res == PNone.NONE) {
@@ -170,7 +172,17 @@ public final class BufferedReaderMixinBuiltins extends AbstractBufferedIOBuiltin
             if (n == 0) {
                 return PythonUtils.EMPTY_BYTE_ARRAY;
             }
-            byte[] bytes = toBytes.execute(memobj);
+            byte[] bytes;
+            if (self.hasFileIORaw() && memobj.getSequenceStorage() instanceof ByteSequenceStorage storage && storage.getInternalByteArray() == buf) {
+                /*
+                 * The builtin FileIO filled our array in place and does not keep a reference to it,
+                 * so there is no need to copy it out again. Any other raw stream may keep the
+                 * bytearray and modify it later.
+                 */
+                bytes = buf;
+            } else {
+                bytes = toBytes.execute(memobj);
+            }
             if (n < len) {
                 return PythonUtils.arrayCopyOf(bytes, n);
             }
@@ -680,6 +680,7 @@ public final class FileIOBuiltins extends PythonBuiltins {
                         @Cached("createFor($node)") InteropCallData callData,
                         @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
                         @Cached InlinedBranchProfile readErrorProfile,
+                        @Cached InlinedConditionProfile directProfile,
                         @Bind PythonContext context,
                         @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
                         @Cached GilNode gil,
@@ -690,9 +691,13 @@ public final class FileIOBuiltins extends PythonBuiltins {
                     return 0;
                 }
                 try {
-                    PBytes data = PosixModuleBuiltins.ReadNode.read(self.getFD(), size, inliningTarget, posixLib, context.getPosixSupport(), readErrorProfile, gil);
-                    int n = bufferLib.getBufferLength(data);
-                    bufferLib.readIntoBuffer(data, 0, buffer, 0, n, bufferLib);
+                    if (directProfile.profile(inliningTarget, bufferLib.hasInternalByteArray(buffer))) {
+                        byte[] dest = bufferLib.getInternalByteArray(buffer);
+                        return PosixModuleBuiltins.ReadNode.readInto(self.getFD(), dest, 0, size, inliningTarget, posixLib, context.getPosixSupport(), readErrorProfile, gil);
+                    }
+                    byte[] tmp = new byte[size];
+                    int n = PosixModuleBuiltins.ReadNode.readInto(self.getFD(), tmp, 0, size, inliningTarget, posixLib, context.getPosixSupport(), readErrorProfile, gil);
+                    bufferLib.writeFromByteArray(buffer, 0, tmp, 0, n);
                     return n;
                 } catch (PosixException e) {
                     if (e.hasErrno(EAGAIN)) {
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.lsprof;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.RootNode;
+
+/**
+ * Exact call counts and times per function and per (caller, callee) edge, recorded by
+ * {@link LsprofInstrument} when a {@link Profiler} runs in deterministic mode. The bookkeeping
+ * follows CPython's {@code _lsprof}: a call is counted when it returns, its inline time is the
+ * total time minus the time spent in its callees, and the total time of recursive calls is only
+ * counted for the outermost one. Every thread records into its own {@link ThreadStats}, the
+ * threads are only merged in {@link #getStats}.
+ */
+final class CallStats {
+    private static final double NS_TO_SECONDS = 1e-9;
+
+    private final PythonContext context;
+    private final ThreadLocal<ThreadStats> threadStats = ThreadLocal.withInitial(this::createThreadStats);
+    private final List<ThreadStats> allThreadStats = new ArrayList<>();
+    /** Keeps the code objects reported for a root node identical across calls to getstats. */
+    private final HashMap<RootNode, PCode> codes = new HashMap<>();
+    boolean subcalls = true;
+
+    CallStats(PythonContext context) {
+        this.context = context;
+    }
+
+    private ThreadStats createThreadStats() {
+        ThreadStats stats = new ThreadStats();
+        synchronized (allThreadStats) {
+            allThreadStats.add(stats);
+        }
+        return stats;
+    }
+
+    @TruffleBoundary
+    void enter(RootNode rootNode) {
+        if (PythonContext.get(null) == context) {
+            threadStats.get().enter(rootNode, subcalls, System.nanoTime());
+        }
+    }
+
+    @TruffleBoundary
+    void exit(RootNode rootNode) {
+        if (PythonContext.get(null) == context) {
+            threadStats.get().exit(rootNode, System.nanoTime());
+        }
+    }
+
+    /**
+     * Ends all calls that are still running, like CPython does when the profiler is disabled.
+     */
+    @TruffleBoundary
+    void flush() {
+        long now = System.nanoTime();
+        synchronized (allThreadStats) {
+            for (ThreadStats stats : allThreadStats) {
+                while (stats.current != null) {
+                    stats.stop(stats.current, now);
+                }
+            }
+        }
+    }
+
+    @TruffleBoundary
+    void clear() {
+        synchronized (allThreadStats) {
+            for (ThreadStats stats : allThreadStats) {
+                stats.entries.clear();
+                stats.current = null;
+            }
+        }
+    }
+
+    /**
+     * Merges the statistics of all threads into a list of {@code profiler_entry} objects.
+     */
+    @TruffleBoundary
+    Object[] getStats(PythonLanguage language) {
+        LinkedHashMap<RootNode, Entry> merged = new LinkedHashMap<>();
+        synchronized (allThreadStats) {
+            for (ThreadStats stats : allThreadStats) {
+                for (Entry entry : stats.entries.values()) {
+                    Entry mergedEntry = merged.computeIfAbsent(entry.rootNode, Entry::new);
+                    mergedEntry.add(entry);
+                    if (entry.calls != null) {
+                        for (SubEntry subEntry : entry.calls.values()) {
+                            mergedEntry.getSubEntry(subEntry.callee).add(subEntry);
+                        }
+                    }
+                }
+            }
+        }
+        Object[] result = new Object[merged.size()];
+        int i = 0;
+        for (Entry entry : merged.values()) {
+            Object calls = PNone.NONE;
+            if (entry.calls != null) {
+                Object[] subEntries = new Object[entry.calls.size()];
+                int j = 0;
+                for (SubEntry subEntry : entry.calls.values()) {
+                    subEntries[j++] = PFactory.createStructSeq(language, LsprofModuleBuiltins.PROFILER_SUBENTRY_DESC, getCode(language, subEntry.callee), subEntry.callCount,
+                                    subEntry.recursiveCallCount, subEntry.totalTime * NS_TO_SECONDS, subEntry.inlineTime * NS_TO_SECONDS);
+                }
+                calls = PFactory.createList(language, subEntries);
+            }
+            result[i++] = PFactory.createStructSeq(language, LsprofModuleBuiltins.PROFILER_ENTRY_DESC, getCode(language, entry.rootNode), entry.callCount, entry.recursiveCallCount,
+                            entry.totalTime * NS_TO_SECONDS, entry.inlineTime * NS_TO_SECONDS, calls);
+        }
+        return result;
+    }
+
+    private PCode getCode(PythonLanguage language, RootNode rootNode) {
+        return codes.computeIfAbsent(rootNode, r -> PFactory.createCode(language, r.getCallTarget()));
+    }
+
+    private static class Counts {
+        long callCount;
+        long recursiveCallCount;
+        long totalTime;
+        long inlineTime;
+        int recursionLevel;
+
+        final void stop(long total, long inline) {
+            if (--recursionLevel == 0) {
+                totalTime += total;
+            } else {
+                recursiveCallCount++;
+            }
+            inlineTime += inline;
+            callCount++;
+        }
+
+        final void add(Counts other) {
+            callCount += other.callCount;
+            recursiveCallCount += other.recursiveCallCount;
+            totalTime += other.totalTime;
+            inlineTime += other.inlineTime;
+        }
+    }
+
+    private static final class Entry extends Counts {
+        final RootNode rootNode;
+        HashMap<RootNode, SubEntry> calls;
+
+        Entry(RootNode rootNode) {
+            this.rootNode = rootNode;
+        }
+
+        SubEntry getSubEntry(RootNode callee) {
+            if (calls == null) {
+                calls = new LinkedHashMap<>();
+            }
+            return calls.computeIfAbsent(callee, SubEntry::new);
+        }
+    }
+
+    private static final class SubEntry extends Counts {
+        final RootNode callee;
+
+        SubEntry(RootNode callee) {
+            this.callee = callee;
+        }
+    }
+
+    private static final class Call {
+        final Entry entry;
+        final SubEntry subEntry;
+        final long start;
+        final Call previous;
+        long subTime;
+
+        Call(Entry entry, SubEntry subEntry, long start, Call previous) {
+            this.entry = entry;
+            this.subEntry = subEntry;
+            this.start = start;
+            this.previous = previous;
+        }
+    }
+
+    private static final class ThreadStats {
+        final Map<RootNode, Entry> entries = new LinkedHashMap<>();
+        Call current;
+
+        void enter(RootNode rootNode, boolean subcalls, long now) {
+            Entry entry = entries.computeIfAbsent(rootNode, Entry::new);
+            entry.recursionLevel++;
+            SubEntry subEntry = null;
+            if (subcalls && current != null) {
+                subEntry = current.entry.getSubEntry(rootNode);
+                subEntry.recursionLevel++;
+            }
+            current = new Call(entry, subEntry, now, current);
+        }
+
+        void exit(RootNode rootNode, long now) {
+            // returns from calls that started before the profiler was enabled are ignored
+            if (current != null && current.entry.rootNode == rootNode) {
+                stop(current, now);
+            }
+        }
+
+        void stop(Call call, long now) {
+            long total = now - call.start;
+            long inline = total - call.subTime;
+            if (call.previous != null) {
+                call.previous.subTime += total;
+            }
+            current = call.previous;
+            call.entry.stop(total, inline);
+            if (call.subEntry != null) {
+                call.subEntry.stop(total, inline);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.lsprof;
+
+import com.oracle.graal.python.nodes.PRootNode;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.instrumentation.EventBinding;
+import com.oracle.truffle.api.instrumentation.ExecutionEventNode;
+import com.oracle.truffle.api.instrumentation.Instrumenter;
+import com.oracle.truffle.api.instrumentation.SourceSectionFilter;
+import com.oracle.truffle.api.instrumentation.StandardTags.RootTag;
+import com.oracle.truffle.api.instrumentation.TruffleInstrument;
+import com.oracle.truffle.api.nodes.RootNode;
+
+/**
+ * Reports the entry and exit of every Python function to the {@link CallStats} of an enabled
+ * deterministic {@link Profiler}. The listener is only attached while the profiler is enabled, so
+ * code runs without any probes otherwise.
+ */
+@TruffleInstrument.Registration(id = LsprofInstrument.ID, name = "GraalPy cProfile", internal = true, services = LsprofInstrument.Tracer.class)
+public final class LsprofInstrument extends TruffleInstrument {
+    public static final String ID = "graalpy-lsprof";
+
+    private static final SourceSectionFilter ROOT_FILTER = SourceSectionFilter.newBuilder().tagIs(RootTag.class).includeInternal(true).build();
+
+    @Override
+    protected void onCreate(Env env) {
+        env.registerService(new Tracer(env.getInstrumenter()));
+    }
+
+    public static final class Tracer {
+        private final Instrumenter instrumenter;
+
+        Tracer(Instrumenter instrumenter) {
+            this.instrumenter = instrumenter;
+        }
+
+        EventBinding<?> attach(CallStats stats) {
+            return instrumenter.attachExecutionEventFactory(ROOT_FILTER, context -> {
+                RootNode rootNode = context.getInstrumentedNode().getRootNode();
+                return rootNode instanceof PRootNode ? new CallEventNode(stats, rootNode) : null;
+            });
+        }
+    }
+
+    private static final class CallEventNode extends ExecutionEventNode {
+        private final CallStats stats;
+        private final RootNode rootNode;
+
+        CallEventNode(CallStats stats, RootNode rootNode) {
+            this.stats = stats;
+            this.rootNode = rootNode;
+        }
+
+        @Override
+        protected void onEnter(VirtualFrame frame) {
+            stats.enter(rootNode);
+        }
+
+        @Override
+        protected void onReturnValue(VirtualFrame frame, Object result) {
+            stats.exit(rootNode);
+        }
+
+        @Override
+        protected void onReturnExceptional(VirtualFrame frame, Throwable exception) {
+            stats.exit(rootNode);
+        }
+
+        @Override
+        protected void onYield(VirtualFrame frame, Object value) {
+            stats.exit(rootNode);
+        }
+
+        @Override
+        protected void onResume(VirtualFrame frame) {
+            stats.enter(rootNode);
+        }
+    }
+}
@@ -41,10 +41,17 @@
 package com.oracle.graal.python.builtins.modules.lsprof;
 
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.truffle.api.instrumentation.EventBinding;
 import com.oracle.truffle.api.instrumentation.SourceSectionFilter;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.tools.profiler.CPUSampler;
 
+/**
+ * The {@code _lsprof.Profiler} object. It either records every call through the
+ * {@link LsprofInstrument} ({@link #callStats} is not {@code null}) or estimates the profile from
+ * the CPU sampler ({@link #sampler} is not {@code null}).
+ */
 public class Profiler extends PythonBuiltinObject {
     boolean subcalls;
     boolean builtins;
@@ -52,11 +59,54 @@ public class Profiler extends PythonBuiltinObject {
     Object externalTimer;
     double time;
     final CPUSampler sampler;
+    final LsprofInstrument.Tracer tracer;
+    final CallStats callStats;
+    private EventBinding<?> binding;
 
     public Profiler(Object cls, Shape instanceShape, CPUSampler sampler) {
         super(cls, instanceShape);
         this.sampler = sampler;
         this.sampler.setFilter(SourceSectionFilter.newBuilder().includeInternal(true).build());
         this.sampler.setPeriod(1);
+        this.tracer = null;
+        this.callStats = null;
+    }
+
+    public Profiler(Object cls, Shape instanceShape, LsprofInstrument.Tracer tracer, PythonContext context) {
+        super(cls, instanceShape);
+        this.sampler = null;
+        this.tracer = tracer;
+        this.callStats = new CallStats(context);
+    }
+
+    void start() {
+        if (callStats != null) {
+            callStats.subcalls = subcalls;
+            if (binding == null) {
+                binding = tracer.attach(callStats);
+            }
+        } else {
+            sampler.setCollecting(true);
+        }
+    }
+
+    void stop() {
+        if (callStats != null) {
+            if (binding != null) {
+                binding.dispose();
+                binding = null;
+            }
+            callStats.flush();
+        } else {
+            sampler.setCollecting(false);
+        }
+    }
+
+    void clear() {
+        if (callStats != null) {
+            callStats.clear();
+        } else {
+            sampler.clearData();
+        }
     }
 }
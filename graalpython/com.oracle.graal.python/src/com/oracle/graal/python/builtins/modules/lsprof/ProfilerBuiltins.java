@@ -68,6 +68,7 @@ import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.InstrumentInfo;
@@ -98,11 +99,20 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         Profiler doit(Object cls, @SuppressWarnings("unused") Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs) {
+            PythonContext context = getContext();
+            TruffleLanguage.Env env = context.getEnv();
+            Map<String, InstrumentInfo> instruments = env.getInstruments();
+            if (!context.getOption(PythonOptions.ProfileSampling)) {
+                InstrumentInfo instrumentInfo = instruments.get(LsprofInstrument.ID);
+                if (instrumentInfo != null) {
+                    LsprofInstrument.Tracer tracer = env.lookup(instrumentInfo, LsprofInstrument.Tracer.class);
+                    if (tracer != null) {
+                        return PFactory.createProfiler(cls, TypeNodes.GetInstanceShape.executeUncached(cls), tracer, context);
+                    }
+                }
+            }
             if (Python3Core.HAS_PROFILER_TOOL) {
                 // Avoid ClassNotFoundException
-                PythonContext context = getContext();
-                TruffleLanguage.Env env = context.getEnv();
-                Map<String, InstrumentInfo> instruments = env.getInstruments();
                 InstrumentInfo instrumentInfo = instruments.get(CPUSamplerInstrument.ID);
                 if (instrumentInfo != null) {
                     CPUSampler sampler = env.lookup(instrumentInfo, CPUSampler.class);
@@ -147,9 +157,8 @@ public class ProfilerBuiltins extends PythonBuiltins {
         PNone doit(Profiler self, long subcalls, long builtins) {
             self.subcalls = subcalls > 0;
             self.builtins = builtins > 0;
-            // TODO: deal with any arguments
             self.time = System.currentTimeMillis();
-            self.sampler.setCollecting(true);
+            self.start();
             return PNone.NONE;
         }
 
@@ -175,7 +184,7 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         PNone doit(Profiler self) {
-            self.sampler.setCollecting(false);
+            self.stop();
             self.time = (System.currentTimeMillis() - self.time) / 1000D;
             return PNone.NONE;
         }
@@ -187,7 +196,7 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         PNone doit(Profiler self) {
-            self.sampler.clearData();
+            self.clear();
             return PNone.NONE;
         }
     }
@@ -219,6 +228,10 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         static PList doit(Profiler self) {
+            PythonLanguage language = PythonLanguage.get(null);
+            if (self.callStats != null) {
+                return PFactory.createList(language, self.callStats.getStats(language));
+            }
             double avgSampleSeconds = self.sampler.getPeriod() / 1000D;
             List<PTuple> entries = new ArrayList<>();
             for (CPUSamplerData data : self.sampler.getDataList()) {
@@ -231,7 +244,7 @@ public class ProfilerBuiltins extends PythonBuiltins {
             }
 
             self.sampler.close();
-            return PFactory.createList(PythonLanguage.get(null), entries.toArray());
+            return PFactory.createList(language, entries.toArray());
         }
 
         private static void countNode(List<PTuple> entries, ProfilerNode<CPUSampler.Payload> node, double avgSampleTime) {
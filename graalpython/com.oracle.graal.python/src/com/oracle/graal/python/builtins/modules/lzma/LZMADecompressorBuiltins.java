@@ -231,7 +231,6 @@ public final class LZMADecompressorBuiltins extends PythonBuiltins {
             byte[] bytes = toBytes.execute(inliningTarget, data.getSequenceStorage());
             int len = data.getSequenceStorage().length();
             return PFactory.createBytes(language, decompress.execute(inliningTarget, self, bytes, len, maxLength));
-
         }
 
         @Specialization(guards = {"!self.isEOF()"})
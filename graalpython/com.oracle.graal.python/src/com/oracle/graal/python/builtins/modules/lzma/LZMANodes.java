@@ -117,6 +117,7 @@ import com.oracle.graal.python.nodes.object.GetDictIfExistsNode;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToJavaLongExactNode;
 import com.oracle.graal.python.nodes.util.CastToJavaLongLossyNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFILZMASupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -165,6 +166,12 @@ public class LZMANodes {
     private static final int LZMA_BUF_ERROR = 10;
     private static final int LZMA_PROG_ERROR = 11;
 
+    /*
+     * Not a liblzma code: reported while the GIL is released when a native index does not fit into
+     * an int, and raised by errorHandling once the GIL is held again.
+     */
+    private static final int INDEX_OVERFLOW_ERROR = Integer.MIN_VALUE;
+
     protected static class OptionsState {
 
         private final String filterType;
@@ -874,13 +881,34 @@ public class LZMANodes {
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction compress,
                         @Cached GetOutputNativeBufferNode getBuffer,
                         @Cached InlinedConditionProfile errProfile,
+                        @Cached(inline = false) GilNode gil,
                         @Exclusive @Cached PRaiseNode raiseNode) {
             NFILZMASupport lzmaSupport = context.getNFILZMASupport();
-            int err = lzmaSupport.compress(self.getLzs(), bytes, len, action, INITIAL_BUFFER_SIZE, compress);
-            if (errProfile.profile(inliningTarget, err != LZMA_OK)) {
+            int err;
+            byte[] result = null;
+            /*
+             * Only the native call and the copy of its output run without the GIL. Errors are
+             * raised after re-acquiring it, and the monitor is always left first, so we never wait
+             * for the GIL while holding it.
+             */
+            gil.release(context, len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+            try {
+                synchronized (self) {
+                    err = lzmaSupport.compress(self.getLzs(), bytes, len, action, INITIAL_BUFFER_SIZE, compress);
+                    if (!isError(err)) {
+                        result = getBuffer.execute(inliningTarget, self.getLzs(), context);
+                    }
+                }
+            } finally {
+                gil.acquire(context);
+            }
+            if (errProfile.profile(inliningTarget, isError(err))) {
                 errorHandling(inliningTarget, err, raiseNode);
             }
-            return getBuffer.execute(inliningTarget, self.getLzs(), context);
+            if (result == null) {
+                errorHandling(inliningTarget, INDEX_OVERFLOW_ERROR, raiseNode);
+            }
+            return result;
         }
 
         @SuppressWarnings("unused")
@@ -1012,9 +1040,51 @@ public class LZMANodes {
         public abstract byte[] execute(Node inliningTarget, LZMADecompressor self, byte[] data, int len, int maxLength);
 
         @Specialization
-        static byte[] nativeDecompress(Node inliningTarget, LZMADecompressor self, byte[] bytes, int len, int maxLength,
-                        @Cached InternalDecompressNode decompress) {
-            boolean inputBufferInUse;
+        static byte[] nativeDecompress(Node inliningTarget, LZMADecompressor.Native self, byte[] bytes, int len, int maxLength,
+                        @Cached NativeInternalDecompressNode decompress,
+                        @Cached GetOutputNativeBufferNode getBuffer,
+                        @Cached(inline = false) GilNode gil,
+                        @Cached PRaiseNode raiseNode) {
+            PythonContext context = PythonContext.get(inliningTarget);
+            int err;
+            byte[] result = null;
+            // see CompressNode
+            gil.release(context, len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+            try {
+                synchronized (self) {
+                    boolean inputBufferInUse = prependInput(self, bytes, len);
+                    err = decompress.execute(inliningTarget, self, maxLength);
+                    if (!isError(err)) {
+                        result = getBuffer.execute(inliningTarget, self.getLzs(), context);
+                        updateInput(self, inputBufferInUse);
+                    }
+                }
+            } finally {
+                gil.acquire(context);
+            }
+            if (isError(err)) {
+                errorHandling(inliningTarget, err, raiseNode);
+            }
+            if (result == null) {
+                errorHandling(inliningTarget, INDEX_OVERFLOW_ERROR, raiseNode);
+            }
+            return result;
+        }
+
+        @Specialization
+        static byte[] javaDecompress(Node inliningTarget, LZMADecompressor.Java self, byte[] bytes, int len, int maxLength,
+                        @Cached JavaInternalDecompressNode decompress) {
+            boolean inputBufferInUse = prependInput(self, bytes, len);
+            byte[] result = decompress.execute(inliningTarget, self, maxLength);
+            updateInput(self, inputBufferInUse);
+            return result;
+        }
+
+        /**
+         * Prepends unconsumed input if necessary. Returns whether the input buffer of {@code self}
+         * is in use.
+         */
+        private static boolean prependInput(LZMADecompressor self, byte[] bytes, int len) {
             /* Prepend unconsumed input if necessary */
             if (self.getNextIn() != null) {
                 /* Number of bytes we can append to input buffer */
@@ -1043,15 +1113,15 @@ public class LZMANodes {
                 PythonUtils.arraycopy(bytes, 0, self.getNextIn(), self.getNextInIndex() + self.getLzsAvailIn(), len);
                 // memcpy((void*)(lzs->next_in + self.getLzsAvailIn()), data, len);
                 self.incLzsAvailIn(len);
-                inputBufferInUse = true;
+                return true;
             } else {
                 self.setNextIn(bytes);
                 self.setLzsAvailIn(len);
-                inputBufferInUse = false;
+                return false;
             }
+        }
 
-            byte[] result = decompress.execute(inliningTarget, self, maxLength);
-
+        private static void updateInput(LZMADecompressor self, boolean inputBufferInUse) {
             if (self.isEOF()) {
                 self.setNeedsInput(false);
                 if (self.getLzsAvailIn() > 0) {
@@ -1094,27 +1164,26 @@ public class LZMANodes {
                     self.setNextInIndex(0);
                 }
             }
-
-            return result;
         }
     }
 
     @GenerateCached(false)
     @GenerateInline
-    public abstract static class InternalDecompressNode extends PNodeWithContext {
+    public abstract static class NativeInternalDecompressNode extends PNodeWithContext {
 
-        public abstract byte[] execute(Node inliningTarget, LZMADecompressor self, int maxLength);
+        /**
+         * Returns the liblzma return code, to be passed to {@link LZMANodes#errorHandling} once the
+         * GIL is held.
+         */
+        public abstract int execute(Node inliningTarget, LZMADecompressor.Native self, int maxLength);
 
         @Specialization
-        static byte[] nativeInternalDecompress(Node inliningTarget, LZMADecompressor.Native self, int maxLength,
+        static int nativeInternalDecompress(Node inliningTarget, LZMADecompressor.Native self, int maxLength,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction decompress,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction getLzsAvailIn,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction getLzsAvailOut,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction getNextInIndex,
-                        @Cached(inline = false) NativeLibrary.InvokeNativeFunction getLzsCheck,
-                        @Cached GetOutputNativeBufferNode getBuffer,
-                        @Exclusive @Cached PRaiseNode lazyRaiseNode,
-                        @Cached InlinedConditionProfile errProfile) {
+                        @Cached(inline = false) NativeLibrary.InvokeNativeFunction getLzsCheck) {
             PythonContext context = PythonContext.get(inliningTarget);
             NFILZMASupport lzmaSupport = context.getNFILZMASupport();
             byte[] inGuest = self.getNextIn();
@@ -1129,15 +1198,20 @@ public class LZMANodes {
                 self.setLzsAvailIn(lzsAvailIn);
                 self.setLzsAvailOut(lzsAvailOut);
             } catch (OverflowException of) {
-                throw lazyRaiseNode.raise(inliningTarget, SystemError, VALUE_TOO_LARGE_TO_FIT_INTO_INDEX);
+                return INDEX_OVERFLOW_ERROR;
             }
             if (err == LZMA_STREAM_END) {
                 self.setEOF();
-            } else if (errProfile.profile(inliningTarget, err != LZMA_OK)) {
-                errorHandling(inliningTarget, err, lazyRaiseNode);
             }
-            return getBuffer.execute(inliningTarget, self.getLzs(), context);
+            return err;
         }
+    }
+
+    @GenerateCached(false)
+    @GenerateInline
+    public abstract static class JavaInternalDecompressNode extends PNodeWithContext {
+
+        public abstract byte[] execute(Node inliningTarget, LZMADecompressor.Java self, int maxLength);
 
         @TruffleBoundary
         @Specialization
@@ -1222,19 +1296,22 @@ public class LZMANodes {
     @GenerateCached(false)
     public abstract static class GetOutputNativeBufferNode extends Node {
 
+        /**
+         * Returns {@code null} if the output does not fit into a Java array. This may run without
+         * the GIL, so raising is left to the caller.
+         */
         public abstract byte[] execute(Node inliningTarget, Object lzmast, PythonContext context);
 
         @Specialization
-        static byte[] getBuffer(Node inliningTarget, Object lzmast, PythonContext context,
+        static byte[] getBuffer(Object lzmast, PythonContext context,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction getBufferSize,
-                        @Cached(inline = false) NativeLibrary.InvokeNativeFunction getBuffer,
-                        @Cached PRaiseNode raiseNode) {
+                        @Cached(inline = false) NativeLibrary.InvokeNativeFunction getBuffer) {
             NFILZMASupport lzmaSupport = context.getNFILZMASupport();
             int size;
             try {
                 size = PInt.intValueExact(lzmaSupport.getOutputBufferSize(lzmast, getBufferSize));
             } catch (OverflowException of) {
-                throw raiseNode.raise(inliningTarget, SystemError, VALUE_TOO_LARGE_TO_FIT_INTO_INDEX);
+                return null;
             }
             if (size == 0) {
                 return PythonUtils.EMPTY_BYTE_ARRAY;
@@ -1309,6 +1386,9 @@ public class LZMANodes {
             }
             byte[] encoded = getBuffer.execute(inliningTarget, lzmast, ctxt);
             lzmaSupport.deallocateStream(lzmast, deallocateStream);
+            if (encoded == null) {
+                errorHandling(inliningTarget, INDEX_OVERFLOW_ERROR, raiseNode);
+            }
             return encoded;
         }
 
@@ -1433,6 +1513,10 @@ public class LZMANodes {
         }
     }
 
+    private static boolean isError(int lzret) {
+        return lzret != LZMA_OK && lzret != LZMA_GET_CHECK && lzret != LZMA_NO_CHECK && lzret != LZMA_STREAM_END;
+    }
+
     protected static int errorHandling(Node inliningTarget, int lzret, PRaiseNode raiseNode) {
         switch (lzret) {
             case LZMA_OK:
@@ -1456,6 +1540,8 @@ public class LZMANodes {
                 throw raiseNode.raise(inliningTarget, LZMAError, ErrorMessages.INSUFFICIENT_BUFFER_SPACE);
             case LZMA_PROG_ERROR:
                 throw raiseNode.raise(inliningTarget, LZMAError, ErrorMessages.INTERNAL_ERROR);
+            case INDEX_OVERFLOW_ERROR:
+                throw raiseNode.raise(inliningTarget, SystemError, VALUE_TOO_LARGE_TO_FIT_INTO_INDEX);
             default:
                 throw raiseNode.raise(inliningTarget, LZMAError, ErrorMessages.UNRECOGNIZED_ERROR_FROM_LIBLZMA, lzret);
         }
@@ -45,6 +45,7 @@ import static com.oracle.graal.python.builtins.PythonBuiltinClassType.OSError;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.annotations.Builtin;
@@ -84,11 +85,11 @@ import com.oracle.graal.python.runtime.PythonContext.SharedMultiprocessingData;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.ArrayBuilder;
-import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.TruffleContext;
 import com.oracle.truffle.api.TruffleLogger;
+import com.oracle.truffle.api.TruffleSafepoint;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
@@ -281,18 +282,22 @@ public final class MultiprocessingGraalPyModuleBuiltins extends PythonBuiltins {
                         @Bind PythonLanguage language,
                         @Shared @Cached GilNode gil) {
             SharedMultiprocessingData sharedData = getContext().getSharedMultiprocessingData();
+            Object data;
             gil.release(true);
             try {
-                Object data = sharedData.takePipeData(this, fd, () -> {
+                data = sharedData.takePipeData(this, fd, () -> {
                     throw PRaiseNode.raiseStatic(this, OSError, ErrorMessages.BAD_FILE_DESCRIPTOR);
                 });
-                if (data == PNone.NONE) {
-                    return PFactory.createEmptyBytes(language);
-                }
-                return PFactory.createBytes(language, (byte[]) data);
             } finally {
                 gil.acquire();
             }
+            if (data == PNone.NONE) {
+                return PFactory.createEmptyBytes(language);
+            } else if (data instanceof SharedPayload) {
+                // objects sent with _write_object can only be received with _read_object
+                throw PConstructAndRaiseNode.getUncached().raiseOSError(null, OSErrorEnum.EBADMSG);
+            }
+            return PFactory.createBytes(language, (byte[]) data);
         }
 
         @Specialization
@@ -303,6 +308,79 @@ public final class MultiprocessingGraalPyModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Sends an object to the other end of the pipe without pickling it, see {@link SharedPayload}.
+     * Returns {@code False} if the object is not supported and must be pickled by the caller.
+     */
+    @Builtin(name = "_write_object", minNumOfPositionalArgs = 2, parameterNames = {"fd", "obj"})
+    @GenerateNodeFactory
+    public abstract static class WriteObjectNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        boolean doWrite(int fd, Object obj,
+                        @Shared @Cached GilNode gil) {
+            SharedPayload payload = SharedPayload.export(obj);
+            if (payload == null) {
+                return false;
+            }
+            SharedMultiprocessingData sharedData = getContext().getSharedMultiprocessingData();
+            gil.release(true);
+            try {
+                sharedData.addPipeData(fd, payload,
+                                () -> {
+                                    throw PRaiseNode.raiseStatic(this, OSError, ErrorMessages.BAD_FILE_DESCRIPTOR);
+                                },
+                                () -> {
+                                    throw PConstructAndRaiseNode.getUncached().raiseOSError(null, OSErrorEnum.EPIPE);
+                                });
+                return true;
+            } finally {
+                gil.acquire();
+            }
+        }
+
+        @Specialization
+        boolean doWrite(long fd, Object obj,
+                        @Shared @Cached GilNode gil) {
+            return doWrite((int) fd, obj, gil);
+        }
+    }
+
+    /**
+     * Receives the next message from the pipe. Returns {@code (True, obj)} for an object sent with
+     * {@code _write_object} and {@code (False, bytes)} for data sent with {@code _write}.
+     */
+    @Builtin(name = "_read_object", minNumOfPositionalArgs = 1, parameterNames = {"fd"})
+    @GenerateNodeFactory
+    public abstract static class ReadObjectNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        PTuple doReadInt(int fd,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached GilNode gil) {
+            SharedMultiprocessingData sharedData = getContext().getSharedMultiprocessingData();
+            Object data;
+            gil.release(true);
+            try {
+                data = sharedData.takePipeData(this, fd, () -> {
+                    throw PRaiseNode.raiseStatic(this, OSError, ErrorMessages.BAD_FILE_DESCRIPTOR);
+                });
+            } finally {
+                gil.acquire();
+            }
+            if (data instanceof SharedPayload payload) {
+                return PFactory.createTuple(language, new Object[]{true, payload.materialize(language)});
+            }
+            Object bytes = data == PNone.NONE ? PFactory.createEmptyBytes(language) : PFactory.createBytes(language, (byte[]) data);
+            return PFactory.createTuple(language, new Object[]{false, bytes});
+        }
+
+        @Specialization
+        PTuple doReadLong(long fd,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached GilNode gil) {
+            return doReadInt((int) fd, language, gil);
+        }
+    }
+
     @Builtin(name = "_close", minNumOfPositionalArgs = 1, parameterNames = {"fd"})
     @GenerateNodeFactory
     public abstract static class CloseNode extends PythonUnaryBuiltinNode {
@@ -326,21 +404,19 @@ public final class MultiprocessingGraalPyModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class SelectNode extends PythonBuiltinNode {
         /*
-         * We would like to poll two different things with a timeout: the actual file descriptors
-         * and the Java managed LinkedBlockingQueues.
+         * We wait on two different things with a timeout: the actual file descriptors and the Java
+         * managed pipes of SharedMultiprocessingData.
          *
-         * The LinkedBlockingQueue does not expose anything that would allow us to wait on multiple
-         * LinkedBlockingQueues at once, so we'd have to spawn a thread for each or roll out our own
-         * synchronization of take/offer to allow that.
+         * Every write to or close of a pipe bumps a shared pipe event counter, so if there are only
+         * pipes to wait for, we check them and then wait for the counter to change, which wakes us
+         * up without polling no matter how many pipes we wait on.
          *
          * The actual file descriptors could be backed by Java POSIX emulation layer, or by the
-         * native POSIX implementation -- the `select` can run actual native select, which we cannot
-         * easily interrupt from Java if one of the LinkedBlockingQueue is unblocked earlier than
-         * the native select returns.
-         *
-         * Given all these complexities, for the time being, we do active waiting here, but at least
-         * without holding the GIL, and we also yield in every iteration.
+         * native POSIX implementation, neither of which we can wake up from Java directly. So when
+         * there are file descriptors, we create a wakeup pipe, wait on it together with the file
+         * descriptors, and register a pipe event listener that writes to it.
          */
+        private static final byte[] WAKEUP_BYTE = new byte[]{0};
 
         @Specialization
         Object doGeneric(VirtualFrame frame, Object multiprocessingFdsList, Object multiprocessingObjsList, Object posixFileObjsList, Object timeoutObj,
@@ -380,7 +456,7 @@ public final class MultiprocessingGraalPyModuleBuiltins extends PythonBuiltins {
                 boolean[] selectedMultiprocessingFds = new boolean[multiprocessingFds.length];
                 boolean[] selectedPosixFds = new boolean[posixFds.length];
 
-                doSelect(context.getPosixSupport(), sharedData, posixFds, selectedPosixFds, multiprocessingFds, selectedMultiprocessingFds, timeout);
+                doSelect(this, context.getPosixSupport(), sharedData, posixFds, selectedPosixFds, multiprocessingFds, selectedMultiprocessingFds, timeout);
 
                 ArrayBuilder<Object> result = new ArrayBuilder<>(4);
                 for (int i = 0; i < selectedMultiprocessingFds.length; i++) {
@@ -411,11 +487,10 @@ public final class MultiprocessingGraalPyModuleBuiltins extends PythonBuiltins {
         }
 
         @TruffleBoundary
-        private static void doSelect(Object posix, SharedMultiprocessingData sharedData,
+        private static void doSelect(Node node, Object posix, SharedMultiprocessingData sharedData,
                         int[] posixFds, boolean[] selectedPosixFds,
                         int[] multiprocessingFds, boolean[] selectedMultiprocessingFds,
                         double timeoutInS) throws PosixSupportLibrary.PosixException {
-            PosixSupportLibrary posixLib = PosixSupportLibrary.getUncached();
             boolean blocking = timeoutInS >= 0;
             boolean untilReady = timeoutInS == 0;
             long deadline = 0;
@@ -423,32 +498,107 @@ public final class MultiprocessingGraalPyModuleBuiltins extends PythonBuiltins {
                 long timeout = (long) (timeoutInS * 1000_000_000.0);
                 deadline = System.nanoTime() + timeout;
             }
-            while (true) {
-                boolean selected = false;
-                if (posixFds.length > 0) {
-                    PosixSupportLibrary.SelectResult selectResult = posixLib.select(posix, posixFds,
-                                    PythonUtils.EMPTY_INT_ARRAY, PythonUtils.EMPTY_INT_ARRAY, Timeval.SELECT_TIMEOUT_NOW);
-                    System.arraycopy(selectResult.getReadFds(), 0, selectedPosixFds, 0, selectedPosixFds.length);
-                    if (blocking) {
-                        for (boolean b : selectedPosixFds) {
-                            selected |= b;
+            if (posixFds.length == 0) {
+                while (true) {
+                    long seenEvents = sharedData.getPipeEventCount();
+                    if (checkPipes(sharedData, multiprocessingFds, selectedMultiprocessingFds) || !blocking) {
+                        return;
+                    }
+                    long timeout = -1;
+                    if (deadline != 0) {
+                        timeout = deadline - System.nanoTime();
+                        if (timeout <= 0) {
+                            return;
                         }
                     }
+                    long waitTimeout = timeout;
+                    TruffleSafepoint.setBlockedThreadInterruptible(node, (data) -> data.awaitPipeEvent(seenEvents, waitTimeout), sharedData);
                 }
-                for (int i = 0; i < multiprocessingFds.length; i++) {
-                    int fd = multiprocessingFds[i];
-                    selectedMultiprocessingFds[i] = !sharedData.isBlocking(fd);
-                    if (selectedMultiprocessingFds[i]) {
-                        selected = true;
+            }
+
+            PosixSupportLibrary posixLib = PosixSupportLibrary.getUncached();
+            int[] wakeupFds = posixLib.pipe(posix);
+            AtomicBoolean wakeupPending = new AtomicBoolean();
+            Runnable wakeup = () -> {
+                if (wakeupPending.compareAndSet(false, true)) {
+                    try {
+                        posixLib.write(posix, wakeupFds[1], PosixSupportLibrary.Buffer.wrap(WAKEUP_BYTE));
+                    } catch (PosixSupportLibrary.PosixException e) {
+                        // nothing we can do, the select still returns on timeout or file activity
+                        LOGGER.fine(() -> "could not wake up multiprocessing select: " + e.getMessage());
                     }
                 }
-                if (!blocking || selected) {
-                    return;
+            };
+            Object poller = null;
+            sharedData.addPipeEventListener(wakeup);
+            try {
+                poller = posixLib.pollerCreate(posix);
+                posixLib.pollerRegister(posix, poller, wakeupFds[0], PosixSupportLibrary.POLLIN);
+                for (int fd : posixFds) {
+                    // duplicates are simply not registered again
+                    posixLib.pollerRegister(posix, poller, fd, PosixSupportLibrary.POLLIN);
                 }
-                if (deadline != 0 && deadline - System.nanoTime() < 0) {
-                    return;
+                while (true) {
+                    boolean selected = checkPipes(sharedData, multiprocessingFds, selectedMultiprocessingFds);
+                    boolean lastRound = selected || !blocking;
+                    Timeval timeout = null;
+                    if (lastRound) {
+                        timeout = Timeval.SELECT_TIMEOUT_NOW;
+                    } else if (deadline != 0) {
+                        long remaining = Math.max(0, deadline - System.nanoTime());
+                        lastRound = remaining == 0;
+                        timeout = new Timeval(remaining / 1000_000_000, remaining % 1000_000_000 / 1000);
+                    }
+                    PosixSupportLibrary.PollResult result = posixLib.pollerWait(posix, poller, timeout);
+                    boolean woken = false;
+                    int[] readyFds = result.getFds();
+                    for (int readyFd : readyFds) {
+                        if (readyFd == wakeupFds[0]) {
+                            woken = true;
+                        }
+                        for (int i = 0; i < posixFds.length; i++) {
+                            if (posixFds[i] == readyFd) {
+                                selectedPosixFds[i] = true;
+                                selected = true;
+                            }
+                        }
+                    }
+                    if (selected || lastRound) {
+                        // report the pipes that became ready while we were waiting, too
+                        checkPipes(sharedData, multiprocessingFds, selectedMultiprocessingFds);
+                        return;
+                    }
+                    if (woken) {
+                        posixLib.read(posix, wakeupFds[0], 1);
+                        wakeupPending.set(false);
+                    } else if (deadline != 0 && deadline - System.nanoTime() <= 0) {
+                        return;
+                    }
+                }
+            } finally {
+                sharedData.removePipeEventListener(wakeup);
+                if (poller != null) {
+                    posixLib.pollerClose(posix, poller);
                 }
-                Thread.yield();
+                closeQuietly(posixLib, posix, wakeupFds[0]);
+                closeQuietly(posixLib, posix, wakeupFds[1]);
+            }
+        }
+
+        private static boolean checkPipes(SharedMultiprocessingData sharedData, int[] multiprocessingFds, boolean[] selectedMultiprocessingFds) {
+            boolean selected = false;
+            for (int i = 0; i < multiprocessingFds.length; i++) {
+                selectedMultiprocessingFds[i] = !sharedData.isBlocking(multiprocessingFds[i]);
+                selected |= selectedMultiprocessingFds[i];
+            }
+            return selected;
+        }
+
+        private static void closeQuietly(PosixSupportLibrary posixLib, Object posix, int fd) {
+            try {
+                posixLib.close(posix, fd);
+            } catch (PosixSupportLibrary.PosixException e) {
+                LOGGER.fine(() -> "could not close multiprocessing select wakeup pipe: " + e.getMessage());
             }
         }
     }
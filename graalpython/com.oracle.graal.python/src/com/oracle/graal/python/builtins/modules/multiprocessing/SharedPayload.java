@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.multiprocessing;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
+import com.oracle.graal.python.builtins.objects.common.HashingStorage;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetIterator;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageIterator;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageIteratorKey;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageIteratorNext;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageIteratorValue;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageLen;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageSetItem;
+import com.oracle.graal.python.builtins.objects.common.SequenceNodes.GetObjectArrayNode;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.floats.PFloat;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.set.PBaseSet;
+import com.oracle.graal.python.lib.PyBytesCheckExactNode;
+import com.oracle.graal.python.lib.PyDictCheckExactNode;
+import com.oracle.graal.python.lib.PyFloatCheckExactNode;
+import com.oracle.graal.python.lib.PyFrozenSetCheckExactNode;
+import com.oracle.graal.python.lib.PyListCheckExactNode;
+import com.oracle.graal.python.lib.PyLongCheckExactNode;
+import com.oracle.graal.python.lib.PyTupleCheckExactNode;
+import com.oracle.graal.python.lib.PyUnicodeCheckExactNode;
+import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * A context independent snapshot of a Python object that is sent through a multiprocessing pipe
+ * of the GraalPy multiprocessing context. Since all contexts run in the same process, there is no
+ * need to pickle objects that are built only from immutable builtin values and builtin
+ * containers. The snapshot shares the immutable values ({@code str}, {@code bytes}, numbers) with
+ * the sender and the receiving context only re-creates the containers.
+ *
+ * Objects that cannot be transferred this way, e.g., instances of user classes or subclasses of
+ * builtin types, are still pickled by the caller. To keep the semantics of pickle, mutable
+ * containers that are referenced more than once (including reference cycles) are not supported
+ * either, because the snapshot would not preserve their identity.
+ */
+public final class SharedPayload {
+    private static final int MAX_DEPTH = 1000;
+
+    private record SharedInt(BigInteger value) {
+    }
+
+    private record SharedBytes(byte[] bytes, int length) {
+    }
+
+    private record SharedTuple(Object[] items) {
+    }
+
+    private record SharedList(Object[] items) {
+    }
+
+    private record SharedDict(Object[] keys, Object[] values) {
+    }
+
+    private record SharedFrozenSet(Object[] items) {
+    }
+
+    /** Marker for values that cannot be shared. */
+    private static final Object UNSUPPORTED = new Object();
+
+    private final Object value;
+
+    private SharedPayload(Object value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates a snapshot of {@code obj} or returns {@code null} if the object must be pickled. The
+     * caller must hold the GIL.
+     */
+    @TruffleBoundary
+    public static SharedPayload export(Object obj) {
+        Object value = export(obj, Collections.newSetFromMap(new IdentityHashMap<>()), 0);
+        return value == UNSUPPORTED ? null : new SharedPayload(value);
+    }
+
+    private static Object export(Object v, Set<Object> seen, int depth) {
+        if (depth > MAX_DEPTH) {
+            return UNSUPPORTED;
+        }
+        if (v == PNone.NONE || v instanceof Boolean || v instanceof Integer || v instanceof Long || v instanceof Double || v instanceof TruffleString) {
+            return v;
+        } else if (PyLongCheckExactNode.executeUncached(v)) {
+            return new SharedInt(((PInt) v).getValue());
+        } else if (PyFloatCheckExactNode.executeUncached(v)) {
+            return ((PFloat) v).getValue();
+        } else if (PyUnicodeCheckExactNode.executeUncached(v)) {
+            return CastToTruffleStringNode.castKnownStringUncached(v);
+        } else if (PyBytesCheckExactNode.executeUncached(v)) {
+            // bytes are immutable, so the receiver can use the same array
+            PythonBufferAccessLibrary bufferLib = PythonBufferAccessLibrary.getUncached();
+            return new SharedBytes(bufferLib.getInternalOrCopiedByteArray(v), bufferLib.getBufferLength(v));
+        } else if (PyTupleCheckExactNode.executeUncached(v)) {
+            Object[] items = exportItems(GetObjectArrayNode.executeUncached(v), seen, depth);
+            return items == null ? UNSUPPORTED : new SharedTuple(items);
+        } else if (PyListCheckExactNode.executeUncached(v)) {
+            if (!seen.add(v)) {
+                return UNSUPPORTED;
+            }
+            Object[] items = exportItems(GetObjectArrayNode.executeUncached(v), seen, depth);
+            return items == null ? UNSUPPORTED : new SharedList(items);
+        } else if (v instanceof PDict dict && PyDictCheckExactNode.executeUncached(v)) {
+            if (!seen.add(v)) {
+                return UNSUPPORTED;
+            }
+            HashingStorage storage = dict.getDictStorage();
+            int len = HashingStorageLen.executeUncached(storage);
+            Object[] keys = new Object[len];
+            Object[] values = new Object[len];
+            HashingStorageIterator it = HashingStorageGetIterator.executeUncached(storage);
+            for (int i = 0; HashingStorageIteratorNext.executeUncached(storage, it); i++) {
+                keys[i] = export(HashingStorageIteratorKey.executeUncached(storage, it), seen, depth + 1);
+                values[i] = export(HashingStorageIteratorValue.executeUncached(storage, it), seen, depth + 1);
+                if (keys[i] == UNSUPPORTED || values[i] == UNSUPPORTED) {
+                    return UNSUPPORTED;
+                }
+            }
+            return new SharedDict(keys, values);
+        } else if (v instanceof PBaseSet set && PyFrozenSetCheckExactNode.executeUncached(v)) {
+            HashingStorage storage = set.getDictStorage();
+            Object[] items = new Object[HashingStorageLen.executeUncached(storage)];
+            HashingStorageIterator it = HashingStorageGetIterator.executeUncached(storage);
+            for (int i = 0; HashingStorageIteratorNext.executeUncached(storage, it); i++) {
+                items[i] = export(HashingStorageIteratorKey.executeUncached(storage, it), seen, depth + 1);
+                if (items[i] == UNSUPPORTED) {
+                    return UNSUPPORTED;
+                }
+            }
+            return new SharedFrozenSet(items);
+        }
+        return UNSUPPORTED;
+    }
+
+    private static Object[] exportItems(Object[] items, Set<Object> seen, int depth) {
+        Object[] result = new Object[items.length];
+        for (int i = 0; i < items.length; i++) {
+            result[i] = export(items[i], seen, depth + 1);
+            if (result[i] == UNSUPPORTED) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Re-creates the Python object in the receiving context. The caller must hold the GIL.
+     */
+    @TruffleBoundary
+    public Object materialize(PythonLanguage language) {
+        return materialize(language, value);
+    }
+
+    private static Object materialize(PythonLanguage language, Object v) {
+        if (v instanceof SharedInt i) {
+            return PFactory.createInt(language, i.value);
+        } else if (v instanceof SharedBytes b) {
+            return PFactory.createBytes(language, b.bytes, b.length);
+        } else if (v instanceof SharedTuple t) {
+            return PFactory.createTuple(language, materializeItems(language, t.items));
+        } else if (v instanceof SharedList l) {
+            return PFactory.createList(language, materializeItems(language, l.items));
+        } else if (v instanceof SharedDict d) {
+            HashingStorage storage = PDict.createNewStorage(d.keys.length);
+            for (int i = 0; i < d.keys.length; i++) {
+                storage = HashingStorageSetItem.executeUncached(storage, materialize(language, d.keys[i]), materialize(language, d.values[i]));
+            }
+            return PFactory.createDict(language, storage);
+        } else if (v instanceof SharedFrozenSet s) {
+            HashingStorage storage = EconomicMapStorage.create(s.items.length);
+            for (Object item : s.items) {
+                storage = HashingStorageSetItem.executeUncached(storage, materialize(language, item), PNone.NO_VALUE);
+            }
+            return PFactory.createFrozenSet(language, storage);
+        }
+        return v;
+    }
+
+    private static Object[] materializeItems(PythonLanguage language, Object[] items) {
+        Object[] result = new Object[items.length];
+        for (int i = 0; i < items.length; i++) {
+            result[i] = materialize(language, items[i]);
+        }
+        return result;
+    }
+}
@@ -298,16 +298,23 @@ public final class TRegexCache {
 
     @CompilerDirectives.TruffleBoundary
     public Object compile(Node node, PythonContext context, PythonMethod method, boolean mustAdvance, TruffleString locale) {
-        String encoding = isBinary() ? ENCODING_LATIN_1 : ENCODING_UTF_32;
-        String options = getTRegexOptions(encoding, method, mustAdvance, locale);
-        InteropLibrary lib = InteropLibrary.getUncached();
-        Object compiledRegex;
-        try {
-            Source regexSource = Source.newBuilder("regex", options + '/' + pattern + '/' + flags, "re").mimeType("application/tregex").internal(true).build();
-            compiledRegex = callCallTarget(context.getEnv().parseInternal(regexSource), node);
-            assert !lib.isNull(compiledRegex) : "This shouldn't happen";
-        } catch (RuntimeException e) {
-            throw handleCompilationError(node, e, lib);
+        TRegexSharedCache sharedCache = context.getLanguage().getSharedTRegexCache();
+        String localeStr = locale != null ? locale.toJavaStringUncached() : null;
+        Object compiledRegex = sharedCache != null ? sharedCache.get(pattern, flags, binary, method, mustAdvance, localeStr) : null;
+        if (compiledRegex == null) {
+            String encoding = isBinary() ? ENCODING_LATIN_1 : ENCODING_UTF_32;
+            String options = getTRegexOptions(encoding, method, mustAdvance, locale);
+            InteropLibrary lib = InteropLibrary.getUncached();
+            try {
+                Source regexSource = Source.newBuilder("regex", options + '/' + pattern + '/' + flags, "re").mimeType("application/tregex").internal(true).build();
+                compiledRegex = callCallTarget(context.getEnv().parseInternal(regexSource), node);
+                assert !lib.isNull(compiledRegex) : "This shouldn't happen";
+            } catch (RuntimeException e) {
+                throw handleCompilationError(node, e, lib);
+            }
+            if (sharedCache != null) {
+                sharedCache.put(pattern, flags, binary, method, mustAdvance, localeStr, compiledRegex);
+            }
         }
         if (isLocaleSensitive()) {
             setLocaleSensitiveRegexp(method, mustAdvance, locale, compiledRegex);
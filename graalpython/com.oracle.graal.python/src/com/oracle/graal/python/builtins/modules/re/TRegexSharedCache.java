@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.re;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Compiled TRegex objects shared by all contexts of a {@link PythonLanguage} instance. A compiled
+ * regex does not depend on the context that created it, so contexts of the same engine can reuse
+ * both the result of the compilation and the call targets the JIT already compiled for it. The
+ * number of entries is bounded by {@link PythonOptions#RegexCacheSize}, the least recently used
+ * entry is evicted first.
+ */
+public final class TRegexSharedCache {
+
+    private record Key(String pattern, String flags, boolean binary, PythonMethod method, boolean mustAdvance, String locale) {
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long hitCount;
+
+    public TRegexSharedCache(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+    }
+
+    @TruffleBoundary
+    synchronized Object get(String pattern, String flags, boolean binary, PythonMethod method, boolean mustAdvance, String locale) {
+        Object compiledRegex = entries.get(new Key(pattern, flags, binary, method, mustAdvance, locale));
+        if (compiledRegex != null) {
+            hitCount++;
+        }
+        return compiledRegex;
+    }
+
+    /**
+     * The number of lookups that found an already compiled regex.
+     */
+    @TruffleBoundary
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    @TruffleBoundary
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @TruffleBoundary
+    synchronized void put(String pattern, String flags, boolean binary, PythonMethod method, boolean mustAdvance, String locale, Object compiledRegex) {
+        entries.put(new Key(pattern, flags, binary, method, mustAdvance, locale), compiledRegex);
+        if (entries.size() > capacity) {
+            Iterator<Key> eldest = entries.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+    }
+}
@@ -70,6 +70,7 @@ import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
@@ -128,15 +129,21 @@ public final class ZlibCompressBuiltins extends PythonBuiltins {
             @Specialization
             static byte[] doNative(Node inliningTarget, NativeZlibCompObject self, byte[] bytes, int length,
                             @Cached ZlibNodes.ZlibNativeCompressObj compressObj) {
-                synchronized (self) {
-                    return compressObj.execute(inliningTarget, self, PythonContext.get(inliningTarget), bytes, length);
-                }
+                return compressObj.execute(inliningTarget, self, PythonContext.get(inliningTarget), bytes, length);
             }
 
             @Specialization
-            static byte[] doJava(JavaCompress self, byte[] bytes, int length) {
-                self.setDeflaterInput(bytes, length);
-                return self.compress(Z_NO_FLUSH);
+            static byte[] doJava(JavaCompress self, byte[] bytes, int length,
+                            @Cached(inline = false) GilNode gil) {
+                gil.release(length >= GilNode.RELEASE_MIN_INPUT_SIZE);
+                try {
+                    synchronized (self) {
+                        self.setDeflaterInput(bytes, length);
+                        return self.compress(Z_NO_FLUSH);
+                    }
+                } finally {
+                    gil.acquire();
+                }
             }
         }
 
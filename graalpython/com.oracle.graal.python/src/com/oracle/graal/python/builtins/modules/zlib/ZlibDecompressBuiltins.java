@@ -139,9 +139,7 @@ public final class ZlibDecompressBuiltins extends PythonBuiltins {
             @Specialization
             static byte[] doNative(Node inliningTarget, NativeZlibCompObject self, byte[] bytes, int length, int maxLength,
                             @Cached ZlibNodes.ZlibNativeDecompressObj decompressObj) {
-                synchronized (self) {
-                    return decompressObj.execute(inliningTarget, self, PythonContext.get(inliningTarget), bytes, length, maxLength);
-                }
+                return decompressObj.execute(inliningTarget, self, PythonContext.get(inliningTarget), bytes, length, maxLength);
             }
 
             @Specialization
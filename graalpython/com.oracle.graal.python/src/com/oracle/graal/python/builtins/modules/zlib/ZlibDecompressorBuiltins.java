@@ -207,9 +207,7 @@ public final class ZlibDecompressorBuiltins extends PythonBuiltins {
             @Specialization(guards = {"self.isNativeDecompressor()"})
             static byte[] doNative(Node inliningTarget, ZlibDecompressorObject self, byte[] bytes, int length, int maxLength,
                             @Cached ZlibNodes.ZlibNativeDecompressor decompress) {
-                synchronized (self) {
-                    return decompress.execute(inliningTarget, self, PythonContext.get(inliningTarget), bytes, length, maxLength);
-                }
+                return decompress.execute(inliningTarget, self, PythonContext.get(inliningTarget), bytes, length, maxLength);
             }
 
             @Specialization(guards = {"!self.isNativeDecompressor()"})
@@ -71,6 +71,7 @@ import com.oracle.graal.python.builtins.objects.str.StringUtils.SimpleTruffleStr
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -119,14 +120,34 @@ public class ZlibNodes {
         static byte[] nativeCompress(Node inliningTarget, NativeZlibCompObject self, PythonContext context, byte[] bytes, int len,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction compressObj,
                         @Cached GetNativeBufferNode getBuffer,
-                        @Cached ZlibNativeErrorHandling errorHandling) {
+                        @Cached ZlibNativeErrorHandling errorHandling,
+                        @Cached(inline = false) GilNode gil) {
             NFIZlibSupport zlibSupport = context.getNFIZlibSupport();
-            self.lastInput = bytes;
-            int err = zlibSupport.compressObj(self.getZst(), self.lastInput, len, DEF_BUF_SIZE, compressObj);
+            int err;
+            byte[] resultArray = null;
+            /*
+             * Only the native call and the copy of its output run without the GIL. Errors are
+             * raised after re-acquiring it, and the monitor is always left first, so we never wait
+             * for the GIL while holding it.
+             */
+            gil.release(context, len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+            try {
+                synchronized (self) {
+                    self.lastInput = bytes;
+                    err = zlibSupport.compressObj(self.getZst(), self.lastInput, len, DEF_BUF_SIZE, compressObj);
+                    if (err == Z_OK) {
+                        resultArray = getBuffer.getOutputBuffer(inliningTarget, self.getZst(), context);
+                    }
+                }
+            } finally {
+                gil.acquire(context);
+            }
             if (err != Z_OK) {
-                errorHandling.execute(inliningTarget, self.getZst(), err, zlibSupport, false);
+                synchronized (self) {
+                    errorHandling.execute(inliningTarget, self.getZst(), err, zlibSupport, false);
+                }
             }
-            return getBuffer.getOutputBuffer(inliningTarget, self.getZst(), context);
+            return resultArray;
         }
 
     }
@@ -143,16 +164,26 @@ public class ZlibNodes {
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction deallocateStream,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction deflateOffHeap,
                         @Cached GetNativeBufferNode getBuffer,
-                        @Cached ZlibNativeErrorHandling errorHandling) {
+                        @Cached ZlibNativeErrorHandling errorHandling,
+                        @Cached(inline = false) GilNode gil) {
             PythonContext context = PythonContext.get(inliningTarget);
             NFIZlibSupport zlibSupport = context.getNFIZlibSupport();
             byte[] in = bytes;
             Object zst = zlibSupport.createStream(createStream);
-            int err = zlibSupport.deflateOffHeap(zst, in, len, DEF_BUF_SIZE, level, wbits, deflateOffHeap);
+            int err;
+            byte[] resultArray = null;
+            gil.release(context, len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+            try {
+                err = zlibSupport.deflateOffHeap(zst, in, len, DEF_BUF_SIZE, level, wbits, deflateOffHeap);
+                if (err == Z_OK) {
+                    resultArray = getBuffer.getOutputBuffer(inliningTarget, zst, context);
+                }
+            } finally {
+                gil.acquire(context);
+            }
             if (err != Z_OK) {
                 errorHandling.execute(inliningTarget, zst, err, zlibSupport, true);
             }
-            byte[] resultArray = getBuffer.getOutputBuffer(inliningTarget, zst, context);
             zlibSupport.deallocateStream(zst, deallocateStream);
             return resultArray;
         }
@@ -168,14 +199,29 @@ public class ZlibNodes {
         static byte[] nativeDecompress(Node inliningTarget, NativeZlibCompObject self, PythonContext context, byte[] bytes, int len, int maxLength,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction decompressObj,
                         @Cached GetNativeBufferNode getBuffer,
-                        @Cached ZlibNativeErrorHandling errorHandling) {
+                        @Cached ZlibNativeErrorHandling errorHandling,
+                        @Cached(inline = false) GilNode gil) {
             NFIZlibSupport zlibSupport = context.getNFIZlibSupport();
             byte[] in = bytes;
-            int err = zlibSupport.decompressObj(self.getZst(), in, len, DEF_BUF_SIZE, maxLength, decompressObj);
+            int err;
+            byte[] resultArray = null;
+            gil.release(context, len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+            try {
+                synchronized (self) {
+                    err = zlibSupport.decompressObj(self.getZst(), in, len, DEF_BUF_SIZE, maxLength, decompressObj);
+                    if (err == Z_OK) {
+                        resultArray = getBuffer.getOutputBuffer(inliningTarget, self.getZst(), context);
+                    }
+                }
+            } finally {
+                gil.acquire(context);
+            }
             if (err != Z_OK) {
-                errorHandling.execute(inliningTarget, self.getZst(), err, zlibSupport, false);
+                synchronized (self) {
+                    errorHandling.execute(inliningTarget, self.getZst(), err, zlibSupport, false);
+                }
             }
-            return getBuffer.getOutputBuffer(inliningTarget, self.getZst(), context);
+            return resultArray;
         }
 
     }
@@ -190,15 +236,30 @@ public class ZlibNodes {
         static byte[] nativeDecompressBuf(Node inliningTarget, ZlibDecompressorObject self, PythonContext context, byte[] bytes, int len, int maxLength,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction decompressor,
                         @Cached GetNativeBufferNode getBuffer,
-                        @Cached ZlibNativeErrorHandling errorHandling) {
+                        @Cached ZlibNativeErrorHandling errorHandling,
+                        @Cached(inline = false) GilNode gil) {
             NFIZlibSupport zlibSupport = context.getNFIZlibSupport();
             byte[] in = bytes;
-            int ret = zlibSupport.decompressor(self.getZst(), in, len, maxLength, decompressor);
+            int ret;
+            byte[] resultArray = null;
+            gil.release(context, len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+            try {
+                synchronized (self) {
+                    ret = zlibSupport.decompressor(self.getZst(), in, len, maxLength, decompressor);
+                    if (ret >= 0) {
+                        self.setNeedsInput(ret == 1);
+                        resultArray = getBuffer.getOutputBuffer(inliningTarget, self.getZst(), context);
+                    }
+                }
+            } finally {
+                gil.acquire(context);
+            }
             if (ret < 0) {
-                errorHandling.execute(inliningTarget, self.getZst(), ret, zlibSupport, false);
+                synchronized (self) {
+                    errorHandling.execute(inliningTarget, self.getZst(), ret, zlibSupport, false);
+                }
             }
-            self.setNeedsInput(ret == 1);
-            return getBuffer.getOutputBuffer(inliningTarget, self.getZst(), context);
+            return resultArray;
         }
     }
 
@@ -214,15 +275,25 @@ public class ZlibNodes {
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction deallocateStream,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction inflateOffHeap,
                         @Cached GetNativeBufferNode getBuffer,
-                        @Cached ZlibNativeErrorHandling errorHandling) {
+                        @Cached ZlibNativeErrorHandling errorHandling,
+                        @Cached(inline = false) GilNode gil) {
             NFIZlibSupport zlibSupport = context.getNFIZlibSupport();
             Object zst = zlibSupport.createStream(createStream);
             byte[] in = bytes;
-            int err = zlibSupport.inflateOffHeap(zst, in, len, bufsize, wbits, inflateOffHeap);
+            int err;
+            byte[] resultArray = null;
+            gil.release(context, len >= GilNode.RELEASE_MIN_INPUT_SIZE);
+            try {
+                err = zlibSupport.inflateOffHeap(zst, in, len, bufsize, wbits, inflateOffHeap);
+                if (err == Z_OK) {
+                    resultArray = getBuffer.getOutputBuffer(inliningTarget, zst, context);
+                }
+            } finally {
+                gil.acquire(context);
+            }
             if (err != Z_OK) {
                 errorHandling.execute(inliningTarget, zst, err, zlibSupport, true);
             }
-            byte[] resultArray = getBuffer.getOutputBuffer(inliningTarget, zst, context);
             zlibSupport.deallocateStream(zst, deallocateStream);
             return resultArray;
         }
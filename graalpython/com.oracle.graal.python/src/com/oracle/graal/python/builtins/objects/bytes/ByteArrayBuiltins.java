@@ -97,6 +97,7 @@ import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProv
 import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.util.CastToByteNode;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PFactory;
@@ -231,8 +232,13 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached NormalizeIndexWithBoundsCheckNode normalizeIndexNode,
                         @Cached SequenceStorageNodes.SetItemScalarNode setItemNode) {
-            index = normalizeIndexNode.execute(index, self.getSequenceStorage().length(), ErrorMessages.BYTEARRAY_OUT_OF_BOUNDS);
-            setItemNode.execute(inliningTarget, self.getSequenceStorage(), index, value);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                index = normalizeIndexNode.execute(index, self.getSequenceStorage().length(), ErrorMessages.BYTEARRAY_OUT_OF_BOUNDS);
+                setItemNode.execute(inliningTarget, self.getSequenceStorage(), index, value);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Specialization(guards = "isNoValue(value)")
@@ -240,8 +246,13 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached NormalizeIndexWithBoundsCheckNode normalizeIndexNode,
                         @Cached SequenceStorageNodes.DeleteItemNode deleteItemNode) {
-            index = normalizeIndexNode.execute(index, self.getSequenceStorage().length(), ErrorMessages.BYTEARRAY_OUT_OF_BOUNDS);
-            deleteItemNode.execute(inliningTarget, self.getSequenceStorage(), index);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                index = normalizeIndexNode.execute(index, self.getSequenceStorage().length(), ErrorMessages.BYTEARRAY_OUT_OF_BOUNDS);
+                deleteItemNode.execute(inliningTarget, self.getSequenceStorage(), index);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -348,11 +359,16 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached CastToByteNode toByteNode,
                         @Exclusive @Cached PRaiseNode raiseNode) {
-            self.checkCanResize(inliningTarget, raiseNode);
-            byte v = toByteNode.execute(frame, value);
-            ByteSequenceStorage target = (ByteSequenceStorage) self.getSequenceStorage();
-            target.insertByteItem(normalizeIndex(index, target.length()), v);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.checkCanResize(inliningTarget, raiseNode);
+                byte v = toByteNode.execute(frame, value);
+                ByteSequenceStorage target = (ByteSequenceStorage) self.getSequenceStorage();
+                target.insertByteItem(normalizeIndex(index, target.length()), v);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Specialization
@@ -362,11 +378,16 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Cached SequenceStorageNodes.InsertItemNode insertItemNode,
                         @Shared @Cached CastToByteNode toByteNode,
                         @Exclusive @Cached PRaiseNode raiseNode) {
-            self.checkCanResize(inliningTarget, raiseNode);
-            byte v = toByteNode.execute(frame, value);
-            SequenceStorage storage = getSequenceStorageNode.execute(inliningTarget, self);
-            insertItemNode.execute(inliningTarget, storage, normalizeIndex(index, storage.length()), v);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.checkCanResize(inliningTarget, raiseNode);
+                byte v = toByteNode.execute(frame, value);
+                SequenceStorage storage = getSequenceStorageNode.execute(inliningTarget, self);
+                insertItemNode.execute(inliningTarget, storage, normalizeIndex(index, storage.length()), v);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         private static int normalizeIndex(int index, int len) {
@@ -491,15 +512,20 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Cached SequenceStorageNodes.GetInternalByteArrayNode getBytes,
                         @Cached SequenceStorageNodes.DeleteNode deleteNode,
                         @Cached PRaiseNode raiseNode) {
-            self.checkCanResize(inliningTarget, raiseNode);
-            SequenceStorage storage = self.getSequenceStorage();
-            int len = storage.length();
-            int pos = FindNode.find(getBytes.execute(inliningTarget, self.getSequenceStorage()), len, cast.execute(frame, value), 0, len, false);
-            if (pos != -1) {
-                deleteNode.execute(frame, storage, pos);
-                return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.checkCanResize(inliningTarget, raiseNode);
+                SequenceStorage storage = self.getSequenceStorage();
+                int len = storage.length();
+                int pos = FindNode.find(getBytes.execute(inliningTarget, self.getSequenceStorage()), len, cast.execute(frame, value), 0, len, false);
+                if (pos != -1) {
+                    deleteNode.execute(frame, storage, pos);
+                    return PNone.NONE;
+                }
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.NOT_IN_BYTEARRAY);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.NOT_IN_BYTEARRAY);
         }
 
         @NeverDefault
@@ -528,11 +554,16 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Shared("getItem") @Cached SequenceStorageNodes.GetItemNode getItemNode,
                         @Shared @Cached("createDelete()") SequenceStorageNodes.DeleteNode deleteNode,
                         @Shared @Cached PRaiseNode raiseNode) {
-            self.checkCanResize(inliningTarget, raiseNode);
-            SequenceStorage store = self.getSequenceStorage();
-            Object ret = getItemNode.execute(store, -1);
-            deleteNode.execute(frame, store, -1);
-            return ret;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.checkCanResize(inliningTarget, raiseNode);
+                SequenceStorage store = self.getSequenceStorage();
+                Object ret = getItemNode.execute(store, -1);
+                deleteNode.execute(frame, store, -1);
+                return ret;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Specialization(guards = {"!isNoValue(idx)", "!isPSlice(idx)"})
@@ -541,11 +572,16 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Shared("getItem") @Cached SequenceStorageNodes.GetItemNode getItemNode,
                         @Shared @Cached("createDelete()") SequenceStorageNodes.DeleteNode deleteNode,
                         @Shared @Cached PRaiseNode raiseNode) {
-            self.checkCanResize(inliningTarget, raiseNode);
-            SequenceStorage store = self.getSequenceStorage();
-            Object ret = getItemNode.execute(frame, store, idx);
-            deleteNode.execute(frame, store, idx);
-            return ret;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.checkCanResize(inliningTarget, raiseNode);
+                SequenceStorage store = self.getSequenceStorage();
+                Object ret = getItemNode.execute(frame, store, idx);
+                deleteNode.execute(frame, store, idx);
+                return ret;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Fallback
@@ -575,9 +611,14 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Cached("createCast()") CastToByteNode toByteNode,
                         @Cached SequenceStorageNodes.AppendNode appendNode,
                         @Cached PRaiseNode raiseNode) {
-            byteArray.checkCanResize(inliningTarget, raiseNode);
-            appendNode.execute(inliningTarget, byteArray.getSequenceStorage(), toByteNode.execute(frame, arg), BytesNodes.BytesLikeNoGeneralizationNode.SUPPLIER);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), byteArray);
+            try {
+                byteArray.checkCanResize(inliningTarget, raiseNode);
+                appendNode.execute(inliningTarget, byteArray.getSequenceStorage(), toByteNode.execute(frame, arg), BytesNodes.BytesLikeNoGeneralizationNode.SUPPLIER);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @NeverDefault
@@ -601,10 +642,15 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Cached IteratorNodes.GetLength lenNode,
                         @Cached("createExtend()") @Shared SequenceStorageNodes.ExtendNode extendNode,
                         @Exclusive @Cached PRaiseNode raiseNode) {
-            self.checkCanResize(inliningTarget, raiseNode);
-            int len = lenNode.execute(frame, inliningTarget, source);
-            extend(frame, self, source, len, extendNode);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.checkCanResize(inliningTarget, raiseNode);
+                int len = lenNode.execute(frame, inliningTarget, source);
+                extend(frame, self, source, len, extendNode);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Specialization(guards = "!isBytes(source)", limit = "3")
@@ -619,27 +665,32 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Cached IsBuiltinObjectProfile errorProfile,
                         @Cached("createExtend()") @Shared SequenceStorageNodes.ExtendNode extendNode,
                         @Exclusive @Cached PRaiseNode raiseNode) {
-            self.checkCanResize(inliningTarget, raiseNode);
-            byte[] b;
-            if (bufferProfile.profile(inliningTarget, bufferAcquireLib.hasBuffer(source))) {
-                Object buffer = bufferAcquireLib.acquireReadonly(source, frame, callData);
-                try {
-                    // TODO avoid copying
-                    b = bufferLib.getCopiedByteArray(buffer);
-                } finally {
-                    bufferLib.release(buffer, frame, callData);
-                }
-            } else {
-                try {
-                    b = iterableToByteNode.execute(frame, source);
-                } catch (PException e) {
-                    e.expect(inliningTarget, TypeError, errorProfile);
-                    throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.CANT_EXTEND_BYTEARRAY_WITH_P, source);
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                self.checkCanResize(inliningTarget, raiseNode);
+                byte[] b;
+                if (bufferProfile.profile(inliningTarget, bufferAcquireLib.hasBuffer(source))) {
+                    Object buffer = bufferAcquireLib.acquireReadonly(source, frame, callData);
+                    try {
+                        // TODO avoid copying
+                        b = bufferLib.getCopiedByteArray(buffer);
+                    } finally {
+                        bufferLib.release(buffer, frame, callData);
+                    }
+                } else {
+                    try {
+                        b = iterableToByteNode.execute(frame, source);
+                    } catch (PException e) {
+                        e.expect(inliningTarget, TypeError, errorProfile);
+                        throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.CANT_EXTEND_BYTEARRAY_WITH_P, source);
+                    }
                 }
+                PByteArray bytes = PFactory.createByteArray(language, b);
+                extend(frame, self, bytes, b.length, extendNode);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            PByteArray bytes = PFactory.createByteArray(language, b);
-            extend(frame, self, bytes, b.length, extendNode);
-            return PNone.NONE;
         }
 
         private static void extend(VirtualFrame frame, PByteArray self, Object source,
@@ -664,8 +715,13 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Cached GetClassNode getClassNode,
                         @Cached TypeNodes.GetInstanceShape getInstanceShape,
                         @Cached SequenceStorageNodes.ToByteArrayNode toByteArray) {
-            Object cls = getClassNode.execute(inliningTarget, byteArray);
-            return PFactory.createByteArray(cls, getInstanceShape.execute(cls), toByteArray.execute(inliningTarget, byteArray.getSequenceStorage()));
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), byteArray);
+            try {
+                Object cls = getClassNode.execute(inliningTarget, byteArray);
+                return PFactory.createByteArray(cls, getInstanceShape.execute(cls), toByteArray.execute(inliningTarget, byteArray.getSequenceStorage()));
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -678,8 +734,13 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
         static PNone reverse(PByteArray byteArray,
                         @Bind Node inliningTarget,
                         @Cached SequenceStorageNodes.ReverseNode reverseNode) {
-            reverseNode.execute(inliningTarget, byteArray.getSequenceStorage());
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), byteArray);
+            try {
+                reverseNode.execute(inliningTarget, byteArray.getSequenceStorage());
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -694,9 +755,14 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Cached SequenceStorageNodes.DeleteNode deleteNode,
                         @Cached PySliceNew sliceNode,
                         @Cached PRaiseNode raiseNode) {
-            byteArray.checkCanResize(inliningTarget, raiseNode);
-            deleteNode.execute(frame, byteArray.getSequenceStorage(), sliceNode.execute(inliningTarget, PNone.NONE, PNone.NONE, 1));
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), byteArray);
+            try {
+                byteArray.checkCanResize(inliningTarget, raiseNode);
+                deleteNode.execute(frame, byteArray.getSequenceStorage(), sliceNode.execute(inliningTarget, PNone.NONE, PNone.NONE, 1));
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
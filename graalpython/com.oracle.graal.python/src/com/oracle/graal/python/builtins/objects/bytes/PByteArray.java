@@ -29,6 +29,7 @@ import static com.oracle.graal.python.builtins.PythonBuiltinClassType.BufferErro
 import static com.oracle.graal.python.util.PythonUtils.builtinClassToType;
 
 import java.nio.ByteOrder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.common.IndexNodes;
@@ -37,6 +38,7 @@ import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.interop.PForeignToPTypeNode;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
@@ -59,9 +61,10 @@ import com.oracle.truffle.api.object.Shape;
 @SuppressWarnings("truffle-abstract-export")
 @ExportLibrary(InteropLibrary.class)
 @ExportLibrary(PythonBufferAccessLibrary.class)
-public final class PByteArray extends PBytesLike {
+public final class PByteArray extends PBytesLike implements CriticalSection.Lockable {
 
     private volatile long exports;
+    private volatile ReentrantLock criticalSectionLock;
 
     public PByteArray(Object cls, Shape instanceShape, byte[] bytes) {
         super(builtinClassToType(cls), instanceShape, bytes);
@@ -71,6 +74,22 @@ public final class PByteArray extends PBytesLike {
         super(builtinClassToType(cls), instanceShape, store);
     }
 
+    @Override
+    public ReentrantLock getCriticalSectionLock() {
+        ReentrantLock lock = criticalSectionLock;
+        if (lock == null) {
+            lock = initCriticalSectionLock();
+        }
+        return lock;
+    }
+
+    private synchronized ReentrantLock initCriticalSectionLock() {
+        if (criticalSectionLock == null) {
+            criticalSectionLock = new ReentrantLock();
+        }
+        return criticalSectionLock;
+    }
+
     @Override
     @TruffleBoundary
     public String toString() {
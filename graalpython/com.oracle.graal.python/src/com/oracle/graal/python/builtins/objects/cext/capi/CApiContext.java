@@ -68,6 +68,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
@@ -328,6 +329,9 @@ public final class CApiContext extends CExtContext {
     public final BackgroundGCTask gcTask;
     private Thread backgroundGCTaskThread;
 
+    private final NativeReleaseTask nativeReleaseTask;
+    private volatile Thread nativeReleaseThread;
+
     public static TruffleLogger getLogger(Class<?> clazz) {
         return PythonLanguage.getLogger(LOGGER_CAPI_NAME + "." + clazz.getSimpleName());
     }
@@ -342,6 +346,7 @@ public final class CApiContext extends CExtContext {
         Arrays.fill(singletonNativePtrs, UNINITIALIZED);
 
         this.gcTask = new BackgroundGCTask(context);
+        this.nativeReleaseTask = new NativeReleaseTask(context);
     }
 
     @TruffleBoundary
@@ -761,6 +766,61 @@ public final class CApiContext extends CExtContext {
         }
     }
 
+    /**
+     * Deallocates native objects collected from the reference queue in the background, so that the
+     * thread that happens to poll the queue only pays for a bounded batch. The thread waits until
+     * {@link #requestNativeRelease()} signals pending work and then competes for the GIL like any
+     * other Python thread.
+     */
+    private static final class NativeReleaseTask extends PythonSystemThreadTask {
+        private final WeakReference<PythonContext> ctx;
+        private final Semaphore pending = new Semaphore(0);
+
+        private NativeReleaseTask(PythonContext context) {
+            super("Python native release", LOGGER);
+            this.ctx = new WeakReference<>(context);
+        }
+
+        void signal() {
+            if (pending.availablePermits() == 0) {
+                pending.release();
+            }
+        }
+
+        @Override
+        protected void doRun() {
+            PythonContext context = ctx.get();
+            if (context == null) {
+                return;
+            }
+            Node location = context.getLanguage().unavailableSafepointLocation;
+            context = null;
+            while (true) {
+                TruffleSafepoint.setBlockedThreadInterruptible(location, Semaphore::acquire, pending);
+                pending.drainPermits();
+                PythonContext current = ctx.get();
+                if (current == null) {
+                    return;
+                }
+                CApiTransitions.releasePendingNativeObjects(current);
+            }
+        }
+    }
+
+    public boolean hasNativeReleaseThread() {
+        return nativeReleaseThread != null;
+    }
+
+    /**
+     * Asks the background release thread to deallocate the remaining entries of
+     * {@link HandleContext#referencesToBeFreed}.
+     */
+    public void requestNativeRelease() {
+        if (nativeReleaseThread != null) {
+            nativeReleaseTask.signal();
+        }
+    }
+
     @TruffleBoundary
     public long getCurrentRSS() {
         if (backgroundGCTaskThread != null && backgroundGCTaskThread.isAlive()) {
@@ -792,6 +852,19 @@ public final class CApiContext extends CExtContext {
         backgroundGCTaskThread.start();
     }
 
+    void runNativeReleaseTask(PythonContext context) {
+        CompilerAsserts.neverPartOfCompilation();
+        if (context.getEnv().isPreInitialization() //
+                        || context.getOption(PythonOptions.NoAsyncActions) //
+                        || !PythonOptions.AUTOMATIC_ASYNC_ACTIONS //
+                        || !context.getEnv().isCreateThreadAllowed()) {
+            return;
+        }
+        Thread thread = context.createSystemThread(nativeReleaseTask);
+        thread.start();
+        nativeReleaseThread = thread;
+    }
+
     /**
      * This represents whether the current process has already loaded an instance of the native CAPI
      * extensions - this can only be loaded globally once per process or in isolation multiple
@@ -925,6 +998,11 @@ public final class CApiContext extends CExtContext {
                         // This can happen when other languages restrict multithreading
                         LOGGER.warning(() -> "didn't start the background GC task due to: " + e.getMessage());
                     }
+                    try {
+                        cApiContext.runNativeReleaseTask(context);
+                    } catch (RuntimeException e) {
+                        LOGGER.warning(() -> "didn't start the native release task due to: " + e.getMessage());
+                    }
                 } catch (ImportException e) {
                     context.setCApiState(PythonContext.CApiState.CANNOT_IMPORT);
                     throw e;
@@ -977,6 +1055,10 @@ public final class CApiContext extends CExtContext {
             if (PythonContext.isCurrentThreadVirtual()) {
                 throw new ApiInitException(ErrorMessages.NATIVE_EXTENSIONS_VIRTUAL_THREAD);
             }
+            if (context.getLanguage().isFreeThreading()) {
+                // the C API relies on the GIL to protect reference counts and handle tables
+                throw new ApiInitException(ErrorMessages.NATIVE_EXTENSIONS_FREE_THREADING);
+            }
             // Check this before marking the API as loaded so that we don't get a different error
             // the second time a C import is attempted
             if (!NativeAccessSupport.isAvailable()) {
@@ -1250,6 +1332,19 @@ public final class CApiContext extends CExtContext {
             }
             backgroundGCTaskThread = null;
         }
+        Thread releaseThread = nativeReleaseThread;
+        if (releaseThread != null) {
+            // remaining entries are deallocated by 'deallocNativeReplacements' below
+            nativeReleaseThread = null;
+            if (releaseThread.isAlive()) {
+                context.killSystemThread(releaseThread);
+                try {
+                    releaseThread.join(10);
+                } catch (InterruptedException e) {
+                    LOGGER.finest("got interrupt while joining native release thread before cleaning up C API state");
+                }
+            }
+        }
 
         /*
          * Disable reference queue polling because during finalization, we will free any known
@@ -62,12 +62,9 @@ import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.writePtr
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
@@ -105,7 +102,8 @@ import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTransi
 import com.oracle.graal.python.builtins.objects.cext.common.CExtCommonNodes;
 import com.oracle.graal.python.builtins.objects.cext.common.CExtToJavaNode;
 import com.oracle.graal.python.builtins.objects.cext.common.CExtToNativeNode;
-import com.oracle.graal.python.builtins.objects.cext.common.HandleStack;
+import com.oracle.graal.python.builtins.objects.cext.common.HandleTable;
+import com.oracle.graal.python.builtins.objects.cext.common.LongObjectHashMap;
 import com.oracle.graal.python.builtins.objects.cext.structs.CFields;
 import com.oracle.graal.python.builtins.objects.cext.structs.CStructAccess;
 import com.oracle.graal.python.builtins.objects.cext.structs.CStructs;
@@ -137,6 +135,7 @@ import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.runtime.sequence.storage.NativeSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage.StorageType;
+import com.oracle.graal.python.util.LongArrayBuilder;
 import com.oracle.graal.python.util.OverflowException;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerAsserts;
@@ -220,27 +219,26 @@ public abstract class CApiTransitions {
         private static final int FIRST_VALID_INDEX = 1;
         private static final int DEFAULT_CAPACITY = 16;
 
-        /** Threshold used to switch from exponential to linear growth. */
-        private static final int LINEAR_THRESHOLD = 1024 * 1024 / Integer.BYTES;
-
         public HandleContext(boolean useShadowTable) {
             nativeStubLookupShadowTable = useShadowTable ? new HashMap<>() : null;
-            nativeStubLookup = new Object[DEFAULT_CAPACITY];
-            nativeStubLookupFreeStack = new HandleStack(DEFAULT_CAPACITY);
-            nativeStubLookupFreeStack.pushRange(FIRST_VALID_INDEX, DEFAULT_CAPACITY);
+            nativeStubLookup = new HandleTable(FIRST_VALID_INDEX);
             nativeTypeLookup = new IdReference<?>[DEFAULT_CAPACITY];
         }
 
-        public final ArrayList<Long> referencesToBeFreed = new ArrayList<>();
-        public final HashMap<Long, IdReference<?>> nativeLookup = new HashMap<>();
+        /**
+         * Pointers of native objects whose managed references died and which still need to be
+         * deallocated. Filled while polling the reference queue and drained in bounded batches,
+         * see {@link #releasePendingNativeObjects}.
+         */
+        public final LongArrayBuilder referencesToBeFreed = new LongArrayBuilder();
+        public final LongObjectHashMap<IdReference<?>> nativeLookup = new LongObjectHashMap<>();
         public final ConcurrentHashMap<Long, Long> nativeWeakRef = new ConcurrentHashMap<>();
         public final WeakHashMap<Object, WeakReference<Object>> managedNativeLookup = new WeakHashMap<>();
 
         public IdReference<?>[] nativeTypeLookup;
 
         private final HashMap<Long, Object> nativeStubLookupShadowTable;
-        public Object[] nativeStubLookup;
-        public final HandleStack nativeStubLookupFreeStack;
+        public final HandleTable nativeStubLookup;
 
         public final Set<NativeStorageReference> nativeStorageReferences = new HashSet<>();
         public final Set<PyCapsuleReference> pyCapsuleReferences = new HashSet<>();
@@ -582,14 +580,20 @@ public abstract class CApiTransitions {
             int count = 0;
             long start = 0;
             boolean polling = false;
-            ArrayList<Long> referencesToBeFreed = handleContext.referencesToBeFreed;
+            LongArrayBuilder referencesToBeFreed = handleContext.referencesToBeFreed;
             try {
                 while (true) {
                     Object entry = queue.poll();
                     if (entry == null) {
                         if (count > 0) {
                             assert handleContext.referenceQueuePollingState == RQ_POLLING || handleContext.referenceQueuePollingState == RQ_DISABLED_PERMANENT;
-                            releaseNativeObjects(context, referencesToBeFreed);
+                            releaseNativeObjects(context, referencesToBeFreed, inlineReleaseBudget(context));
+                            if (!referencesToBeFreed.isEmpty()) {
+                                context.getCApiContext().requestNativeRelease();
+                            }
+                            if (handleContext.nativeStubLookup.shouldCompact()) {
+                                compactNativeStubLookup(handleContext);
+                            }
                             LOGGER.fine("collected " + count + " references from native reference queue in " + ((System.nanoTime() - start) / 1000000) + "ms");
                         }
                         return manuallyCollected;
@@ -691,7 +695,7 @@ public abstract class CApiTransitions {
      * then {@code 0}, it puts the pointer into the list of references to be freed. Therefore, this
      * method neither frees any native memory nor runs any object destructor (guest code).
      */
-    private static void processNativeObjectReference(NativeObjectReference reference, ArrayList<Long> referencesToBeFreed) {
+    private static void processNativeObjectReference(NativeObjectReference reference, LongArrayBuilder referencesToBeFreed) {
         LOGGER.fine(() -> PythonUtils.formatJString("releasing %s", reference.toString()));
         if (subNativeRefCount(reference.pointer, MANAGED_REFCNT) == 0) {
             referencesToBeFreed.add(reference.pointer);
@@ -742,12 +746,54 @@ public abstract class CApiTransitions {
     }
 
     /**
-     * Deallocates all objects in the given collection by calling {@code _Py_Dealloc} for each
-     * element. This method may therefore run arbitrary guest code and strictly requires the GIL to
-     * be held at the time of invocation.
+     * Returns how many objects a thread that polls the reference queue may deallocate inline. If
+     * there is no background release thread, it has to deallocate all of them.
+     */
+    private static int inlineReleaseBudget(PythonContext context) {
+        CApiContext cApiContext = context.getCApiContext();
+        if (cApiContext != null && cApiContext.hasNativeReleaseThread()) {
+            return Math.max(0, context.getOption(PythonOptions.NativeReleaseBatchSize));
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Deallocates the objects collected in {@link HandleContext#referencesToBeFreed} in batches of
+     * at most {@link PythonOptions#NativeReleaseBatchSize} objects. The GIL is acquired for each
+     * batch and released in between, so other threads can run while a large object graph is torn
+     * down. This is meant to be called from the background release thread.
+     */
+    @TruffleBoundary
+    @SuppressWarnings("try")
+    public static void releasePendingNativeObjects(PythonContext context) {
+        HandleContext handleContext = context.handleContext;
+        int batchSize = Math.max(1, context.getOption(PythonOptions.NativeReleaseBatchSize));
+        while (true) {
+            try (GilNode.UncachedAcquire ignored = GilNode.uncachedAcquire()) {
+                if (handleContext.referenceQueuePollingState != RQ_READY || handleContext.referencesToBeFreed.isEmpty()) {
+                    return;
+                }
+                handleContext.referenceQueuePollingState = RQ_POLLING;
+                try {
+                    releaseNativeObjects(context, handleContext.referencesToBeFreed, batchSize);
+                } finally {
+                    if (handleContext.referenceQueuePollingState == RQ_POLLING) {
+                        handleContext.referenceQueuePollingState = RQ_READY;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Deallocates up to {@code budget} objects from the end of the given buffer by calling
+     * {@code _Py_Dealloc} for each element in a single downcall. The released pointers are removed
+     * from the buffer before the downcall, so destructors may add new entries. This method may
+     * therefore run arbitrary guest code and strictly requires the GIL to be held at the time of
+     * invocation.
      */
-    private static void releaseNativeObjects(PythonContext context, ArrayList<Long> referencesToBeFreed) {
-        if (!referencesToBeFreed.isEmpty()) {
+    private static void releaseNativeObjects(PythonContext context, LongArrayBuilder referencesToBeFreed, int budget) {
+        if (!referencesToBeFreed.isEmpty() && budget > 0) {
             /*
              * This needs the GIL because this will call the native objects' destructors which can
              * be arbitrary guest code.
@@ -762,12 +808,15 @@ public abstract class CApiTransitions {
              */
             Object savedException = CExtCommonNodes.ReadAndClearNativeException.executeUncached(threadState);
             try {
-                int size = referencesToBeFreed.size();
-                LOGGER.fine(() -> PythonUtils.formatJString("releasing %d NativeObjectReference instances", size));
+                int total = referencesToBeFreed.size();
+                int size = Math.min(total, budget);
+                LOGGER.fine(() -> PythonUtils.formatJString("releasing %d of %d NativeObjectReference instances", size, total));
                 long pointer = mallocPtrArray(size);
+                int start = total - size;
                 for (int i = 0; i < size; i++) {
-                    NativeMemory.writeLongArrayElement(pointer, i, referencesToBeFreed.get(i));
+                    NativeMemory.writeLongArrayElement(pointer, i, referencesToBeFreed.get(start + i));
                 }
+                referencesToBeFreed.removeLast(size);
                 try {
                     ExternalFunctionInvoker.invokeBULK_DEALLOC(
                                     CApiContext.getNativeSymbol(null, NativeCAPISymbol.FUN_BULK_DEALLOC).getAddress(), pointer, size);
@@ -775,7 +824,6 @@ public abstract class CApiTransitions {
                     throw CompilerDirectives.shouldNotReachHere(t);
                 }
                 free(pointer);
-                referencesToBeFreed.clear();
             } finally {
                 CExtCommonNodes.ReadAndClearNativeException.executeUncached(threadState);
                 if (savedException != PNone.NO_VALUE) {
@@ -834,31 +882,32 @@ public abstract class CApiTransitions {
         assert context.isFinalizing();
         assert !context.getEnv().getContext().isCancelling() : "must not run user code when canceling";
 
-        ArrayList<Long> referencesToBeFreed = new ArrayList<>();
-        Iterator<Entry<Long, IdReference<?>>> iterator = handleContext.nativeLookup.entrySet().iterator();
-        while (iterator.hasNext()) {
-            IdReference<?> ref = iterator.next().getValue();
+        LongArrayBuilder referencesToBeFreed = handleContext.referencesToBeFreed;
+        int firstNew = referencesToBeFreed.size();
+        handleContext.nativeLookup.forEach((ref, l) -> {
             if (ref instanceof PythonObjectReference reference) {
                 if (!reference.isAllocatedFromJava()) {
                     // This memory must be freed from C
                     if (subNativeRefCount(reference.pointer, MANAGED_REFCNT) == 0) {
                         // Only the managed references exist, we can dealloc
                         referencesToBeFreed.add(reference.pointer);
-                        iterator.remove();
                     } else {
                         // There is a native reference which presumably will decref this one at a
                         // later point and call tp_dealloc then
                     }
                 }
             }
+        });
+        for (int i = firstNew; i < referencesToBeFreed.size(); i++) {
+            handleContext.nativeLookup.remove(referencesToBeFreed.get(i));
         }
-        releaseNativeObjects(context, referencesToBeFreed);
+        releaseNativeObjects(context, referencesToBeFreed, Integer.MAX_VALUE);
         pollReferenceQueue();
     }
 
     public static void freeNativeReplacementStructs(PythonContext context, HandleContext handleContext) {
         assert context.ownsGil();
-        handleContext.nativeLookup.forEach((l, ref) -> {
+        handleContext.nativeLookup.forEach((ref, l) -> {
             if (ref instanceof PythonObjectReference reference) {
                 // We don't expect references to objects that would have a native object stub.
                 assert reference.handleTableIndex == -1;
@@ -942,8 +991,8 @@ public abstract class CApiTransitions {
         // TODO(fa): this should not require the GIL (GR-51314)
         assert PythonContext.get(null).ownsGil();
         assert PythonContext.get(null).isFinalizing();
-        for (int i = HandleContext.FIRST_VALID_INDEX; i < handleContext.nativeStubLookup.length; i++) {
-            Object ref = handleContext.nativeStubLookup[i];
+        for (int i = HandleContext.FIRST_VALID_INDEX; i < handleContext.nativeStubLookup.capacity(); i++) {
+            Object ref = handleContext.nativeStubLookup.get(i);
             // not all slots of the handle table are currently used
             if (ref == null) {
                 continue;
@@ -1171,7 +1220,7 @@ public abstract class CApiTransitions {
             }
             return null;
         }
-        Object result = context.nativeStubLookup[idx];
+        Object result = context.nativeStubLookup.get(idx);
         if (PythonContext.DEBUG_CAPI && HandleContext.getShadowTable(context.nativeStubLookupShadowTable, pointer) != result) {
             throw CompilerDirectives.shouldNotReachHere();
         }
@@ -1181,40 +1230,35 @@ public abstract class CApiTransitions {
     /**
      * Reserves a free slot in the handle table that can later be used to store a
      * {@link PythonObjectReference} using {@link #nativeStubLookupPut}. If the handle table is
-     * currently too small, it will be enlarged.
+     * currently too small, it will be enlarged by another segment.
      *
      * @throws OverflowException Indicates that we cannot resize the handle table anymore. This
      *             essentially indicates a Python-level MemoryError.
      */
     private static int nativeStubLookupReserve(HandleContext context) throws OverflowException {
-        int idx = context.nativeStubLookupFreeStack.pop();
-        if (idx == -1) {
-            idx = resizeNativeStubLookupTable(context);
-        }
-        assert context.nativeStubLookup[idx] == null;
-        return idx;
+        return context.nativeStubLookup.reserve();
     }
 
+    /**
+     * Releases unused segments at the end of the native stub lookup table after many handles were
+     * freed. Only called between reference queue batches, so no reserved index is pending.
+     */
     @TruffleBoundary
-    private static int resizeNativeStubLookupTable(HandleContext context) throws OverflowException {
-        int oldSize = context.nativeStubLookup.length;
-        // exponentially grow until 1 MB; then linearly grow by 1 MB
-        int newSize = oldSize >= HandleContext.LINEAR_THRESHOLD ? PythonUtils.addExact(oldSize, HandleContext.LINEAR_THRESHOLD) : PythonUtils.multiplyExact(oldSize, 2);
-        assert newSize != oldSize;
+    private static void compactNativeStubLookup(HandleContext context) {
+        int oldCapacity = context.nativeStubLookup.capacity();
+        context.nativeStubLookup.compact();
         if (LOGGER.isLoggable(Level.FINE)) {
-            LOGGER.fine(String.format("Resizing native stub lookup table: %d -> %d", oldSize, newSize));
+            LOGGER.fine(String.format("Compacted native stub lookup table: %d -> %d (%d live handles)", oldCapacity, context.nativeStubLookup.capacity(),
+                            context.nativeStubLookup.size()));
         }
-        context.nativeStubLookup = Arrays.copyOf(context.nativeStubLookup, newSize);
-        context.nativeStubLookupFreeStack.pushRange(oldSize, newSize);
-        return context.nativeStubLookupFreeStack.pop();
     }
 
     private static int nativeStubLookupPut(HandleContext context, int idx, Object value, long pointer) {
         assert idx > 0;
         assert HandlePointerConverter.pointsToPyHandleSpace(pointer);
         assert value instanceof PythonObject || value instanceof PythonObjectReference || CApiContext.isSpecialSingleton(value);
-        assert context.nativeStubLookup[idx] == null || context.nativeStubLookup[idx] == value;
-        context.nativeStubLookup[idx] = value;
+        assert context.nativeStubLookup.get(idx) == null || context.nativeStubLookup.get(idx) == value;
+        context.nativeStubLookup.set(idx, value);
         if (PythonContext.DEBUG_CAPI) {
             Object prev = HandleContext.putShadowTable(context.nativeStubLookupShadowTable, pointer, value);
             if (prev != null && prev != value) {
@@ -1228,8 +1272,8 @@ public abstract class CApiTransitions {
         assert idx > 0;
         assert idx == value.handleTableIndex;
         assert HandlePointerConverter.pointsToPyHandleSpace(pointer);
-        assert context.nativeStubLookup[idx] == value.get();
-        context.nativeStubLookup[idx] = value;
+        assert context.nativeStubLookup.get(idx) == value.get();
+        context.nativeStubLookup.set(idx, value);
         if (PythonContext.DEBUG_CAPI) {
             Object prev = HandleContext.putShadowTable(context.nativeStubLookupShadowTable, pointer, value);
             if (prev != value.get()) {
@@ -1246,10 +1290,8 @@ public abstract class CApiTransitions {
 
     public static Object nativeStubLookupRemove(HandleContext context, int idx) {
         assert idx >= HandleContext.FIRST_VALID_INDEX;
-        Object result = context.nativeStubLookup[idx];
+        Object result = context.nativeStubLookup.remove(idx);
         assert result instanceof PythonObjectReference || result instanceof PythonObject || CApiContext.isSpecialSingleton(result);
-        context.nativeStubLookup[idx] = null;
-        context.nativeStubLookupFreeStack.push(idx);
         if (PythonContext.DEBUG_CAPI && HandleContext.removeShadowTable(context.nativeStubLookupShadowTable, result) != result) {
             throw CompilerDirectives.shouldNotReachHere();
         }
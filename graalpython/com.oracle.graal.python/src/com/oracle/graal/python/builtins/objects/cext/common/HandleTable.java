@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.cext.common;
+
+import java.util.Arrays;
+
+import com.oracle.graal.python.util.OverflowException;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * A table that maps small integer handles to objects. Storage is split into fixed-size segments
+ * which are allocated on demand, so growing the table never copies existing entries and an index
+ * resolves to its slot with two array loads.
+ *
+ * Free indices are kept on a {@link HandleStack}. Because handles are recycled in LIFO order, a
+ * table that once held many objects tends to keep live entries scattered across all segments.
+ * {@link #compact()} therefore releases trailing empty segments and rebuilds the free stack in
+ * ascending order, so that new handles fill the lowest segments first and the tail can drain.
+ *
+ * This class is not thread-safe.
+ */
+public final class HandleTable {
+    private static final int SEGMENT_SHIFT = 10;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final int firstValidIndex;
+    private final HandleStack freeStack;
+    private Object[][] segments;
+    private int[] segmentLiveCount;
+    private int segmentCount;
+    private int size;
+    private int removedSinceCompaction;
+
+    /**
+     * @param firstValidIndex Indices below this value are never handed out.
+     */
+    public HandleTable(int firstValidIndex) {
+        assert 0 <= firstValidIndex && firstValidIndex < SEGMENT_SIZE;
+        this.firstValidIndex = firstValidIndex;
+        this.freeStack = new HandleStack(SEGMENT_SIZE);
+        this.segments = new Object[4][];
+        this.segmentLiveCount = new int[4];
+        addSegment();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the exclusive upper bound of all indices currently backed by storage.
+     */
+    public int capacity() {
+        return segmentCount << SEGMENT_SHIFT;
+    }
+
+    public Object get(int idx) {
+        return segments[idx >>> SEGMENT_SHIFT][idx & SEGMENT_MASK];
+    }
+
+    /**
+     * Reserves a free index. The slot stays empty until {@link #set} is called.
+     *
+     * @throws OverflowException if the index space is exhausted
+     */
+    public int reserve() throws OverflowException {
+        int idx = freeStack.pop();
+        if (idx == -1) {
+            idx = grow();
+        }
+        assert get(idx) == null;
+        return idx;
+    }
+
+    /**
+     * Stores {@code value} in a reserved or occupied slot.
+     */
+    public void set(int idx, Object value) {
+        assert value != null;
+        Object[] segment = segments[idx >>> SEGMENT_SHIFT];
+        int offset = idx & SEGMENT_MASK;
+        if (segment[offset] == null) {
+            segmentLiveCount[idx >>> SEGMENT_SHIFT]++;
+            size++;
+        }
+        segment[offset] = value;
+    }
+
+    /**
+     * Clears the slot and makes {@code idx} available again. Returns the previous value.
+     */
+    public Object remove(int idx) {
+        assert idx >= firstValidIndex;
+        Object[] segment = segments[idx >>> SEGMENT_SHIFT];
+        int offset = idx & SEGMENT_MASK;
+        Object result = segment[offset];
+        if (result != null) {
+            segment[offset] = null;
+            segmentLiveCount[idx >>> SEGMENT_SHIFT]--;
+            size--;
+            removedSinceCompaction++;
+            freeStack.push(idx);
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if enough handles were released since the last compaction that
+     * {@link #compact()} is worth its linear cost, i.e. at least half the capacity was freed and the
+     * table is less than half full.
+     */
+    public boolean shouldCompact() {
+        int capacity = capacity();
+        return segmentCount > 1 && removedSinceCompaction >= (capacity >>> 1) && size < (capacity >>> 1);
+    }
+
+    /**
+     * Releases empty segments at the end of the table (keeping one spare) and rebuilds the free
+     * stack so that the lowest free index is handed out next. Must not be called while an index
+     * returned by {@link #reserve()} has not been {@link #set} yet.
+     */
+    @TruffleBoundary
+    public void compact() {
+        int last = segmentCount - 1;
+        while (last > 0 && segmentLiveCount[last] == 0 && segmentLiveCount[last - 1] == 0) {
+            segments[last] = null;
+            last--;
+        }
+        segmentCount = last + 1;
+        freeStack.clear();
+        for (int s = segmentCount - 1; s >= 0; s--) {
+            Object[] segment = segments[s];
+            int lower = s == 0 ? firstValidIndex : 0;
+            for (int i = SEGMENT_SIZE - 1; i >= lower; i--) {
+                if (segment[i] == null) {
+                    freeStack.push((s << SEGMENT_SHIFT) | i);
+                }
+            }
+        }
+        removedSinceCompaction = 0;
+    }
+
+    @TruffleBoundary
+    private int grow() throws OverflowException {
+        if (segmentCount >= (Integer.MAX_VALUE >>> SEGMENT_SHIFT)) {
+            throw OverflowException.INSTANCE;
+        }
+        addSegment();
+        return freeStack.pop();
+    }
+
+    private void addSegment() {
+        if (segmentCount == segments.length) {
+            int newLength = segments.length * 2;
+            segments = Arrays.copyOf(segments, newLength);
+            segmentLiveCount = Arrays.copyOf(segmentLiveCount, newLength);
+        }
+        int s = segmentCount++;
+        segments[s] = new Object[SEGMENT_SIZE];
+        segmentLiveCount[s] = 0;
+        int start = s << SEGMENT_SHIFT;
+        freeStack.pushRange(s == 0 ? firstValidIndex : start, start + SEGMENT_SIZE);
+    }
+}
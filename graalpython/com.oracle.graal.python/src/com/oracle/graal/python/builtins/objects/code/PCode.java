@@ -46,6 +46,7 @@ import static com.oracle.graal.python.util.PythonUtils.toInternedTruffleStringUn
 
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
@@ -69,10 +70,13 @@ import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.Assumption;
+import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.bytecode.BytecodeNode;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
@@ -101,10 +105,23 @@ public final class PCode extends PythonBuiltinObject {
     /* GraalPy-specific */
     public static final int CO_GRAALPYHON_MODULE = 0x1000;
 
-    private final RootNode rootNode;
+    @CompilationFinal private RootNode rootNode;
     @CompilationFinal private RootCallTarget callTarget;
     private final Signature signature;
 
+    /*
+     * Code objects of nested functions created with PythonOptions.LazyFunctionBodies have no root
+     * node until it is first needed. Until then, these hold what is needed to create it.
+     */
+    private BytecodeDSLCodeUnit lazyCodeUnit;
+    private boolean lazyInternal;
+
+    /*
+     * We don't want to store the assumption in the MakeFunction operation to be able to have an
+     * uncached version of it, so it is shared by all functions created from this code object.
+     */
+    private final AtomicReference<Assumption> functionCodeFinalAssumption = new AtomicReference<>();
+
     // number of local variables
     private int nlocals = -1;
     // is the required stack size (including local variables)
@@ -161,6 +178,19 @@ public final class PCode extends PythonBuiltinObject {
         assert signature != null;
     }
 
+    /**
+     * Creates the code object of a nested function whose root node is created from
+     * {@code codeUnit} only when it is first requested. The metadata that does not require the
+     * function body to be compiled is taken from the code unit right away.
+     */
+    public PCode(Object cls, Shape instanceShape, BytecodeDSLCodeUnit codeUnit, boolean internal, TruffleString filename) {
+        this(cls, instanceShape, null, codeUnit.computeSignature(), codeUnit.varnames.length, -1, codeUnit.flags, null, null,
+                        Arrays.copyOf(codeUnit.varnames, codeUnit.varnames.length), Arrays.copyOf(codeUnit.freevars, codeUnit.freevars.length),
+                        Arrays.copyOf(codeUnit.cellvars, codeUnit.cellvars.length), filename, codeUnit.name, codeUnit.qualname, -1, null);
+        this.lazyCodeUnit = codeUnit;
+        this.lazyInternal = internal;
+    }
+
     private static TruffleString[] extractFreeVars(RootNode rootNode) {
         CodeUnit code = getCodeUnit(rootNode);
         if (code != null) {
@@ -323,10 +353,42 @@ public final class PCode extends PythonBuiltinObject {
     }
 
     public RootNode getRootNode() {
-        return rootNode;
+        RootNode rN = rootNode;
+        if (CompilerDirectives.injectBranchProbability(CompilerDirectives.SLOWPATH_PROBABILITY, rN == null)) {
+            if (CompilerDirectives.inCompiledCode() && CompilerDirectives.isPartialEvaluationConstant(this)) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+            }
+            rN = initializeRootNode();
+        }
+        return rN;
     }
 
-    RootNode getRootNodeForExtraction() {
+    @TruffleBoundary
+    private synchronized RootNode initializeRootNode() {
+        RootNode rN = rootNode;
+        if (rN == null) {
+            BytecodeDSLCodeUnit codeUnit = lazyCodeUnit;
+            boolean internal = lazyInternal;
+            rN = PythonLanguage.get(null).createCachedRootNode(l -> codeUnit.createRootNode(l, internal), codeUnit);
+            rootNode = rN;
+            lazyCodeUnit = null;
+        }
+        return rN;
+    }
+
+    public Assumption getFunctionCodeFinalAssumption() {
+        CompilerAsserts.neverPartOfCompilation();
+        Assumption assumption = functionCodeFinalAssumption.get();
+        if (assumption == null) {
+            assumption = Truffle.getRuntime().createAssumption("code stable assumption");
+            if (!functionCodeFinalAssumption.compareAndSet(null, assumption)) {
+                assumption = functionCodeFinalAssumption.get();
+            }
+        }
+        return assumption;
+    }
+
+    public RootNode getRootNodeForExtraction() {
         return rootNodeForExtraction(getRootNode());
     }
 
@@ -480,6 +542,9 @@ public final class PCode extends PythonBuiltinObject {
     private PCode createCode(BytecodeDSLCodeUnit codeUnit) {
         PBytecodeDSLRootNode outerRootNode = (PBytecodeDSLRootNode) getRootNodeForExtraction();
         PythonLanguage language = outerRootNode.getLanguage();
+        if (language.isLazyFunctionBodies()) {
+            return PFactory.createLazyCode(language, codeUnit, outerRootNode.isInternal(), getFilename());
+        }
         PBytecodeDSLRootNode rN = language.createCachedRootNode(l -> codeUnit.createRootNode(l, outerRootNode.isInternal()), codeUnit);
         return PFactory.createCode(language, rN, rN.getSignature(), codeUnit, getFilename());
     }
@@ -599,7 +664,7 @@ public final class PCode extends PythonBuiltinObject {
     private RootCallTarget initializeCallTarget() {
         RootCallTarget ct = callTarget;
         if (ct == null) {
-            ct = rootNode.getCallTarget();
+            ct = getRootNode().getCallTarget();
             callTarget = ct;
         }
         return ct;
@@ -128,6 +128,12 @@ public class HashingStorageNodes {
             return getNode.execute(frame, inliningTarget, self, key, keyHash);
         }
 
+        @Specialization
+        static Object primitive(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, long keyHash,
+                        @Cached PrimitiveHashStorage.GetItemNode getNode) {
+            return getNode.execute(frame, inliningTarget, self, key, keyHash);
+        }
+
         @Specialization
         @SuppressWarnings("unused")
         static Object empty(Frame frame, EmptyStorage self, Object key, long keyHash) {
@@ -168,6 +174,12 @@ public class HashingStorageNodes {
             return DynamicObjectStorage.GetItemNode.string(inliningTarget, self, key, -1, readKey, noValueProfile);
         }
 
+        @Specialization
+        static Object primitive(Node inliningTarget, PrimitiveHashStorage self, TruffleString key,
+                        @Cached PrimitiveHashStorage.GetItemNode getNode) {
+            return getNode.execute(null, inliningTarget, self, key, -1);
+        }
+
         @Specialization
         @SuppressWarnings("unused")
         static Object empty(EmptyStorage self, TruffleString key) {
@@ -238,6 +250,12 @@ public class HashingStorageNodes {
             return getNode.execute(frame, inliningTarget, self, key, -1);
         }
 
+        @Specialization
+        static Object primitive(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key,
+                        @Cached PrimitiveHashStorage.GetItemNode getNode) {
+            return getNode.execute(frame, inliningTarget, self, key, -1);
+        }
+
         @Specialization
         @InliningCutoff
         static Object keywords(Frame frame, Node inliningTarget, KeywordsStorage self, Object key,
@@ -317,6 +335,16 @@ public class HashingStorageNodes {
             return self;
         }
 
+        @Specialization(guards = {"isInteger(key)", "isInteger(value)"})
+        static HashingStorage emptyLongKey(@SuppressWarnings("unused") EmptyStorage self, Object key, @SuppressWarnings("unused") long keyHash, Object value) {
+            return LongKeyHashStorage.create(PrimitiveHashStorage.asLong(key), PrimitiveHashStorage.asLong(value));
+        }
+
+        @Specialization(guards = "isInteger(value)")
+        static HashingStorage emptyStringKey(@SuppressWarnings("unused") EmptyStorage self, TruffleString key, long keyHash, Object value) {
+            return StringKeyHashStorage.create(key, keyHash, PrimitiveHashStorage.asLong(value));
+        }
+
         @Specialization
         static HashingStorage empty(Frame frame, Node inliningTarget, @SuppressWarnings("unused") EmptyStorage self, Object key, long keyHash, Object value,
                         @Exclusive @Cached PutNode putNode) {
@@ -325,6 +353,12 @@ public class HashingStorageNodes {
             return result;
         }
 
+        @Specialization
+        static HashingStorage primitive(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, long keyHash, Object value,
+                        @Cached PrimitiveHashStorage.PutNode putNode) {
+            return putNode.execute(frame, inliningTarget, self, key, keyHash, value);
+        }
+
         @Specialization(guards = "!self.shouldTransitionOnPut()")
         static HashingStorage domStringKey(DynamicObjectStorage self, TruffleString key, long keyHash, Object value,
                         @Cached DynamicObject.PutNode putNode) {
@@ -437,6 +471,17 @@ public class HashingStorageNodes {
             return self;
         }
 
+        @Specialization(guards = {"isInteger(key)", "isInteger(value)"})
+        static HashingStorage emptyLongKey(@SuppressWarnings("unused") EmptyStorage self, Object key, Object value) {
+            return LongKeyHashStorage.create(PrimitiveHashStorage.asLong(key), PrimitiveHashStorage.asLong(value));
+        }
+
+        @Specialization(guards = "isInteger(value)")
+        static HashingStorage emptyStringKey(@SuppressWarnings("unused") EmptyStorage self, TruffleString key, Object value,
+                        @Cached TruffleString.HashCodeNode hashCodeNode) {
+            return StringKeyHashStorage.create(key, PyObjectHashNode.hash(key, hashCodeNode), PrimitiveHashStorage.asLong(value));
+        }
+
         @Specialization
         static HashingStorage empty(Frame frame, Node inliningTarget, @SuppressWarnings("unused") EmptyStorage self, Object key, Object value,
                         @Exclusive @Cached PyObjectHashNode hashNode,
@@ -450,6 +495,12 @@ public class HashingStorageNodes {
             return economicMap(frame, inliningTarget, EconomicMapStorage.create(1), key, value, hashNode, putNode);
         }
 
+        @Specialization
+        static HashingStorage primitive(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, Object value,
+                        @Cached PrimitiveHashStorage.PutNode putNode) {
+            return putNode.execute(frame, inliningTarget, self, key, -1, value);
+        }
+
         @Specialization(guards = "!self.shouldTransitionOnPut()")
         static HashingStorage domStringKey(DynamicObjectStorage self, TruffleString key, Object value,
                         @Cached DynamicObject.PutNode putNode) {
@@ -626,6 +677,23 @@ public class HashingStorageNodes {
             return needsValue ? result : result != null;
         }
 
+        @Specialization
+        @InliningCutoff
+        static Object primitive(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, boolean needsValue, PHashingCollection toUpdate,
+                        @Cached PrimitiveHashStorage.FindEntryNode findEntryNode,
+                        @Exclusive @Cached ObjectHashMap.PutNode putNode,
+                        @Exclusive @Cached ObjectHashMap.RemoveNode removeNode) {
+            int index = findEntryNode.execute(frame, inliningTarget, self, key, -1);
+            if (index < 0) {
+                return needsValue ? null : false;
+            }
+            // The primitive strategies do not support removal
+            EconomicMapStorage newStorage = self.generalize(inliningTarget, putNode);
+            toUpdate.setDictStorage(newStorage);
+            Object result = removeNode.execute(frame, inliningTarget, newStorage, self.getKeyObject(index), self.getHash(index));
+            return needsValue ? result : result != null;
+        }
+
         @Specialization(guards = "!needsValue")
         static boolean foreignRemove(Node inliningTarget, ForeignHashingStorage self, Object key, boolean needsValue, Object toUpdate,
                         @Cached ForeignHashingStorage.RemoveNode removeNode) {
@@ -662,6 +730,11 @@ public class HashingStorageNodes {
             return self.length();
         }
 
+        @Specialization
+        static int primitive(PrimitiveHashStorage self) {
+            return self.length();
+        }
+
         @Specialization
         @InliningCutoff
         static int dom(DynamicObjectStorage self,
@@ -744,6 +817,16 @@ public class HashingStorageNodes {
             return map.copy();
         }
 
+        @Specialization
+        static HashingStorage longKeys(LongKeyHashStorage self) {
+            return self.copy();
+        }
+
+        @Specialization
+        static HashingStorage stringKeys(StringKeyHashStorage self) {
+            return self.copy();
+        }
+
         @Specialization
         static EmptyStorage empty(@SuppressWarnings("unused") EmptyStorage map) {
             return EmptyStorage.INSTANCE;
@@ -845,6 +928,11 @@ public class HashingStorageNodes {
             return new HashingStorageIterator();
         }
 
+        @Specialization
+        static HashingStorageIterator primitive(@SuppressWarnings("unused") PrimitiveHashStorage self) {
+            return new HashingStorageIterator();
+        }
+
         @Specialization
         static HashingStorageIterator dom(DynamicObjectStorage self,
                         @Cached DynamicObject.GetKeyArrayNode getKeyArrayNode) {
@@ -895,6 +983,13 @@ public class HashingStorageNodes {
             return it;
         }
 
+        @Specialization
+        static HashingStorageIterator primitive(PrimitiveHashStorage self) {
+            HashingStorageIterator it = new HashingStorageIterator(true);
+            it.index = self.length();
+            return it;
+        }
+
         @Specialization
         static HashingStorageIterator dom(DynamicObjectStorage self,
                         @Cached DynamicObject.GetKeyArrayNode getKeyArrayNode) {
@@ -977,6 +1072,16 @@ public class HashingStorageNodes {
             return false;
         }
 
+        @Specialization(guards = "!it.isReverse")
+        static boolean primitive(PrimitiveHashStorage self, HashingStorageIterator it) {
+            return ++it.index < self.length();
+        }
+
+        @Specialization(guards = "it.isReverse")
+        static boolean primitiveReverse(@SuppressWarnings("unused") PrimitiveHashStorage self, HashingStorageIterator it) {
+            return --it.index >= 0;
+        }
+
         @Specialization(guards = "!it.isReverse")
         static boolean dom(DynamicObjectStorage self, HashingStorageIterator it,
                         @Shared @Cached DynamicObject.GetNode getNode) {
@@ -1077,6 +1182,11 @@ public class HashingStorageNodes {
             return it.currentValue;
         }
 
+        @Specialization
+        static Object primitive(PrimitiveHashStorage self, HashingStorageIterator it) {
+            return self.getValueObject(it.index);
+        }
+
         @Specialization
         static Object dom(@SuppressWarnings("unused") DynamicObjectStorage self, HashingStorageIterator it) {
             return it.currentValue;
@@ -1130,6 +1240,16 @@ public class HashingStorageNodes {
             return self.getKey(it.index);
         }
 
+        @Specialization
+        static long longKeys(LongKeyHashStorage self, HashingStorageIterator it) {
+            return self.getKey(it.index);
+        }
+
+        @Specialization
+        static TruffleString stringKeys(StringKeyHashStorage self, HashingStorageIterator it) {
+            return self.getKey(it.index);
+        }
+
         @Specialization
         static TruffleString dom(@SuppressWarnings("unused") DynamicObjectStorage self, HashingStorageIterator it) {
             return (TruffleString) it.domKeys[it.index];
@@ -1175,6 +1295,16 @@ public class HashingStorageNodes {
             return self.getHash(it.index);
         }
 
+        @Specialization
+        static long longKeys(LongKeyHashStorage self, HashingStorageIterator it) {
+            return self.getHash(it.index);
+        }
+
+        @Specialization
+        static long stringKeys(StringKeyHashStorage self, HashingStorageIterator it) {
+            return self.getHash(it.index);
+        }
+
         @Specialization
         static long dom(@SuppressWarnings("unused") DynamicObjectStorage self, HashingStorageIterator it,
                         @Shared("hash") @Cached TruffleString.HashCodeNode hashNode) {
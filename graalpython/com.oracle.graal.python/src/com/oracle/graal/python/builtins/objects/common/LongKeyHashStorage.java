@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.common;
+
+import com.oracle.graal.python.lib.PyObjectHashNode;
+import com.oracle.graal.python.util.PythonUtils;
+
+/**
+ * Dict storage strategy for int keys and int values that both fit into a Java {@code long}. Unlike
+ * in {@link ObjectHashMap}, there is no need to store the hashes, because they are cheap to
+ * recompute from the keys.
+ */
+public final class LongKeyHashStorage extends PrimitiveHashStorage {
+    long[] keys;
+
+    private LongKeyHashStorage(int capacity) {
+        super(capacity);
+        keys = new long[values.length];
+    }
+
+    private LongKeyHashStorage(LongKeyHashStorage original) {
+        super(original);
+        keys = PythonUtils.arrayCopyOf(original.keys, original.keys.length);
+    }
+
+    public static LongKeyHashStorage create(int capacity) {
+        return new LongKeyHashStorage(capacity);
+    }
+
+    public static LongKeyHashStorage create(long key, long value) {
+        LongKeyHashStorage result = new LongKeyHashStorage(0);
+        result.put(key, value);
+        return result;
+    }
+
+    static long hash(long key) {
+        return PyObjectHashNode.hash(key);
+    }
+
+    public long getKey(int index) {
+        return keys[index];
+    }
+
+    public long getValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    long getHash(int index) {
+        return hash(keys[index]);
+    }
+
+    @Override
+    Object getKeyObject(int index) {
+        return keys[index];
+    }
+
+    @Override
+    void growKeys(int newEntryCapacity) {
+        keys = PythonUtils.arrayCopyOf(keys, newEntryCapacity);
+    }
+
+    public int findEntry(long key) {
+        long hash = hash(key);
+        int[] localIndices = indices;
+        int mask = localIndices.length - 1;
+        long perturb = hash;
+        int bucket = (int) (hash & mask);
+        while (true) {
+            int index = localIndices[bucket] - 1;
+            if (index < 0 || keys[index] == key) {
+                return index;
+            }
+            perturb >>>= PERTURB_SHIFT;
+            bucket = nextBucket(mask, bucket, perturb);
+        }
+    }
+
+    public void put(long key, long value) {
+        int index = findEntry(key);
+        if (index >= 0) {
+            values[index] = value;
+        } else {
+            index = newEntry(value);
+            keys[index] = key;
+            insertIndex(hash(key), index);
+        }
+    }
+
+    @Override
+    public HashingStorage copy() {
+        return new LongKeyHashStorage(this);
+    }
+}
@@ -107,15 +107,15 @@ import com.oracle.truffle.api.profiles.InlinedCountingConditionProfile;
  * growing it, but just removing the dummy entries. The same seems to happen on CPython also, but
  * can be improved.
  * <p>
+ * Dicts with only int or str keys and int values start with the more compact
+ * {@link PrimitiveHashStorage} strategies and are generalized to this map when needed.
+ * <p>
  * Areas for future improvements:
  * <ul>
  * <li>Use another bit from the index in the sparse indices array to remember index of removed
  * items, i.e., dummy items would carry the old index and collision mask. Such dummy items can be
  * reused when inserting new items. This will help with the insert/remove of the same key
  * scenario.</li>
- * <li>New strategy for long keys where the hashes array is used to store the keys, and the
- * keysAndValues array will store just values. Can be implemented by extending this class and
- * overriding few methods.</li>
  * <li>Flag that indicates that the hash-map is used as a storage for a set, so all values are
  * {@code None} and there is no need to allocate space for values in the keysAndValues array.</li>
  * </ul>
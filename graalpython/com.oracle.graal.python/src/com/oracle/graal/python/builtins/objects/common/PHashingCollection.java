@@ -40,12 +40,16 @@
  */
 package com.oracle.graal.python.builtins.objects.common;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.truffle.api.object.Shape;
 
-public abstract class PHashingCollection extends PythonBuiltinObject {
+public abstract class PHashingCollection extends PythonBuiltinObject implements CriticalSection.Lockable {
 
     protected HashingStorage storage;
+    private volatile ReentrantLock criticalSectionLock;
 
     public PHashingCollection(Object cls, Shape instanceShape, HashingStorage storage) {
         super(cls, instanceShape);
@@ -61,4 +65,20 @@ public abstract class PHashingCollection extends PythonBuiltinObject {
         assert storage != null;
         this.storage = storage;
     }
+
+    @Override
+    public final ReentrantLock getCriticalSectionLock() {
+        ReentrantLock lock = criticalSectionLock;
+        if (lock == null) {
+            lock = initCriticalSectionLock();
+        }
+        return lock;
+    }
+
+    private synchronized ReentrantLock initCriticalSectionLock() {
+        if (criticalSectionLock == null) {
+            criticalSectionLock = new ReentrantLock();
+        }
+        return criticalSectionLock;
+    }
 }
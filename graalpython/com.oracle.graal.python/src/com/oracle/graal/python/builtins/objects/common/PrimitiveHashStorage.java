@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.common;
+
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetItemWithHash;
+import com.oracle.graal.python.lib.PyObjectHashNode;
+import com.oracle.graal.python.lib.PyObjectRichCompareBool;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateUncached;
+import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Common base of the dict storage strategies that keep homogeneous entries in primitive arrays,
+ * similarly to the primitive {@link com.oracle.graal.python.runtime.sequence.storage.SequenceStorage
+ * sequence storages}. All values must be Python ints that fit into a Java {@code long}, subclasses
+ * further restrict the type of the keys. A dict starts with one of these strategies when its first
+ * entry fits it and is generalized to {@link EconomicMapStorage} on the first insertion that does
+ * not fit it or on the first removal.
+ * <p>
+ * The hash table uses open addressing with the same probing sequence as {@link ObjectHashMap}. The
+ * sparse {@link #indices} array holds the compact entry index plus one, zero marks a free bucket.
+ * Since entries are never removed, there are no dummy buckets and an entry index stays valid for
+ * the whole lifetime of the storage, even across rehashing.
+ */
+public abstract class PrimitiveHashStorage extends HashingStorage {
+    private static final int INITIAL_ENTRY_CAPACITY = 8;
+    private static final int MAX_ENTRY_CAPACITY = 1 << 29;
+    static final int PERTURB_SHIFT = 5;
+
+    int[] indices;
+    long[] values;
+    int size;
+
+    /**
+     * Set once this storage was generalized. Iterators created before the generalization still
+     * reference this storage and must observe updates done to the new one.
+     */
+    private EconomicMapStorage generalized;
+
+    PrimitiveHashStorage(int capacity) {
+        int entryCapacity = getEntryCapacity(capacity);
+        values = new long[entryCapacity];
+        indices = new int[entryCapacity << 1];
+    }
+
+    PrimitiveHashStorage(PrimitiveHashStorage original) {
+        indices = PythonUtils.arrayCopyOf(original.indices, original.indices.length);
+        values = PythonUtils.arrayCopyOf(original.values, original.values.length);
+        size = original.size;
+    }
+
+    private static int getEntryCapacity(int capacity) {
+        if (capacity <= INITIAL_ENTRY_CAPACITY) {
+            return INITIAL_ENTRY_CAPACITY;
+        } else if (capacity > MAX_ENTRY_CAPACITY) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw new OutOfMemoryError();
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    public static long asLong(Object value) {
+        assert PGuards.isInteger(value);
+        return value instanceof Integer i ? i : (long) value;
+    }
+
+    static int nextBucket(int mask, int bucket, long perturb) {
+        return (int) ((bucket * 5L + perturb + 1) & mask);
+    }
+
+    public final int length() {
+        return size;
+    }
+
+    abstract long getHash(int index);
+
+    abstract Object getKeyObject(int index);
+
+    abstract void growKeys(int newEntryCapacity);
+
+    public abstract HashingStorage copy();
+
+    final Object getValueObject(int index) {
+        if (CompilerDirectives.injectBranchProbability(CompilerDirectives.SLOWPATH_PROBABILITY, generalized != null)) {
+            return getGeneralizedValue(index);
+        }
+        return values[index];
+    }
+
+    @TruffleBoundary
+    private Object getGeneralizedValue(int index) {
+        Object value = HashingStorageGetItemWithHash.getItemWithHash(generalized, getKeyObject(index), getHash(index));
+        return value != null ? value : values[index];
+    }
+
+    /**
+     * Reserves the next compact entry index for a key that is not in the table yet. The caller
+     * must fill in the key and then call {@link #insertIndex}.
+     */
+    final int newEntry(long value) {
+        if (CompilerDirectives.injectBranchProbability(CompilerDirectives.SLOWPATH_PROBABILITY, size == values.length)) {
+            grow();
+        }
+        int index = size++;
+        values[index] = value;
+        return index;
+    }
+
+    final void insertIndex(long hash, int index) {
+        insertIndex(indices, hash, index);
+    }
+
+    private static void insertIndex(int[] table, long hash, int index) {
+        int mask = table.length - 1;
+        long perturb = hash;
+        int bucket = (int) (hash & mask);
+        while (table[bucket] != 0) {
+            perturb >>>= PERTURB_SHIFT;
+            bucket = nextBucket(mask, bucket, perturb);
+        }
+        table[bucket] = index + 1;
+    }
+
+    private void grow() {
+        int newEntryCapacity = getEntryCapacity(values.length + 1);
+        values = PythonUtils.arrayCopyOf(values, newEntryCapacity);
+        growKeys(newEntryCapacity);
+        int[] newIndices = new int[newEntryCapacity << 1];
+        for (int i = 0; i < size; i++) {
+            insertIndex(newIndices, getHash(i), i);
+        }
+        indices = newIndices;
+    }
+
+    /**
+     * Lookup of a key that is not of the type of the strategy, e.g., {@code True} or {@code 1.0}
+     * in a storage with int keys. Such key can still be equal to some of the keys, so we have to
+     * call {@code __eq__} on entries with matching hash.
+     */
+    final int findEntryGeneric(Frame frame, Node inliningTarget, Object key, long hash, PyObjectRichCompareBool eqNode) {
+        int[] localIndices = indices;
+        int mask = localIndices.length - 1;
+        long perturb = hash;
+        int bucket = (int) (hash & mask);
+        while (true) {
+            int index = localIndices[bucket] - 1;
+            if (index < 0) {
+                return -1;
+            }
+            if (getHash(index) == hash) {
+                if (eqNode.executeEq(frame, inliningTarget, getKeyObject(index), key)) {
+                    return index;
+                }
+                if (localIndices != indices) {
+                    // __eq__ inserted new entries and the table was rehashed. Entries never move,
+                    // so it is enough to restart the probing
+                    localIndices = indices;
+                    mask = localIndices.length - 1;
+                    perturb = hash;
+                    bucket = (int) (hash & mask);
+                    continue;
+                }
+            }
+            perturb >>>= PERTURB_SHIFT;
+            bucket = nextBucket(mask, bucket, perturb);
+        }
+    }
+
+    /**
+     * Copies all the entries to a new {@link EconomicMapStorage}. The caller must replace the
+     * storage of the owning collection with the result.
+     */
+    final EconomicMapStorage generalize(Node inliningTarget, ObjectHashMap.PutNode putNode) {
+        EconomicMapStorage result = EconomicMapStorage.create(size);
+        for (int i = 0; i < size; i++) {
+            putNode.put(null, inliningTarget, result, getKeyObject(i), getHash(i), values[i]);
+        }
+        generalized = result;
+        return result;
+    }
+
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    @ImportStatic(PGuards.class)
+    public abstract static class FindEntryNode extends Node {
+        /**
+         * Returns the index of the entry with the given key or {@code -1}. The {@code keyHash} is
+         * ignored for keys of the type of the strategy. For other keys, it is computed if it is
+         * {@code -1}.
+         */
+        public abstract int execute(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, long keyHash);
+
+        @Specialization(guards = "isInteger(key)")
+        static int longKey(LongKeyHashStorage self, Object key, @SuppressWarnings("unused") long keyHash) {
+            return self.findEntry(asLong(key));
+        }
+
+        @Specialization
+        static int stringKey(StringKeyHashStorage self, TruffleString key, @SuppressWarnings("unused") long keyHash,
+                        @Cached TruffleString.HashCodeNode hashCodeNode,
+                        @Cached TruffleString.EqualNode equalNode) {
+            return self.findEntry(key, PyObjectHashNode.hash(key, hashCodeNode), equalNode);
+        }
+
+        @Specialization
+        @SuppressWarnings("unused")
+        static int stringInLongKeys(LongKeyHashStorage self, TruffleString key, long keyHash) {
+            return -1;
+        }
+
+        @Specialization(guards = "isInteger(key)")
+        @SuppressWarnings("unused")
+        static int longInStringKeys(StringKeyHashStorage self, Object key, long keyHash) {
+            return -1;
+        }
+
+        @Fallback
+        @InliningCutoff
+        static int generic(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, long keyHash,
+                        @Cached PyObjectHashNode hashNode,
+                        @Cached PyObjectRichCompareBool eqNode) {
+            long hash = keyHash == -1 ? hashNode.execute(frame, inliningTarget, key) : keyHash;
+            return self.findEntryGeneric(frame, inliningTarget, key, hash, eqNode);
+        }
+    }
+
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class GetItemNode extends Node {
+        /**
+         * See {@link FindEntryNode} for the meaning of {@code keyHash}.
+         */
+        public abstract Object execute(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, long keyHash);
+
+        @Specialization
+        static Object doIt(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, long keyHash,
+                        @Cached FindEntryNode findEntryNode) {
+            int index = findEntryNode.execute(frame, inliningTarget, self, key, keyHash);
+            return index >= 0 ? self.getValueObject(index) : null;
+        }
+    }
+
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    @ImportStatic(PGuards.class)
+    public abstract static class PutNode extends Node {
+        /**
+         * Returns either this storage or the {@link EconomicMapStorage} it was generalized to. See
+         * {@link FindEntryNode} for the meaning of {@code keyHash}.
+         */
+        public abstract HashingStorage execute(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, long keyHash, Object value);
+
+        @Specialization(guards = {"isInteger(key)", "isInteger(value)"})
+        static HashingStorage longKey(LongKeyHashStorage self, Object key, @SuppressWarnings("unused") long keyHash, Object value) {
+            self.put(asLong(key), asLong(value));
+            return self;
+        }
+
+        @Specialization(guards = "isInteger(value)")
+        static HashingStorage stringKey(StringKeyHashStorage self, TruffleString key, @SuppressWarnings("unused") long keyHash, Object value,
+                        @Cached TruffleString.HashCodeNode hashCodeNode,
+                        @Cached TruffleString.EqualNode equalNode) {
+            self.put(key, PyObjectHashNode.hash(key, hashCodeNode), asLong(value), equalNode);
+            return self;
+        }
+
+        @Fallback
+        @InliningCutoff
+        static HashingStorage generalize(Frame frame, Node inliningTarget, PrimitiveHashStorage self, Object key, long keyHash, Object value,
+                        @Cached PyObjectHashNode hashNode,
+                        @Cached ObjectHashMap.PutNode putNode) {
+            // Hash first, so that we do not generalize if __hash__ raises
+            long hash = keyHash == -1 ? hashNode.execute(frame, inliningTarget, key) : keyHash;
+            EconomicMapStorage result = self.generalize(inliningTarget, putNode);
+            putNode.put(frame, inliningTarget, result, key, hash, value);
+            return result;
+        }
+    }
+}
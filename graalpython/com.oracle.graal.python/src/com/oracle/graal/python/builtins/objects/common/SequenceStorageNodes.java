@@ -1587,6 +1587,7 @@ public abstract class SequenceStorageNodes {
             var length = storage.length();
             var unsafe = PythonContext.get(inliningTarget).getUnsafe();
             long itemSize = storage.getItemSize();
+            storage.ensureWritable();
             long startAddress = storage.getValueBufferAddr();
             long endAddress = startAddress + ((length - 1) * itemSize);
             byte[] tempBuffer = new byte[(int) itemSize];
@@ -4013,6 +4014,7 @@ public abstract class SequenceStorageNodes {
             var unsafe = context.getUnsafe();
             long itemSize = storage.getItemSize();
             ensureCapacity.execute(inliningTarget, storage, length + 1);
+            storage.ensureWritable();
             // shifting tail to the right by one slot
             long startAddr = storage.getValueBufferAddr() + (index * itemSize);
             long endAddr = startAddr + itemSize;
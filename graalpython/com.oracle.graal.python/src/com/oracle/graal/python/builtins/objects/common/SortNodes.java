@@ -44,6 +44,8 @@ import static com.oracle.graal.python.util.PythonUtils.tsArray;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.PNone;
@@ -58,8 +60,10 @@ import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.runtime.ExecutionContext;
 import com.oracle.graal.python.runtime.ExecutionContext.CallContext;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCalleeContext;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
@@ -80,13 +84,11 @@ import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.EncapsulatingNodeReference;
-import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.LoopNode;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.profiles.InlinedCountingConditionProfile;
 import com.oracle.truffle.api.profiles.InlinedLoopConditionProfile;
-import com.oracle.truffle.api.profiles.ValueProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 
 public abstract class SortNodes {
@@ -173,8 +175,6 @@ public abstract class SortNodes {
 
         @CompilationFinal private RootCallTarget comparatorCallTarget;
 
-        private final ValueProfile keyClassProfile = ValueProfile.createIdentityProfile();
-
         public abstract void execute(VirtualFrame frame, SequenceStorage storage, Object keyfunc, boolean reverse);
 
         @Specialization
@@ -202,38 +202,98 @@ public abstract class SortNodes {
         }
 
         @Specialization
-        @TruffleBoundary
-        void sort(IntSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
+        void sort(IntSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse,
+                        @Shared @Cached GilNode gil) {
             int[] array = storage.getInternalIntArray();
             int len = storage.length();
-            Arrays.sort(array, 0, len);
+            boolean parallel = shouldSortInParallel(PythonContext.get(this), len);
+            // the storage only contains primitives and is not reachable from Python code while
+            // it is being sorted (see ListSortNode)
+            gil.release(parallel);
+            try {
+                sortArray(array, len, parallel);
+            } finally {
+                gil.acquire();
+            }
             if (reverse) {
                 reverseArray(array, len);
             }
         }
 
         @Specialization
-        @TruffleBoundary
-        void sort(LongSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
+        void sort(LongSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse,
+                        @Shared @Cached GilNode gil) {
             long[] array = storage.getInternalLongArray();
             int len = storage.length();
-            Arrays.sort(array, 0, len);
+            boolean parallel = shouldSortInParallel(PythonContext.get(this), len);
+            // the storage only contains primitives and is not reachable from Python code while
+            // it is being sorted (see ListSortNode)
+            gil.release(parallel);
+            try {
+                sortArray(array, len, parallel);
+            } finally {
+                gil.acquire();
+            }
             if (reverse) {
                 reverseArray(array, len);
             }
         }
 
         @Specialization
-        @TruffleBoundary
-        void sort(DoubleSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
+        void sort(DoubleSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse,
+                        @Shared @Cached GilNode gil) {
             int len = storage.length();
             double[] array = storage.getInternalDoubleArray();
-            Arrays.sort(array, 0, len);
+            boolean parallel = shouldSortInParallel(PythonContext.get(this), len);
+            gil.release(parallel);
+            try {
+                sortArray(array, len, parallel);
+            } finally {
+                gil.acquire();
+            }
             if (reverse) {
                 reverseArray(array, len);
             }
         }
 
+        /**
+         * Large arrays of primitives (or of primitive keys) are sorted on the common fork-join pool
+         * with the GIL released. This does not run any Python code, but the pool threads are still
+         * host threads, so we only use them if the context may create threads.
+         */
+        @TruffleBoundary
+        private static boolean shouldSortInParallel(PythonContext context, int len) {
+            int minLength = context.getOption(PythonOptions.ParallelSortMinLength);
+            return minLength > 0 && len >= minLength && context.getEnv().isCreateThreadAllowed();
+        }
+
+        @TruffleBoundary
+        private static void sortArray(int[] array, int len, boolean parallel) {
+            if (parallel) {
+                Arrays.parallelSort(array, 0, len);
+            } else {
+                Arrays.sort(array, 0, len);
+            }
+        }
+
+        @TruffleBoundary
+        private static void sortArray(long[] array, int len, boolean parallel) {
+            if (parallel) {
+                Arrays.parallelSort(array, 0, len);
+            } else {
+                Arrays.sort(array, 0, len);
+            }
+        }
+
+        @TruffleBoundary
+        private static void sortArray(double[] array, int len, boolean parallel) {
+            if (parallel) {
+                Arrays.parallelSort(array, 0, len);
+            } else {
+                Arrays.sort(array, 0, len);
+            }
+        }
+
         @TruffleBoundary
         private static void sortStrings(ObjectSequenceStorage storage, boolean reverse) {
             Object[] array = storage.getInternalObjectArray();
@@ -283,8 +343,9 @@ public abstract class SortNodes {
         @Specialization(guards = "!isPNone(keyfunc)")
         void sort(VirtualFrame frame, ObjectSequenceStorage storage, Object keyfunc, boolean reverse,
                         @Shared @Cached CallNode callNode,
-                        @Shared @Cached CallContext callContext) {
-            sortWithKey(frame, storage.getInternalObjectArray(), storage.length(), keyfunc, reverse, callNode, callContext);
+                        @Shared @Cached CallContext callContext,
+                        @Shared @Cached GilNode gil) {
+            sortWithKey(frame, storage.getInternalObjectArray(), storage.length(), keyfunc, reverse, callNode, callContext, gil);
         }
 
         @Fallback
@@ -293,6 +354,7 @@ public abstract class SortNodes {
                         @Bind Node inliningTarget,
                         @Shared @Cached CallContext callContext,
                         @Shared @Cached CallNode callNode,
+                        @Shared @Cached GilNode gil,
                         @Cached SequenceStorageNodes.GetItemScalarNode getItemScalarNode,
                         @Cached SequenceStorageNodes.SetItemScalarNode setItemScalarNode) {
             int len = storage.length();
@@ -303,7 +365,7 @@ public abstract class SortNodes {
             if (keyfunc instanceof PNone) {
                 sortWithoutKey(frame, array, len, reverse, callContext);
             } else {
-                sortWithKey(frame, array, len, keyfunc, reverse, callNode, callContext);
+                sortWithKey(frame, array, len, keyfunc, reverse, callNode, callContext, gil);
             }
             for (int i = 0; i < len; i++) {
                 setItemScalarNode.execute(inliningTarget, storage, i, array[i]);
@@ -362,33 +424,29 @@ public abstract class SortNodes {
             }
         }
 
-        private enum KeySortComparator {
-            INT(Integer.class, Comparator.comparing(a -> ((Integer) a.key))),
-            LONG(Long.class, Comparator.comparing(a -> ((Long) a.key))),
-            DOUBLE(Double.class, Comparator.comparing(a -> ((Double) a.key))),
-            BOOLEAN(Boolean.class, Comparator.comparing(a -> ((Boolean) a.key))),
-            STRING(TruffleString.class, (a, b) -> StringUtils.compareStringsUncached((TruffleString) a.key, (TruffleString) b.key));
-
-            final Class<?> clazz;
-            final Comparator<SortingPair> comparator;
-
-            KeySortComparator(Class<?> clazz, Comparator<SortingPair> comparator) {
-                this.clazz = clazz;
-                this.comparator = comparator;
+        private enum KeyKind {
+            LONG,
+            DOUBLE,
+            STRING,
+            OBJECT;
+
+            static KeyKind forKey(Object key) {
+                if (key instanceof Integer || key instanceof Long || key instanceof Boolean) {
+                    return LONG;
+                } else if (key instanceof Double) {
+                    return DOUBLE;
+                } else if (key instanceof TruffleString) {
+                    return STRING;
+                }
+                return OBJECT;
             }
 
-            @ExplodeLoop
-            public static KeySortComparator forClass(Class<?> clazz) {
-                for (KeySortComparator c : KeySortComparator.values()) {
-                    if (clazz == c.clazz) {
-                        return c;
-                    }
-                }
-                return null;
+            KeyKind merge(Object key) {
+                return this == OBJECT || forKey(key) == this ? this : OBJECT;
             }
         }
 
-        private void sortWithKey(VirtualFrame frame, Object[] array, int len, Object keyfunc, boolean reverse, CallNode callNode, CallContext callContext) {
+        private void sortWithKey(VirtualFrame frame, Object[] array, int len, Object keyfunc, boolean reverse, CallNode callNode, CallContext callContext, GilNode gil) {
             if (len == 0) {
                 return;
             }
@@ -398,62 +456,284 @@ public abstract class SortNodes {
                 return;
             }
             /*
-             * Box the values into (key, value) pairs so that the comparator can compare they keys.
-             * We want to avoid calling the key function from the comparator because CPython also
-             * computes the keys only once. There is an additional optimization opportunity where we
-             * could avoid boxing primitive numbers, but that would result in quite a lot of
-             * duplicate code.
+             * Compute the keys only once, like CPython does, and remember if they all turned out to
+             * be of the same primitive type. In that case we sort an unboxed copy of the keys
+             * together with the permutation indices and never need to dispatch to __lt__.
              */
-            SortingPair[] pairArray = new SortingPair[len];
+            Object[] keys = new Object[len];
+            keys[0] = key;
+            KeyKind keyKind = KeyKind.forKey(key);
+            for (int i = 1; i < len; i++) {
+                key = callNode.execute(frame, keyfunc, array[i]);
+                keyKind = keyKind.merge(key);
+                keys[i] = key;
+            }
             /*
-             * Look at the first key and determine which comparator we could use to compare if the
-             * keys turn all to be the same primitive type
+             * The sort is stable, so to keep equal elements in their original order when sorting in
+             * reverse, we sort the reversed list and reverse the result again.
              */
-            pairArray[reverse ? len - 1 : 0] = new SortingPair(key, array[0]);
-            Class<?> keyClass = keyClassProfile.profile(key.getClass());
-            KeySortComparator keySortComparator = KeySortComparator.forClass(keyClass);
+            if (reverse) {
+                reverseArray(array, len);
+                reverseArray(keys, len);
+            }
+            if (keyKind != KeyKind.OBJECT) {
+                boolean parallel = shouldSortInParallel(PythonContext.get(this), len);
+                // only the unboxed copy of the keys is used while the GIL is released
+                int[] permutation;
+                gil.release(parallel);
+                try {
+                    permutation = sortPermutation(keys, len, keyKind, parallel);
+                } finally {
+                    gil.acquire();
+                }
+                applyPermutation(array, permutation, len);
+            } else {
+                sortByObjectKeys(frame, array, keys, len, callContext);
+            }
+            if (reverse) {
+                reverseArray(array, len);
+            }
+        }
 
-            for (int i = 1; i < len; i++) {
-                key = callNode.execute(frame, keyfunc, array[i]);
-                /* Check if the keys are all of the same type */
-                if (keySortComparator != null && key.getClass() != keySortComparator.clazz) {
-                    keySortComparator = null;
+        @TruffleBoundary
+        private static int[] sortPermutation(Object[] keys, int len, KeyKind keyKind, boolean parallel) {
+            return switch (keyKind) {
+                case LONG -> sortLongKeys(keys, len, parallel);
+                case DOUBLE -> new DoubleKeysSort(keys, len).sort(parallel);
+                case STRING -> new StringKeysSort(keys, len).sort(parallel);
+                default -> throw CompilerDirectives.shouldNotReachHere();
+            };
+        }
+
+        @TruffleBoundary
+        private static void applyPermutation(Object[] array, int[] permutation, int len) {
+            Object[] values = PythonUtils.arrayCopyOf(array, len);
+            for (int i = 0; i < len; i++) {
+                array[i] = values[permutation[i]];
+            }
+        }
+
+        private static long longKey(Object key) {
+            if (key instanceof Integer i) {
+                return i;
+            } else if (key instanceof Long l) {
+                return l;
+            }
+            return ((Boolean) key) ? 1 : 0;
+        }
+
+        private static int[] sortLongKeys(Object[] keys, int len, boolean parallel) {
+            long[] longKeys = new long[len];
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < len; i++) {
+                long k = longKey(keys[i]);
+                longKeys[i] = k;
+                min = Math.min(min, k);
+                max = Math.max(max, k);
+            }
+            long range = max - min;
+            if (range < 0 || range > Integer.MAX_VALUE) {
+                // the keys do not fit next to the index into a single long
+                return new LongKeysSort(longKeys, len).sort(parallel);
+            }
+            /*
+             * Pack the (non-negative) distance from the minimum into the upper half and the index
+             * into the lower half of a long. Equal keys are then ordered by their index, so the
+             * plain primitive sort is stable.
+             */
+            long[] packed = new long[len];
+            for (int i = 0; i < len; i++) {
+                packed[i] = ((longKeys[i] - min) << 32) | i;
+            }
+            sortArray(packed, len, parallel);
+            int[] permutation = new int[len];
+            for (int i = 0; i < len; i++) {
+                permutation[i] = (int) packed[i];
+            }
+            return permutation;
+        }
+
+        /**
+         * A stable merge sort of the indices {@code 0..len-1} by the keys they refer to. Only
+         * {@link #less} is used to compare keys, so like {@code list.sort} in CPython, this
+         * produces a permutation even if the keys are not totally ordered (e.g. NaNs). In parallel
+         * mode, the halves are sorted as fork-join tasks, so the result is the same.
+         */
+        private abstract static class KeyedIndexSort {
+            private static final int INSERTION_SORT_THRESHOLD = 32;
+            private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+            final int len;
+
+            KeyedIndexSort(int len) {
+                this.len = len;
+            }
+
+            abstract boolean less(int a, int b);
+
+            final int[] sort(boolean parallel) {
+                int[] permutation = new int[len];
+                for (int i = 0; i < len; i++) {
+                    permutation[i] = i;
                 }
-                pairArray[reverse ? len - i - 1 : i] = new SortingPair(key, array[i]);
+                if (parallel) {
+                    ForkJoinPool.commonPool().invoke(new MergeSortTask(this, permutation, new int[len], 0, len));
+                } else {
+                    mergeSort(permutation, new int[len], 0, len);
+                }
+                return permutation;
             }
-            if (keySortComparator != null) {
-                callSortWithKey(pairArray, len, keySortComparator);
-            } else {
-                PythonLanguage language = PythonLanguage.get(this);
-                final Object[] arguments = PArguments.create(2);
-                final RootCallTarget callTarget = getComparatorCallTarget(language);
-                if (frame == null) {
-                    PythonThreadState threadState = PythonContext.get(this).getThreadState(language);
-                    Object state = IndirectCalleeContext.enter(threadState, arguments);
-                    try {
-                        callSortWithKey(pairArray, len, callTarget, arguments);
-                    } finally {
-                        IndirectCalleeContext.exit(threadState, state);
+
+            final void mergeSort(int[] permutation, int[] tmp, int from, int to) {
+                if (to - from <= INSERTION_SORT_THRESHOLD) {
+                    insertionSort(permutation, from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                mergeSort(permutation, tmp, from, mid);
+                mergeSort(permutation, tmp, mid, to);
+                merge(permutation, tmp, from, mid, to);
+            }
+
+            final void insertionSort(int[] permutation, int from, int to) {
+                for (int i = from + 1; i < to; i++) {
+                    int idx = permutation[i];
+                    int j = i - 1;
+                    while (j >= from && less(idx, permutation[j])) {
+                        permutation[j + 1] = permutation[j];
+                        j--;
                     }
-                } else {
-                    callContext.prepareCall(frame, arguments, callTarget);
-                    EncapsulatingNodeReference nodeRef = EncapsulatingNodeReference.getCurrent();
-                    Node prev = nodeRef.set(this);
-                    try {
-                        callSortWithKey(pairArray, len, callTarget, arguments);
-                    } finally {
-                        nodeRef.set(prev);
+                    permutation[j + 1] = idx;
+                }
+            }
+
+            final void merge(int[] permutation, int[] tmp, int from, int mid, int to) {
+                if (!less(permutation[mid], permutation[mid - 1])) {
+                    // already in order
+                    return;
+                }
+                System.arraycopy(permutation, from, tmp, from, mid - from);
+                int left = from;
+                int right = mid;
+                int dst = from;
+                while (left < mid && right < to) {
+                    if (less(permutation[right], tmp[left])) {
+                        permutation[dst++] = permutation[right++];
+                    } else {
+                        permutation[dst++] = tmp[left++];
                     }
                 }
+                System.arraycopy(tmp, left, permutation, dst, mid - left);
             }
-            for (int i = 0; i < len; i++) {
-                array[reverse ? len - i - 1 : i] = pairArray[i].value;
+        }
+
+        private static final class MergeSortTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final transient KeyedIndexSort sorter;
+            private final int[] permutation;
+            private final int[] tmp;
+            private final int from;
+            private final int to;
+
+            MergeSortTask(KeyedIndexSort sorter, int[] permutation, int[] tmp, int from, int to) {
+                this.sorter = sorter;
+                this.permutation = permutation;
+                this.tmp = tmp;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from <= KeyedIndexSort.PARALLEL_SORT_THRESHOLD) {
+                    sorter.mergeSort(permutation, tmp, from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new MergeSortTask(sorter, permutation, tmp, from, mid), new MergeSortTask(sorter, permutation, tmp, mid, to));
+                sorter.merge(permutation, tmp, from, mid, to);
             }
         }
 
-        @TruffleBoundary
-        private static void callSortWithKey(SortingPair[] array, int len, KeySortComparator comparator) {
-            Arrays.sort(array, 0, len, comparator.comparator);
+        private static final class LongKeysSort extends KeyedIndexSort {
+            private final long[] keys;
+
+            LongKeysSort(long[] keys, int len) {
+                super(len);
+                this.keys = keys;
+            }
+
+            @Override
+            boolean less(int a, int b) {
+                return keys[a] < keys[b];
+            }
+        }
+
+        private static final class DoubleKeysSort extends KeyedIndexSort {
+            private final double[] keys;
+
+            DoubleKeysSort(Object[] keys, int len) {
+                super(len);
+                this.keys = new double[len];
+                for (int i = 0; i < len; i++) {
+                    this.keys[i] = (Double) keys[i];
+                }
+            }
+
+            @Override
+            boolean less(int a, int b) {
+                return keys[a] < keys[b];
+            }
+        }
+
+        private static final class StringKeysSort extends KeyedIndexSort {
+            private final TruffleString[] keys;
+
+            StringKeysSort(Object[] keys, int len) {
+                super(len);
+                this.keys = new TruffleString[len];
+                for (int i = 0; i < len; i++) {
+                    this.keys[i] = (TruffleString) keys[i];
+                }
+            }
+
+            @Override
+            boolean less(int a, int b) {
+                return StringUtils.compareStringsUncached(keys[a], keys[b]) < 0;
+            }
+        }
+
+        private void sortByObjectKeys(VirtualFrame frame, Object[] array, Object[] keys, int len, CallContext callContext) {
+            SortingPair[] pairArray = new SortingPair[len];
+            for (int i = 0; i < len; i++) {
+                pairArray[i] = new SortingPair(keys[i], array[i]);
+            }
+            PythonLanguage language = PythonLanguage.get(this);
+            final Object[] arguments = PArguments.create(2);
+            final RootCallTarget callTarget = getComparatorCallTarget(language);
+            if (frame == null) {
+                PythonThreadState threadState = PythonContext.get(this).getThreadState(language);
+                Object state = IndirectCalleeContext.enter(threadState, arguments);
+                try {
+                    callSortWithKey(pairArray, len, callTarget, arguments);
+                } finally {
+                    IndirectCalleeContext.exit(threadState, state);
+                }
+            } else {
+                callContext.prepareCall(frame, arguments, callTarget);
+                EncapsulatingNodeReference nodeRef = EncapsulatingNodeReference.getCurrent();
+                Node prev = nodeRef.set(this);
+                try {
+                    callSortWithKey(pairArray, len, callTarget, arguments);
+                } finally {
+                    nodeRef.set(prev);
+                }
+            }
+            for (int i = 0; i < len; i++) {
+                array[i] = pairArray[i].value;
+            }
         }
 
         @TruffleBoundary
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.common;
+
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Dict storage strategy for builtin str keys and int values that fit into a Java {@code long}. Only
+ * {@link TruffleString} keys are stored, other representations of str generalize the storage.
+ */
+public final class StringKeyHashStorage extends PrimitiveHashStorage {
+    TruffleString[] keys;
+    long[] hashes;
+
+    private StringKeyHashStorage(int capacity) {
+        super(capacity);
+        keys = new TruffleString[values.length];
+        hashes = new long[values.length];
+    }
+
+    private StringKeyHashStorage(StringKeyHashStorage original) {
+        super(original);
+        keys = PythonUtils.arrayCopyOf(original.keys, original.keys.length);
+        hashes = PythonUtils.arrayCopyOf(original.hashes, original.hashes.length);
+    }
+
+    public static StringKeyHashStorage create(int capacity) {
+        return new StringKeyHashStorage(capacity);
+    }
+
+    public static StringKeyHashStorage create(TruffleString key, long hash, long value) {
+        StringKeyHashStorage result = new StringKeyHashStorage(0);
+        result.putNew(key, hash, value);
+        return result;
+    }
+
+    public TruffleString getKey(int index) {
+        return keys[index];
+    }
+
+    public long getValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    long getHash(int index) {
+        return hashes[index];
+    }
+
+    @Override
+    Object getKeyObject(int index) {
+        return keys[index];
+    }
+
+    @Override
+    void growKeys(int newEntryCapacity) {
+        keys = PythonUtils.arrayCopyOf(keys, newEntryCapacity);
+        hashes = PythonUtils.arrayCopyOf(hashes, newEntryCapacity);
+    }
+
+    public int findEntry(TruffleString key, long hash, TruffleString.EqualNode equalNode) {
+        int[] localIndices = indices;
+        int mask = localIndices.length - 1;
+        long perturb = hash;
+        int bucket = (int) (hash & mask);
+        while (true) {
+            int index = localIndices[bucket] - 1;
+            if (index < 0) {
+                return -1;
+            }
+            TruffleString current = keys[index];
+            if (hashes[index] == hash && (current == key || equalNode.execute(current, key, TS_ENCODING))) {
+                return index;
+            }
+            perturb >>>= PERTURB_SHIFT;
+            bucket = nextBucket(mask, bucket, perturb);
+        }
+    }
+
+    public void put(TruffleString key, long hash, long value, TruffleString.EqualNode equalNode) {
+        int index = findEntry(key, hash, equalNode);
+        if (index >= 0) {
+            values[index] = value;
+        } else {
+            putNew(key, hash, value);
+        }
+    }
+
+    private void putNew(TruffleString key, long hash, long value) {
+        int index = newEntry(value);
+        keys[index] = key;
+        hashes[index] = hash;
+        insertIndex(hash, index);
+    }
+
+    @Override
+    public HashingStorage copy() {
+        return new StringKeyHashStorage(this);
+    }
+}
@@ -60,7 +60,6 @@ import static com.oracle.graal.python.nodes.StringLiterals.T_LPAREN;
 import static com.oracle.graal.python.nodes.StringLiterals.T_RPAREN;
 import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 
-import java.util.Iterator;
 import java.util.List;
 
 import com.oracle.graal.python.PythonLanguage;
@@ -117,6 +116,7 @@ import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.object.GetClassNode.GetPythonObjectClassNode;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToJavaIntExactNode;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -131,7 +131,6 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.EncapsulatingNodeReference;
 import com.oracle.truffle.api.nodes.Node;
-import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleStringBuilder;
@@ -249,9 +248,15 @@ public final class DequeBuiltins extends PythonBuiltins {
     public abstract static class DequeAppendNode extends PythonBinaryBuiltinNode {
 
         @Specialization
-        static PNone doGeneric(PDeque self, Object arg) {
-            self.append(arg);
-            return PNone.NONE;
+        static PNone doGeneric(PDeque self, Object arg,
+                        @Bind Node inliningTarget) {
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.append(arg);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -261,9 +266,15 @@ public final class DequeBuiltins extends PythonBuiltins {
     public abstract static class DequeAppendLeftNode extends PythonBinaryBuiltinNode {
 
         @Specialization
-        static PNone doGeneric(PDeque self, Object arg) {
-            self.appendLeft(arg);
-            return PNone.NONE;
+        static PNone doGeneric(PDeque self, Object arg,
+                        @Bind Node inliningTarget) {
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.appendLeft(arg);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -274,9 +285,15 @@ public final class DequeBuiltins extends PythonBuiltins {
 
         @Specialization
         @TruffleBoundary
-        static PNone doGeneric(PDeque self) {
-            self.clear();
-            return PNone.NONE;
+        static PNone doGeneric(PDeque self,
+                        @Bind Node inliningTarget) {
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.clear();
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -291,11 +308,16 @@ public final class DequeBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached GetClassNode getClassNode,
                         @Cached TypeNodes.GetInstanceShape getInstanceShape) {
-            Object cls = getClassNode.execute(inliningTarget, self);
-            PDeque copy = PFactory.createDeque(cls, getInstanceShape.execute(cls));
-            copy.setMaxLength(self.getMaxLength());
-            copy.addAll(self);
-            return copy;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                Object cls = getClassNode.execute(inliningTarget, self);
+                PDeque copy = PFactory.createDeque(cls, getInstanceShape.execute(cls));
+                copy.setMaxLength(self.getMaxLength());
+                copy.addAll(self);
+                return copy;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -308,19 +330,23 @@ public final class DequeBuiltins extends PythonBuiltins {
         int doGeneric(VirtualFrame frame, PDeque self, Object value,
                         @Bind Node inliningTarget,
                         @Cached PyObjectRichCompareBool richCompare) {
-            int n = 0;
-            int startState = self.getState();
-            Iterator<Object> iterator = self.getIteratorBoundary();
-            Object item;
-            while ((item = PDeque.iteratorNextBoundary(iterator)) != null) {
-                if (richCompare.execute(frame, inliningTarget, item, value, RichCmpOp.Py_EQ)) {
-                    n++;
-                }
-                if (startState != self.getState()) {
-                    throw PRaiseNode.raiseStatic(this, RuntimeError, ErrorMessages.DEQUE_MUTATED_DURING_ITERATION);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                int n = 0;
+                int startState = self.getState();
+                int size = self.getSize();
+                for (int i = 0; i < size; i++) {
+                    if (richCompare.execute(frame, inliningTarget, self.getItem(i), value, RichCmpOp.Py_EQ)) {
+                        n++;
+                    }
+                    if (startState != self.getState()) {
+                        throw PRaiseNode.raiseStatic(this, RuntimeError, ErrorMessages.DEQUE_MUTATED_DURING_ITERATION);
+                    }
                 }
+                return n;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return n;
         }
     }
 
@@ -336,12 +362,18 @@ public final class DequeBuiltins extends PythonBuiltins {
 
         @Specialization(guards = "self == other")
         @TruffleBoundary
-        PNone doSelf(PDeque self, @SuppressWarnings("unused") PDeque other) {
-            Object[] items = self.data.toArray();
-            for (Object item : items) {
-                appendOperation(self, item);
+        PNone doSelf(PDeque self, @SuppressWarnings("unused") PDeque other,
+                        @Bind Node inliningTarget) {
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                Object[] items = self.toArray();
+                for (Object item : items) {
+                    appendOperation(self, item);
+                }
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return PNone.NONE;
         }
 
         @Specialization
@@ -351,26 +383,31 @@ public final class DequeBuiltins extends PythonBuiltins {
                         @Cached InlinedConditionProfile maxLenZeroProfile,
                         @Cached PyObjectGetIter getIter,
                         @Cached PyIterNextNode nextNode) {
-            if (selfIsOtherProfile.profile(inliningTarget, self == other)) {
-                return doSelf(self, self);
-            }
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                if (selfIsOtherProfile.profile(inliningTarget, self == other)) {
+                    return doSelf(self, self, inliningTarget);
+                }
 
-            Object it = getIter.execute(frame, inliningTarget, other);
-            if (maxLenZeroProfile.profile(inliningTarget, self.getMaxLength() == 0)) {
-                consumeIterator(frame, it, nextNode, inliningTarget);
-                return PNone.NONE;
-            }
+                Object it = getIter.execute(frame, inliningTarget, other);
+                if (maxLenZeroProfile.profile(inliningTarget, self.getMaxLength() == 0)) {
+                    consumeIterator(frame, it, nextNode, inliningTarget);
+                    return PNone.NONE;
+                }
 
-            while (true) {
-                try {
-                    Object next = nextNode.execute(frame, inliningTarget, it);
-                    appendOperation(self, next);
-                } catch (IteratorExhausted e) {
-                    break;
+                while (true) {
+                    try {
+                        Object next = nextNode.execute(frame, inliningTarget, it);
+                        appendOperation(self, next);
+                    } catch (IteratorExhausted e) {
+                        break;
+                    }
                 }
+                consumeIterator(frame, it, nextNode, inliningTarget);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            consumeIterator(frame, it, nextNode, inliningTarget);
-            return PNone.NONE;
         }
 
         private static void consumeIterator(VirtualFrame frame, Object it, PyIterNextNode getNextNode, Node inliningTarget) {
@@ -421,20 +458,13 @@ public final class DequeBuiltins extends PythonBuiltins {
             if (normStart > normStop) {
                 normStart = normStop;
             }
-            Iterator<Object> iterator = self.iterator();
-            for (int idx = 0; idx < normStop; idx++) {
-                /*
-                 * Note: A 'ConcurrentModificationException' should not be possible because we
-                 * manually check for modifications during iteration.
-                 */
-                Object item = next(iterator);
-                if (normStart <= idx) {
-                    if (eqNode.execute(frame, inliningTarget, item, value, RichCmpOp.Py_EQ)) {
-                        return idx;
-                    }
-                    if (startState != self.getState()) {
-                        throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.DEQUE_MUTATED_DURING_ITERATION);
-                    }
+            for (int idx = normStart; idx < normStop; idx++) {
+                // the state check below guarantees that 'idx' is still in range
+                if (eqNode.execute(frame, inliningTarget, self.getItem(idx), value, RichCmpOp.Py_EQ)) {
+                    return idx;
+                }
+                if (startState != self.getState()) {
+                    throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.DEQUE_MUTATED_DURING_ITERATION);
                 }
             }
             throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.S_IS_NOT_DEQUE, value);
@@ -470,11 +500,6 @@ public final class DequeBuiltins extends PythonBuiltins {
             }
             return Math.max(res, 0);
         }
-
-        @TruffleBoundary
-        private static Object next(Iterator<?> it) {
-            return it.next();
-        }
     }
 
     // deque.insert()
@@ -490,28 +515,28 @@ public final class DequeBuiltins extends PythonBuiltins {
 
         @Specialization
         @TruffleBoundary
-        PNone doGeneric(PDeque self, int index, Object value) {
-            int n = self.getSize();
-            if (self.getMaxLength() == n) {
-                throw PRaiseNode.raiseStatic(this, IndexError, ErrorMessages.DEQUE_AT_MAX_SIZE);
-            }
+        PNone doGeneric(PDeque self, int index, Object value,
+                        @Bind Node inliningTarget) {
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                int n = self.getSize();
+                if (self.getMaxLength() == n) {
+                    throw PRaiseNode.raiseStatic(this, IndexError, ErrorMessages.DEQUE_AT_MAX_SIZE);
+                }
 
-            // shortcuts for simple cases
-            if (index >= n) {
-                self.append(value);
-            } else if (index <= -n || index == 0) {
-                self.appendLeft(value);
-            } else {
-                DequeRotateNode.rotate(self, -index);
-                if (index < 0) {
+                // shortcuts for simple cases
+                if (index >= n) {
                     self.append(value);
-                } else {
+                } else if (index <= -n || index == 0) {
                     self.appendLeft(value);
+                } else {
+                    self.insert(index < 0 ? index + n : index, value);
                 }
-                DequeRotateNode.rotate(self, index);
-            }
 
-            return PNone.NONE;
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -524,11 +549,16 @@ public final class DequeBuiltins extends PythonBuiltins {
         static Object doGeneric(PDeque self,
                         @Bind Node inliningTarget,
                         @Cached PRaiseNode raiseNode) {
-            Object value = self.pop();
-            if (value == null) {
-                throw raiseNode.raise(inliningTarget, IndexError, ErrorMessages.POP_FROM_EMPTY_DEQUE);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                Object value = self.pop();
+                if (value == null) {
+                    throw raiseNode.raise(inliningTarget, IndexError, ErrorMessages.POP_FROM_EMPTY_DEQUE);
+                }
+                return value;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return value;
         }
     }
 
@@ -541,11 +571,16 @@ public final class DequeBuiltins extends PythonBuiltins {
         static Object doGeneric(PDeque self,
                         @Bind Node inliningTarget,
                         @Cached PRaiseNode raiseNode) {
-            Object value = self.popLeft();
-            if (value == null) {
-                throw raiseNode.raise(inliningTarget, IndexError, ErrorMessages.POP_FROM_EMPTY_DEQUE);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                Object value = self.popLeft();
+                if (value == null) {
+                    throw raiseNode.raise(inliningTarget, IndexError, ErrorMessages.POP_FROM_EMPTY_DEQUE);
+                }
+                return value;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return value;
         }
     }
 
@@ -557,37 +592,26 @@ public final class DequeBuiltins extends PythonBuiltins {
         @Specialization
         Object doGeneric(VirtualFrame frame, PDeque self, Object value,
                         @Bind Node inliningTarget,
-                        @Cached InlinedBranchProfile errorProfile,
                         @Cached PyObjectRichCompareBool richcmpNode,
                         @Cached PRaiseNode raiseNode) {
-            // CPython captures the size before iteration
-            int n = self.getSize();
-            for (int i = 0; i < n; i++) {
-                try {
-                    boolean result = richcmpNode.execute(frame, inliningTarget, self.peekLeft(), value, RichCmpOp.Py_EQ);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                // CPython captures the size before iteration
+                int n = self.getSize();
+                for (int i = 0; i < n; i++) {
+                    boolean result = richcmpNode.execute(frame, inliningTarget, self.getItem(i), value, RichCmpOp.Py_EQ);
                     if (n != self.getSize()) {
                         throw raiseNode.raise(inliningTarget, IndexError, DEQUE_MUTATED_DURING_REMOVE);
                     }
                     if (result) {
-                        Object removed = self.popLeft();
-                        assert removed != null;
-                        DequeRotateNode.doRight(self, i);
+                        self.setItem(i, null);
                         return PNone.NONE;
-                    } else {
-                        // this is basically 'DequeRotateNode.doLeft(self, -1)'
-                        self.append(self.popLeft());
                     }
-                } catch (PException e) {
-                    /*
-                     * In case of an error during comparison, we need to restore the original deque
-                     * by rotating.
-                     */
-                    errorProfile.enter(inliningTarget);
-                    DequeRotateNode.doRight(self, i);
-                    throw e;
                 }
+                throw raiseNode.raise(inliningTarget, ValueError, DEQUE_REMOVE_X_NOT_IN_DEQUE);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            throw raiseNode.raise(inliningTarget, ValueError, DEQUE_REMOVE_X_NOT_IN_DEQUE);
         }
     }
 
@@ -598,15 +622,15 @@ public final class DequeBuiltins extends PythonBuiltins {
 
         @Specialization
         @TruffleBoundary
-        PNone doGeneric(PDeque self) {
-            Object[] items = new Object[self.getSize()];
-            for (int i = 0; i < items.length; i++) {
-                items[i] = self.data.pollLast();
-            }
-            for (int i = 0; i < items.length; i++) {
-                self.data.addLast(items[i]);
+        PNone doGeneric(PDeque self,
+                        @Bind Node inliningTarget) {
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.reverse();
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return PNone.NONE;
         }
     }
 
@@ -628,35 +652,15 @@ public final class DequeBuiltins extends PythonBuiltins {
             return PNone.NONE;
         }
 
-        @Specialization(guards = "n >= 0")
-        @TruffleBoundary
-        static PNone doRight(PDeque self, int n) {
-            if (self.getSize() > 1) {
-                int effectiveRot = n % self.getSize();
-                for (int i = 0; i < effectiveRot; i++) {
-                    self.appendLeft(self.pop());
-                }
-            }
-            return PNone.NONE;
-        }
-
-        @Specialization(guards = "n < 0")
-        @TruffleBoundary
-        static PNone doLeft(PDeque self, int n) {
-            if (self.getSize() > 1) {
-                int effectiveRot = -n % self.getSize();
-                for (int i = 0; i < effectiveRot; i++) {
-                    self.append(self.popLeft());
-                }
-            }
-            return PNone.NONE;
-        }
-
-        static void rotate(PDeque self, int n) {
-            if (n < 0) {
-                doLeft(self, n);
-            } else {
-                doRight(self, n);
+        @Specialization(guards = "self.getSize() > 1")
+        static PNone doRotate(PDeque self, int n,
+                        @Bind Node inliningTarget) {
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.rotate(n);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
         }
     }
@@ -681,14 +685,20 @@ public final class DequeBuiltins extends PythonBuiltins {
 
         @Specialization
         @TruffleBoundary
-        static PDeque doDeque(PDeque self, PDeque other) {
-            if (self == other) {
-                // we need to create a snapshot of 'self'
-                self.addAll(self.data.toArray());
-            } else {
-                self.addAll(other);
+        static PDeque doDeque(PDeque self, PDeque other,
+                        @Bind Node inliningTarget) {
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                if (self == other) {
+                    // we need to create a snapshot of 'self'
+                    self.addAll(self.toArray());
+                } else {
+                    self.addAll(other);
+                }
+                return self;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return self;
         }
 
         @Specialization
@@ -696,24 +706,29 @@ public final class DequeBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached PyObjectGetIter getIter,
                         @Cached PyIterNextNode nextNode) {
-            if (other instanceof PDeque) {
-                return doDeque(self, (PDeque) other);
-            }
-            assert self != other;
-            /*
-             * Funnily, CPython's implementation 'deque_inplace_concat' also allows to concat
-             * non-deque objects (whereas 'deque_concat' just accepts deque objects).
-             */
-            Object iterator = getIter.execute(frame, inliningTarget, other);
-            while (true) {
-                try {
-                    Object next = nextNode.execute(frame, inliningTarget, iterator);
-                    self.append(next);
-                } catch (IteratorExhausted e) {
-                    break;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                if (other instanceof PDeque) {
+                    return doDeque(self, (PDeque) other, inliningTarget);
+                }
+                assert self != other;
+                /*
+                 * Funnily, CPython's implementation 'deque_inplace_concat' also allows to concat
+                 * non-deque objects (whereas 'deque_concat' just accepts deque objects).
+                 */
+                Object iterator = getIter.execute(frame, inliningTarget, other);
+                while (true) {
+                    try {
+                        Object next = nextNode.execute(frame, inliningTarget, iterator);
+                        self.append(next);
+                    } catch (IteratorExhausted e) {
+                        break;
+                    }
                 }
+                return self;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return self;
         }
     }
 
@@ -748,8 +763,14 @@ public final class DequeBuiltins extends PythonBuiltins {
     public abstract static class DequeInplaceMulNode extends SqRepeatBuiltinNode {
 
         @Specialization
-        PDeque doGeneric(PDeque self, int n) {
-            return doGeneric(this, self, n);
+        PDeque doGeneric(PDeque self, int n,
+                        @Bind Node inliningTarget) {
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                return doGeneric(this, self, n);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @TruffleBoundary
@@ -773,7 +794,7 @@ public final class DequeBuiltins extends PythonBuiltins {
                 repetitions = (self.getMaxLength() + size - 1) / size;
             }
 
-            Object[] items = self.data.toArray();
+            Object[] items = self.toArray();
             for (int i = 0; i < repetitions - 1; i++) {
                 self.addAll(items);
             }
@@ -803,18 +824,22 @@ public final class DequeBuiltins extends PythonBuiltins {
         boolean doGeneric(VirtualFrame frame, PDeque self, Object value,
                         @Bind Node inliningTarget,
                         @Cached PyObjectRichCompareBool compareBool) {
-            int startState = self.getState();
-            Iterator<Object> iterator = self.getIteratorBoundary();
-            Object item;
-            while ((item = PDeque.iteratorNextBoundary(iterator)) != null) {
-                if (compareBool.execute(frame, inliningTarget, item, value, RichCmpOp.Py_EQ)) {
-                    return true;
-                }
-                if (startState != self.getState()) {
-                    throw PRaiseNode.raiseStatic(this, RuntimeError, ErrorMessages.DEQUE_MUTATED_DURING_ITERATION);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                int startState = self.getState();
+                int size = self.getSize();
+                for (int i = 0; i < size; i++) {
+                    if (compareBool.execute(frame, inliningTarget, self.getItem(i), value, RichCmpOp.Py_EQ)) {
+                        return true;
+                    }
+                    if (startState != self.getState()) {
+                        throw PRaiseNode.raiseStatic(this, RuntimeError, ErrorMessages.DEQUE_MUTATED_DURING_ITERATION);
+                    }
                 }
+                return false;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return false;
         }
     }
 
@@ -822,21 +847,16 @@ public final class DequeBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class DequeGetItemNode extends SqItemBuiltinNode {
         @Specialization
-        @TruffleBoundary
-        Object doGeneric(PDeque self, int idx,
+        static Object doGeneric(PDeque self, int idx,
+                        @Bind Node inliningTarget,
                         @Cached NormalizeIndexCustomMessageNode normalizeIndexNode) {
-            int normIdx = normalizeIndexNode.execute(idx, self.getSize(), ErrorMessages.DEQUE_INDEX_OUT_OF_RANGE);
-            return doGetItem(self, normIdx);
-        }
-
-        @TruffleBoundary
-        Object doGetItem(PDeque self, int idx) {
-            assert 0 <= idx && idx < self.getSize();
-            Iterator<Object> it = self.data.iterator();
-            for (int i = 0; i < idx; i++) {
-                it.next();
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                int normIdx = normalizeIndexNode.execute(idx, self.getSize(), ErrorMessages.DEQUE_INDEX_OUT_OF_RANGE);
+                return self.getItem(normIdx);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return it.next();
         }
     }
 
@@ -846,9 +866,15 @@ public final class DequeBuiltins extends PythonBuiltins {
 
         @Specialization
         static void setOrDel(PDeque self, int idx, Object value,
+                        @Bind Node inliningTarget,
                         @Cached NormalizeIndexCustomMessageNode normalizeIndexNode) {
-            int normIdx = normalizeIndexNode.execute(idx, self.getSize(), ErrorMessages.DEQUE_INDEX_OUT_OF_RANGE);
-            self.setItem(normIdx, value != PNone.NO_VALUE ? value : null);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                int normIdx = normalizeIndexNode.execute(idx, self.getSize(), ErrorMessages.DEQUE_INDEX_OUT_OF_RANGE);
+                self.setItem(normIdx, value != PNone.NO_VALUE ? value : null);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -890,7 +916,7 @@ public final class DequeBuiltins extends PythonBuiltins {
             EncapsulatingNodeReference ref = EncapsulatingNodeReference.getCurrent();
             Node outerNode = ref.set(this);
             try {
-                Object[] items = self.data.toArray();
+                Object[] items = self.toArray();
                 PList asList = PFactory.createList(PythonLanguage.get(null), items);
                 int maxLength = self.getMaxLength();
                 TruffleStringBuilderUTF32 sb = TruffleStringBuilder.createUTF32();
@@ -44,9 +44,7 @@ import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeErr
 import static com.oracle.graal.python.nodes.SpecialMethodNames.J___LENGTH_HINT__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.J___REDUCE__;
 
-import java.util.ConcurrentModificationException;
 import java.util.List;
-import java.util.NoSuchElementException;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.annotations.Slot;
@@ -64,8 +62,6 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.runtime.object.PFactory;
-import com.oracle.truffle.api.CompilerDirectives;
-import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
@@ -101,20 +97,13 @@ public final class DequeIterCommonBuiltins extends PythonBuiltins {
         public abstract Object execute(PDequeIter self);
 
         @Specialization
-        @TruffleBoundary
         Object doGeneric(PDequeIter self) {
-            try {
-                if (self.startState == self.deque.getState()) {
-                    if (!self.hasNext()) {
-                        assert self.lengthHint() == 0;
-                        throw iteratorExhausted();
-                    }
-                    return self.next();
+            if (self.startState == self.deque.getState()) {
+                if (!self.hasNext()) {
+                    assert self.lengthHint() == 0;
+                    throw iteratorExhausted();
                 }
-            } catch (NoSuchElementException e) {
-                throw CompilerDirectives.shouldNotReachHere();
-            } catch (ConcurrentModificationException e) {
-                // fall through
+                return self.next();
             }
             self.reset();
             throw PRaiseNode.raiseStatic(this, RuntimeError, ErrorMessages.DEQUE_MUTATED_DURING_ITERATION);
@@ -40,41 +40,60 @@
  */
 package com.oracle.graal.python.builtins.objects.deque;
 
-import java.util.ArrayDeque;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.Shape;
 
 /**
- * A simple wrapper around Java's {@link ArrayDeque}.
+ * The storage of a {@code collections.deque}. The elements are kept in a growable circular array
+ * whose capacity is always a power of two, so appending and popping at both ends as well as
+ * indexed access are O(1). Rotations, insertions and deletions move at most the elements between
+ * the affected position and the nearer end of the deque.
  */
-public final class PDeque extends PythonBuiltinObject {
-    final ArrayDeque<Object> data = createArrayDeque();
+public final class PDeque extends PythonBuiltinObject implements CriticalSection.Lockable {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Object[] items = new Object[INITIAL_CAPACITY];
+    /** The position of the leftmost element in {@link #items}. */
+    private int head;
+    private int size;
     private int maxLength = -1;
 
     /**
      * This is a modification counter and used to produce exceptions if the deque is modified during
-     * iteration. We need it because {@link ArrayDeque}'s iterators have a slightly different
-     * behavior. E.g. if you iterate the deque to the end and the last element comparison would
-     * modify the deque, then {@link ArrayDeque} doesn't complain while CPython's implementation
-     * still complains. The main difference is that CPython will always check if the deque was
-     * modifed right after it called out for {@code __eq__}.
+     * iteration. Like in CPython, it is incremented by every operation that changes the number of
+     * elements or their order with respect to the ends of the deque, and iterators and other
+     * operations that call out for {@code __eq__} check it afterwards.
      */
     private int state;
+    private volatile ReentrantLock criticalSectionLock;
 
     public PDeque(Object cls, Shape instanceShape) {
         super(cls, instanceShape);
     }
 
-    @TruffleBoundary
-    private static ArrayDeque<Object> createArrayDeque() {
-        return new ArrayDeque<>();
+    @Override
+    public ReentrantLock getCriticalSectionLock() {
+        ReentrantLock lock = criticalSectionLock;
+        if (lock == null) {
+            lock = initCriticalSectionLock();
+        }
+        return lock;
+    }
+
+    private synchronized ReentrantLock initCriticalSectionLock() {
+        if (criticalSectionLock == null) {
+            criticalSectionLock = new ReentrantLock();
+        }
+        return criticalSectionLock;
     }
 
     int getSize() {
-        return data.size();
+        return size;
     }
 
     int getMaxLength() {
@@ -85,68 +104,88 @@ public final class PDeque extends PythonBuiltinObject {
         this.maxLength = maxLength;
     }
 
-    @TruffleBoundary
-    public Iterator<Object> getIteratorBoundary() {
-        return data.iterator();
+    private int position(int idx) {
+        return (head + idx) & (items.length - 1);
     }
 
     @TruffleBoundary
-    public static Object iteratorNextBoundary(Iterator<Object> iterator) {
-        if (iterator.hasNext()) {
-            return iterator.next();
+    private void ensureCapacity() {
+        if (size == items.length) {
+            if (items.length == 1 << 30) {
+                throw new OutOfMemoryError();
+            }
+            Object[] newItems = new Object[items.length * 2];
+            int firstPart = Math.min(size, items.length - head);
+            System.arraycopy(items, head, newItems, 0, firstPart);
+            System.arraycopy(items, 0, newItems, firstPart, size - firstPart);
+            items = newItems;
+            head = 0;
         }
-        return null;
     }
 
-    @TruffleBoundary
+    /**
+     * Returns the element at index {@code idx}, which must be in range.
+     */
+    Object getItem(int idx) {
+        assert 0 <= idx && idx < size;
+        return items[position(idx)];
+    }
+
     void append(Object value) {
-        assert maxLength == -1 || data.size() <= maxLength;
-        data.addLast(value);
-        if (maxLength != -1 && data.size() > maxLength) {
+        assert maxLength == -1 || size <= maxLength;
+        ensureCapacity();
+        items[position(size)] = value;
+        size++;
+        if (maxLength != -1 && size > maxLength) {
             popLeft();
         } else {
             state++;
         }
-
-        assert maxLength == -1 || data.size() <= maxLength;
+        assert maxLength == -1 || size <= maxLength;
     }
 
-    @TruffleBoundary
     void appendLeft(Object value) {
-        assert maxLength == -1 || data.size() <= maxLength;
-        data.addFirst(value);
-        if (maxLength != -1 && data.size() > maxLength) {
+        assert maxLength == -1 || size <= maxLength;
+        ensureCapacity();
+        head = (head - 1) & (items.length - 1);
+        items[head] = value;
+        size++;
+        if (maxLength != -1 && size > maxLength) {
             pop();
         } else {
             state++;
         }
-        assert maxLength == -1 || data.size() <= maxLength;
+        assert maxLength == -1 || size <= maxLength;
     }
 
     /**
      * Returns {@code null} if empty.
      */
-    @TruffleBoundary
     Object pop() {
         state++;
-        return data.pollLast();
+        if (size == 0) {
+            return null;
+        }
+        size--;
+        int pos = position(size);
+        Object value = items[pos];
+        items[pos] = null;
+        return value;
     }
 
     /**
      * Returns {@code null} if empty.
      */
-    @TruffleBoundary
     Object popLeft() {
         state++;
-        return data.pollFirst();
-    }
-
-    /**
-     * Returns {@code null} if empty.
-     */
-    @TruffleBoundary
-    Object peekLeft() {
-        return data.peekFirst();
+        if (size == 0) {
+            return null;
+        }
+        Object value = items[head];
+        items[head] = null;
+        head = (head + 1) & (items.length - 1);
+        size--;
+        return value;
     }
 
     @TruffleBoundary
@@ -158,51 +197,128 @@ public final class PDeque extends PythonBuiltinObject {
 
     @TruffleBoundary
     void addAll(PDeque other) {
-        for (Object e : other.data) {
-            append(e);
+        assert other != this;
+        for (int i = 0; i < other.size; i++) {
+            append(other.getItem(i));
         }
     }
 
     @TruffleBoundary
-    public Iterator<Object> iterator() {
-        return data.iterator();
-    }
-
-    @TruffleBoundary
-    public Iterator<Object> reverseIterator() {
-        return data.descendingIterator();
+    Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = items[position(i)];
+        }
+        return result;
     }
 
     @TruffleBoundary
     public void clear() {
-        data.clear();
+        Arrays.fill(items, null);
+        head = 0;
+        size = 0;
         state++;
     }
 
+    /**
+     * Replaces the element at index {@code idx} or removes it if {@code value} is {@code null}.
+     */
     @TruffleBoundary
     public void setItem(int idx, Object value) {
-        assert 0 <= idx && idx < data.size();
-        int n = data.size() - idx - 1;
-        Object[] savedItems = new Object[n];
-        for (int i = 0; i < savedItems.length; i++) {
-            savedItems[i] = data.pollLast();
-        }
-        // this removes the item we want to replace
-        data.pollLast();
-        assert data.size() == idx;
+        assert 0 <= idx && idx < size;
         if (value != null) {
-            data.addLast(value);
+            items[position(idx)] = value;
+            return;
+        }
+        // removal case: this alters the number of elements, so modify the state
+        state++;
+        if (idx < size / 2) {
+            for (int i = idx; i > 0; i--) {
+                items[position(i)] = items[position(i - 1)];
+            }
+            items[head] = null;
+            head = (head + 1) & (items.length - 1);
         } else {
-            // removal case: this alters the number of elements, so modify the state
-            state++;
+            for (int i = idx; i < size - 1; i++) {
+                items[position(i)] = items[position(i + 1)];
+            }
+            items[position(size - 1)] = null;
         }
+        size--;
+    }
 
-        // re-add saved items
-        for (int i = savedItems.length - 1; i >= 0; i--) {
-            data.addLast(savedItems[i]);
+    /**
+     * Inserts {@code value} before the element at index {@code idx}, which must be in range. The
+     * caller is responsible for checking the maximal length.
+     */
+    @TruffleBoundary
+    void insert(int idx, Object value) {
+        assert 0 <= idx && idx < size && (maxLength == -1 || size < maxLength);
+        ensureCapacity();
+        if (idx < size / 2) {
+            head = (head - 1) & (items.length - 1);
+            for (int i = 0; i < idx; i++) {
+                items[position(i)] = items[position(i + 1)];
+            }
+        } else {
+            for (int i = size; i > idx; i--) {
+                items[position(i)] = items[position(i - 1)];
+            }
+        }
+        items[position(idx)] = value;
+        size++;
+        state++;
+    }
+
+    /**
+     * Rotates the deque {@code n} steps to the right (or to the left if {@code n} is negative).
+     */
+    @TruffleBoundary
+    void rotate(int n) {
+        if (size <= 1) {
+            return;
+        }
+        int k = n % size;
+        if (k < 0) {
+            k += size;
+        }
+        if (k == 0) {
+            return;
+        }
+        state++;
+        int mask = items.length - 1;
+        if (size == items.length) {
+            // the array is full, so rotating only moves the start
+            head = (head - k) & mask;
+        } else if (k <= size / 2) {
+            // move k elements from the right end to the left end
+            for (int i = 0; i < k; i++) {
+                int last = position(size - 1);
+                Object value = items[last];
+                items[last] = null;
+                head = (head - 1) & mask;
+                items[head] = value;
+            }
+        } else {
+            // move the remaining elements from the left end to the right end
+            for (int i = 0; i < size - k; i++) {
+                Object value = items[head];
+                items[head] = null;
+                head = (head + 1) & mask;
+                items[position(size - 1)] = value;
+            }
+        }
+    }
+
+    @TruffleBoundary
+    void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int pi = position(i);
+            int pj = position(j);
+            Object tmp = items[pi];
+            items[pi] = items[pj];
+            items[pj] = tmp;
         }
-        assert maxLength == -1 || data.size() <= maxLength;
-        assert value != null && data.size() == n + idx + 1 || value == null && data.size() == n + idx;
     }
 
     public int getState() {
@@ -99,6 +99,7 @@ import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuilti
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
@@ -238,8 +239,14 @@ public final class DictBuiltins extends PythonBuiltins {
         @Specialization
         Object doIt(VirtualFrame frame, Object dict, Object key, Object defaultValue,
                         @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
                         @Cached PyDictSetDefault setDefault) {
-            return setDefault.execute(frame, inliningTarget, dict, key, defaultValue);
+            Object section = CriticalSection.enter(inliningTarget, language, dict);
+            try {
+                return setDefault.execute(frame, inliningTarget, dict, key, defaultValue);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Override
@@ -258,9 +265,16 @@ public final class DictBuiltins extends PythonBuiltins {
                         @Cached DictNodes.GetDictStorageNode getStorageNode,
                         @Cached InlinedConditionProfile hasKeyProfile,
                         @Cached HashingStorageDelItem delItem,
+                        @Bind PythonLanguage language,
                         @Cached PRaiseNode raiseNode) {
-            var storage = getStorageNode.execute(inliningTarget, dict);
-            Object retVal = delItem.executePop(frame, inliningTarget, storage, key, dict);
+            Object retVal;
+            Object section = CriticalSection.enter(inliningTarget, language, dict);
+            try {
+                var storage = getStorageNode.execute(inliningTarget, dict);
+                retVal = delItem.executePop(frame, inliningTarget, storage, key, dict);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             if (hasKeyProfile.profile(inliningTarget, retVal != null)) {
                 return retVal;
             } else {
@@ -285,8 +299,14 @@ public final class DictBuiltins extends PythonBuiltins {
                         @Cached HashingStoragePop popNode,
                         @Bind PythonLanguage language,
                         @Cached PRaiseNode raiseNode) {
-            var storage = getStorageNode.execute(inliningTarget, dict);
-            Object[] result = popNode.execute(inliningTarget, storage, dict);
+            Object[] result;
+            Object section = CriticalSection.enter(inliningTarget, language, dict);
+            try {
+                var storage = getStorageNode.execute(inliningTarget, dict);
+                result = popNode.execute(inliningTarget, storage, dict);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             if (result == null) {
                 throw raiseNode.raise(inliningTarget, KeyError, ErrorMessages.IS_EMPTY, "popitem(): dictionary");
             }
@@ -338,9 +358,16 @@ public final class DictBuiltins extends PythonBuiltins {
         static Object doWithDefault(VirtualFrame frame, Object self, Object key, Object defaultValue,
                         @Bind Node inliningTarget,
                         @Cached DictNodes.GetDictStorageNode getStorageNode,
-                        @Cached HashingStorageGetItem getItem) {
-            var storage = getStorageNode.execute(inliningTarget, self);
-            final Object value = getItem.execute(frame, inliningTarget, storage, key);
+                        @Cached HashingStorageGetItem getItem,
+                        @Bind PythonLanguage language) {
+            final Object value;
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                var storage = getStorageNode.execute(inliningTarget, self);
+                value = getItem.execute(frame, inliningTarget, storage, key);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             return value != null ? value : (defaultValue == PNone.NO_VALUE ? PNone.NONE : defaultValue);
         }
     }
@@ -356,9 +383,16 @@ public final class DictBuiltins extends PythonBuiltins {
                         @Cached DictNodes.GetDictStorageNode getStorageNode,
                         @Cached InlinedConditionProfile notFoundProfile,
                         @Cached HashingStorageGetItem getItem,
+                        @Bind PythonLanguage language,
                         @Cached PRaiseNode raiseNode) {
-            var storage = getStorageNode.execute(inliningTarget, self);
-            final Object result = getItem.execute(frame, inliningTarget, storage, key);
+            final Object result;
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                var storage = getStorageNode.execute(inliningTarget, self);
+                result = getItem.execute(frame, inliningTarget, storage, key);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             if (notFoundProfile.profile(inliningTarget, result == null)) {
                 return handleMissing(frame, inliningTarget, self, key, raiseNode);
             }
@@ -403,8 +437,14 @@ public final class DictBuiltins extends PythonBuiltins {
         @Specialization(guards = "!isNoValue(value)")
         static void run(VirtualFrame frame, Object self, Object key, Object value,
                         @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
                         @Cached HashingCollectionNodes.SetItemNode setItemNode) {
-            setItemNode.execute(frame, inliningTarget, self, key, value);
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                setItemNode.execute(frame, inliningTarget, self, key, value);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Specialization(guards = "isNoValue(value)")
@@ -412,9 +452,17 @@ public final class DictBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached DictNodes.GetDictStorageNode getStorageNode,
                         @Cached HashingStorageDelItem delItem,
+                        @Bind PythonLanguage language,
                         @Cached PRaiseNode raiseNode) {
-            var storage = getStorageNode.execute(inliningTarget, self);
-            if (!delItem.execute(frame, inliningTarget, storage, key, self)) {
+            boolean removed;
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                var storage = getStorageNode.execute(inliningTarget, self);
+                removed = delItem.execute(frame, inliningTarget, storage, key, self);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
+            if (!removed) {
                 throw raiseNode.raise(inliningTarget, KeyError, new Object[]{key});
             }
         }
@@ -485,9 +533,15 @@ public final class DictBuiltins extends PythonBuiltins {
         static boolean run(VirtualFrame frame, Object self, Object key,
                         @Bind Node inliningTarget,
                         @Cached DictNodes.GetDictStorageNode getStorageNode,
-                        @Cached HashingStorageGetItem getItem) {
-            var storage = getStorageNode.execute(inliningTarget, self);
-            return getItem.hasKey(frame, inliningTarget, storage, key);
+                        @Cached HashingStorageGetItem getItem,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                var storage = getStorageNode.execute(inliningTarget, self);
+                return getItem.hasKey(frame, inliningTarget, storage, key);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -516,8 +570,15 @@ public final class DictBuiltins extends PythonBuiltins {
                         @Cached DictNodes.GetDictStorageNode getStorageNode,
                         @Cached HashingStorageCopy copyNode,
                         @Bind PythonLanguage language) {
-            var storage = getStorageNode.execute(inliningTarget, dict);
-            return PFactory.createDict(language, copyNode.execute(inliningTarget, storage));
+            HashingStorage copy;
+            Object section = CriticalSection.enter(inliningTarget, language, dict);
+            try {
+                var storage = getStorageNode.execute(inliningTarget, dict);
+                copy = copyNode.execute(inliningTarget, storage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
+            return PFactory.createDict(language, copy);
         }
     }
 
@@ -531,10 +592,16 @@ public final class DictBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached DictNodes.GetDictStorageNode getStorageNode,
                         @Cached DictNodes.UpdateDictStorageNode updateStorageNode,
-                        @Cached HashingStorageClear clearNode) {
-            var storage = getStorageNode.execute(inliningTarget, dict);
-            HashingStorage newStorage = clearNode.execute(inliningTarget, storage);
-            updateStorageNode.execute(inliningTarget, dict, storage, newStorage);
+                        @Cached HashingStorageClear clearNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, dict);
+            try {
+                var storage = getStorageNode.execute(inliningTarget, dict);
+                HashingStorage newStorage = clearNode.execute(inliningTarget, storage);
+                updateStorageNode.execute(inliningTarget, dict, storage, newStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             return PNone.NONE;
         }
     }
@@ -570,8 +637,15 @@ public final class DictBuiltins extends PythonBuiltins {
 
         @Specialization(guards = {"args.length == 1", "kwargs.length == 0"})
         static Object update(VirtualFrame frame, Object self, Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
                         @Shared("updateNode") @Cached DictNodes.UpdateNode updateNode) {
-            updateNode.execute(frame, self, args[0]);
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                updateNode.execute(frame, self, args[0]);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             return PNone.NONE;
         }
 
@@ -582,14 +656,20 @@ public final class DictBuiltins extends PythonBuiltins {
                         @Cached DictNodes.UpdateDictStorageNode updateDictStorageNode,
                         @Shared("updateNode") @Cached DictNodes.UpdateNode updateNode,
                         @Cached HashingStorage.InitNode initNode,
-                        @Cached HashingStorageAddAllToOther addAllToOtherNode) {
-            if (args.length > 0) {
-                updateNode.execute(frame, self, args[0]);
-            }
+                        @Cached HashingStorageAddAllToOther addAllToOtherNode,
+                        @Bind PythonLanguage language) {
             HashingStorage kwargsStorage = initNode.execute(frame, NO_VALUE, kwargs);
-            var storage = getStorageNode.execute(inliningTarget, self);
-            var newStorage = addAllToOtherNode.execute(frame, inliningTarget, kwargsStorage, storage);
-            updateDictStorageNode.execute(inliningTarget, self, storage, newStorage);
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                if (args.length > 0) {
+                    updateNode.execute(frame, self, args[0]);
+                }
+                var storage = getStorageNode.execute(inliningTarget, self);
+                var newStorage = addAllToOtherNode.execute(frame, inliningTarget, kwargsStorage, storage);
+                updateDictStorageNode.execute(inliningTarget, self, storage, newStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             return PNone.NONE;
         }
 
@@ -80,6 +80,7 @@ import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.ExecutionContext;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCalleeContext;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -169,6 +170,8 @@ public final class CommonGeneratorBuiltins extends PythonBuiltins {
                         @Exclusive @Cached InlinedBranchProfile returnProfile,
                         @Exclusive @Cached IsBuiltinObjectProfile errorProfile,
                         @Exclusive @Cached PRaiseNode raiseNode) {
+            PythonLanguage language = PythonLanguage.get(inliningTarget);
+            Object suspended = CriticalSection.suspend(inliningTarget, language);
             self.setRunning(true);
             Object generatorResult;
             try {
@@ -208,6 +211,7 @@ public final class CommonGeneratorBuiltins extends PythonBuiltins {
                 throw handleException(self, inliningTarget, errorProfile, raiseNode, e);
             } finally {
                 self.setRunning(false);
+                CriticalSection.resume(inliningTarget, language, suspended);
             }
             if (generatorResult instanceof ContinuationResult continuation) {
                 return handleResult(inliningTarget, self, continuation);
@@ -249,6 +253,8 @@ public final class CommonGeneratorBuiltins extends PythonBuiltins {
                         @Exclusive @Cached InlinedBranchProfile returnProfile,
                         @Exclusive @Cached IsBuiltinObjectProfile errorProfile,
                         @Exclusive @Cached PRaiseNode raiseNode) {
+            PythonLanguage language = PythonLanguage.get(inliningTarget);
+            Object suspended = CriticalSection.suspend(inliningTarget, language);
             self.setRunning(true);
             Object generatorResult;
             try {
@@ -279,6 +285,7 @@ public final class CommonGeneratorBuiltins extends PythonBuiltins {
                 throw handleException(self, inliningTarget, errorProfile, raiseNode, e);
             } finally {
                 self.setRunning(false);
+                CriticalSection.resume(inliningTarget, language, suspended);
             }
             if (generatorResult instanceof ContinuationResult continuation) {
                 return handleResult(inliningTarget, self, continuation);
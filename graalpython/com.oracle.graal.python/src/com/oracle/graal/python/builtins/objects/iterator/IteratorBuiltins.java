@@ -78,10 +78,12 @@ import com.oracle.graal.python.nodes.interop.PForeignToPTypeNode;
 import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
 import com.oracle.graal.python.nodes.object.IsForeignObjectNode;
 import com.oracle.graal.python.nodes.util.CastToJavaBigIntegerNode;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.PSequence;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -164,17 +166,29 @@ public final class IteratorBuiltins extends PythonBuiltins {
         }
 
         @Specialization(guards = "!self.isExhausted()")
-        static Object next(PIntegerSequenceIterator self) {
-            if (self.getIndex() < self.sequence.length()) {
-                return self.sequence.getIntItemNormalized(self.index++);
+        static Object next(Node inliningTarget, PIntegerSequenceIterator self,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, self.getObject());
+            try {
+                if (self.getIndex() < self.sequence.length()) {
+                    return self.sequence.getIntItemNormalized(self.index++);
+                }
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
             return stopIteration(self);
         }
 
         @Specialization(guards = "!self.isExhausted()")
-        static Object next(PObjectSequenceIterator self) {
-            if (self.getIndex() < self.sequence.length()) {
-                return self.sequence.getObjectItemNormalized(self.index++);
+        static Object next(Node inliningTarget, PObjectSequenceIterator self,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, self.getObject());
+            try {
+                if (self.getIndex() < self.sequence.length()) {
+                    return self.sequence.getObjectItemNormalized(self.index++);
+                }
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
             return stopIteration(self);
         }
@@ -198,17 +212,29 @@ public final class IteratorBuiltins extends PythonBuiltins {
         }
 
         @Specialization(guards = "!self.isExhausted()")
-        static Object next(PDoubleSequenceIterator self) {
-            if (self.getIndex() < self.sequence.length()) {
-                return self.sequence.getDoubleItemNormalized(self.index++);
+        static Object next(Node inliningTarget, PDoubleSequenceIterator self,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, self.getObject());
+            try {
+                if (self.getIndex() < self.sequence.length()) {
+                    return self.sequence.getDoubleItemNormalized(self.index++);
+                }
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
             return stopIteration(self);
         }
 
         @Specialization(guards = "!self.isExhausted()")
-        static Object next(PLongSequenceIterator self) {
-            if (self.getIndex() < self.sequence.length()) {
-                return self.sequence.getLongItemNormalized(self.index++);
+        static Object next(Node inliningTarget, PLongSequenceIterator self,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, self.getObject());
+            try {
+                if (self.getIndex() < self.sequence.length()) {
+                    return self.sequence.getLongItemNormalized(self.index++);
+                }
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
             return stopIteration(self);
         }
@@ -246,11 +272,19 @@ public final class IteratorBuiltins extends PythonBuiltins {
 
         @Specialization(guards = {"!self.isExhausted()", "self.isPSequence()"})
         static Object next(Node inliningTarget, PSequenceIterator self,
+                        @Bind PythonLanguage language,
                         @Cached SequenceNodes.GetSequenceStorageNode getStorage,
                         @Cached(value = "createNotNormalized()", inline = false) SequenceStorageNodes.GetItemNode getItemNode) {
-            SequenceStorage s = getStorage.execute(inliningTarget, self.getPSequence());
-            if (self.getIndex() < s.length()) {
-                return getItemNode.execute(s, self.index++);
+            PSequence sequence = self.getPSequence();
+            // the length check and the read must not interleave with a concurrent shrinking
+            Object section = CriticalSection.enter(inliningTarget, language, sequence);
+            try {
+                SequenceStorage s = getStorage.execute(inliningTarget, sequence);
+                if (self.getIndex() < s.length()) {
+                    return getItemNode.execute(s, self.index++);
+                }
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
             return stopIteration(self);
         }
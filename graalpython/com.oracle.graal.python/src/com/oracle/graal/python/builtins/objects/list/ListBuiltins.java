@@ -102,6 +102,7 @@ import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuilti
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PFactory;
@@ -300,9 +301,15 @@ public final class ListBuiltins extends PythonBuiltins {
         static Object doIt(Object self, int index,
                         @Bind Node inliningTarget,
                         @Cached GetListStorageNode getStorageNode,
-                        @Cached SequenceStorageSqItemNode sqItemNode) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, self);
-            return sqItemNode.execute(inliningTarget, sequenceStorage, index, ErrorMessages.LIST_INDEX_OUT_OF_RANGE);
+                        @Cached SequenceStorageSqItemNode sqItemNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, self);
+                return sqItemNode.execute(inliningTarget, sequenceStorage, index, ErrorMessages.LIST_INDEX_OUT_OF_RANGE);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -316,13 +323,19 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Cached InlinedConditionProfile validProfile,
                         @Cached PyIndexCheckNode indexCheckNode,
                         @Cached PRaiseNode raiseNode,
-                        @Cached SequenceStorageMpSubscriptNode subscriptNode) {
+                        @Cached SequenceStorageMpSubscriptNode subscriptNode,
+                        @Bind PythonLanguage language) {
             if (!validProfile.profile(inliningTarget, SequenceStorageMpSubscriptNode.isValidIndex(inliningTarget, idx, indexCheckNode))) {
                 raiseNonIntIndex(inliningTarget, raiseNode, idx);
             }
-            var sequenceStorage = getStorageNode.execute(inliningTarget, self);
-            return subscriptNode.execute(frame, inliningTarget, sequenceStorage, idx,
-                            ErrorMessages.LIST_INDEX_OUT_OF_RANGE, PFactory::createList);
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, self);
+                return subscriptNode.execute(frame, inliningTarget, sequenceStorage, idx,
+                                ErrorMessages.LIST_INDEX_OUT_OF_RANGE, PFactory::createList);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @InliningCutoff
@@ -340,10 +353,16 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Exclusive @Cached GetListStorageNode getStorageNode,
                         @Cached ListNodes.UpdateListStorageNode updateStorageNode,
-                        @Cached("createForList()") SequenceStorageNodes.SetItemNode setItemNode) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, self);
-            var newStorage = setItemNode.execute(sequenceStorage, index, value);
-            updateStorageNode.execute(inliningTarget, self, sequenceStorage, newStorage);
+                        @Cached("createForList()") SequenceStorageNodes.SetItemNode setItemNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, self);
+                var newStorage = setItemNode.execute(sequenceStorage, index, value);
+                updateStorageNode.execute(inliningTarget, self, sequenceStorage, newStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         // @Exclusive for truffle-interpreted-performance
@@ -352,10 +371,16 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Exclusive @Cached GetListStorageNode getStorageNode,
                         @Cached NormalizeIndexNode normalizeIndexNode,
-                        @Cached SequenceStorageNodes.DeleteItemNode deleteItemNode) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, list);
-            index = normalizeIndexNode.execute(index, sequenceStorage.length());
-            deleteItemNode.execute(inliningTarget, sequenceStorage, index);
+                        @Cached SequenceStorageNodes.DeleteItemNode deleteItemNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, list);
+                int normalized = normalizeIndexNode.execute(index, sequenceStorage.length());
+                deleteItemNode.execute(inliningTarget, sequenceStorage, normalized);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -368,10 +393,16 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached GetListStorageNode getStorageNode,
                         @Shared @Cached ListNodes.UpdateListStorageNode updateStorageNode,
-                        @Shared("setItem") @Cached("createForList()") SequenceStorageNodes.SetItemNode setItemNode) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, self);
-            var newStorage = setItemNode.execute(sequenceStorage, index, value);
-            updateStorageNode.execute(inliningTarget, self, sequenceStorage, newStorage);
+                        @Shared("setItem") @Cached("createForList()") SequenceStorageNodes.SetItemNode setItemNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, self);
+                var newStorage = setItemNode.execute(sequenceStorage, index, value);
+                updateStorageNode.execute(inliningTarget, self, sequenceStorage, newStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @InliningCutoff
@@ -381,10 +412,16 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Shared @Cached GetListStorageNode getStorageNode,
                         @Shared @Cached ListNodes.UpdateListStorageNode updateStorageNode,
                         @Shared("indexCheckNode") @SuppressWarnings("unused") @Cached PyIndexCheckNode indexCheckNode,
-                        @Shared("setItem") @Cached("createForList()") SequenceStorageNodes.SetItemNode setItemNode) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, self);
-            var newStorage = setItemNode.execute(frame, sequenceStorage, key, value);
-            updateStorageNode.execute(inliningTarget, self, sequenceStorage, newStorage);
+                        @Shared("setItem") @Cached("createForList()") SequenceStorageNodes.SetItemNode setItemNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, self);
+                var newStorage = setItemNode.execute(frame, sequenceStorage, key, value);
+                updateStorageNode.execute(inliningTarget, self, sequenceStorage, newStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Specialization(guards = {"isNoValue(value)", "isIndexOrSlice(this, indexCheckNode, key)"})
@@ -392,9 +429,15 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared("indexCheckNode") @SuppressWarnings("unused") @Cached PyIndexCheckNode indexCheckNode,
                         @Shared @Cached GetListStorageNode getStorageNode,
-                        @Cached SequenceStorageNodes.DeleteNode deleteNode) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, list);
-            deleteNode.execute(frame, sequenceStorage, key);
+                        @Cached SequenceStorageNodes.DeleteNode deleteNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, list);
+                deleteNode.execute(frame, sequenceStorage, key);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @InliningCutoff
@@ -419,8 +462,15 @@ public final class ListBuiltins extends PythonBuiltins {
 
         @Specialization
         public PNone appendObjectGeneric(Object list, Object arg,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
                         @Cached ListNodes.AppendNode appendNode) {
-            appendNode.execute(list, arg);
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                appendNode.execute(list, arg);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             return PNone.NONE;
         }
     }
@@ -438,11 +488,17 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Cached GetListStorageNode getStorageNode,
                         @Cached ListNodes.UpdateListStorageNode updateStorageNode,
                         @Cached IteratorNodes.GetLength lenNode,
-                        @Cached("createExtend()") SequenceStorageNodes.ExtendNode extendNode) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, list);
+                        @Cached("createExtend()") SequenceStorageNodes.ExtendNode extendNode,
+                        @Bind PythonLanguage language) {
             int len = lenNode.execute(frame, inliningTarget, iterable);
-            var newStorage = extendNode.execute(frame, sequenceStorage, iterable, len);
-            updateStorageNode.execute(inliningTarget, list, sequenceStorage, newStorage);
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, list);
+                var newStorage = extendNode.execute(frame, sequenceStorage, iterable, len);
+                updateStorageNode.execute(inliningTarget, list, sequenceStorage, newStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             return PNone.NONE;
         }
 
@@ -468,10 +524,18 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Cached GetListStorageNode getStorageNode,
                         @Cached SequenceStorageNodes.CopyNode copy,
                         @Cached GetClassForNewListNode getClassForNewListNode,
-                        @Cached TypeNodes.GetInstanceShape getInstanceShape) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, list);
+                        @Cached TypeNodes.GetInstanceShape getInstanceShape,
+                        @Bind PythonLanguage language) {
+            SequenceStorage newStorage;
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, list);
+                newStorage = copy.execute(inliningTarget, sequenceStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             Object newClass = getClassForNewListNode.execute(inliningTarget, list);
-            return PFactory.createList(newClass, getInstanceShape.execute(newClass), copy.execute(inliningTarget, sequenceStorage));
+            return PFactory.createList(newClass, getInstanceShape.execute(newClass), newStorage);
         }
 
     }
@@ -489,22 +553,29 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Cached InlinedBranchProfile negativeProfile,
                         @Cached InlinedBranchProfile tooFarProfile,
                         @Cached ListNodes.UpdateListStorageNode updateStorageNode,
-                        @Cached SequenceStorageNodes.InsertItemNode insertItem) {
-            SequenceStorage store = getStorageNode.execute(inliningTarget, list);
-            int len = store.length();
-            if (index < 0) {
-                negativeProfile.enter(inliningTarget);
-                index += len;
-                if (index < 0) {
-                    index = 0;
+                        @Cached SequenceStorageNodes.InsertItemNode insertItem,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                SequenceStorage store = getStorageNode.execute(inliningTarget, list);
+                int len = store.length();
+                int i = index;
+                if (i < 0) {
+                    negativeProfile.enter(inliningTarget);
+                    i += len;
+                    if (i < 0) {
+                        i = 0;
+                    }
                 }
+                if (i > len) {
+                    tooFarProfile.enter(inliningTarget);
+                    i = len;
+                }
+                SequenceStorage newStorage = insertItem.execute(inliningTarget, store, i, value);
+                updateStorageNode.execute(inliningTarget, list, store, newStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            if (index > len) {
-                tooFarProfile.enter(inliningTarget);
-                index = len;
-            }
-            SequenceStorage newStorage = insertItem.execute(inliningTarget, store, index, value);
-            updateStorageNode.execute(inliningTarget, list, store, newStorage);
             return PNone.NONE;
         }
 
@@ -527,19 +598,25 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Cached InlinedLoopConditionProfile loopProfile,
                         @Cached SequenceStorageNodes.DeleteNode deleteNode,
                         @Cached PyObjectRichCompareBool eqNode,
+                        @Bind PythonLanguage language,
                         @Cached PRaiseNode raiseNode) {
-            SequenceStorage listStore = getStorageNode.execute(inliningTarget, list);
-            int len = listStore.length();
-            loopProfile.profileCounted(inliningTarget, len);
-            for (int i = 0; i < len; i++) {
-                Object object = getItemNode.execute(listStore, i);
-                if (eqNode.execute(frame, inliningTarget, object, value, RichCmpOp.Py_EQ)) {
-                    deleteNode.execute(frame, listStore, i);
-                    LoopNode.reportLoopCount(inliningTarget, i);
-                    return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                SequenceStorage listStore = getStorageNode.execute(inliningTarget, list);
+                int len = listStore.length();
+                loopProfile.profileCounted(inliningTarget, len);
+                for (int i = 0; i < len; i++) {
+                    Object object = getItemNode.execute(listStore, i);
+                    if (eqNode.execute(frame, inliningTarget, object, value, RichCmpOp.Py_EQ)) {
+                        deleteNode.execute(frame, listStore, i);
+                        LoopNode.reportLoopCount(inliningTarget, i);
+                        return PNone.NONE;
+                    }
                 }
+                LoopNode.reportLoopCount(inliningTarget, len);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            LoopNode.reportLoopCount(inliningTarget, len);
             throw raiseNode.raise(inliningTarget, PythonErrorType.ValueError, ErrorMessages.NOT_IN_LIST_MESSAGE);
         }
     }
@@ -554,11 +631,17 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached GetListStorageNode getStorageNode,
                         @Shared @Cached("createDelete()") SequenceStorageNodes.DeleteNode deleteNode,
-                        @Shared @Cached SequenceStorageNodes.GetItemNode getItemNode) {
-            SequenceStorage store = getStorageNode.execute(inliningTarget, list);
-            Object ret = getItemNode.execute(store, -1);
-            deleteNode.execute(frame, store, -1);
-            return ret;
+                        @Shared @Cached SequenceStorageNodes.GetItemNode getItemNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                SequenceStorage store = getStorageNode.execute(inliningTarget, list);
+                Object ret = getItemNode.execute(store, -1);
+                deleteNode.execute(frame, store, -1);
+                return ret;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Specialization(guards = {"!isNoValue(idx)", "!isPSlice(idx)"})
@@ -566,11 +649,17 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached GetListStorageNode getStorageNode,
                         @Shared @Cached("createDelete()") SequenceStorageNodes.DeleteNode deleteNode,
-                        @Shared @Cached SequenceStorageNodes.GetItemNode getItemNode) {
-            SequenceStorage store = getStorageNode.execute(inliningTarget, list);
-            Object ret = getItemNode.execute(frame, store, idx);
-            deleteNode.execute(frame, store, idx);
-            return ret;
+                        @Shared @Cached SequenceStorageNodes.GetItemNode getItemNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                SequenceStorage store = getStorageNode.execute(inliningTarget, list);
+                Object ret = getItemNode.execute(frame, store, idx);
+                deleteNode.execute(frame, store, idx);
+                return ret;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Fallback
@@ -668,8 +757,14 @@ public final class ListBuiltins extends PythonBuiltins {
         @Specialization
         static PNone clear(Object list,
                         @Bind Node inliningTarget,
-                        @Cached ClearListStorageNode clearSequenceNode) {
-            clearSequenceNode.execute(inliningTarget, list);
+                        @Cached ClearListStorageNode clearSequenceNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                clearSequenceNode.execute(inliningTarget, list);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             return PNone.NONE;
         }
 
@@ -684,9 +779,15 @@ public final class ListBuiltins extends PythonBuiltins {
         static PNone reverse(Object list,
                         @Bind Node inliningTarget,
                         @Cached GetListStorageNode getStorageNode,
-                        @Cached SequenceStorageNodes.ReverseNode reverseNode) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, list);
-            reverseNode.execute(inliningTarget, sequenceStorage);
+                        @Cached SequenceStorageNodes.ReverseNode reverseNode,
+                        @Bind PythonLanguage language) {
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, list);
+                reverseNode.execute(inliningTarget, sequenceStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             return PNone.NONE;
         }
 
@@ -790,11 +891,17 @@ public final class ListBuiltins extends PythonBuiltins {
                         @Cached GetListStorageNode getStorageNode,
                         @Cached ListNodes.UpdateListStorageNode updateStorageNode,
                         @Cached IteratorNodes.GetLength lenNode,
-                        @Cached("createExtend()") SequenceStorageNodes.ExtendNode extendNode) {
-            var sequenceStorage = getStorageNode.execute(inliningTarget, list);
+                        @Cached("createExtend()") SequenceStorageNodes.ExtendNode extendNode,
+                        @Bind PythonLanguage language) {
             int len = lenNode.execute(frame, inliningTarget, iterable);
-            var newStorage = extendNode.execute(frame, sequenceStorage, iterable, len);
-            updateStorageNode.execute(inliningTarget, list, sequenceStorage, newStorage);
+            Object section = CriticalSection.enter(inliningTarget, language, list);
+            try {
+                var sequenceStorage = getStorageNode.execute(inliningTarget, list);
+                var newStorage = extendNode.execute(frame, sequenceStorage, iterable, len);
+                updateStorageNode.execute(inliningTarget, list, sequenceStorage, newStorage);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
             return list;
         }
 
@@ -27,11 +27,14 @@ package com.oracle.graal.python.builtins.objects.list;
 
 import static com.oracle.graal.python.util.PythonUtils.builtinClassToType;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 import com.oracle.graal.python.builtins.objects.common.IndexNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.interop.PForeignToPTypeNode;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.sequence.PTupleListBase;
@@ -55,8 +58,9 @@ import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 
 @SuppressWarnings("truffle-abstract-export")
 @ExportLibrary(InteropLibrary.class)
-public final class PList extends PTupleListBase {
+public final class PList extends PTupleListBase implements CriticalSection.Lockable {
     private final ListOrigin origin;
+    private volatile ReentrantLock criticalSectionLock;
 
     public PList(Object cls, Shape instanceShape, SequenceStorage store) {
         super(builtinClassToType(cls), instanceShape);
@@ -80,6 +84,22 @@ public final class PList extends PTupleListBase {
         return origin;
     }
 
+    @Override
+    public ReentrantLock getCriticalSectionLock() {
+        ReentrantLock lock = criticalSectionLock;
+        if (lock == null) {
+            lock = initCriticalSectionLock();
+        }
+        return lock;
+    }
+
+    private synchronized ReentrantLock initCriticalSectionLock() {
+        if (criticalSectionLock == null) {
+            criticalSectionLock = new ReentrantLock();
+        }
+        return criticalSectionLock;
+    }
+
     @ExportMessage
     public boolean isArrayElementModifiable(long index,
                     @Exclusive @Cached IndexNodes.NormalizeIndexCustomMessageNode normalize,
@@ -52,6 +52,7 @@ import com.oracle.graal.python.runtime.NativePosixSupport;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
@@ -159,6 +160,44 @@ public final class PMMap extends PythonObject {
         }
     }
 
+    /*
+     * Bulk accesses go to the POSIX backend in one call instead of one call per byte, which for the
+     * emulated backend would be one channel operation per byte.
+     */
+    @ExportMessage
+    void readIntoByteArray(int srcOffset, byte[] dest, int destOffset, int length,
+                    @Bind Node inliningTarget,
+                    @Shared @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                    @Shared("raiseNode") @Cached PConstructAndRaiseNode.Lazy raiseNode) {
+        Object posixSupport = PythonContext.get(raiseNode).getPosixSupport();
+        byte[] target = destOffset == 0 ? dest : new byte[length];
+        try {
+            int n = posixLib.mmapReadBytes(posixSupport, getPosixSupportHandle(), srcOffset, target, length);
+            // the emulated backend may return less data, fill in the rest byte by byte
+            for (int i = Math.max(n, 0); i < length; i++) {
+                target[i] = posixLib.mmapReadByte(posixSupport, getPosixSupportHandle(), srcOffset + i);
+            }
+        } catch (PosixException e) {
+            throw raiseNode.get(inliningTarget).raiseOSErrorFromPosixException(null, e);
+        }
+        if (target != dest) {
+            PythonUtils.arraycopy(target, 0, dest, destOffset, length);
+        }
+    }
+
+    @ExportMessage
+    void writeFromByteArray(int destOffset, byte[] src, int srcOffset, int length,
+                    @Bind Node inliningTarget,
+                    @Shared @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                    @Shared("raiseNode") @Cached PConstructAndRaiseNode.Lazy raiseNode) {
+        byte[] source = srcOffset == 0 ? src : PythonUtils.arrayCopyOfRange(src, srcOffset, srcOffset + length);
+        try {
+            posixLib.mmapWriteBytes(PythonContext.get(raiseNode).getPosixSupport(), getPosixSupportHandle(), destOffset, source, length);
+        } catch (PosixException e) {
+            throw raiseNode.get(inliningTarget).raiseOSErrorFromPosixException(null, e);
+        }
+    }
+
     @ExportMessage
     Object acquire(@SuppressWarnings("unused") int flags) {
         return this;
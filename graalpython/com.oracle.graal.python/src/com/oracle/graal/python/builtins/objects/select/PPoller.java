@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.select;
+
+import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.runtime.AsyncHandler;
+import com.oracle.graal.python.runtime.AsyncHandler.SharedFinalizer.FinalizableReference;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * Python object for {@code select.poll} and {@code select.epoll}. Wraps a poller handle of the
+ * current {@link PosixSupportLibrary} backend, which keeps the registered descriptors between
+ * waits.
+ */
+public final class PPoller extends PythonObject {
+    private final PollerRef ref;
+
+    public PPoller(Object pythonClass, Shape instanceShape, PythonContext context, Object handle) {
+        super(pythonClass, instanceShape);
+        assert handle != null;
+        this.ref = new PollerRef(this, handle, context.getSharedFinalizer());
+    }
+
+    public Object getPosixSupportHandle() {
+        return ref.getReference();
+    }
+
+    public boolean isClosed() {
+        return ref.isReleased();
+    }
+
+    public void close(PosixSupportLibrary posixLib, Object posixSupport) {
+        if (!ref.isReleased()) {
+            ref.markReleased();
+            posixLib.pollerClose(posixSupport, ref.getReference());
+        }
+    }
+
+    static final class PollerRef extends FinalizableReference {
+
+        PollerRef(PPoller referent, Object handle, AsyncHandler.SharedFinalizer finalizer) {
+            super(referent, handle, finalizer);
+        }
+
+        @Override
+        public AsyncHandler.AsyncAction release() {
+            if (isReleased()) {
+                return null;
+            }
+            return (context, access) -> {
+                if (!isReleased()) {
+                    markReleased();
+                    PosixSupportLibrary.getUncached().pollerClose(context.getPosixSupport(), getReference());
+                }
+            };
+        }
+    }
+}
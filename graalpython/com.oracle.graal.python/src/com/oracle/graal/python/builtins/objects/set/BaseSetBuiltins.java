@@ -93,6 +93,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.CompilerDirectives;
@@ -303,7 +304,12 @@ public final class BaseSetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached ConvertKeyNode conv,
                         @Cached HashingStorageGetItem getItem) {
-            return getItem.hasKey(frame, inliningTarget, self.getDictStorage(), conv.execute(inliningTarget, key));
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                return getItem.hasKey(frame, inliningTarget, self.getDictStorage(), conv.execute(inliningTarget, key));
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -74,6 +74,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.object.GetClassNode.GetPythonObjectClassNode;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PFactory;
@@ -176,7 +177,12 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached HashingStorageCopy copyNode,
                         @Bind PythonLanguage language) {
-            return PFactory.createSet(language, copyNode.execute(inliningTarget, self.getDictStorage()));
+            Object section = CriticalSection.enter(inliningTarget, language, self);
+            try {
+                return PFactory.createSet(language, copyNode.execute(inliningTarget, self.getDictStorage()));
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -188,9 +194,14 @@ public final class SetBuiltins extends PythonBuiltins {
         public static Object clear(PSet self,
                         @Bind Node inliningTarget,
                         @Cached HashingStorageClear clearNode) {
-            HashingStorage newStorage = clearNode.execute(inliningTarget, self.getDictStorage());
-            self.setDictStorage(newStorage);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                HashingStorage newStorage = clearNode.execute(inliningTarget, self.getDictStorage());
+                self.setDictStorage(newStorage);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -200,9 +211,15 @@ public final class SetBuiltins extends PythonBuiltins {
 
         @Specialization
         public static Object add(VirtualFrame frame, PSet self, Object o,
+                        @Bind Node inliningTarget,
                         @Cached SetNodes.AddNode addNode) {
-            addNode.execute(frame, self, o);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                addNode.execute(frame, self, o);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -213,8 +230,13 @@ public final class SetBuiltins extends PythonBuiltins {
         Object doSet(VirtualFrame frame, PSet self, PBaseSet other,
                         @Bind Node inliningTarget,
                         @Cached HashingStorageAddAllToOther addAllToOther) {
-            addAllToOther.execute(frame, inliningTarget, other.getDictStorage(), self);
-            return self;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                addAllToOther.execute(frame, inliningTarget, other.getDictStorage(), self);
+                return self;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @SuppressWarnings("unused")
@@ -346,9 +368,15 @@ public final class SetBuiltins extends PythonBuiltins {
 
         @Specialization(guards = "args.length == 1")
         static PNone doCached(VirtualFrame frame, PSet self, Object[] args,
+                        @Bind Node inliningTarget,
                         @Cached UpdateSingleNode update) {
-            update.execute(frame, self, args[0]);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                update.execute(frame, self, args[0]);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Specialization(guards = {"args.length == len", "args.length < 32"}, limit = "3")
@@ -357,12 +385,17 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Cached("args.length") int len,
                         @Shared @Cached GetSetStorageNode getSetStorageNode,
                         @Shared @Cached HashingStorageAddAllToOther addAllToOther) {
-            HashingStorage storage = self.getDictStorage();
-            for (int i = 0; i < len; i++) {
-                storage = addAllToOther.execute(frame, inliningTarget, getSetStorageNode.execute(frame, inliningTarget, args[i]), storage);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                HashingStorage storage = self.getDictStorage();
+                for (int i = 0; i < len; i++) {
+                    storage = addAllToOther.execute(frame, inliningTarget, getSetStorageNode.execute(frame, inliningTarget, args[i]), storage);
+                }
+                self.setDictStorage(storage);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            self.setDictStorage(storage);
-            return PNone.NONE;
         }
 
         @Specialization(replaces = "doCached")
@@ -370,12 +403,17 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached HashingCollectionNodes.GetSetStorageNode getSetStorageNode,
                         @Shared @Cached HashingStorageAddAllToOther addAllToOther) {
-            HashingStorage storage = self.getDictStorage();
-            for (Object o : args) {
-                storage = addAllToOther.execute(frame, inliningTarget, getSetStorageNode.execute(frame, inliningTarget, o), storage);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                HashingStorage storage = self.getDictStorage();
+                for (Object o : args) {
+                    storage = addAllToOther.execute(frame, inliningTarget, getSetStorageNode.execute(frame, inliningTarget, o), storage);
+                }
+                self.setDictStorage(storage);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            self.setDictStorage(storage);
-            return PNone.NONE;
         }
 
         static boolean isOther(Object arg) {
@@ -387,8 +425,13 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached HashingCollectionNodes.GetSetStorageNode getSetStorageNode,
                         @Shared @Cached HashingStorageAddAllToOther addAllToOther) {
-            addAllToOther.execute(frame, inliningTarget, getSetStorageNode.execute(frame, inliningTarget, other), self);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                addAllToOther.execute(frame, inliningTarget, getSetStorageNode.execute(frame, inliningTarget, other), self);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -402,17 +445,22 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Cached HashingStorageLen lenNode,
                         @Cached InlinedConditionProfile swapProfile,
                         @Cached HashingStorageIntersect intersectNode) {
-            HashingStorage storage1 = left.getDictStorage();
-            HashingStorage storage2 = right.getDictStorage();
-            // Try to minimize the number of __eq__ calls
-            if (swapProfile.profile(inliningTarget, lenNode.execute(inliningTarget, storage2) > lenNode.execute(inliningTarget, storage1))) {
-                HashingStorage tmp = storage1;
-                storage1 = storage2;
-                storage2 = tmp;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), left);
+            try {
+                HashingStorage storage1 = left.getDictStorage();
+                HashingStorage storage2 = right.getDictStorage();
+                // Try to minimize the number of __eq__ calls
+                if (swapProfile.profile(inliningTarget, lenNode.execute(inliningTarget, storage2) > lenNode.execute(inliningTarget, storage1))) {
+                    HashingStorage tmp = storage1;
+                    storage1 = storage2;
+                    storage2 = tmp;
+                }
+                HashingStorage storage = intersectNode.execute(frame, inliningTarget, storage2, storage1);
+                left.setDictStorage(storage);
+                return left;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            HashingStorage storage = intersectNode.execute(frame, inliningTarget, storage2, storage1);
-            left.setDictStorage(storage);
-            return left;
         }
 
         @SuppressWarnings("unused")
@@ -501,8 +549,13 @@ public final class SetBuiltins extends PythonBuiltins {
         static Object doSet(VirtualFrame frame, PSet self, PBaseSet other,
                         @Bind Node inliningTarget,
                         @Cached HashingStorageXor xorNode) {
-            self.setDictStorage(xorNode.executeMutatingLeft(frame, inliningTarget, self.getDictStorage(), other.getDictStorage()));
-            return self;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                self.setDictStorage(xorNode.executeMutatingLeft(frame, inliningTarget, self.getDictStorage(), other.getDictStorage()));
+                return self;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @SuppressWarnings("unused")
@@ -553,12 +606,17 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Cached("args.length") int len,
                         @Shared @Cached GetSetStorageForXorNode getHashingStorage,
                         @Shared @Cached HashingStorageXor xorNode) {
-            HashingStorage result = self.getDictStorage();
-            for (int i = 0; i < len; i++) {
-                result = xorNode.executeMutatingLeft(frame, inliningTarget, result, getHashingStorage.execute(frame, inliningTarget, args[i]));
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                HashingStorage result = self.getDictStorage();
+                for (int i = 0; i < len; i++) {
+                    result = xorNode.executeMutatingLeft(frame, inliningTarget, result, getHashingStorage.execute(frame, inliningTarget, args[i]));
+                }
+                self.setDictStorage(result);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            self.setDictStorage(result);
-            return PNone.NONE;
         }
 
         @Specialization(replaces = "doCached")
@@ -566,12 +624,17 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached GetSetStorageForXorNode getHashingStorage,
                         @Shared @Cached HashingStorageXor xorNode) {
-            HashingStorage result = self.getDictStorage();
-            for (Object o : args) {
-                result = xorNode.executeMutatingLeft(frame, inliningTarget, result, getHashingStorage.execute(frame, inliningTarget, o));
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                HashingStorage result = self.getDictStorage();
+                for (Object o : args) {
+                    result = xorNode.executeMutatingLeft(frame, inliningTarget, result, getHashingStorage.execute(frame, inliningTarget, o));
+                }
+                self.setDictStorage(result);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            self.setDictStorage(result);
-            return PNone.NONE;
         }
 
         static boolean isOther(Object arg) {
@@ -583,9 +646,14 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached GetSetStorageForXorNode getHashingStorage,
                         @Shared @Cached HashingStorageXor xorNode) {
-            HashingStorage result = xorNode.executeMutatingLeft(frame, inliningTarget, self.getDictStorage(), getHashingStorage.execute(frame, inliningTarget, other));
-            self.setDictStorage(result);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                HashingStorage result = xorNode.executeMutatingLeft(frame, inliningTarget, self.getDictStorage(), getHashingStorage.execute(frame, inliningTarget, other));
+                self.setDictStorage(result);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -596,9 +664,14 @@ public final class SetBuiltins extends PythonBuiltins {
         static PBaseSet doPBaseSet(VirtualFrame frame, PSet left, PBaseSet right,
                         @Bind Node inliningTarget,
                         @Cached HashingStorageDiff diffNode) {
-            HashingStorage storage = diffNode.execute(frame, inliningTarget, left.getDictStorage(), right.getDictStorage());
-            left.setDictStorage(storage);
-            return left;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), left);
+            try {
+                HashingStorage storage = diffNode.execute(frame, inliningTarget, left.getDictStorage(), right.getDictStorage());
+                left.setDictStorage(storage);
+                return left;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @SuppressWarnings("unused")
@@ -678,12 +751,17 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Cached("args.length") int len,
                         @Shared @Cached GetSetStorageNode getHashingStorage,
                         @Shared @Cached HashingStorageDiff diffNode) {
-            HashingStorage result = self.getDictStorage();
-            for (int i = 0; i < len; i++) {
-                result = diffNode.execute(frame, inliningTarget, result, getHashingStorage.execute(frame, inliningTarget, args[i]));
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                HashingStorage result = self.getDictStorage();
+                for (int i = 0; i < len; i++) {
+                    result = diffNode.execute(frame, inliningTarget, result, getHashingStorage.execute(frame, inliningTarget, args[i]));
+                }
+                self.setDictStorage(result);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            self.setDictStorage(result);
-            return PNone.NONE;
         }
 
         @Specialization(replaces = "doCached")
@@ -691,12 +769,17 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached HashingCollectionNodes.GetSetStorageNode getHashingStorage,
                         @Shared @Cached HashingStorageDiff diffNode) {
-            HashingStorage result = self.getDictStorage();
-            for (Object o : args) {
-                result = diffNode.execute(frame, inliningTarget, result, getHashingStorage.execute(frame, inliningTarget, o));
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                HashingStorage result = self.getDictStorage();
+                for (Object o : args) {
+                    result = diffNode.execute(frame, inliningTarget, result, getHashingStorage.execute(frame, inliningTarget, o));
+                }
+                self.setDictStorage(result);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            self.setDictStorage(result);
-            return PNone.NONE;
         }
 
         @Specialization
@@ -704,9 +787,14 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached HashingCollectionNodes.GetSetStorageNode getHashingStorage,
                         @Shared @Cached HashingStorageDiff diffNode) {
-            HashingStorage result = diffNode.execute(frame, inliningTarget, self.getDictStorage(), getHashingStorage.execute(frame, inliningTarget, other));
-            self.setDictStorage(result);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                HashingStorage result = diffNode.execute(frame, inliningTarget, self.getDictStorage(), getHashingStorage.execute(frame, inliningTarget, other));
+                self.setDictStorage(result);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -718,10 +806,15 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached com.oracle.graal.python.builtins.objects.set.SetNodes.DiscardNode discardNode,
                         @Cached PRaiseNode raiseNode) {
-            if (!discardNode.execute(frame, self, key)) {
-                throw raiseNode.raise(inliningTarget, PythonErrorType.KeyError, new Object[]{key});
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                if (!discardNode.execute(frame, self, key)) {
+                    throw raiseNode.raise(inliningTarget, PythonErrorType.KeyError, new Object[]{key});
+                }
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            return PNone.NONE;
         }
     }
 
@@ -730,9 +823,15 @@ public final class SetBuiltins extends PythonBuiltins {
     abstract static class DiscardNode extends PythonBinaryBuiltinNode {
         @Specialization
         static Object discard(VirtualFrame frame, PSet self, Object key,
+                        @Bind Node inliningTarget,
                         @Cached com.oracle.graal.python.builtins.objects.set.SetNodes.DiscardNode discardNode) {
-            discardNode.execute(frame, self, key);
-            return PNone.NONE;
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                discardNode.execute(frame, self, key);
+                return PNone.NONE;
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
     }
 
@@ -744,11 +843,16 @@ public final class SetBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached HashingStoragePop popNode,
                         @Cached PRaiseNode raiseNode) {
-            Object[] result = popNode.execute(inliningTarget, self.getDictStorage(), self);
-            if (result != null) {
-                return result[0];
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), self);
+            try {
+                Object[] result = popNode.execute(inliningTarget, self.getDictStorage(), self);
+                if (result != null) {
+                    return result[0];
+                }
+                throw raiseNode.raise(inliningTarget, PythonErrorType.KeyError, ErrorMessages.POP_FROM_EMPTY_SET);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
             }
-            throw raiseNode.raise(inliningTarget, PythonErrorType.KeyError, ErrorMessages.POP_FROM_EMPTY_SET);
         }
     }
 }
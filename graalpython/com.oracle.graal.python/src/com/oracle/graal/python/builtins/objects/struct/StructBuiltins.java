@@ -629,7 +629,6 @@ public class StructBuiltins extends PythonBuiltins {
             try {
                 int bufferOffset = offset;
                 int bytesLen = bufferLib.getBufferLength(buffer);
-                byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
 
                 final long size = self.getUnsignedSize();
                 if (bufferOffset < 0) {
@@ -647,6 +646,14 @@ public class StructBuiltins extends PythonBuiltins {
                     throw raiseNode.raise(inliningTarget, StructError, STRUCT_UNPACK_FROM_REQ_AT_LEAST_N_BYTES, size + bufferOffset, size, bufferOffset, bytesLen);
                 }
 
+                byte[] bytes;
+                if (bufferLib.hasInternalByteArray(buffer)) {
+                    bytes = bufferLib.getInternalByteArray(buffer);
+                } else {
+                    // copy only the unpacked range, the buffer may be a large memory mapped file
+                    bytes = bufferLib.getCopyOfRange(buffer, bufferOffset, bufferOffset + (int) size);
+                    bufferOffset = 0;
+                }
                 return PFactory.createTuple(language, unpackInternal(self, unpackValueNode, bytes, bufferOffset));
             } finally {
                 bufferLib.release(buffer, frame, callData);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -231,6 +231,23 @@ public class ParserCallbacksImpl implements ParserCallbacks {
         deprecationWarnings.add(new DeprecationWarning(type, sourceRange, toTruffleStringUncached(message)));
     }
 
+    public int getDeprecationWarningsCount() {
+        return deprecationWarnings == null ? 0 : deprecationWarnings.size();
+    }
+
+    /**
+     * Returns callbacks for the same source holding only the warnings recorded after the first
+     * {@code start} ones. Used when parts of a module are compiled after the module itself, so that
+     * only the warnings of the newly compiled part are triggered.
+     */
+    public ParserCallbacksImpl copyDeprecationWarningsSince(int start) {
+        ParserCallbacksImpl copy = new ParserCallbacksImpl(sourceSupplier, withJavaStackTrace);
+        if (deprecationWarnings != null && deprecationWarnings.size() > start) {
+            copy.deprecationWarnings = new ArrayList<>(deprecationWarnings.subList(start, deprecationWarnings.size()));
+        }
+        return copy;
+    }
+
     public void triggerDeprecationWarnings() {
         if (deprecationWarnings != null) {
             triggerDeprecationWarningsBoundary();
@@ -95,6 +95,7 @@ import com.oracle.graal.python.compiler.Compiler;
 import com.oracle.graal.python.compiler.Compiler.ConstantCollection;
 import com.oracle.graal.python.compiler.OpCodes.CollectionBits;
 import com.oracle.graal.python.compiler.OpCodes.MakeTypeParamKind;
+import com.oracle.graal.python.compiler.ParserCallbacksImpl;
 import com.oracle.graal.python.compiler.SSTUtils;
 import com.oracle.graal.python.compiler.Unparser;
 import com.oracle.graal.python.compiler.bytecode_dsl.BytecodeDSLCompiler.BytecodeDSLCompilerContext;
@@ -422,63 +423,109 @@ public final class RootNodeCompiler implements BaseBytecodeDSLVisitor<BytecodeDS
         CodeUnitKey key = new CodeUnitKey(node, scopeType);
         BytecodeDSLCodeUnit codeUnit = ctx.codeUnits.get(key);
         if (codeUnit == null) {
-            int flags = PCode.CO_OPTIMIZED | PCode.CO_NEWLOCALS;
-            flags |= argumentInfo.takesVarArgs ? PCode.CO_VARARGS : 0;
-            flags |= argumentInfo.takesVarKeywordArgs ? PCode.CO_VARKEYWORDS : 0;
-            if (scope.isNested()) {
-                flags |= PCode.CO_NESTED;
-            }
-            if (scope.isModule()) {
-                flags |= PCode.CO_GRAALPYHON_MODULE;
-            }
-            if (scope.isGenerator() && scope.isCoroutine()) {
-                flags |= PCode.CO_ASYNC_GENERATOR;
-            } else if (scope.isGenerator()) {
-                flags |= PCode.CO_GENERATOR;
-            } else if (scope.isCoroutine()) {
-                flags |= PCode.CO_COROUTINE;
-            }
-            for (FutureFeature flag : futureFeatures) {
-                flags |= flag.flagValue;
-            }
-
-            int classcellIndex = -1;
-            if (freeLocals.containsKey(J___CLASS__)) {
-                classcellIndex = freeLocals.get(J___CLASS__).getLocalOffset();
-            }
-
-            int selfIndex = -1;
-            if (argumentInfo.nonEmpty()) {
-                selfIndex = 0;
-                if (selfCellName != null) {
-                    selfIndex = cellLocals.get(selfCellName).getLocalOffset();
-                }
-            }
-            SourceRange sourceRange = getRootSourceRange(node);
-            codeUnit = new BytecodeDSLCodeUnit(toInternedTruffleStringUncached(name), toInternedTruffleStringUncached(qualName),
-                            argumentInfo.argCount, argumentInfo.kwOnlyArgCount, argumentInfo.positionalOnlyArgCount,
-                            flags, orderedTruffleStringArray(names),
-                            orderedTruffleStringArray(varnames),
-                            orderedTruffleStringArray(cellvars),
-                            orderedTruffleStringArray(freevars),
-                            cell2arg,
-                            orderedKeys(constants, new Object[0]),
-                            sourceRange.startLine,
-                            sourceRange.startColumn,
-                            sourceRange.endLine,
-                            sourceRange.endColumn,
-                            classcellIndex,
-                            selfIndex,
-                            yieldFromGenerator != null ? yieldFromGenerator.getLocalIndex() : -1,
-                            instrumentationDataLocal.getLocalIndex(),
-                            maxProfileCEventStackSize,
-                            new BytecodeSupplier(nodes));
+            codeUnit = createCodeUnit(name, argumentInfo, getRootSourceRange(node), new BytecodeSupplier(nodes));
             ctx.codeUnits.put(key, codeUnit);
         }
         rootNode.setMetadata(codeUnit, ctx.errorCallback, ctx.source.isInternal());
         return new BytecodeDSLCompilerResult(rootNode, codeUnit);
     }
 
+    /**
+     * Variant of {@link #compileRootNode} used for function bodies when
+     * {@link PythonLanguage#isLazyFunctionBodies()} is on. Everything that is needed to create the
+     * function object (signature, flags, cell and free variables, docstring) is known from the scope
+     * analysis, so the returned code unit carries only that and the body is compiled by
+     * {@link LazyBytecodeSupplier} when it is first needed. The result has no root node.
+     */
+    private BytecodeDSLCompilerResult compileLazyRootNode(String name, ArgumentInfo argumentInfo, SSTNode node, TruffleString docstring, BytecodeParser<Builder> parser) {
+        qualName = getNewScopeQualName(name, scopeType);
+
+        CodeUnitKey key = new CodeUnitKey(node, scopeType);
+        synchronized (ctx) {
+            BytecodeDSLCodeUnit codeUnit = ctx.codeUnits.get(key);
+            if (codeUnit == null) {
+                SourceRange sourceRange = getRootSourceRange(node);
+                Object docConstant = docstring != null && ctx.optimizationLevel < 2 ? docstring : PNone.NONE;
+                codeUnit = new BytecodeDSLCodeUnit(toInternedTruffleStringUncached(name), toInternedTruffleStringUncached(qualName),
+                                argumentInfo.argCount, argumentInfo.kwOnlyArgCount, argumentInfo.positionalOnlyArgCount,
+                                computeFlags(argumentInfo), PythonUtils.EMPTY_TRUFFLESTRING_ARRAY,
+                                orderedTruffleStringArray(varnames),
+                                orderedTruffleStringArray(cellvars),
+                                orderedTruffleStringArray(freevars),
+                                cell2arg,
+                                new Object[]{docConstant},
+                                sourceRange.startLine,
+                                sourceRange.startColumn,
+                                sourceRange.endLine,
+                                sourceRange.endColumn,
+                                -1, -1, -1, -1, 0,
+                                new LazyBytecodeSupplier(this, name, argumentInfo, sourceRange, parser));
+                ctx.codeUnits.put(key, codeUnit);
+            }
+            return new BytecodeDSLCompilerResult(null, codeUnit);
+        }
+    }
+
+    private int computeFlags(ArgumentInfo argumentInfo) {
+        int flags = PCode.CO_OPTIMIZED | PCode.CO_NEWLOCALS;
+        flags |= argumentInfo.takesVarArgs ? PCode.CO_VARARGS : 0;
+        flags |= argumentInfo.takesVarKeywordArgs ? PCode.CO_VARKEYWORDS : 0;
+        if (scope.isNested()) {
+            flags |= PCode.CO_NESTED;
+        }
+        if (scope.isModule()) {
+            flags |= PCode.CO_GRAALPYHON_MODULE;
+        }
+        if (scope.isGenerator() && scope.isCoroutine()) {
+            flags |= PCode.CO_ASYNC_GENERATOR;
+        } else if (scope.isGenerator()) {
+            flags |= PCode.CO_GENERATOR;
+        } else if (scope.isCoroutine()) {
+            flags |= PCode.CO_COROUTINE;
+        }
+        for (FutureFeature flag : futureFeatures) {
+            flags |= flag.flagValue;
+        }
+        return flags;
+    }
+
+    /**
+     * Creates the code unit after the root node has been parsed, i.e., when the names, constants
+     * and frame slots are known.
+     */
+    private BytecodeDSLCodeUnit createCodeUnit(String name, ArgumentInfo argumentInfo, SourceRange sourceRange, BytecodeDSLCodeUnit.BytecodeSupplier supplier) {
+        int classcellIndex = -1;
+        if (freeLocals.containsKey(J___CLASS__)) {
+            classcellIndex = freeLocals.get(J___CLASS__).getLocalOffset();
+        }
+
+        int selfIndex = -1;
+        if (argumentInfo.nonEmpty()) {
+            selfIndex = 0;
+            if (selfCellName != null) {
+                selfIndex = cellLocals.get(selfCellName).getLocalOffset();
+            }
+        }
+        return new BytecodeDSLCodeUnit(toInternedTruffleStringUncached(name), toInternedTruffleStringUncached(qualName),
+                        argumentInfo.argCount, argumentInfo.kwOnlyArgCount, argumentInfo.positionalOnlyArgCount,
+                        computeFlags(argumentInfo), orderedTruffleStringArray(names),
+                        orderedTruffleStringArray(varnames),
+                        orderedTruffleStringArray(cellvars),
+                        orderedTruffleStringArray(freevars),
+                        cell2arg,
+                        orderedKeys(constants, new Object[0]),
+                        sourceRange.startLine,
+                        sourceRange.startColumn,
+                        sourceRange.endLine,
+                        sourceRange.endColumn,
+                        classcellIndex,
+                        selfIndex,
+                        yieldFromGenerator != null ? yieldFromGenerator.getLocalIndex() : -1,
+                        instrumentationDataLocal.getLocalIndex(),
+                        maxProfileCEventStackSize,
+                        supplier);
+    }
+
     static class BytecodeSupplier extends BytecodeDSLCodeUnit.BytecodeSupplier {
         private final BytecodeRootNodes<PBytecodeDSLRootNode> nodes;
 
@@ -504,6 +551,82 @@ public final class RootNodeCompiler implements BaseBytecodeDSLVisitor<BytecodeDS
         }
     }
 
+    /**
+     * Compiles a function body on first request, see {@link #compileLazyRootNode}. Until then, it
+     * keeps only the compiler of the function's own scope and the parser lambda for its body. Both
+     * are dropped once the body is compiled, from then on the compiled root nodes are the only
+     * owners of them, same as for eagerly compiled functions. The compilation holds the lock of the
+     * compiler context, because the compilers of the enclosing scopes and the shared code unit map
+     * may be used by other threads compiling sibling functions.
+     */
+    static final class LazyBytecodeSupplier extends BytecodeDSLCodeUnit.BytecodeSupplier {
+        private final BytecodeDSLCompilerContext ctx;
+
+        // Guarded by ctx, cleared after compilation
+        private RootNodeCompiler compiler;
+        private String name;
+        private ArgumentInfo argumentInfo;
+        private SourceRange sourceRange;
+        private BytecodeParser<Builder> parser;
+
+        // Guarded by ctx
+        private BytecodeSupplier compiled;
+        private BytecodeDSLCodeUnit compiledCodeUnit;
+
+        LazyBytecodeSupplier(RootNodeCompiler compiler, String name, ArgumentInfo argumentInfo, SourceRange sourceRange, BytecodeParser<Builder> parser) {
+            this.ctx = compiler.ctx;
+            this.compiler = compiler;
+            this.name = name;
+            this.argumentInfo = argumentInfo;
+            this.sourceRange = sourceRange;
+            this.parser = parser;
+        }
+
+        private BytecodeSupplier compile() {
+            ParserCallbacksImpl newWarnings;
+            BytecodeSupplier supplier;
+            synchronized (ctx) {
+                if (compiled != null) {
+                    return compiled;
+                }
+                int warningsMark = ctx.errorCallback.getDeprecationWarningsCount();
+                BytecodeRootNodes<PBytecodeDSLRootNode> nodes = PBytecodeDSLRootNodeGen.create(ctx.language, BytecodeConfig.DEFAULT, parser);
+                supplier = new BytecodeSupplier(nodes);
+                BytecodeDSLCodeUnit result = compiler.createCodeUnit(name, argumentInfo, sourceRange, supplier);
+                nodes.getNode(0).setMetadata(result, ctx.errorCallback, ctx.source.isInternal());
+                compiled = supplier;
+                compiledCodeUnit = result;
+                compiler = null;
+                name = null;
+                argumentInfo = null;
+                sourceRange = null;
+                parser = null;
+                newWarnings = ctx.errorCallback.copyDeprecationWarningsSince(warningsMark);
+            }
+            // The rest of the module has been compiled and warned about already
+            newWarnings.triggerDeprecationWarnings();
+            return supplier;
+        }
+
+        @Override
+        public PBytecodeDSLRootNode createRootNode(PythonLanguage language) {
+            return compile().createRootNode(language);
+        }
+
+        @Override
+        public byte[] createSerializedBytecode(PythonLanguage language) {
+            return compile().createSerializedBytecode(language);
+        }
+
+        @Override
+        public BytecodeDSLCodeUnit getCompiledCodeUnit(BytecodeDSLCodeUnit codeUnit) {
+            compile();
+            synchronized (ctx) {
+                return compiledCodeUnit;
+            }
+        }
+    }
+
     private static class ArgumentInfo {
         static final ArgumentInfo NO_ARGS = new ArgumentInfo(0, 0, 0, false, false);
 
@@ -1002,6 +1125,11 @@ public final class RootNodeCompiler implements BaseBytecodeDSLVisitor<BytecodeDS
     }
 
     public BytecodeDSLCompilerResult compileFunctionDef(StmtTy node, String name, ArgumentsTy args, StmtTy[] body) {
+        if (ctx.language.isLazyFunctionBodies() && parent != null) {
+            TruffleString docstring = getDocstring(body);
+            return compileLazyRootNode(name, ArgumentInfo.fromArguments(args),
+                            node, docstring, b -> emitFunctionDefBody(node, args, body, b, docstring, false));
+        }
         return compileRootNode(name, ArgumentInfo.fromArguments(args),
                         node, b -> emitFunctionDefBody(node, args, body, b, getDocstring(body), false));
     }
@@ -40,10 +40,12 @@
  */
 package com.oracle.graal.python.lib;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageDelItem;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateCached;
 import com.oracle.truffle.api.dsl.GenerateInline;
@@ -69,8 +71,13 @@ public abstract class PyDictDelItem extends Node {
     static void delItem(VirtualFrame frame, Node inliningTarget, PDict dict, Object key,
                     @Cached HashingStorageDelItem delItem,
                     @Cached PRaiseNode raiseNode) {
-        if (!delItem.execute(frame, inliningTarget, dict.getDictStorage(), key, dict)) {
-            throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.KeyError, new Object[]{key});
+        Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), dict);
+        try {
+            if (!delItem.execute(frame, inliningTarget, dict.getDictStorage(), key, dict)) {
+                throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.KeyError, new Object[]{key});
+            }
+        } finally {
+            CriticalSection.exit(inliningTarget, section);
         }
     }
 }
@@ -40,8 +40,10 @@
  */
 package com.oracle.graal.python.lib;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetItem;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
@@ -78,20 +80,35 @@ public abstract class PyDictGetItem extends Node {
     @Specialization
     static Object getString(Node inliningTarget, PDict dict, TruffleString item,
                     @Shared("getItem") @Cached HashingStorageGetItem getItem) {
-        return getItem.execute(inliningTarget, dict.getDictStorage(), item);
+        Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), dict);
+        try {
+            return getItem.execute(inliningTarget, dict.getDictStorage(), item);
+        } finally {
+            CriticalSection.exit(inliningTarget, section);
+        }
     }
 
     @Specialization(replaces = "getString")
     static Object getItemCached(VirtualFrame frame, Node inliningTarget, PDict dict, Object item,
                     @Shared("getItem") @Cached HashingStorageGetItem getItem) {
-        return getItem.execute(frame, inliningTarget, dict.getDictStorage(), item);
+        Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), dict);
+        try {
+            return getItem.execute(frame, inliningTarget, dict.getDictStorage(), item);
+        } finally {
+            CriticalSection.exit(inliningTarget, section);
+        }
     }
 
     @Specialization(replaces = "getItemCached")
     @InliningCutoff
     static Object getItem(Node inliningTarget, PDict dict, Object item,
                     @Shared("getItem") @Cached HashingStorageGetItem getItem) {
-        return getItem.execute(null, inliningTarget, dict.getDictStorage(), item);
+        Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), dict);
+        try {
+            return getItem.execute(null, inliningTarget, dict.getDictStorage(), item);
+        } finally {
+            CriticalSection.exit(inliningTarget, section);
+        }
     }
 
     @NeverDefault
@@ -40,9 +40,11 @@
  */
 package com.oracle.graal.python.lib;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageSetItem;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.GenerateCached;
@@ -79,21 +81,31 @@ public abstract class PyDictSetItem extends Node {
     static void setItemWithStringKey(Node inliningTarget, PDict dict, TruffleString key, Object item,
                     @Shared("setItem") @Cached(inline = false) HashingStorageSetItem setItem,
                     @Shared("updateStorage") @Cached InlinedCountingConditionProfile updateStorageProfile) {
-        HashingStorage dictStorage = dict.getDictStorage();
-        HashingStorage updatedStorage = setItem.execute(inliningTarget, dictStorage, key, item);
-        if (updateStorageProfile.profile(inliningTarget, updatedStorage != dictStorage)) {
-            dict.setDictStorage(updatedStorage);
+        Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), dict);
+        try {
+            HashingStorage dictStorage = dict.getDictStorage();
+            HashingStorage updatedStorage = setItem.execute(inliningTarget, dictStorage, key, item);
+            if (updateStorageProfile.profile(inliningTarget, updatedStorage != dictStorage)) {
+                dict.setDictStorage(updatedStorage);
+            }
+        } finally {
+            CriticalSection.exit(inliningTarget, section);
         }
     }
 
     @Specialization(replaces = "setItemWithStringKey")
-    static void setItemCached(VirtualFrame frame, Node inliningTarget, @SuppressWarnings("unused") PDict dict, Object key, Object item,
+    static void setItemCached(VirtualFrame frame, Node inliningTarget, PDict dict, Object key, Object item,
                     @Shared("setItem") @Cached(inline = false) HashingStorageSetItem setItem,
                     @Shared("updateStorage") @Cached InlinedCountingConditionProfile updateStorageProfile) {
-        HashingStorage dictStorage = dict.getDictStorage();
-        HashingStorage updatedStorage = setItem.execute(frame, inliningTarget, dictStorage, key, item);
-        if (updateStorageProfile.profile(inliningTarget, updatedStorage != dictStorage)) {
-            dict.setDictStorage(updatedStorage);
+        Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), dict);
+        try {
+            HashingStorage dictStorage = dict.getDictStorage();
+            HashingStorage updatedStorage = setItem.execute(frame, inliningTarget, dictStorage, key, item);
+            if (updateStorageProfile.profile(inliningTarget, updatedStorage != dictStorage)) {
+                dict.setDictStorage(updatedStorage);
+            }
+        } finally {
+            CriticalSection.exit(inliningTarget, section);
         }
     }
 
@@ -101,10 +113,15 @@ public abstract class PyDictSetItem extends Node {
     static void setItem(Node inliningTarget, PDict dict, Object key, Object item,
                     @Shared("setItem") @Cached(inline = false) HashingStorageSetItem setItem,
                     @Shared("updateStorage") @Cached InlinedCountingConditionProfile updateStorageProfile) {
-        HashingStorage dictStorage = dict.getDictStorage();
-        HashingStorage updatedStorage = setItem.execute(null, inliningTarget, dictStorage, key, item);
-        if (updateStorageProfile.profile(inliningTarget, updatedStorage != dictStorage)) {
-            dict.setDictStorage(updatedStorage);
+        Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), dict);
+        try {
+            HashingStorage dictStorage = dict.getDictStorage();
+            HashingStorage updatedStorage = setItem.execute(null, inliningTarget, dictStorage, key, item);
+            if (updateStorageProfile.profile(inliningTarget, updatedStorage != dictStorage)) {
+                dict.setDictStorage(updatedStorage);
+            }
+        } finally {
+            CriticalSection.exit(inliningTarget, section);
         }
     }
 
@@ -66,6 +66,7 @@ import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinClassExactProfile;
 import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
@@ -140,7 +141,12 @@ public abstract class PyObjectGetItem extends PNodeWithContext {
         @Specialization(guards = "isBuiltinDict(dict)")
         static Object doPDict(VirtualFrame frame, Node inliningTarget, PDict dict, TruffleString key,
                         @Cached HashingStorageGetItem getItem) {
-            return getItem.execute(frame, inliningTarget, dict.getDictStorage(), key);
+            Object section = CriticalSection.enter(inliningTarget, PythonLanguage.get(inliningTarget), dict);
+            try {
+                return getItem.execute(frame, inliningTarget, dict.getDictStorage(), key);
+            } finally {
+                CriticalSection.exit(inliningTarget, section);
+            }
         }
 
         @Fallback
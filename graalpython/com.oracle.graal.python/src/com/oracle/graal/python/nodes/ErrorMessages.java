@@ -321,6 +321,9 @@ public abstract class ErrorMessages {
     public static final TruffleString FILE_OR_STREAM_IS_NOT_SEEKABLE = tsLiteral("File or stream is not seekable.");
     public static final TruffleString FILE_OR_STREAM_IS_NOT_WRITABLE = tsLiteral("File or stream is not writable.");
     public static final TruffleString FILE_DESCRIPTOR_OUT_OF_RANGE_IN_SELECT = tsLiteral("filedescriptor out of range in select()");
+    public static final TruffleString IO_OPERATION_ON_CLOSED_EPOLL = tsLiteral("I/O operation on closed epoll object");
+    public static final TruffleString NEGATIVE_SIZEHINT = tsLiteral("negative sizehint");
+    public static final TruffleString MAXEVENTS_MUST_BE_GREATER_THAN_ZERO = tsLiteral("maxevents must be greater than 0, got %d");
     public static final TruffleString FILL_CHAR_MUST_BE_LENGTH_1 = tsLiteral("The fill character must be exactly one character long");
     public static final TruffleString FILL_CHAR_MUST_BE_UNICODE_CHAR_NOT_P = tsLiteral("The fill character must be a unicode character, not %p");
     public static final TruffleString FILTER_SPEC_MUST_BE_DICT = tsLiteral("Filter specifier must be a dict or dict-like object");
@@ -1309,6 +1312,7 @@ public abstract class ErrorMessages {
                     "are you missing a runtime dependency 'org.graalvm.truffle:truffle-nfi-libffi', which should be a dependency of 'org.graalvm.polyglot:python{-community}'?");
     public static final TruffleString NATIVE_EXTENSIONS_VIRTUAL_THREAD = tsLiteral("Python native extensions cannot be used from Java virtual threads. " +
                     "Run Python code that may load or call native extensions on a platform thread.");
+    public static final TruffleString NATIVE_EXTENSIONS_FREE_THREADING = tsLiteral("Python native extensions cannot be used when the 'python.FreeThreading' option is enabled.");
 
     // AST Validator
     public static final TruffleString ANN_ASSIGN_WITH_SIMPLE_NON_NAME_TARGET = tsLiteral("AnnAssign with simple non-Name target");
@@ -1593,4 +1597,21 @@ public abstract class ErrorMessages {
 
     public static final TruffleString S_MUST_BE_CALLABLE = tsLiteral("%s must be callable");
     public static final TruffleString METHOD_CANNOT_BE_BOTH_CLASS_AND_STATIC = tsLiteral("method cannot be both class and static");
+    public static final TruffleString CANNOT_EXPORT_P_TO_ARROW = tsLiteral("cannot export '%p' object to Arrow");
+    public static final TruffleString CANNOT_EXPORT_LIST_ELEMENT_P_TO_ARROW = tsLiteral("cannot export list element of type '%p' to Arrow");
+    public static final TruffleString ARROW_FORMAT_S_NOT_SUPPORTED = tsLiteral("Arrow format '%s' is not supported");
+    public static final TruffleString ARROW_ARRAY_ALREADY_RELEASED = tsLiteral("Arrow array has already been released");
+    public static final TruffleString ARROW_EXCHANGE_REQUIRES_NATIVE_ACCESS = tsLiteral("exchanging Arrow data requires native access");
+    public static final TruffleString INVALID_TOOL_D = tsLiteral("invalid tool %d (must be between 0 and 5)");
+    public static final TruffleString TOOL_D_IS_NOT_IN_USE = tsLiteral("tool %d is not in use");
+    public static final TruffleString TOOL_D_IS_ALREADY_IN_USE = tsLiteral("tool %d is already in use");
+    public static final TruffleString TOOL_NAME_MUST_BE_A_STR = tsLiteral("tool name must be a str");
+    public static final TruffleString INVALID_EVENT_SET_X = tsLiteral("invalid event set 0x%x");
+    public static final TruffleString INVALID_LOCAL_EVENT_SET_X = tsLiteral("invalid local event set 0x%x");
+    public static final TruffleString CANNOT_SET_C_RETURN_OR_C_RAISE_INDEPENDENTLY = tsLiteral("cannot set C_RETURN or C_RAISE events independently");
+    public static final TruffleString CALLBACK_CAN_ONLY_BE_SET_FOR_ONE_EVENT = tsLiteral("The callback can only be set for one event at a time");
+    public static final TruffleString INVALID_EVENT_D = tsLiteral("invalid event %d");
+    public static final TruffleString CANNOT_DISABLE_S_EVENTS = tsLiteral("Cannot disable %s events. Callback removed.");
+    public static final TruffleString CODE_MUST_BE_A_CODE_OBJECT = tsLiteral("code must be a code object");
+    public static final TruffleString THE_NUMBER_OF_FRAMES_MUST_BE_IN_RANGE = tsLiteral("the number of frames must be in range [1; %d]");
 }
@@ -42,6 +42,7 @@ package com.oracle.graal.python.nodes;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.function.Signature;
+import com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport;
 import com.oracle.graal.python.nodes.function.BuiltinFunctionRootNode;
 import com.oracle.graal.python.runtime.CallerFlags;
 import com.oracle.graal.python.runtime.IndirectCallData;
@@ -165,6 +166,14 @@ public abstract class PRootNode extends RootNode {
         return PythonUtils.EMPTY_BYTE_ARRAY;
     }
 
+    /**
+     * The {@code sys.monitoring} state of this root, or {@code null} if the root does not execute
+     * Python bytecode.
+     */
+    public MonitoringSupport getMonitoringSupport() {
+        return null;
+    }
+
     /**
      * True if the root calls CalleeContext.enter or an equivalent on entry.
      */
@@ -121,10 +121,58 @@ public class ArrowArray {
         return memoryAddr;
     }
 
+    public long length() {
+        return unsafe.getLong(memoryAddr + LENGTH_INDEX);
+    }
+
+    public long nullCount() {
+        return unsafe.getLong(memoryAddr + NULL_COUNT_INDEX);
+    }
+
+    public long offset() {
+        return unsafe.getLong(memoryAddr + OFFSET_INDEX);
+    }
+
+    public long nBuffers() {
+        return unsafe.getLong(memoryAddr + N_BUFFERS_INDEX);
+    }
+
+    public long nChildren() {
+        return unsafe.getLong(memoryAddr + N_CHILDREN_INDEX);
+    }
+
+    public long buffers() {
+        return unsafe.getLong(memoryAddr + BUFFERS_INDEX);
+    }
+
+    public long buffer(int index) {
+        assert index < nBuffers();
+        return unsafe.getLong(buffers() + index * POINTER_SIZE);
+    }
+
+    public long dictionary() {
+        return unsafe.getLong(memoryAddr + DICTIONARY_INDEX);
+    }
+
     public long releaseCallback() {
         return unsafe.getLong(memoryAddr + RELEASE_CALLBACK_INDEX);
     }
 
+    public void markReleased() {
+        unsafe.putLong(memoryAddr + RELEASE_CALLBACK_INDEX, NULL);
+    }
+
+    /**
+     * Moves the structure to newly allocated memory and marks this one as released, as a consumer
+     * that keeps the data beyond the lifetime of the capsule must do.
+     */
+    public ArrowArray move() {
+        var newMemoryAddr = unsafe.allocateMemory(SIZE_OF);
+        unsafe.copyMemory(memoryAddr, newMemoryAddr, SIZE_OF);
+        markReleased();
+        return new ArrowArray(newMemoryAddr);
+    }
+
     public static ArrowArray wrap(long arrowArrayPointer) {
         return new ArrowArray(arrowArrayPointer);
     }
@@ -43,6 +43,7 @@ package com.oracle.graal.python.nodes.arrow;
 import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.POINTER_SIZE;
 
 import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleString.Encoding;
 
@@ -120,10 +121,42 @@ public class ArrowSchema {
         return memoryAddr;
     }
 
+    public long format() {
+        return unsafe.getLong(memoryAddr + FORMAT_INDEX);
+    }
+
+    /**
+     * Reads the format string. Format strings of the C data interface are ASCII.
+     */
+    @TruffleBoundary
+    public String formatString() {
+        long format = format();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0;; i++) {
+            byte b = unsafe.getByte(format + i);
+            if (b == NULL) {
+                return sb.toString();
+            }
+            sb.append((char) b);
+        }
+    }
+
+    public long nChildren() {
+        return unsafe.getLong(memoryAddr + N_CHILDREN_INDEX);
+    }
+
+    public long dictionary() {
+        return unsafe.getLong(memoryAddr + DICTIONARY_INDEX);
+    }
+
     public long releaseCallback() {
         return unsafe.getLong(memoryAddr + RELEASE_CALLBACK_INDEX);
     }
 
+    public void markReleased() {
+        unsafe.putLong(memoryAddr + RELEASE_CALLBACK_INDEX, NULL);
+    }
+
     public boolean isReleased() {
         return releaseCallback() == NULL;
     }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.arrow.release;
+
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.nodes.arrow.ArrowArray;
+import com.oracle.graal.python.runtime.nativeaccess.NativeMemory;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+
+/**
+ * The release callback of the ArrowArray structures we export. All buffers of such arrays are
+ * allocated by us and nothing is shared with other arrays, so releasing just frees them. The
+ * structure itself belongs to whoever holds it (the capsule or a consumer that moved it).
+ */
+@ExportLibrary(InteropLibrary.class)
+public class ArrowArrayReleaseCallback implements TruffleObject {
+
+    @ExportMessage
+    boolean isExecutable() {
+        return true;
+    }
+
+    @ExportMessage
+    Object execute(Object[] args,
+                    @CachedLibrary(limit = "1") InteropLibrary lib) {
+        if (args.length != 1 || !lib.isPointer(args[0])) {
+            throw CompilerDirectives.shouldNotReachHere();
+        }
+        ArrowArray arrowArray;
+        try {
+            arrowArray = ArrowArray.wrap(lib.asPointer(args[0]));
+        } catch (UnsupportedMessageException e) {
+            throw CompilerDirectives.shouldNotReachHere(e);
+        }
+        long buffers = arrowArray.buffers();
+        if (buffers != NativeMemory.NULLPTR) {
+            for (int i = 0; i < arrowArray.nBuffers(); i++) {
+                long buffer = arrowArray.buffer(i);
+                if (buffer != NativeMemory.NULLPTR) {
+                    NativeMemory.free(buffer);
+                }
+            }
+            NativeMemory.free(buffers);
+        }
+        arrowArray.markReleased();
+        return PNone.NO_VALUE;
+    }
+}
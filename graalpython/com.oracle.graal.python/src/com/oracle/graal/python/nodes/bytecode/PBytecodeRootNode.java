@@ -95,6 +95,7 @@ import com.oracle.graal.python.builtins.objects.list.ListBuiltins;
 import com.oracle.graal.python.builtins.objects.list.ListBuiltinsFactory;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
+import com.oracle.graal.python.builtins.objects.method.PMethod;
 import com.oracle.graal.python.builtins.objects.set.PSet;
 import com.oracle.graal.python.builtins.objects.set.SetBuiltins;
 import com.oracle.graal.python.builtins.objects.set.SetBuiltinsFactory;
@@ -186,6 +187,7 @@ import com.oracle.graal.python.nodes.bytecode.SequenceFromStackNodeFactory.ListF
 import com.oracle.graal.python.nodes.bytecode.SequenceFromStackNodeFactory.TupleFromStackNodeGen;
 import com.oracle.graal.python.nodes.bytecode.instrumentation.InstrumentationRoot;
 import com.oracle.graal.python.nodes.bytecode.instrumentation.InstrumentationSupport;
+import com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport;
 import com.oracle.graal.python.nodes.call.BoundDescriptor;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.call.CallNodeGen;
@@ -223,6 +225,7 @@ import com.oracle.graal.python.nodes.util.CastToJavaIntExactNode;
 import com.oracle.graal.python.nodes.util.CastToJavaIntExactNodeGen;
 import com.oracle.graal.python.nodes.util.ExceptionStateNodes;
 import com.oracle.graal.python.runtime.ExecutionContext.CalleeContext;
+import com.oracle.graal.python.runtime.MonitoringState;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.ExceptionUtils;
@@ -608,6 +611,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         @Child MaterializeFrameNode traceMaterializeFrameExistingNode = MaterializeFrameNode.create();
         @Child CallNode tracingCallNode = CallNode.create();
         @Child CallNode profilingCallNode = CallNode.create();
+        @Child CallNode monitoringCallNode = CallNode.create();
         @CompilationFinal(dimensions = 1) byte[] traceProfileData;
 
         public TracingNodes(int bytecodeLength) {
@@ -616,6 +620,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     }
 
     @Child private TracingNodes tracingNodes;
+    @CompilationFinal private MonitoringSupport monitoringSupport;
 
     @CompilationFinal private Object osrMetadata;
 
@@ -1193,6 +1198,22 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             return getTraceData().pyFrame;
         }
 
+        public int getMonitoringPastBci() {
+            return getTraceData().monitoringPastBci;
+        }
+
+        public void setMonitoringPastBci(int bci) {
+            getTraceData().monitoringPastBci = bci;
+        }
+
+        public int getMonitoringPastLine() {
+            return getTraceData().monitoringPastLine;
+        }
+
+        public void setMonitoringPastLine(int line) {
+            getTraceData().monitoringPastLine = line;
+        }
+
         public PFrame setPyFrame(PFrame pyFrame) {
             return this.getTraceData().pyFrame = pyFrame;
         }
@@ -1219,6 +1240,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             InstrumentationData() {
                 pastBci = 0;
                 pastLine = returnLine = -1;
+                monitoringPastBci = monitoringPastLine = -1;
             }
 
             private int pastBci;
@@ -1230,6 +1252,9 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
 
             private int jumpBci;
 
+            private int monitoringPastBci;
+            private int monitoringPastLine;
+
             private PythonContext.PythonThreadState threadState = null;
         }
 
@@ -1331,6 +1356,11 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         if (!fromOSR) {
             tracingOrProfilingEnabled = checkTracingAndProfilingEnabled(noTraceOrProfile, mutableData);
             traceOrProfileCall(virtualFrame, initialBci, mutableData, tracingOrProfilingEnabled, bci);
+            int startEvent = initialBci == 0 ? MonitoringSupport.PY_START : MonitoringSupport.PY_RESUME;
+            int startTools = getMonitoringTools(startEvent, initialBci);
+            if (startTools != 0) {
+                monitorEvent(virtualFrame, mutableData, startTools, startEvent, initialBci, null);
+            }
         }
 
         int oparg = 0;
@@ -1349,6 +1379,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                     continue;
                 }
             }
+            int lineTools = getMonitoringTools(MonitoringSupport.LINE, bci);
+            if (lineTools != 0) {
+                monitorLine(virtualFrame, mutableData, lineTools, bci);
+            }
 
             CompilerAsserts.partialEvaluationConstant(bc);
             CompilerAsserts.partialEvaluationConstant(bci);
@@ -2372,10 +2406,19 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                     if (isTracingEnabled(tracingOrProfilingEnabled) && exception != null && !mutableData.getThreadState(this).isTracing()) {
                         traceException(virtualFrame, mutableData, beginBci, exception);
                     }
+                    int raiseTools = getMonitoringTools(MonitoringSupport.RAISE, beginBci);
+                    if (raiseTools != 0) {
+                        monitorException(virtualFrame, mutableData, raiseTools, MonitoringSupport.RAISE, beginBci, exception);
+                    }
 
                     int targetIndex = findHandler(beginBci);
                     CompilerAsserts.partialEvaluationConstant(targetIndex);
                     chainPythonExceptions(virtualFrame, mutableData, exception);
+                    int handledEvent = targetIndex == -1 ? MonitoringSupport.PY_UNWIND : MonitoringSupport.EXCEPTION_HANDLED;
+                    int handledTools = getMonitoringTools(handledEvent, beginBci);
+                    if (handledTools != 0) {
+                        monitorException(virtualFrame, mutableData, handledTools, handledEvent, beginBci, exception);
+                    }
                     if (targetIndex == -1) {
                         prepareForReraise(virtualFrame, localFrame, initialStackTop, isGeneratorOrCoroutine, mutableData, bciSlot, beginBci, tracingOrProfilingEnabled, bci);
                         if (exception instanceof PException) {
@@ -2780,6 +2823,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         Object value = virtualFrame.getObject(stackTop);
         virtualFrame.clear(stackTop--);
         traceOrProfileYield(virtualFrame, mutableData, value, tracingOrProfilingEnabled, bci);
+        int yieldTools = getMonitoringTools(MonitoringSupport.PY_YIELD, bci);
+        if (yieldTools != 0) {
+            monitorEvent(virtualFrame, mutableData, yieldTools, MonitoringSupport.PY_YIELD, bci, value);
+        }
         if (instrumentation != null) {
             notifyReturn(virtualFrame, mutableData, instrumentation, bci, value);
         }
@@ -2809,6 +2856,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
         Object value = virtualFrame.getObject(stackTop);
         traceOrProfileReturn(virtualFrame, mutableData, value, tracingOrProfilingEnabled, bci);
+        int returnTools = getMonitoringTools(MonitoringSupport.PY_RETURN, bci);
+        if (returnTools != 0) {
+            monitorEvent(virtualFrame, mutableData, returnTools, MonitoringSupport.PY_RETURN, bci, value);
+        }
 
         if (instrumentation != null) {
             notifyReturn(virtualFrame, mutableData, instrumentation, bci, value);
@@ -3260,6 +3311,61 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         return bytecodeBinarySubscrOO(virtualFrame, stackTop, bci, localNodes, bcioffset);
     }
 
+    @Override
+    public MonitoringSupport getMonitoringSupport() {
+        if (monitoringSupport == null) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            initializeMonitoringSupport();
+        }
+        return monitoringSupport;
+    }
+
+    @TruffleBoundary
+    private synchronized void initializeMonitoringSupport() {
+        if (monitoringSupport == null) {
+            monitoringSupport = new MonitoringSupport(getLanguage().monitoringEvents);
+        }
+    }
+
+    /**
+     * Returns the tools that need to see {@code event} at {@code bci}. Folds to {@code 0} in
+     * compiled code unless {@code sys.monitoring} was used and a tool subscribed to the event.
+     */
+    private int getMonitoringTools(int event, int bci) {
+        PythonLanguage language = getLanguage(PythonLanguage.class);
+        if (language.noMonitoringAssumption.isValid()) {
+            return 0;
+        }
+        return getMonitoringSupport().getTools(language.monitoringEvents, event, bci);
+    }
+
+    private void fireMonitoringEvent(VirtualFrame virtualFrame, MutableLoopData mutableData, MonitoringState state, int tools, int event, int bci, int offset, Object arg0, Object arg1) {
+        state.fire(virtualFrame, this, getTracingNodes().monitoringCallNode, mutableData.getThreadState(this), getMonitoringSupport(), tools, event, bci, offset, arg0, arg1);
+    }
+
+    @InliningCutoff
+    private void monitorEvent(VirtualFrame virtualFrame, MutableLoopData mutableData, int tools, int event, int bci, Object arg) {
+        fireMonitoringEvent(virtualFrame, mutableData, PythonContext.get(this).getMonitoringState(), tools, event, bci, bci, arg, null);
+    }
+
+    @InliningCutoff
+    private void monitorLine(VirtualFrame virtualFrame, MutableLoopData mutableData, int tools, int bci) {
+        int line = bciToLine(bci);
+        int pastLine = mutableData.getMonitoringPastLine();
+        int pastBci = mutableData.getMonitoringPastBci();
+        mutableData.setMonitoringPastLine(line);
+        mutableData.setMonitoringPastBci(bci);
+        // like for tracing, a backward jump starts the line again
+        if (line >= 0 && (line != pastLine || bci <= pastBci)) {
+            fireMonitoringEvent(virtualFrame, mutableData, PythonContext.get(this).getMonitoringState(), tools, MonitoringSupport.LINE, bci, line, null, null);
+        }
+    }
+
+    @InliningCutoff
+    private void monitorException(VirtualFrame virtualFrame, MutableLoopData mutableData, int tools, int event, int bci, AbstractTruffleException exception) {
+        monitorEvent(virtualFrame, mutableData, tools, event, bci, GetEscapedExceptionNode.executeUncached(exception));
+    }
+
     private TracingNodes getTracingNodes() {
         if (tracingNodes == null) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -3347,10 +3453,34 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
     }
 
-    private void profileCEvent(VirtualFrame virtualFrame, Object callable, PythonContext.ProfileEvent event, MutableLoopData mutableData, byte tracingOrProfilingEnabled, int bci) {
+    private void profileCEvent(VirtualFrame virtualFrame, Object callable, Object arg0, PythonContext.ProfileEvent event, MutableLoopData mutableData, byte tracingOrProfilingEnabled,
+                    int bci) {
         if (isProfilingEnabled(tracingOrProfilingEnabled)) {
             profileCEvent(virtualFrame, callable, event, mutableData, bci);
         }
+        int tools = getMonitoringTools(MonitoringSupport.CALL, bci);
+        if (tools != 0) {
+            monitorCall(virtualFrame, mutableData, tools, callable, arg0, event, bci);
+        }
+    }
+
+    @InliningCutoff
+    private void monitorCall(VirtualFrame virtualFrame, MutableLoopData mutableData, int tools, Object callable, Object arg0, PythonContext.ProfileEvent event, int bci) {
+        int monitoringEvent;
+        if (event == PythonContext.ProfileEvent.C_CALL) {
+            monitoringEvent = MonitoringSupport.CALL;
+        } else if (callable instanceof PFunction || callable instanceof PMethod method && method.getFunction() instanceof PFunction) {
+            // C_RETURN and C_RAISE are only reported for callables that are not Python functions
+            return;
+        } else {
+            monitoringEvent = event == PythonContext.ProfileEvent.C_RETURN ? MonitoringSupport.C_RETURN : MonitoringSupport.C_RAISE;
+        }
+        MonitoringState state = PythonContext.get(this).getMonitoringState();
+        fireMonitoringEvent(virtualFrame, mutableData, state, tools, monitoringEvent, bci, bci, callable, arg0 == null ? state.getMissing() : arg0);
+    }
+
+    private static Object firstArgument(Object[] args) {
+        return args.length > 0 ? args[0] : null;
     }
 
     @InliningCutoff
@@ -5428,12 +5558,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         Object[] args = (Object[]) virtualFrame.getObject(stackTop - 1);
 
         Object result;
-        profileCEvent(virtualFrame, callable, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+        profileCEvent(virtualFrame, callable, firstArgument(args), PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
         try {
             result = callNode.execute(virtualFrame, callable, args, (PKeyword[]) virtualFrame.getObject(stackTop));
-            profileCEvent(virtualFrame, callable, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+            profileCEvent(virtualFrame, callable, firstArgument(args), PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
         } catch (AbstractTruffleException e) {
-            profileCEvent(virtualFrame, callable, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+            profileCEvent(virtualFrame, callable, firstArgument(args), PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
             throw e;
         }
 
@@ -5452,12 +5582,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         Object[] args = (Object[]) virtualFrame.getObject(stackTop);
 
         Object result;
-        profileCEvent(virtualFrame, callable, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+        profileCEvent(virtualFrame, callable, firstArgument(args), PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
         try {
             result = callNode.execute(virtualFrame, callable, args, PKeyword.EMPTY_KEYWORDS);
-            profileCEvent(virtualFrame, callable, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+            profileCEvent(virtualFrame, callable, firstArgument(args), PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
         } catch (AbstractTruffleException e) {
-            profileCEvent(virtualFrame, callable, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+            profileCEvent(virtualFrame, callable, firstArgument(args), PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
             throw e;
         }
 
@@ -5475,12 +5605,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CallNode callNode = insertChildNode(localNodes, bci, UNCACHED_CALL, CallNodeGen.class, NODE_CALL, useCachedNodes);
 
         Object result;
-        profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+        profileCEvent(virtualFrame, func, firstArgument(args), PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
         try {
             result = callNode.execute(virtualFrame, func, args, PKeyword.EMPTY_KEYWORDS);
-            profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+            profileCEvent(virtualFrame, func, firstArgument(args), PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
         } catch (AbstractTruffleException e) {
-            profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+            profileCEvent(virtualFrame, func, firstArgument(args), PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
             throw e;
         }
 
@@ -5506,12 +5636,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             case 0: {
                 CallNode callNode = insertChildNode(localNodes, bci, UNCACHED_CALL, CallNodeGen.class, NODE_CALL, useCachedNodes);
 
-                profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+                profileCEvent(virtualFrame, func, null, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
                 try {
                     result = callNode.execute(virtualFrame, func, PythonUtils.EMPTY_OBJECT_ARRAY, PKeyword.EMPTY_KEYWORDS);
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, null, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
                 } catch (AbstractTruffleException e) {
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, null, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
                     throw e;
                 }
 
@@ -5521,12 +5651,13 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             case 1: {
                 CallUnaryMethodNode callNode = insertChildNode(localNodes, bci, UNCACHED_CALL_UNARY_METHOD, CallUnaryMethodNodeGen.class, NODE_CALL_UNARY_METHOD, useCachedNodes);
 
-                profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+                Object arg0 = virtualFrame.getObject(stackTop);
+                profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
                 try {
-                    result = callNode.executeObject(virtualFrame, func, virtualFrame.getObject(stackTop));
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+                    result = callNode.executeObject(virtualFrame, func, arg0);
+                    profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
                 } catch (AbstractTruffleException e) {
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
                     throw e;
                 }
 
@@ -5541,12 +5672,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 Object arg0 = virtualFrame.getObject(stackTop);
                 virtualFrame.clear(stackTop--);
 
-                profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+                profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
                 try {
                     result = callNode.executeObject(virtualFrame, func, arg0, arg1);
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
                 } catch (AbstractTruffleException e) {
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
                     throw e;
                 }
 
@@ -5562,12 +5693,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 Object arg0 = virtualFrame.getObject(stackTop);
                 virtualFrame.clear(stackTop--);
 
-                profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+                profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
                 try {
                     result = callNode.execute(virtualFrame, func, arg0, arg1, arg2);
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
                 } catch (AbstractTruffleException e) {
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
                     throw e;
                 }
 
@@ -5585,12 +5716,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 Object arg0 = virtualFrame.getObject(stackTop);
                 virtualFrame.clear(stackTop--);
 
-                profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+                profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
                 try {
                     result = callNode.execute(virtualFrame, func, arg0, arg1, arg2, arg3);
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
                 } catch (AbstractTruffleException e) {
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, arg0, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
                     throw e;
                 }
 
@@ -5607,14 +5738,14 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CallComprehensionNode callNode = insertChildNode(localNodes, bci, CallComprehensionNodeGen.class, NODE_CALL_COMPREHENSION);
 
         Object result;
-        profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+        profileCEvent(virtualFrame, func, virtualFrame.getObject(stackTop), PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
         try {
             Object[] arguments = PArguments.create(1);
             PArguments.setArgument(arguments, 0, virtualFrame.getObject(stackTop));
             result = callNode.execute(virtualFrame, func, arguments);
-            profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+            profileCEvent(virtualFrame, func, virtualFrame.getObject(stackTop), PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
         } catch (AbstractTruffleException e) {
-            profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+            profileCEvent(virtualFrame, func, virtualFrame.getObject(stackTop), PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
             throw e;
         }
 
@@ -5645,12 +5776,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             case 0: {
                 CallUnaryMethodNode callNode = insertChildNode(localNodes, bci + 1, UNCACHED_CALL_UNARY_METHOD, CallUnaryMethodNodeGen.class, NODE_CALL_UNARY_METHOD, useCachedNodes);
 
-                profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+                profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
                 try {
                     result = callNode.executeObject(virtualFrame, func, rcvr);
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
                 } catch (AbstractTruffleException e) {
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
                     throw e;
                 }
 
@@ -5661,12 +5792,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             case 1: {
                 CallBinaryMethodNode callNode = insertChildNode(localNodes, bci + 1, UNCACHED_CALL_BINARY_METHOD, CallBinaryMethodNodeGen.class, NODE_CALL_BINARY_METHOD, useCachedNodes);
 
-                profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+                profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
                 try {
                     result = callNode.executeObject(virtualFrame, func, rcvr, virtualFrame.getObject(stackTop));
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
                 } catch (AbstractTruffleException e) {
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
                     throw e;
                 }
 
@@ -5683,12 +5814,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 virtualFrame.clear(stackTop--);
                 virtualFrame.clear(stackTop--);
 
-                profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+                profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
                 try {
                     result = callNode.execute(virtualFrame, func, rcvr, arg0, arg1);
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
                 } catch (AbstractTruffleException e) {
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
                     throw e;
                 }
 
@@ -5707,12 +5838,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 virtualFrame.clear(stackTop--);
                 virtualFrame.clear(stackTop--);
 
-                profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
+                profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_CALL, mutableData, tracingOrProfilingEnabled, bci);
                 try {
                     result = callNode.execute(virtualFrame, func, rcvr, arg0, arg1, arg2);
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_RETURN, mutableData, tracingOrProfilingEnabled, bci);
                 } catch (AbstractTruffleException e) {
-                    profileCEvent(virtualFrame, func, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
+                    profileCEvent(virtualFrame, func, rcvr, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, tracingOrProfilingEnabled, bci);
                     throw e;
                 }
                 virtualFrame.setObject(stackTop, result);
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.bytecode.instrumentation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.utilities.CyclicAssumption;
+
+/**
+ * Per-code state of {@code sys.monitoring} (PEP 669). Both bytecode interpreters ask
+ * {@link #getTools} which tools want to see an event at a given bytecode index. The masks are
+ * compilation final and guarded by cyclic assumptions, so a constant event at a constant index
+ * folds to a constant tool mask: code nobody subscribed to compiles exactly as if monitoring did
+ * not exist, and a probe that returned {@code sys.monitoring.DISABLE} is removed from the
+ * recompiled code. Callbacks themselves live in the per-context
+ * {@link com.oracle.graal.python.runtime.MonitoringState}.
+ */
+public final class MonitoringSupport {
+    public static final int PY_START = 0;
+    public static final int PY_RESUME = 1;
+    public static final int PY_RETURN = 2;
+    public static final int PY_YIELD = 3;
+    public static final int CALL = 4;
+    public static final int LINE = 5;
+    public static final int INSTRUCTION = 6;
+    public static final int JUMP = 7;
+    public static final int BRANCH = 8;
+    public static final int STOP_ITERATION = 9;
+    public static final int RAISE = 10;
+    public static final int EXCEPTION_HANDLED = 11;
+    public static final int PY_UNWIND = 12;
+    public static final int PY_THROW = 13;
+    public static final int RERAISE = 14;
+    public static final int C_RETURN = 15;
+    public static final int C_RAISE = 16;
+
+    /** Events below this number can be enabled per code object and disabled per location. */
+    public static final int LOCAL_EVENTS = 10;
+    public static final int EVENTS = 17;
+    public static final int TOOLS = 6;
+
+    public static final String[] EVENT_NAMES = {"PY_START", "PY_RESUME", "PY_RETURN", "PY_YIELD", "CALL", "LINE", "INSTRUCTION", "JUMP", "BRANCH", "STOP_ITERATION", "RAISE",
+                    "EXCEPTION_HANDLED", "PY_UNWIND", "PY_THROW", "RERAISE", "C_RETURN", "C_RAISE"};
+
+    private final CyclicAssumption stable = new CyclicAssumption("sys.monitoring local events");
+    @CompilationFinal(dimensions = 1) private byte[] localTools = new byte[LOCAL_EVENTS];
+    /* Tools disabled per location, indexed by bci * LOCAL_EVENTS + event. */
+    @CompilationFinal(dimensions = 1) private byte[] disabledTools;
+
+    public MonitoringSupport(GlobalEvents global) {
+        global.register(this);
+    }
+
+    /**
+     * Returns the mask of tools that are interested in {@code event} at {@code bci}. Must be
+     * guarded by {@code PythonLanguage#noMonitoringAssumption} so that the lookup disappears when
+     * monitoring was never enabled.
+     */
+    public int getTools(GlobalEvents global, int event, int bci) {
+        int tools = global.getTools(event);
+        if (event < LOCAL_EVENTS) {
+            if (!stable.getAssumption().isValid()) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+            }
+            tools |= localTools[event];
+            byte[] disabled = disabledTools;
+            int index = bci * LOCAL_EVENTS + event;
+            if (disabled != null && index < disabled.length) {
+                tools &= ~disabled[index];
+            }
+        }
+        return tools;
+    }
+
+    /**
+     * Folds the local events of {@code tool} into the compiled masks. Root nodes are shared by all
+     * contexts of an engine, so unless {@code exact} (single-context mode) events are only added and
+     * the contexts filter by their own local events when the event fires.
+     */
+    @TruffleBoundary
+    public synchronized void setLocalEvents(int tool, int events, boolean exact) {
+        byte[] newTools = localTools.clone();
+        for (int event = 0; event < LOCAL_EVENTS; event++) {
+            if ((events & (1 << event)) != 0) {
+                newTools[event] |= (byte) (1 << tool);
+            } else if (exact) {
+                newTools[event] &= (byte) ~(1 << tool);
+            }
+        }
+        if (!Arrays.equals(newTools, localTools)) {
+            localTools = newTools;
+            stable.invalidate();
+        }
+    }
+
+    /**
+     * Stops delivering {@code event} at {@code bci} to {@code toolsMask}. Only valid in
+     * single-context mode, since other contexts may still be subscribed at this location.
+     */
+    @TruffleBoundary
+    public synchronized void disable(int bci, int event, int toolsMask) {
+        assert event < LOCAL_EVENTS && bci >= 0;
+        int index = bci * LOCAL_EVENTS + event;
+        byte[] disabled = disabledTools;
+        if (disabled == null || index >= disabled.length) {
+            disabled = disabled == null ? new byte[index + LOCAL_EVENTS] : Arrays.copyOf(disabled, Math.max(index + LOCAL_EVENTS, disabled.length * 2));
+        } else {
+            disabled = disabled.clone();
+        }
+        disabled[index] |= (byte) toolsMask;
+        disabledTools = disabled;
+        stable.invalidate();
+    }
+
+    @TruffleBoundary
+    synchronized void restart() {
+        if (disabledTools != null) {
+            disabledTools = null;
+            stable.invalidate();
+        }
+    }
+
+    @TruffleBoundary
+    synchronized void freeTool(int tool) {
+        setLocalEvents(tool, 0, true);
+        if (disabledTools != null) {
+            byte[] disabled = disabledTools.clone();
+            for (int i = 0; i < disabled.length; i++) {
+                disabled[i] &= (byte) ~(1 << tool);
+            }
+            disabledTools = disabled;
+            stable.invalidate();
+        }
+    }
+
+    /**
+     * The tools subscribed to each event through {@code sys.monitoring.set_events}. This is
+     * language-wide so it can be folded into shared compiled code. When several contexts share the
+     * language, a tool stays subscribed here once any context subscribed it and the contexts filter
+     * by their own subscriptions when the event fires.
+     */
+    public static final class GlobalEvents {
+        private final CyclicAssumption stable = new CyclicAssumption("sys.monitoring global events");
+        @CompilationFinal(dimensions = 1) private byte[] tools = new byte[EVENTS];
+        private final Set<MonitoringSupport> supports = Collections.newSetFromMap(new WeakHashMap<>());
+
+        public int getTools(int event) {
+            if (!stable.getAssumption().isValid()) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+            }
+            return tools[event];
+        }
+
+        @TruffleBoundary
+        public synchronized void setTools(int event, int mask, boolean exact) {
+            byte newMask = (byte) (exact ? mask : tools[event] | mask);
+            if (tools[event] != newMask) {
+                byte[] newTools = tools.clone();
+                newTools[event] = newMask;
+                tools = newTools;
+                stable.invalidate();
+            }
+        }
+
+        private synchronized void register(MonitoringSupport support) {
+            supports.add(support);
+        }
+
+        /**
+         * Re-enables all locations disabled by returning {@code DISABLE} from a callback. Only used
+         * in single-context mode, the only mode in which locations are disabled here.
+         */
+        @TruffleBoundary
+        public void restartEvents() {
+            for (MonitoringSupport support : getSupports()) {
+                support.restart();
+            }
+        }
+
+        /**
+         * Removes all per-code events and disabled locations of {@code tool}. Only used in
+         * single-context mode; otherwise another context may still use the same tool id.
+         */
+        @TruffleBoundary
+        public void freeTool(int tool) {
+            for (MonitoringSupport support : getSupports()) {
+                support.freeTool(tool);
+            }
+        }
+
+        private synchronized MonitoringSupport[] getSupports() {
+            return supports.toArray(new MonitoringSupport[0]);
+        }
+    }
+}
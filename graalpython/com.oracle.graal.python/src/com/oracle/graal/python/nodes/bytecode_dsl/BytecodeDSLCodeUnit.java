@@ -71,6 +71,15 @@ public final class BytecodeDSLCodeUnit extends CodeUnit {
         public abstract PBytecodeDSLRootNode createRootNode(PythonLanguage language);
 
         public abstract byte[] createSerializedBytecode(PythonLanguage language);
+
+        /**
+         * Returns the code unit with complete metadata for {@code codeUnit}. Suppliers that
+         * compile the function body lazily hand out code units that only carry what is needed to
+         * create the function object; the complete code unit exists once the body is compiled.
+         */
+        public BytecodeDSLCodeUnit getCompiledCodeUnit(BytecodeDSLCodeUnit codeUnit) {
+            return codeUnit;
+        }
     }
 
     public BytecodeDSLCodeUnit withFlags(int flags) {
@@ -85,10 +94,20 @@ public final class BytecodeDSLCodeUnit extends CodeUnit {
         // engines. The caller is responsible for ensuring the caching of the resulting root node if
         // necessary
         PBytecodeDSLRootNode rootNode = supplier.createRootNode(language);
-        rootNode.setMetadata(this, null, isInternal);
+        rootNode.setMetadata(getCompiledCodeUnit(), null, isInternal);
         return rootNode;
     }
 
+    /**
+     * Returns this code unit, or, if its body has not been compiled yet (see
+     * {@link com.oracle.graal.python.runtime.PythonOptions#LazyFunctionBodies}), compiles it and
+     * returns the code unit with the complete names, constants and frame layout.
+     */
+    @TruffleBoundary
+    public BytecodeDSLCodeUnit getCompiledCodeUnit() {
+        return supplier.getCompiledCodeUnit(this);
+    }
+
     public byte[] getSerialized(PythonLanguage language) {
         CompilerAsserts.neverPartOfCompilation();
         return supplier.createSerializedBytecode(language);
@@ -60,7 +60,6 @@ import static com.oracle.truffle.api.CompilerDirectives.shouldNotReachHere;
 import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
@@ -87,6 +86,7 @@ import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.exception.BaseExceptionGroupBuiltins;
 import com.oracle.graal.python.builtins.objects.exception.ChainExceptionsNode;
 import com.oracle.graal.python.builtins.objects.exception.ExceptionNodes;
+import com.oracle.graal.python.builtins.objects.exception.GetEscapedExceptionNode;
 import com.oracle.graal.python.builtins.objects.exception.PBaseException;
 import com.oracle.graal.python.builtins.objects.exception.PBaseExceptionGroup;
 import com.oracle.graal.python.builtins.objects.frame.PFrame;
@@ -210,6 +210,7 @@ import com.oracle.graal.python.nodes.bytecode.MatchKeysNode;
 import com.oracle.graal.python.nodes.bytecode.PrintExprNode;
 import com.oracle.graal.python.nodes.bytecode.RaiseNode;
 import com.oracle.graal.python.nodes.bytecode.SetupAnnotationsNode;
+import com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport;
 import com.oracle.graal.python.nodes.call.BoundDescriptor;
 import com.oracle.graal.python.nodes.call.CallDispatchers;
 import com.oracle.graal.python.nodes.call.CallDispatchers.FunctionIndirectInvokeNode;
@@ -408,10 +409,12 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         @Child MaterializeFrameNode materializeFrameNode = MaterializeFrameNode.create();
         @Child CallNode tracingCallNode = CallNode.create();
         @Child CallNode profilingCallNode = CallNode.create();
+        @Child CallNode monitoringCallNode = CallNode.create();
     }
 
     // Not a child of this root, adopted by the BytecodeNode
     @CompilationFinal private transient TracingNodes tracingNodes;
+    @CompilationFinal private transient MonitoringSupport monitoringSupport;
 
     // These fields are effectively final, but can only be set after construction.
     @CompilationFinal protected transient BytecodeDSLCodeUnit co;
@@ -423,12 +426,6 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
     @CompilationFinal protected transient int maxProfileCEventStackSize;
     @CompilationFinal(dimensions = 1) protected transient Assumption[] cellEffectivelyFinalAssumptions;
 
-    /*
-     * We don't want to store the assumption in MakeFunction node to be able to have an uncached version of it.
-     * So we put it into the root of the function that MakeFunction is creating.
-     */
-    private final transient AtomicReference<Assumption> functionCodeFinalAssumption = new AtomicReference<>();
-
     private transient boolean pythonInternal;
     @CompilationFinal private transient boolean internal;
 
@@ -576,6 +573,9 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
             if (root.needsTraceAndProfileInstrumentation()) {
                 root.traceOrProfileReturn(frame, location, returnValue);
             }
+            if (root.needsMonitoring()) {
+                root.monitorExit(frame, location, MonitoringSupport.PY_RETURN, returnValue);
+            }
             root.calleeContext.exit(frame, root, location);
             return returnValue;
         }
@@ -594,6 +594,9 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
             if (root.needsTraceAndProfileInstrumentation()) {
                 root.traceOrProfileReturn(frame, location, null);
             }
+            if (root.needsMonitoring()) {
+                root.monitorExit(frame, location, MonitoringSupport.PY_UNWIND, GetEscapedExceptionNode.executeUncached(ate));
+            }
             root.calleeContext.exit(frame, root, location);
         }
     }
@@ -736,6 +739,52 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         return !getLanguage().noTracingOrProfilingAssumption.isValid();
     }
 
+    @NonIdempotent
+    public final boolean needsMonitoring() {
+        return !getLanguage().noMonitoringAssumption.isValid();
+    }
+
+    @Override
+    public final MonitoringSupport getMonitoringSupport() {
+        if (monitoringSupport == null) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            initializeMonitoringSupport();
+        }
+        return monitoringSupport;
+    }
+
+    @TruffleBoundary
+    private synchronized void initializeMonitoringSupport() {
+        if (monitoringSupport == null) {
+            monitoringSupport = new MonitoringSupport(getLanguage().monitoringEvents);
+        }
+    }
+
+    /**
+     * Delivers a {@code sys.monitoring} event if any tool wants to see it at {@code bci}. The
+     * callback receives {@code offset} and, unless it is {@code null}, {@code arg}.
+     */
+    private void monitor(VirtualFrame frame, BytecodeNode location, int event, int bci, int offset, Object arg) {
+        if (needsMonitoring()) {
+            int tools = getMonitoringSupport().getTools(getLanguage().monitoringEvents, event, bci);
+            if (tools != 0) {
+                fireMonitoringEvent(frame, location, tools, event, bci, offset, arg);
+            }
+        }
+    }
+
+    @InliningCutoff
+    private void fireMonitoringEvent(VirtualFrame frame, BytecodeNode location, int tools, int event, int bci, int offset, Object arg) {
+        PythonContext.get(this).getMonitoringState().fire(frame, location, getTracingNodes(location).monitoringCallNode, getThreadState(), getMonitoringSupport(), tools, event, bci, offset,
+                        arg, null);
+    }
+
+    @InliningCutoff
+    private void monitorExit(VirtualFrame frame, BytecodeNode location, int event, Object value) {
+        int bci = location.getBytecodeIndex(frame);
+        monitor(frame, location, event, bci, bci, value);
+    }
+
     @NonIdempotent
     public final PythonThreadState getThreadState() {
         return PythonContext.get(this).getThreadState(getLanguage());
@@ -893,7 +942,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
     }
 
     @InliningCutoff
-    private void traceLine(VirtualFrame frame, BytecodeNode location, int line) {
+    private void traceLine(VirtualFrame frame, BytecodeNode location, int bci, int line) {
         PythonThreadState threadState = getThreadState();
         InstrumentationData instrumentationData = getInstrumentationData(frame, location);
 
@@ -905,6 +954,10 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         instrumentationData.setPastLine(line);
         instrumentationData.setNonClearingPastLine(line);
 
+        monitor(frame, location, MonitoringSupport.LINE, bci, line, null);
+        if (!needsTraceAndProfileInstrumentation()) {
+            return;
+        }
         PFrame pyFrame = ensurePyFrame(frame, location);
         if (pyFrame.getTraceLine()) {
             Object traceFun = threadState.getTraceFun();
@@ -915,7 +968,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
     }
 
     @InliningCutoff
-    private void traceLineAtLoopHeader(VirtualFrame frame, BytecodeNode location, int line) {
+    private void traceLineAtLoopHeader(VirtualFrame frame, BytecodeNode location, int bci, int line) {
         PythonThreadState threadState = getThreadState();
         InstrumentationData instrumentationData = getInstrumentationData(frame, location);
         int pastLine = instrumentationData.getPastLine();
@@ -923,6 +976,13 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         instrumentationData.setPastLine(line);
         instrumentationData.setNonClearingPastLine(line);
 
+        if (line != pastLine) {
+            monitor(frame, location, MonitoringSupport.LINE, bci, line, null);
+        }
+        if (!needsTraceAndProfileInstrumentation()) {
+            instrumentationData.clearPastLine();
+            return;
+        }
         PFrame pyFrame = ensurePyFrame(frame, location);
         if (pyFrame.getTraceLine()) {
             /**
@@ -1010,6 +1070,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                         @Bind BytecodeNode bytecode,
                         @Bind("$bytecodeIndex") int bci) {
             root.traceOrProfileCall(frame, bytecode, bci);
+            root.monitor(frame, bytecode, MonitoringSupport.PY_START, bci, bci, null);
         }
     }
 
@@ -1020,8 +1081,9 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         public static void perform(VirtualFrame frame,
                         int line,
                         @Bind BytecodeNode location,
-                        @Bind PBytecodeDSLRootNode root) {
-            root.traceLine(frame, location, line);
+                        @Bind PBytecodeDSLRootNode root,
+                        @Bind("$bytecodeIndex") int bci) {
+            root.traceLine(frame, location, bci, line);
         }
     }
 
@@ -1032,8 +1094,9 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         public static void perform(VirtualFrame frame,
                         int line,
                         @Bind BytecodeNode location,
-                        @Bind PBytecodeDSLRootNode root) {
-            root.traceLineAtLoopHeader(frame, location, line);
+                        @Bind PBytecodeDSLRootNode root,
+                        @Bind("$bytecodeIndex") int bci) {
+            root.traceLineAtLoopHeader(frame, location, bci, line);
         }
     }
 
@@ -1128,9 +1191,10 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         @Specialization
         public static Object perform(VirtualFrame frame, Object value, int line,
                         @Bind BytecodeNode location,
-                        @Bind PBytecodeDSLRootNode root) {
+                        @Bind PBytecodeDSLRootNode root,
+                        @Bind("$bytecodeIndex") int bci) {
             if (line != -1) {
-                root.traceLine(frame, location, line);
+                root.traceLine(frame, location, bci, line);
             }
             return value;
         }
@@ -1157,6 +1221,9 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
             if (needsTraceAndProfileInstrumentation() && !getThreadState().isTracing()) {
                 pe = traceException(frame, bytecodeNode, bci, pe);
             }
+            if (needsMonitoring()) {
+                monitor(frame, bytecodeNode, MonitoringSupport.RAISE, bci, bci, pe.getEscapedException());
+            }
 
             // Fill in the __context__, if available.
             if (getCaughtExceptionNode == null) {
@@ -1361,18 +1428,6 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         return yieldFromGeneratorIndex != -1;
     }
 
-    public Assumption getFunctionCodeFinalAssumption() {
-        CompilerAsserts.neverPartOfCompilation();
-        Assumption assumption = functionCodeFinalAssumption.get();
-        if (assumption == null) {
-            assumption = Truffle.getRuntime().createAssumption("code stable assumption");
-            if (!functionCodeFinalAssumption.compareAndSet(null, assumption)) {
-                assumption = functionCodeFinalAssumption.get();
-            }
-        }
-        return assumption;
-    }
-
     @Operation
     @ConstantOperand(type = int.class)
     public static final class ArrayIndex {
@@ -1453,6 +1508,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                         @Bind("$bytecodeIndex") int bci) {
             root.resetInstrumentationDataForResume(frame, bytecode, bci);
             root.traceOrProfileCall(frame, bytecode, bci);
+            root.monitor(frame, bytecode, MonitoringSupport.PY_START, bci, bci, null);
             return generator;
         }
     }
@@ -1463,8 +1519,10 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         public static Object doObject(Object value,
                         @Bind MaterializedFrame frame,
                         @Bind PBytecodeDSLRootNode root,
-                        @Bind BytecodeNode bytecode) {
+                        @Bind BytecodeNode bytecode,
+                        @Bind("$bytecodeIndex") int bci) {
             root.traceOrProfileReturn(frame, bytecode, value);
+            root.monitor(frame, bytecode, MonitoringSupport.PY_YIELD, bci, bci, value);
             return value;
         }
     }
@@ -1784,8 +1842,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
 
         @NeverDefault
         static Assumption getCodeStableAssumption(PCode code) {
-            PBytecodeDSLRootNode rootNode = (PBytecodeDSLRootNode) code.getRootNode();
-            return rootNode.getFunctionCodeFinalAssumption();
+            return code.getFunctionCodeFinalAssumption();
         }
 
         @NeverDefault
@@ -3933,6 +3990,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                         @Bind("$bytecodeIndex") int bci) {
             root.resetInstrumentationDataForResume(frame, bytecode, bci);
             root.traceOrProfileCall(frame, bytecode, bci);
+            root.monitor(frame, bytecode, MonitoringSupport.PY_RESUME, bci, bci, null);
             return sendValue;
         }
     }
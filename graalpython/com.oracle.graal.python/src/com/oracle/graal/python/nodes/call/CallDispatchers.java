@@ -51,6 +51,7 @@ import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.argument.CreateArgumentsNode;
 import com.oracle.graal.python.nodes.call.CallDispatchersFactory.FunctionIndirectInvokeNodeGen;
+import com.oracle.graal.python.runtime.CriticalSection;
 import com.oracle.graal.python.runtime.ExecutionContext;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCalleeContext;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -114,18 +115,24 @@ public class CallDispatchers {
                         @Cached InlinedConditionProfile profileIsNullFrame,
                         @Cached ExecutionContext.CallContext callContext) {
             RootCallTarget callTarget = (RootCallTarget) callNode.getCurrentCallTarget();
-            if (profileIsNullFrame.profile(inliningTarget, frame == null)) {
-                PythonContext context = PythonContext.get(inliningTarget);
-                PythonThreadState threadState = context.getThreadState(context.getLanguage(inliningTarget));
-                Object state = IndirectCalleeContext.enter(threadState, arguments);
-                try {
+            PythonLanguage language = PythonLanguage.get(inliningTarget);
+            Object suspended = CriticalSection.suspend(inliningTarget, language);
+            try {
+                if (profileIsNullFrame.profile(inliningTarget, frame == null)) {
+                    PythonContext context = PythonContext.get(inliningTarget);
+                    PythonThreadState threadState = context.getThreadState(language);
+                    Object state = IndirectCalleeContext.enter(threadState, arguments);
+                    try {
+                        return callNode.call(arguments);
+                    } finally {
+                        IndirectCalleeContext.exit(threadState, state);
+                    }
+                } else {
+                    callContext.prepareCall(frame, arguments, callTarget);
                     return callNode.call(arguments);
-                } finally {
-                    IndirectCalleeContext.exit(threadState, state);
                 }
-            } else {
-                callContext.prepareCall(frame, arguments, callTarget);
-                return callNode.call(arguments);
+            } finally {
+                CriticalSection.resume(inliningTarget, language, suspended);
             }
         }
     }
@@ -153,18 +160,24 @@ public class CallDispatchers {
                         @Cached InlinedConditionProfile profileIsNullFrame,
                         @Cached ExecutionContext.CallContext callContext,
                         @Cached IndirectCallNode callNode) {
-            if (profileIsNullFrame.profile(inliningTarget, frame == null)) {
-                PythonContext context = PythonContext.get(inliningTarget);
-                PythonThreadState threadState = context.getThreadState(context.getLanguage(inliningTarget));
-                Object state = IndirectCalleeContext.enter(threadState, arguments);
-                try {
+            PythonLanguage language = PythonLanguage.get(inliningTarget);
+            Object suspended = CriticalSection.suspend(inliningTarget, language);
+            try {
+                if (profileIsNullFrame.profile(inliningTarget, frame == null)) {
+                    PythonContext context = PythonContext.get(inliningTarget);
+                    PythonThreadState threadState = context.getThreadState(language);
+                    Object state = IndirectCalleeContext.enter(threadState, arguments);
+                    try {
+                        return callNode.call(callTarget, arguments);
+                    } finally {
+                        IndirectCalleeContext.exit(threadState, state);
+                    }
+                } else {
+                    callContext.prepareCall(frame, arguments, callTarget);
                     return callNode.call(callTarget, arguments);
-                } finally {
-                    IndirectCalleeContext.exit(threadState, state);
                 }
-            } else {
-                callContext.prepareCall(frame, arguments, callTarget);
-                return callNode.call(callTarget, arguments);
+            } finally {
+                CriticalSection.resume(inliningTarget, language, suspended);
             }
         }
 
@@ -68,6 +68,7 @@ import com.oracle.graal.python.nodes.frame.ReadFrameNode;
 import com.oracle.graal.python.runtime.ExecutionContext.CalleeContext;
 import com.oracle.graal.python.runtime.exception.ExceptionUtils;
 import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.util.Consumer;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.graal.python.util.Supplier;
 import com.oracle.graal.python.util.SuppressFBWarnings;
@@ -228,7 +229,6 @@ public class AsyncHandler {
     private final WeakReference<PythonContext> context;
     private final Queue<AsyncAction> rescheduled = new ConcurrentLinkedDeque<>();
     private static final int ASYNC_ACTION_DELAY = 25;
-    private static final int GIL_RELEASE_DELAY = 50;
 
     private class AsyncRunnable implements Runnable {
         private final Supplier<AsyncAction> actionSupplier;
@@ -391,7 +391,11 @@ public class AsyncHandler {
         }
     }
 
-    private static class GilReleaseScheduler implements Runnable {
+    /**
+     * Asks the GIL owner to drop the GIL at its next safepoint. Called by a thread that has been
+     * waiting for the GIL for the whole switch interval.
+     */
+    private static class GilReleaseScheduler implements Consumer<Thread> {
         private final PythonContext ctx;
         private volatile boolean gilReleaseRequested;
         private Thread lastGilOwner;
@@ -401,64 +405,57 @@ public class AsyncHandler {
         }
 
         @Override
-        public void run() {
-            if (!ctx.gilHasQueuedThreads()) {
-                // Don't release the gil if nobody is waiting for it
-                return;
-            }
-            Thread gilOwner = ctx.getGilOwner();
-            if (gilOwner != null) {
-                synchronized (this) {
-                    if (!gilReleaseRequested) {
-                        gilReleaseRequested = true;
-                        /*
-                         * There is a race, but that's no problem. The gil owner may release the gil
-                         * before getting to run this safepoint. In that case, it just ignores it.
-                         * Some other thread will run and eventually get another gil release
-                         * request.
-                         */
-                        ctx.getEnv().submitThreadLocal(new Thread[]{gilOwner}, new ThreadLocalAction(true, false) {
-                            @Override
-                            protected void perform(ThreadLocalAction.Access access) {
-                                // it may happen that we request a GIL release and no thread is
-                                // currently holding the GIL (e.g. all are sleeping). We still need
-                                // to tick again later, so we reset the gilReleaseRequested flag
-                                // even
-                                // when the thread in question isn't actually holding it.
-                                gilReleaseRequested = false;
-                                RootNode rootNode = access.getLocation().getRootNode();
-                                if (rootNode instanceof PRootNode) {
-                                    if (rootNode.isInternal()) {
-                                        return;
-                                    }
-                                    if (((PRootNode) rootNode).isPythonInternal()) {
-                                        return;
-                                    }
-                                    // we only release the gil in ordinary Python code nodes
-                                    GilNode gil = GilNode.getUncached();
-                                    if (gil.tryRelease()) {
-                                        gil.acquire(PythonContext.get(gil), access.getLocation());
-                                    }
+        public void accept(Thread gilOwner) {
+            synchronized (this) {
+                if (!gilReleaseRequested) {
+                    gilReleaseRequested = true;
+                    /*
+                     * There is a race, but that's no problem. The gil owner may release the gil
+                     * before getting to run this safepoint. In that case, it just ignores it. The
+                     * waiting thread will time out again and send another gil release request.
+                     */
+                    ctx.getEnv().submitThreadLocal(new Thread[]{gilOwner}, new ThreadLocalAction(true, false) {
+                        @Override
+                        protected void perform(ThreadLocalAction.Access access) {
+                            // it may happen that we request a GIL release and the thread in
+                            // question isn't holding it anymore. We still need to be able to
+                            // request again later, so we reset the gilReleaseRequested flag even
+                            // when the thread isn't actually holding it.
+                            gilReleaseRequested = false;
+                            RootNode rootNode = access.getLocation().getRootNode();
+                            if (rootNode instanceof PRootNode) {
+                                if (rootNode.isInternal()) {
+                                    return;
+                                }
+                                if (((PRootNode) rootNode).isPythonInternal()) {
+                                    return;
+                                }
+                                // we only release the gil in ordinary Python code nodes. The GIL
+                                // is handed over to the longest waiting thread, so we queue up
+                                // behind it when re-acquiring.
+                                GilNode gil = GilNode.getUncached();
+                                if (gil.tryRelease()) {
+                                    gil.acquire(PythonContext.get(gil), access.getLocation());
                                 }
                             }
-                        });
-                    } else if (gilOwner != lastGilOwner && gilOwner.isAlive()) {
-                        /*
-                         * If the gil changed owner since the last time we observed it, clear the
-                         * flag to make sure we don't get stuck if the last owner exits before
-                         * executing the safepoint.
-                         */
-                        gilReleaseRequested = false;
-                    }
-                    if (gilOwner.isAlive()) {
-                        lastGilOwner = gilOwner;
-                    } else {
-                        /*
-                         * we should only store the thread if the thread is still alive, otherwise,
-                         * we will be referring to an object that should have been collected.
-                         */
-                        lastGilOwner = null;
-                    }
+                        }
+                    });
+                } else if (gilOwner != lastGilOwner && gilOwner.isAlive()) {
+                    /*
+                     * If the gil changed owner since the last time we observed it, clear the flag
+                     * to make sure we don't get stuck if the last owner exits before executing the
+                     * safepoint.
+                     */
+                    gilReleaseRequested = false;
+                }
+                if (gilOwner.isAlive()) {
+                    lastGilOwner = gilOwner;
+                } else {
+                    /*
+                     * we should only store the thread if the thread is still alive, otherwise, we
+                     * will be referring to an object that should have been collected.
+                     */
+                    lastGilOwner = null;
                 }
             }
         }
@@ -470,16 +467,9 @@ public class AsyncHandler {
         if (ctx == null) {
             return;
         }
-        final Runnable gilReleaseRunnable = new GilReleaseScheduler(ctx);
-        if (PythonOptions.AUTOMATIC_ASYNC_ACTIONS) {
-            executorService.scheduleWithFixedDelay(gilReleaseRunnable, GIL_RELEASE_DELAY, GIL_RELEASE_DELAY, TimeUnit.MILLISECONDS);
-        } else {
-            // we will release the gil when polled to do so
-            registeredActions.add(new AsyncRunnable(() -> {
-                gilReleaseRunnable.run();
-                return null;
-            }));
-        }
+        // threads waiting for the GIL drive the release requests themselves, see
+        // GlobalInterpreterLock, so there is nothing to schedule periodically
+        ctx.setGilDropRequestHandler(new GilReleaseScheduler(ctx));
     }
 
     public void shutdown() {
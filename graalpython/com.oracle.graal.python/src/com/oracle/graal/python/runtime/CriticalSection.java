@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleSafepoint;
+import com.oracle.truffle.api.nodes.Node;
+
+/**
+ * Per-object critical sections for the experimental {@link PythonOptions#FreeThreading} mode, in
+ * the spirit of {@code Py_BEGIN_CRITICAL_SECTION} from PEP 703. Without the GIL, operations on the
+ * storage of builtin containers must not interleave, so they run while holding the lock of the
+ * container (see {@link Lockable}). With the GIL enabled, {@link #enter} folds to {@code null} and
+ * there is no overhead.
+ *
+ * Usage:
+ *
+ * <pre>
+ * Object section = CriticalSection.enter(inliningTarget, language, self);
+ * try {
+ *     ...
+ * } finally {
+ *     CriticalSection.exit(inliningTarget, section);
+ * }
+ * </pre>
+ *
+ * As in CPython, a thread holds at most one critical section lock at a time: entering a section on
+ * another object releases the lock of the enclosing section, which is re-acquired when the inner
+ * section exits. Likewise, the call dispatchers {@link #suspend} the current section for the
+ * duration of any call into Python code, such as {@code __eq__} of a dictionary key or the
+ * {@code __next__} of an iterator consumed by {@code list.extend}. Hence there is no lock ordering
+ * to deadlock on, and the container operations must tolerate the container being mutated during
+ * such a call, as they already must with the GIL. Waiting for a lock is interruptible by
+ * safepoints.
+ */
+public final class CriticalSection {
+
+    /**
+     * Mutable builtin containers that can be the subject of a critical section. The lock is
+     * created lazily, so containers that are never shared between threads do not pay for it.
+     */
+    public interface Lockable {
+        ReentrantLock getCriticalSectionLock();
+    }
+
+    /**
+     * Token for a section that needs no locking, because the thread already holds the lock of the
+     * object.
+     */
+    private static final Object NESTED = new Object();
+
+    private record Section(PythonThreadState threadState, Lockable object, Lockable outer) {
+    }
+
+    private CriticalSection() {
+    }
+
+    /**
+     * Enters a critical section on {@code object}. Returns the token to pass to {@link #exit},
+     * which is {@code null} if the GIL is enabled. Objects that are not {@link Lockable} need no
+     * critical section.
+     */
+    public static Object enter(Node location, PythonLanguage language, Object object) {
+        if (language.isFreeThreading()) {
+            return enterSection(location, getThreadState(location, language), object);
+        }
+        return null;
+    }
+
+    public static void exit(Node location, Object section) {
+        if (section != null && section != NESTED) {
+            exitSection(location, (Section) section);
+        }
+    }
+
+    /**
+     * Releases the lock of the current critical section of this thread, if any, before calling
+     * into Python code. Returns the token to pass to {@link #resume} after the call.
+     */
+    public static Object suspend(Node location, PythonLanguage language) {
+        if (language.isFreeThreading()) {
+            PythonThreadState threadState = getThreadState(location, language);
+            Lockable held = threadState.criticalSection;
+            if (held != null) {
+                threadState.criticalSection = null;
+                unlock(held);
+                return held;
+            }
+        }
+        return null;
+    }
+
+    public static void resume(Node location, PythonLanguage language, Object suspended) {
+        if (suspended != null) {
+            Lockable object = (Lockable) suspended;
+            lock(location, object);
+            getThreadState(location, language).criticalSection = object;
+        }
+    }
+
+    private static PythonThreadState getThreadState(Node location, PythonLanguage language) {
+        return PythonContext.get(location).getThreadState(language);
+    }
+
+    @TruffleBoundary
+    private static Object enterSection(Node location, PythonThreadState threadState, Object target) {
+        Lockable outer = threadState.criticalSection;
+        if (outer == target || !(target instanceof Lockable object)) {
+            return NESTED;
+        }
+        if (outer != null) {
+            threadState.criticalSection = null;
+            unlock(outer);
+        }
+        /*
+         * If waiting is interrupted by an exception, the outer section stays released. Its exit
+         * then does nothing, since the thread no longer holds the lock.
+         */
+        lock(location, object);
+        threadState.criticalSection = object;
+        return new Section(threadState, object, outer);
+    }
+
+    @TruffleBoundary
+    private static void exitSection(Node location, Section section) {
+        PythonThreadState threadState = section.threadState;
+        if (threadState.criticalSection == section.object) {
+            threadState.criticalSection = null;
+            unlock(section.object);
+        }
+        if (section.outer != null) {
+            lock(location, section.outer);
+            threadState.criticalSection = section.outer;
+        }
+    }
+
+    @TruffleBoundary
+    private static void lock(Node location, Lockable object) {
+        ReentrantLock lock = object.getCriticalSectionLock();
+        if (!lock.tryLock()) {
+            TruffleSafepoint.setBlockedThreadInterruptible(location, ReentrantLock::lockInterruptibly, lock);
+        }
+    }
+
+    @TruffleBoundary
+    private static void unlock(Lockable object) {
+        object.getCriticalSectionLock().unlock();
+    }
+}
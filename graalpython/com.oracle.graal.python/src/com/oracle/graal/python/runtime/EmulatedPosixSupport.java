@@ -128,6 +128,10 @@ import static com.oracle.graal.python.runtime.PosixConstants.S_IFSOCK;
 import static com.oracle.graal.python.runtime.PosixConstants.TCP_NODELAY;
 import static com.oracle.graal.python.runtime.PosixConstants.W_OK;
 import static com.oracle.graal.python.runtime.PosixConstants.X_OK;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLIN;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLNVAL;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLOUT;
+import static com.oracle.graal.python.runtime.PosixSupportLibrary.POLLPRI;
 import static com.oracle.graal.python.util.PythonUtils.EMPTY_INT_ARRAY;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
@@ -172,10 +176,12 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.AlreadyConnectedException;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.CancelledKeyException;
 import java.nio.channels.Channel;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
+import java.nio.channels.IllegalBlockingModeException;
 import java.nio.channels.NetworkChannel;
 import java.nio.channels.NotYetConnectedException;
 import java.nio.channels.ReadableByteChannel;
@@ -205,6 +211,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -214,6 +221,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 
 import org.graalvm.nativeimage.ImageInfo;
@@ -237,6 +245,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet4SockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet6SockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.InvalidAddressException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.OpenPtyResult;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PollResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixErrnoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PwdResult;
@@ -249,8 +258,10 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.UniversalSockAddrLibr
 import com.oracle.graal.python.runtime.PosixSupportLibrary.UnixSockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.UnsupportedPosixFeatureException;
 import com.oracle.graal.python.runtime.exception.PythonExitException;
+import com.oracle.graal.python.util.ConcurrentWeakSet;
 import com.oracle.graal.python.util.FileDeleteShutdownHook;
 import com.oracle.graal.python.util.IPAddressUtil;
+import com.oracle.graal.python.util.IntArrayBuilder;
 import com.oracle.graal.python.util.OverflowException;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -358,6 +369,7 @@ public final class EmulatedPosixSupport extends PosixResources {
     private ScheduledFuture<?> itimerFuture;
     private long itimerInterval;
     private Alarm currentAlarm;
+    private final ConcurrentWeakSet<EmulatedPoller> pollers = new ConcurrentWeakSet<>();
 
     public EmulatedPosixSupport(PythonContext context) {
         super(context);
@@ -556,6 +568,194 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
     }
 
+    @ExportMessage
+    public int readInto(int fd, byte[] buf, int offset, int len,
+                    @Bind Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        Channel channel = getFileChannel(fd);
+        if (!(channel instanceof ReadableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        try {
+            return Math.max(doReadOp(ByteBuffer.wrap(buf, offset, len), (ReadableByteChannel) channel), 0);
+        } catch (Exception e) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.fromException(e, eqNode));
+        }
+    }
+
+    @TruffleBoundary(allowInlining = true)
+    private static int doReadOp(ByteBuffer dst, ReadableByteChannel channel) throws IOException {
+        return channel.read(dst);
+    }
+
+    @ExportMessage
+    public int pread(int fd, byte[] buf, int offset, int len, long position,
+                    @Bind Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        Channel channel = getFileChannel(fd);
+        if (!(channel instanceof ReadableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (!(channel instanceof SeekableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.ESPIPE);
+        }
+        if (position < 0) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        try {
+            return Math.max(doPositionalOp(ByteBuffer.wrap(buf, offset, len), (SeekableByteChannel) channel, position, false), 0);
+        } catch (Exception e) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.fromException(e, eqNode));
+        }
+    }
+
+    @ExportMessage
+    public int pwrite(int fd, byte[] buf, int offset, int len, long position,
+                    @Bind Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        Channel channel = getFileChannel(fd);
+        if (!(channel instanceof WritableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (!(channel instanceof SeekableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.ESPIPE);
+        }
+        if (position < 0) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        try {
+            return doPositionalOp(ByteBuffer.wrap(buf, offset, len), (SeekableByteChannel) channel, position, true);
+        } catch (Exception e) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.fromException(e, eqNode));
+        }
+    }
+
+    /**
+     * Positional read or write. {@link FileChannel} supports this natively, other seekable
+     * channels get the current position restored afterwards.
+     */
+    @TruffleBoundary
+    private static int doPositionalOp(ByteBuffer data, SeekableByteChannel channel, long position, boolean write) throws IOException {
+        if (channel instanceof FileChannel fc) {
+            return write ? fc.write(data, position) : fc.read(data, position);
+        }
+        synchronized (channel) {
+            long oldPosition = channel.position();
+            try {
+                channel.position(position);
+                return write ? channel.write(data) : channel.read(data);
+            } finally {
+                channel.position(oldPosition);
+            }
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public long sendfile(int outFd, int inFd, long offset, long count) throws PosixException {
+        return transfer(inFd, offset, outFd, PosixSupportLibrary.USE_FILE_OFFSET, count);
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public long copyFileRange(int inFd, long inOffset, int outFd, long outOffset, long count) throws PosixException {
+        return transfer(inFd, inOffset, outFd, outOffset, count);
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public long splice(int inFd, long inOffset, int outFd, long outOffset, long count, @SuppressWarnings("unused") int flags) throws PosixException {
+        return transfer(inFd, inOffset, outFd, outOffset, count);
+    }
+
+    private static final int TRANSFER_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Common implementation of sendfile, copy_file_range and splice. When the source is a
+     * {@link FileChannel}, the data is moved with {@link FileChannel#transferTo}, which lets the
+     * JDK use the zero-copy system calls. Other channels are copied through a direct buffer of at
+     * most {@link #TRANSFER_CHUNK_SIZE} bytes, callers are expected to loop like they do for short
+     * transfers.
+     */
+    private long transfer(int inFd, long inOffset, int outFd, long outOffset, long count) throws PosixException {
+        Channel in = getFileChannel(inFd);
+        Channel out = getFileChannel(outFd);
+        if (!(in instanceof ReadableByteChannel) || !(out instanceof WritableByteChannel)) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        boolean useInPosition = inOffset == PosixSupportLibrary.USE_FILE_OFFSET;
+        boolean useOutPosition = outOffset == PosixSupportLibrary.USE_FILE_OFFSET;
+        if ((!useInPosition && !(in instanceof SeekableByteChannel)) || (!useOutPosition && !(out instanceof SeekableByteChannel))) {
+            throw posixException(OSErrorEnum.ESPIPE);
+        }
+        if (count < 0 || (!useInPosition && inOffset < 0) || (!useOutPosition && outOffset < 0)) {
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        try {
+            SeekableByteChannel positionedOut = useOutPosition ? null : (SeekableByteChannel) out;
+            long oldOutPosition = 0;
+            if (positionedOut != null) {
+                oldOutPosition = positionedOut.position();
+                positionedOut.position(outOffset);
+            }
+            try {
+                if (in instanceof FileChannel fc) {
+                    long position = useInPosition ? fc.position() : inOffset;
+                    long n = fc.transferTo(position, count, (WritableByteChannel) out);
+                    if (useInPosition) {
+                        fc.position(position + n);
+                    }
+                    return n;
+                }
+                return copyChunk((ReadableByteChannel) in, inOffset, (WritableByteChannel) out, count);
+            } finally {
+                if (positionedOut != null) {
+                    positionedOut.position(oldOutPosition);
+                }
+            }
+        } catch (Exception e) {
+            throw posixException(e, TruffleString.EqualNode.getUncached());
+        }
+    }
+
+    private static long copyChunk(ReadableByteChannel in, long inOffset, WritableByteChannel out, long count) throws IOException {
+        SeekableByteChannel positionedIn = inOffset == PosixSupportLibrary.USE_FILE_OFFSET ? null : (SeekableByteChannel) in;
+        long oldInPosition = 0;
+        if (positionedIn != null) {
+            oldInPosition = positionedIn.position();
+            positionedIn.position(inOffset);
+        }
+        try {
+            ByteBuffer chunk = ByteBuffer.allocateDirect((int) Math.min(count, TRANSFER_CHUNK_SIZE));
+            int n = in.read(chunk);
+            if (n <= 0) {
+                return 0;
+            }
+            chunk.flip();
+            while (chunk.hasRemaining()) {
+                out.write(chunk);
+            }
+            return n;
+        } finally {
+            if (positionedIn != null) {
+                positionedIn.position(oldInPosition);
+            }
+        }
+    }
+
     @Override
     @ExportMessage
     public int dup(int fd) {
@@ -646,25 +846,7 @@ public final class EmulatedPosixSupport extends PosixResources {
                 channel.register(selector, writeOps);
             }
 
-            // IMPORTANT: The meaning of the timeout value is slightly different: 'timeout == 0.0'
-            // means we should not block and return immediately, for which we use selectNow().
-            // 'timeout == None' means we should wait indefinitely, i.e., we need to pass 0 to the
-            // Java API.
-            long timeoutMs;
-            boolean useSelectNow = false;
-            if (timeout == null) {
-                timeoutMs = 0;
-            } else {
-                try {
-                    timeoutMs = addExact(multiplyExact(timeout.getSeconds(), 1000L), timeout.getMicroseconds() / 1000L);
-                } catch (ArithmeticException ex) {
-                    throw posixException(OSErrorEnum.EINVAL);
-                }
-                if (timeoutMs == 0) {
-                    useSelectNow = true;
-                }
-            }
-            int selected = useSelectNow ? selector.selectNow() : selector.select(timeoutMs);
+            int selected = doSelect(selector, timeout);
 
             // remove non-selected channels from given lists
             boolean[] resReadfds = createSelectedMap(readfds, readChannels, selector, readOps);
@@ -714,6 +896,26 @@ public final class EmulatedPosixSupport extends PosixResources {
         return res;
     }
 
+    /**
+     * Performs the selection operation on {@code selector}, translating the POSIX timeout.
+     */
+    private static int doSelect(Selector selector, Timeval timeout) throws IOException, PosixException {
+        // IMPORTANT: The meaning of the timeout value is slightly different: 'timeout == 0.0'
+        // means we should not block and return immediately, for which we use selectNow().
+        // 'timeout == None' means we should wait indefinitely, i.e., we need to pass 0 to the
+        // Java API.
+        if (timeout == null) {
+            return selector.select(0);
+        }
+        long timeoutMs;
+        try {
+            timeoutMs = addExact(multiplyExact(timeout.getSeconds(), 1000L), timeout.getMicroseconds() / 1000L);
+        } catch (ArithmeticException ex) {
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        return timeoutMs == 0 ? selector.selectNow() : selector.select(timeoutMs);
+    }
+
     private SelectableChannel[] getSelectableChannels(int[] fds) throws PosixException {
         SelectableChannel[] channels = new SelectableChannel[fds.length];
         for (int i = 0; i < fds.length; i++) {
@@ -721,28 +923,36 @@ public final class EmulatedPosixSupport extends PosixResources {
             if (ch == null) {
                 throw posixException(OSErrorEnum.EBADF);
             }
-            if (ch instanceof SelectableChannel) {
-                channels[i] = (SelectableChannel) ch;
-            } else if (ch instanceof EmulatedDatagramSocket) {
-                channels[i] = ((EmulatedDatagramSocket) ch).channel;
-            } else if (ch instanceof EmulatedStreamSocket) {
-                EmulatedStreamSocket streamSocket = (EmulatedStreamSocket) ch;
-                synchronized (streamSocket) {
-                    if (streamSocket.clientChannel != null) {
-                        channels[i] = streamSocket.clientChannel;
-                    } else if (streamSocket.serverChannel != null) {
-                        channels[i] = streamSocket.serverChannel;
-                    } else {
-                        throw ChannelNotSelectableException.INSTANCE;
-                    }
-                }
-            } else {
+            channels[i] = findSelectableChannel(ch);
+            if (channels[i] == null) {
                 throw ChannelNotSelectableException.INSTANCE;
             }
         }
         return channels;
     }
 
+    /**
+     * Returns the channel that can be registered with a {@link Selector} on behalf of {@code ch} or
+     * {@code null} if there is none (yet).
+     */
+    private static SelectableChannel findSelectableChannel(Channel ch) {
+        if (ch instanceof SelectableChannel) {
+            return (SelectableChannel) ch;
+        } else if (ch instanceof EmulatedDatagramSocket) {
+            return ((EmulatedDatagramSocket) ch).channel;
+        } else if (ch instanceof EmulatedStreamSocket) {
+            EmulatedStreamSocket streamSocket = (EmulatedStreamSocket) ch;
+            synchronized (streamSocket) {
+                if (streamSocket.clientChannel != null) {
+                    return streamSocket.clientChannel;
+                } else if (streamSocket.serverChannel != null) {
+                    return streamSocket.serverChannel;
+                }
+            }
+        }
+        return null;
+    }
+
     @ExportMessage
     public boolean poll(int fd, boolean forWriting, Timeval timeout) throws PosixException {
         SelectResult r = select(forWriting ? EMPTY_INT_ARRAY : new int[]{fd},
@@ -754,6 +964,280 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
     }
 
+    @ExportMessage
+    @TruffleBoundary
+    public Object pollerCreate() throws PosixException {
+        if (PythonImageBuildOptions.WITHOUT_JAVA_INET || withoutIOSocket) {
+            throw new UnsupportedPosixFeatureException("poll was excluded");
+        }
+        try {
+            EmulatedPoller poller = new EmulatedPoller(Selector.open());
+            pollers.add(poller);
+            return poller;
+        } catch (IOException e) {
+            throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public boolean pollerRegister(Object pollerObj, int fd, int events) throws PosixException {
+        EmulatedPoller poller = getOpenPoller(pollerObj);
+        Channel ch = getFileChannel(fd);
+        if (ch == null) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        synchronized (poller) {
+            PollerRegistration reg = poller.registrations.get(fd);
+            if (reg != null) {
+                // a registration for a descriptor that has been closed (and maybe reused) in the
+                // meantime is stale, the kernel would have dropped it already
+                if (reg.fdChannel == ch) {
+                    return false;
+                }
+                if (reg.key != null) {
+                    reg.key.cancel();
+                }
+            }
+            reg = new PollerRegistration(fd, ch);
+            reg.events = events;
+            poller.registrations.put(fd, reg);
+            // the actual registration with the selector happens lazily in pollerWait
+            poller.detached.add(reg);
+        }
+        return true;
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public boolean pollerModify(Object pollerObj, int fd, int events) throws PosixException {
+        EmulatedPoller poller = getOpenPoller(pollerObj);
+        PollerRegistration reg;
+        synchronized (poller) {
+            reg = poller.registrations.get(fd);
+            if (reg == null || reg.fdChannel != getFileChannel(fd)) {
+                return false;
+            }
+            reg.events = events;
+        }
+        SelectionKey key = reg.key;
+        if (key != null) {
+            try {
+                key.interestOps(pollEventsToOps(events, key.channel()));
+            } catch (CancelledKeyException e) {
+                // the channel was closed or detached, pollerWait will sort it out
+            }
+        }
+        return true;
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public boolean pollerUnregister(Object pollerObj, int fd) throws PosixException {
+        EmulatedPoller poller = getOpenPoller(pollerObj);
+        PollerRegistration reg;
+        synchronized (poller) {
+            reg = poller.registrations.get(fd);
+            if (reg == null || reg.fdChannel != getFileChannel(fd)) {
+                return false;
+            }
+            poller.registrations.remove(fd);
+            poller.detached.remove(reg);
+        }
+        if (reg.key != null) {
+            reg.key.cancel();
+        }
+        return true;
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public PollResult pollerWait(Object pollerObj, Timeval timeout) throws PosixException {
+        EmulatedPoller poller = getOpenPoller(pollerObj);
+        IntArrayBuilder readyFds = new IntArrayBuilder();
+        IntArrayBuilder readyEvents = new IntArrayBuilder();
+        poller.waitLock.lock();
+        try {
+            Selector selector = poller.selector;
+            PollerRegistration[] pending;
+            synchronized (poller) {
+                pending = poller.detached.toArray(new PollerRegistration[0]);
+            }
+            for (PollerRegistration reg : pending) {
+                if (getFileChannel(reg.fd) != reg.fdChannel) {
+                    readyFds.add(reg.fd);
+                    readyEvents.add(POLLNVAL);
+                    continue;
+                }
+                SelectableChannel channel = findSelectableChannel(reg.fdChannel);
+                if (channel != null && !channel.isBlocking()) {
+                    try {
+                        attachToSelector(selector, reg, channel);
+                        synchronized (poller) {
+                            if (poller.registrations.get(reg.fd) == reg) {
+                                poller.detached.remove(reg);
+                            } else {
+                                // unregistered concurrently
+                                reg.key.cancel();
+                            }
+                        }
+                        continue;
+                    } catch (IllegalBlockingModeException e) {
+                        // switched back to blocking mode concurrently, treat as not selectable
+                    }
+                }
+                // GraalPython hack: like in select, channels that we cannot wait for are
+                // always reported as ready
+                int ready = reg.events & (POLLIN | POLLOUT);
+                if (ready != 0) {
+                    readyFds.add(reg.fd);
+                    readyEvents.add(ready);
+                }
+            }
+            if (readyFds.size() > 0 || !selector.selectedKeys().isEmpty()) {
+                selector.selectNow();
+            } else {
+                doSelect(selector, timeout);
+            }
+            Set<SelectionKey> selectedKeys = selector.selectedKeys();
+            for (SelectionKey key : selectedKeys) {
+                if (!key.isValid()) {
+                    continue;
+                }
+                PollerRegistration reg = (PollerRegistration) key.attachment();
+                int revents = opsToPollEvents(key.readyOps(), reg.events);
+                if (revents != 0) {
+                    readyFds.add(reg.fd);
+                    readyEvents.add(revents);
+                }
+            }
+            selectedKeys.clear();
+        } catch (IOException e) {
+            throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+        } finally {
+            poller.waitLock.unlock();
+        }
+        return new PollResult(readyFds.toArray(), readyEvents.toArray());
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public void pollerClose(Object pollerObj) {
+        EmulatedPoller poller = (EmulatedPoller) pollerObj;
+        pollers.remove(poller);
+        try {
+            poller.selector.close();
+        } catch (IOException e) {
+            // ignored, like the return value of close(epfd) in CPython
+        }
+    }
+
+    private static EmulatedPoller getOpenPoller(Object pollerObj) throws PosixException {
+        EmulatedPoller poller = (EmulatedPoller) pollerObj;
+        if (!poller.selector.isOpen()) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        return poller;
+    }
+
+    private static void attachToSelector(Selector selector, PollerRegistration reg, SelectableChannel channel) throws IOException {
+        int ops = pollEventsToOps(reg.events, channel);
+        try {
+            reg.key = channel.register(selector, ops, reg);
+        } catch (CancelledKeyException e) {
+            // the channel's previous key has not been deregistered yet, flush it with a
+            // selection operation; any readiness it reports is picked up by the caller
+            selector.selectNow();
+            reg.key = channel.register(selector, ops, reg);
+        }
+    }
+
+    private static int pollEventsToOps(int events, SelectableChannel channel) {
+        int ops = 0;
+        if ((events & (POLLIN | POLLPRI)) != 0) {
+            ops |= SelectionKey.OP_READ | SelectionKey.OP_ACCEPT;
+        }
+        if ((events & POLLOUT) != 0) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        return ops & channel.validOps();
+    }
+
+    private static int opsToPollEvents(int readyOps, int events) {
+        int revents = 0;
+        if ((readyOps & (SelectionKey.OP_READ | SelectionKey.OP_ACCEPT)) != 0) {
+            revents |= POLLIN;
+        }
+        if ((readyOps & SelectionKey.OP_WRITE) != 0) {
+            revents |= POLLOUT;
+        }
+        return revents & events;
+    }
+
+    /**
+     * Channels registered with a selector cannot be switched to blocking mode. Before that happens
+     * we cancel their keys in all live pollers, they will be re-attached lazily once the channel is
+     * non-blocking again.
+     */
+    @TruffleBoundary
+    private void detachFromPollers(SelectableChannel channel) throws IOException {
+        for (EmulatedPoller poller : pollers) {
+            SelectionKey key = channel.keyFor(poller.selector);
+            if (key == null) {
+                continue;
+            }
+            PollerRegistration reg = (PollerRegistration) key.attachment();
+            key.cancel();
+            synchronized (poller) {
+                reg.key = null;
+                if (poller.registrations.get(reg.fd) == reg) {
+                    poller.detached.add(reg);
+                }
+            }
+            // a cancelled key is deregistered only by the next selection operation
+            poller.selector.wakeup();
+            poller.waitLock.lock();
+            try {
+                if (poller.selector.isOpen()) {
+                    poller.selector.selectNow();
+                }
+            } finally {
+                poller.waitLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Emulation of {@code epoll}/{@code poll} sets: a long-lived {@link Selector} with incremental
+     * registration, so that waiting costs O(ready) instead of O(registered) channels. Descriptors
+     * that currently cannot be registered with the selector (blocking or non-selectable channels,
+     * sockets that are not connected yet) are kept in {@link #detached} and retried on every wait.
+     */
+    static final class EmulatedPoller {
+        final Selector selector;
+        final ReentrantLock waitLock = new ReentrantLock();
+        // guarded by 'this'
+        final HashMap<Integer, PollerRegistration> registrations = new HashMap<>();
+        final LinkedHashSet<PollerRegistration> detached = new LinkedHashSet<>();
+
+        EmulatedPoller(Selector selector) {
+            this.selector = selector;
+        }
+    }
+
+    static final class PollerRegistration {
+        final int fd;
+        // identity of the descriptor at registration time, used to detect closed and reused fds
+        final Channel fdChannel;
+        volatile int events;
+        volatile SelectionKey key;
+
+        PollerRegistration(int fd, Channel fdChannel) {
+            this.fd = fd;
+            this.fdChannel = fdChannel;
+        }
+    }
+
     @ExportMessage
     public long lseek(int fd, long offset, int how,
                     @Bind Node inliningTarget,
@@ -1018,14 +1502,24 @@ public final class EmulatedPosixSupport extends PosixResources {
 
     @TruffleBoundary
     @Ignore
-    private static void setBlocking(SelectableChannel channel, boolean block) throws IOException {
-        channel.configureBlocking(block);
+    private void setBlocking(SelectableChannel channel, boolean block) throws IOException {
+        try {
+            channel.configureBlocking(block);
+        } catch (IllegalBlockingModeException e) {
+            detachFromPollers(channel);
+            channel.configureBlocking(block);
+        }
     }
 
     @TruffleBoundary
     @Ignore
-    private static void setBlocking(EmulatedSocket socket, boolean block) throws IOException {
-        socket.configureBlocking(block);
+    private void setBlocking(EmulatedSocket socket, boolean block) throws IOException {
+        try {
+            socket.configureBlocking(block);
+        } catch (IllegalBlockingModeException e) {
+            detachFromPollers(findSelectableChannel(socket));
+            socket.configureBlocking(block);
+        }
     }
 
     @ExportMessage
@@ -2745,13 +3239,29 @@ public final class EmulatedPosixSupport extends PosixResources {
     }
 
     public static final class MMapHandle {
-        private static final MMapHandle NONE = new MMapHandle(null, 0);
+        private static final MMapHandle NONE = new MMapHandle(null, 0, false);
+        private static final int WINDOW_SIZE = 64 * 1024;
         private SeekableByteChannel channel;
         private final long offset;
 
+        /*
+         * Read-only file mappings keep the last read window of the file in memory, see
+         * readMapped. The window holds the file contents starting at windowStart (relative to the
+         * start of the mapping) up to its limit.
+         */
+        private ByteBuffer window;
+        private long windowStart;
+
         public MMapHandle(SeekableByteChannel channel, long offset) {
+            this(channel, offset, false);
+        }
+
+        private MMapHandle(SeekableByteChannel channel, long offset, boolean cacheReads) {
             this.channel = channel;
             this.offset = offset;
+            if (cacheReads) {
+                this.window = ByteBuffer.allocate(WINDOW_SIZE).limit(0);
+            }
         }
 
         @Override
@@ -2852,7 +3362,7 @@ public final class EmulatedPosixSupport extends PosixResources {
         try {
             fileChannel = newByteChannel(file, options);
             position(fileChannel, offset);
-            return new MMapHandle(fileChannel, offset);
+            return new MMapHandle(fileChannel, offset, (prot & PROT_WRITE.value) == 0);
         } catch (IOException e) {
             throw posixException(OSErrorEnum.fromException(e, eqNode));
         }
@@ -2889,12 +3399,12 @@ public final class EmulatedPosixSupport extends PosixResources {
             throw posixException(OSErrorEnum.EACCES);
         }
         MMapHandle handle = (MMapHandle) mmap;
-        ByteBuffer readingBuffer = allocateByteBuffer(1);
-        int readSize = readBytes(inliningTarget, handle, index, readingBuffer, errBranch, eqNode);
-        if (readSize == 0) {
+        byte[] result = new byte[1];
+        int readSize = readBytes(inliningTarget, handle, index, result, 1, errBranch, eqNode);
+        if (readSize <= 0) {
             throw posixException(OSErrorEnum.ENODATA);
         }
-        return getByte(readingBuffer);
+        return result[0];
     }
 
     @ExportMessage
@@ -2924,24 +3434,57 @@ public final class EmulatedPosixSupport extends PosixResources {
             errBranch.enter(inliningTarget);
             throw posixException(OSErrorEnum.EOVERFLOW);
         }
-        ByteBuffer readingBuffer = allocateByteBuffer(sz);
-        int readSize = readBytes(inliningTarget, handle, index, readingBuffer, errBranch, eqNode);
-        if (readSize > 0) {
-            getByteBufferArray(readingBuffer, bytes, readSize);
-        }
-        return readSize;
+        return readBytes(inliningTarget, handle, index, bytes, sz, errBranch, eqNode);
     }
 
-    private static int readBytes(Node inliningTarget, MMapHandle handle, long index, ByteBuffer readingBuffer, InlinedBranchProfile errBranch, TruffleString.EqualNode eqNode) throws PosixException {
+    private static int readBytes(Node inliningTarget, MMapHandle handle, long index, byte[] bytes, int length, InlinedBranchProfile errBranch, TruffleString.EqualNode eqNode)
+                    throws PosixException {
         try {
-            position(handle.channel, index + handle.offset);
-            return readChannel(handle.channel, readingBuffer);
+            return readMapped(handle, index, bytes, length);
         } catch (IOException e) {
             errBranch.enter(inliningTarget);
             throw posixException(OSErrorEnum.fromException(e, eqNode));
         }
     }
 
+    /**
+     * Without access to the underlying {@link FileChannel} we cannot map the file into memory, so
+     * every access to an emulated mapping is a channel operation. For read-only mappings, small
+     * reads are served from a window of {@link MMapHandle#WINDOW_SIZE} bytes around the accessed
+     * index, which makes the typical pattern of many small random reads (indexing, slicing,
+     * {@code struct.unpack_from}) much cheaper. As with other emulated mappings, changes made to
+     * the file through other descriptors may not be visible immediately.
+     */
+    @TruffleBoundary
+    private static int readMapped(MMapHandle handle, long index, byte[] dst, int len) throws IOException {
+        ByteBuffer window = handle.window;
+        if (window == null || len > MMapHandle.WINDOW_SIZE) {
+            handle.channel.position(index + handle.offset);
+            return handle.channel.read(ByteBuffer.wrap(dst, 0, len));
+        }
+        if (index < handle.windowStart || index + len > handle.windowStart + window.limit()) {
+            long start = index - index % MMapHandle.WINDOW_SIZE;
+            if (index + len > start + MMapHandle.WINDOW_SIZE) {
+                start = index;
+            }
+            window.clear();
+            handle.channel.position(start + handle.offset);
+            while (window.hasRemaining() && handle.channel.read(window) > 0) {
+                // keep reading until the window is full or we hit the end of the file
+            }
+            window.flip();
+            handle.windowStart = start;
+        }
+        long available = handle.windowStart + window.limit() - index;
+        if (available <= 0) {
+            // end of file, like a channel read
+            return len == 0 ? 0 : -1;
+        }
+        int n = (int) Math.min(len, available);
+        window.get((int) (index - handle.windowStart), dst, 0, n);
+        return n;
+    }
+
     @ExportMessage
     @SuppressWarnings("static-method")
     public void mmapWriteBytes(Object mmap, long index, byte[] bytes, int length,
@@ -2997,6 +3540,7 @@ public final class EmulatedPosixSupport extends PosixResources {
                 throw posixException(OSErrorEnum.fromException(e, eqNode));
             }
             handle.channel = null;
+            handle.window = null;
         }
     }
 
@@ -3016,28 +3560,6 @@ public final class EmulatedPosixSupport extends PosixResources {
         ch.position(offset);
     }
 
-    @TruffleBoundary(allowInlining = true)
-    private static ByteBuffer allocateByteBuffer(int n) {
-        return ByteBuffer.allocate(n);
-    }
-
-    @TruffleBoundary(allowInlining = true)
-    protected static void getByteBufferArray(ByteBuffer src, byte[] dst, int readSize) {
-        src.flip();
-        src.get(dst, 0, readSize);
-    }
-
-    @TruffleBoundary(allowInlining = true)
-    protected static byte getByte(ByteBuffer src) {
-        src.flip();
-        return src.get();
-    }
-
-    @TruffleBoundary
-    private static int readChannel(Object readableChannel, ByteBuffer dst) throws IOException {
-        return ((ReadableByteChannel) readableChannel).read(dst);
-    }
-
     @ExportMessage
     @SuppressWarnings({"unused", "static-method"})
     public TruffleString crypt(TruffleString word, TruffleString salt) throws PosixException {
@@ -57,6 +57,13 @@ import com.oracle.truffle.api.profiles.ConditionProfile;
  */
 public abstract class GilNode extends Node {
 
+    /**
+     * Minimal number of input bytes for which builtin hashing and compression functions release the
+     * GIL. For smaller inputs the cost of the release and re-acquire outweighs the work done. This
+     * is the same threshold CPython uses ({@code HASHLIB_GIL_MINSIZE}).
+     */
+    public static final int RELEASE_MIN_INPUT_SIZE = 2048;
+
     private static final class Cached extends GilNode {
         // The same profile is used for all methods. The profile condition should always be so that
         // we profile if a boundary call needs to be made at all.
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import com.oracle.truffle.api.CompilerDirectives;
+
+/**
+ * The GIL of a {@link PythonContext}. It follows the scheme of CPython's "new GIL" (since 3.2):
+ * <ul>
+ * <li>A thread releasing the GIL hands it directly to the longest waiting thread. The releasing
+ * thread cannot barge back in, so a thread that drops the GIL to let others run does not starve
+ * them by immediately re-acquiring it.</li>
+ * <li>A waiting thread sleeps for at most the switch interval. If the GIL did not change hands in
+ * the meantime, it asks the owner to drop the GIL at its next safepoint (see
+ * {@link #setDropRequestHandler}).</li>
+ * </ul>
+ * The GIL is not reentrant. In {@link PythonOptions#FreeThreading} mode the GIL is
+ * {@link #disable() disabled} and every thread behaves as if it owned it. Only
+ * {@link PythonContext} should use this class directly.
+ */
+public final class GlobalInterpreterLock {
+    static final long DEFAULT_SWITCH_INTERVAL_NS = 5_000_000;
+
+    /** Guards {@link #waiters} and changes of {@link #owner}. Never held while blocking. */
+    private final ReentrantLock mutex = new ReentrantLock();
+    private final ArrayDeque<Thread> waiters = new ArrayDeque<>();
+    private volatile Thread owner;
+    /** Incremented on every change of ownership. */
+    private volatile long switchNumber;
+
+    private volatile long switchIntervalNs = DEFAULT_SWITCH_INTERVAL_NS;
+    private volatile Consumer<Thread> dropRequestHandler;
+
+    private volatile boolean disabled;
+
+    private volatile GilStatistics statistics;
+    /** Only accessed by the owner. */
+    private long acquiredAt;
+
+    boolean isHeldByCurrentThread() {
+        return disabled || owner == Thread.currentThread();
+    }
+
+    /**
+     * Turns all operations into no-ops. Must be called before any other thread uses the GIL.
+     */
+    void disable() {
+        disabled = true;
+    }
+
+    int getHoldCount() {
+        return isHeldByCurrentThread() ? 1 : 0;
+    }
+
+    void setSwitchIntervalNs(long switchIntervalNs) {
+        assert switchIntervalNs > 0;
+        this.switchIntervalNs = switchIntervalNs;
+    }
+
+    /**
+     * Sets the callback that is invoked with the current owner when a waiting thread did not get
+     * the GIL within the switch interval. Until it is set, waiting threads just wait for the owner
+     * to release the GIL voluntarily.
+     */
+    void setDropRequestHandler(Consumer<Thread> dropRequestHandler) {
+        this.dropRequestHandler = dropRequestHandler;
+    }
+
+    void enableStatistics() {
+        if (statistics == null) {
+            statistics = new GilStatistics();
+        }
+    }
+
+    GilStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Takes the GIL only if it is free and nobody is waiting for it, so that this does not overtake
+     * waiting threads.
+     */
+    boolean tryLock() {
+        if (disabled) {
+            return true;
+        }
+        Thread current = Thread.currentThread();
+        long start = statistics != null ? System.nanoTime() : 0;
+        mutex.lock();
+        try {
+            if (owner != null || !waiters.isEmpty()) {
+                return false;
+            }
+            setOwner(current);
+        } finally {
+            mutex.unlock();
+        }
+        acquired(current, start);
+        return true;
+    }
+
+    void lock() {
+        try {
+            acquire(false);
+        } catch (InterruptedException e) {
+            throw CompilerDirectives.shouldNotReachHere(e);
+        }
+    }
+
+    void lockInterruptibly() throws InterruptedException {
+        acquire(true);
+    }
+
+    private void acquire(boolean interruptible) throws InterruptedException {
+        if (disabled) {
+            return;
+        }
+        Thread current = Thread.currentThread();
+        long start = statistics != null ? System.nanoTime() : 0;
+        if (interruptible && Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        mutex.lock();
+        try {
+            if (owner == null && waiters.isEmpty()) {
+                setOwner(current);
+                acquired(current, start);
+                return;
+            }
+            waiters.addLast(current);
+        } finally {
+            mutex.unlock();
+        }
+        boolean interrupted = false;
+        try {
+            while (owner != current) {
+                long observedSwitch = switchNumber;
+                Thread observedOwner = owner;
+                LockSupport.parkNanos(this, switchIntervalNs);
+                if (Thread.interrupted()) {
+                    if (interruptible) {
+                        abandon(current);
+                        throw new InterruptedException();
+                    }
+                    interrupted = true;
+                }
+                if (owner != current && switchNumber == observedSwitch && observedOwner != null) {
+                    // the owner did not give up the GIL for a whole switch interval
+                    Consumer<Thread> handler = dropRequestHandler;
+                    if (handler != null) {
+                        handler.accept(observedOwner);
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                current.interrupt();
+            }
+        }
+        acquired(current, start);
+    }
+
+    /**
+     * Stops waiting after an interrupt. If the GIL was handed to us in the meantime, it is passed
+     * on to the next waiting thread.
+     */
+    private void abandon(Thread current) {
+        mutex.lock();
+        try {
+            if (!waiters.remove(current)) {
+                assert owner == current;
+                handOff();
+            }
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    void unlock() {
+        if (disabled) {
+            return;
+        }
+        Thread current = Thread.currentThread();
+        if (owner != current) {
+            throw new IllegalMonitorStateException();
+        }
+        GilStatistics stats = statistics;
+        if (stats != null && acquiredAt != 0) {
+            stats.recordHold(current, System.nanoTime() - acquiredAt);
+            acquiredAt = 0;
+        }
+        mutex.lock();
+        try {
+            handOff();
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    private void handOff() {
+        assert mutex.isHeldByCurrentThread();
+        Thread next = waiters.pollFirst();
+        if (next != null) {
+            setOwner(next);
+            LockSupport.unpark(next);
+        } else {
+            owner = null;
+        }
+    }
+
+    private void setOwner(Thread thread) {
+        owner = thread;
+        switchNumber++;
+    }
+
+    private void acquired(Thread current, long start) {
+        GilStatistics stats = statistics;
+        if (stats != null) {
+            long now = System.nanoTime();
+            acquiredAt = now;
+            if (start != 0) {
+                stats.recordWait(current, now - start);
+            }
+        }
+    }
+
+    /**
+     * Per-thread histograms of the time spent waiting for and holding the GIL. Bucket {@code 0}
+     * counts durations below 1us, bucket {@code i} durations in {@code [2^(i-1), 2^i)} us and the
+     * last bucket everything longer.
+     */
+    public static final class GilStatistics {
+        public static final int BUCKETS = 32;
+
+        public static final class ThreadStatistics {
+            private final long[] waitHistogram = new long[BUCKETS];
+            private final long[] holdHistogram = new long[BUCKETS];
+            private long totalWaitNs;
+            private long totalHoldNs;
+
+            public long[] getWaitHistogram() {
+                return waitHistogram;
+            }
+
+            public long[] getHoldHistogram() {
+                return holdHistogram;
+            }
+
+            public long getTotalWaitNs() {
+                return totalWaitNs;
+            }
+
+            public long getTotalHoldNs() {
+                return totalHoldNs;
+            }
+        }
+
+        private final WeakHashMap<Thread, ThreadStatistics> perThread = new WeakHashMap<>();
+
+        static int bucket(long ns) {
+            return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(ns / 1000));
+        }
+
+        synchronized void recordWait(Thread thread, long ns) {
+            ThreadStatistics s = perThread.computeIfAbsent(thread, t -> new ThreadStatistics());
+            s.waitHistogram[bucket(ns)]++;
+            s.totalWaitNs += ns;
+        }
+
+        synchronized void recordHold(Thread thread, long ns) {
+            ThreadStatistics s = perThread.computeIfAbsent(thread, t -> new ThreadStatistics());
+            s.holdHistogram[bucket(ns)]++;
+            s.totalHoldNs += ns;
+        }
+
+        /**
+         * Returns a copy of the statistics of all threads that are still alive.
+         */
+        synchronized Map<Thread, ThreadStatistics> snapshot() {
+            LinkedHashMap<Thread, ThreadStatistics> result = new LinkedHashMap<>();
+            for (Map.Entry<Thread, ThreadStatistics> e : perThread.entrySet()) {
+                ThreadStatistics copy = new ThreadStatistics();
+                System.arraycopy(e.getValue().waitHistogram, 0, copy.waitHistogram, 0, BUCKETS);
+                System.arraycopy(e.getValue().holdHistogram, 0, copy.holdHistogram, 0, BUCKETS);
+                copy.totalWaitNs = e.getValue().totalWaitNs;
+                copy.totalHoldNs = e.getValue().totalHoldNs;
+                result.put(e.getKey(), copy);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import static com.oracle.graal.python.nodes.StringLiterals.T_PATH;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.PythonFileDetector;
+import com.oracle.graal.python.builtins.objects.common.HashingStorage;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetItem;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.compiler.Compiler;
+import com.oracle.graal.python.compiler.ParserCallbacksImpl;
+import com.oracle.graal.python.pegparser.FutureFeature;
+import com.oracle.graal.python.pegparser.InputType;
+import com.oracle.graal.python.pegparser.sst.AliasTy;
+import com.oracle.graal.python.pegparser.sst.ExceptHandlerTy;
+import com.oracle.graal.python.pegparser.sst.ModTy;
+import com.oracle.graal.python.pegparser.sst.StmtTy;
+import com.oracle.graal.python.runtime.exception.PythonThreadKillException;
+import com.oracle.graal.python.util.PythonSystemThreadTask;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLanguage.Env;
+import com.oracle.truffle.api.TruffleLogger;
+import com.oracle.truffle.api.TruffleSafepoint;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Speculatively parses and compiles the modules imported by a module on a pool of worker threads
+ * (see {@link PythonOptions#ImportPrefetchThreads}).
+ * <p>
+ * When the importing thread parses a module from a file, {@link #submitImports} collects the
+ * {@code import} statements at the module level (including those nested in top-level {@code if}
+ * and {@code try} blocks) and hands them to the workers together with a snapshot of
+ * {@code sys.path}. The workers resolve them to source files the same way the default path finder
+ * would, compile those files without holding the GIL, and recurse into their imports, so that the
+ * whole module graph is compiled concurrently. When importlib later asks for the code of one of
+ * these files, {@link #take} hands out the prefetched call target if it was compiled from exactly
+ * the same source. Everything else - finding the module, creating it and executing its body -
+ * still happens on the importing thread in the usual order, so the prefetching is not observable
+ * apart from timing. Files that fail to compile or whose compilation reports warnings are simply
+ * compiled again by the importing thread, which then reports the errors and warnings as usual.
+ */
+public final class ImportPrefetcher {
+    private static final TruffleLogger LOGGER = PythonLanguage.getLogger(ImportPrefetcher.class);
+
+    /**
+     * Upper bound on the number of files that are prefetched per context, which bounds the memory
+     * held by modules that are never actually imported.
+     */
+    private static final int MAX_ENTRIES = 4096;
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+    private static final int CLAIMED = 3;
+
+    private static final class Entry {
+        private final TruffleFile file;
+        private final int optimize;
+        private final String[] searchPath;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final CountDownLatch done = new CountDownLatch(1);
+        // guarded by this
+        private Source source;
+        private RootCallTarget callTarget;
+
+        Entry(TruffleFile file, int optimize, String[] searchPath) {
+            this.file = file;
+            this.optimize = optimize;
+            this.searchPath = searchPath;
+        }
+    }
+
+    /**
+     * An import statement: {@code import module} if {@code names} is {@code null}, otherwise
+     * {@code from [.*level]module import names}.
+     */
+    private record ImportRef(String module, String[] names, int level) {
+    }
+
+    private final PythonLanguage language;
+    private final Env env;
+    private final int threadCount;
+    private final LinkedBlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+    /** Prefetched files by canonical path. Entries are kept after use to avoid prefetching again. */
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    /** Qualified names of modules that were found in {@code sys.modules} while scanning. */
+    private final Set<String> loadedModules = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger compiledCount = new AtomicInteger();
+    private final AtomicInteger usedCount = new AtomicInteger();
+    private boolean started;
+
+    private ImportPrefetcher(PythonContext context, int threadCount) {
+        this.language = context.getLanguage();
+        this.env = context.getEnv();
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Returns a new prefetcher if it is enabled for {@code context}, {@code null} otherwise.
+     */
+    @TruffleBoundary
+    static ImportPrefetcher create(PythonContext context) {
+        int threads = context.getOption(PythonOptions.ImportPrefetchThreads);
+        if (threads <= 0 || context.getEnv().isPreInitialization() || !context.getEnv().isCreateThreadAllowed()) {
+            return null;
+        }
+        return new ImportPrefetcher(context, threads);
+    }
+
+    private static final class WorkerTask extends PythonSystemThreadTask {
+        private final WeakReference<PythonContext> ctx;
+        private final LinkedBlockingQueue<Runnable> queue;
+
+        WorkerTask(PythonContext context, LinkedBlockingQueue<Runnable> queue, int id) {
+            super("Python import prefetch " + id, LOGGER);
+            this.ctx = new WeakReference<>(context);
+            this.queue = queue;
+        }
+
+        @Override
+        protected void doRun() {
+            PythonContext context = ctx.get();
+            if (context == null) {
+                return;
+            }
+            Node location = context.getLanguage().unavailableSafepointLocation;
+            context = null;
+            Runnable[] task = new Runnable[1];
+            while (true) {
+                TruffleSafepoint.setBlockedThreadInterruptible(location, q -> task[0] = q.take(), queue);
+                if (ctx.get() == null) {
+                    return;
+                }
+                task[0].run();
+                task[0] = null;
+            }
+        }
+    }
+
+    private synchronized void ensureStarted(PythonContext context) {
+        if (!started) {
+            started = true;
+            for (int i = 0; i < threadCount; i++) {
+                context.createSystemThread(new WorkerTask(context, queue, i)).start();
+            }
+        }
+    }
+
+    /**
+     * Schedules the modules imported by {@code mod}, which was just parsed from {@code source}, to
+     * be compiled in the background. Must be called with the GIL held.
+     */
+    @TruffleBoundary
+    public void submitImports(PythonContext context, ModTy mod, Source source, int optimize) {
+        if (!context.isCoreInitialized() || source.getPath() == null) {
+            return;
+        }
+        List<ImportRef> imports = new ArrayList<>();
+        collectImports(mod, imports);
+        if (imports.isEmpty()) {
+            return;
+        }
+        HashingStorage sysModules = context.getSysModules().getDictStorage();
+        imports.removeIf(ref -> ref.level == 0 && isLoaded(sysModules, ref));
+        if (imports.isEmpty()) {
+            return;
+        }
+        String[] searchPath = getSearchPath(context);
+        TruffleFile origin;
+        try {
+            origin = env.getPublicTruffleFile(source.getPath()).getParent();
+        } catch (SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+            return;
+        }
+        ensureStarted(context);
+        queue.offer(() -> resolveImports(imports, searchPath, origin, optimize));
+    }
+
+    private boolean isLoaded(HashingStorage sysModules, ImportRef ref) {
+        if (!isLoaded(sysModules, ref.module)) {
+            return false;
+        }
+        if (ref.names != null) {
+            for (String name : ref.names) {
+                if (!name.equals("*") && !isLoaded(sysModules, ref.module + "." + name)) {
+                    // may be a submodule that still needs to be imported
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isLoaded(HashingStorage sysModules, String name) {
+        if (loadedModules.contains(name)) {
+            return true;
+        }
+        if (HashingStorageGetItem.hasKeyUncached(sysModules, toTruffleStringUncached(name))) {
+            loadedModules.add(name);
+            return true;
+        }
+        return false;
+    }
+
+    private static String[] getSearchPath(PythonContext context) {
+        Object path = context.getSysModule().getAttribute(T_PATH);
+        if (!(path instanceof PList list)) {
+            return new String[0];
+        }
+        Object[] items = SequenceStorageNodes.CopyInternalArrayNode.executeUncached(list.getSequenceStorage());
+        List<String> result = new ArrayList<>(items.length);
+        for (Object item : items) {
+            if (item instanceof TruffleString s) {
+                result.add(s.toJavaStringUncached());
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+
+    private static void collectImports(ModTy mod, List<ImportRef> imports) {
+        if (mod instanceof ModTy.Module module) {
+            collectImports(module.body, imports);
+        }
+    }
+
+    private static void collectImports(StmtTy[] body, List<ImportRef> imports) {
+        if (body == null) {
+            return;
+        }
+        for (StmtTy stmt : body) {
+            if (stmt instanceof StmtTy.Import imp) {
+                if (imp.names != null) {
+                    for (AliasTy alias : imp.names) {
+                        imports.add(new ImportRef(alias.name, null, 0));
+                    }
+                }
+            } else if (stmt instanceof StmtTy.ImportFrom imp) {
+                String[] names = new String[imp.names == null ? 0 : imp.names.length];
+                for (int i = 0; i < names.length; i++) {
+                    names[i] = imp.names[i].name;
+                }
+                imports.add(new ImportRef(imp.module, names, imp.level));
+            } else if (stmt instanceof StmtTy.If ifStmt) {
+                collectImports(ifStmt.body, imports);
+                collectImports(ifStmt.orElse, imports);
+            } else if (stmt instanceof StmtTy.Try tryStmt) {
+                collectImports(tryStmt.body, tryStmt.handlers, tryStmt.orElse, tryStmt.finalBody, imports);
+            } else if (stmt instanceof StmtTy.TryStar tryStmt) {
+                collectImports(tryStmt.body, tryStmt.handlers, tryStmt.orElse, tryStmt.finalBody, imports);
+            }
+        }
+    }
+
+    private static void collectImports(StmtTy[] body, ExceptHandlerTy[] handlers, StmtTy[] orElse, StmtTy[] finalBody, List<ImportRef> imports) {
+        collectImports(body, imports);
+        if (handlers != null) {
+            for (ExceptHandlerTy handler : handlers) {
+                collectImports(((ExceptHandlerTy.ExceptHandler) handler).body, imports);
+            }
+        }
+        collectImports(orElse, imports);
+        collectImports(finalBody, imports);
+    }
+
+    // The methods below run on the worker threads
+
+    private void resolveImports(List<ImportRef> imports, String[] searchPath, TruffleFile origin, int optimize) {
+        for (ImportRef ref : imports) {
+            try {
+                if (ref.level > 0) {
+                    TruffleFile base = origin;
+                    for (int i = 1; i < ref.level && base != null; i++) {
+                        base = base.getParent();
+                    }
+                    if (base != null) {
+                        String[] parts = ref.module == null ? new String[0] : ref.module.split("\\.");
+                        resolve(base, null, parts, ref.names, searchPath, optimize);
+                    }
+                } else {
+                    String[] parts = ref.module.split("\\.");
+                    for (String entry : searchPath) {
+                        TruffleFile root = env.getPublicTruffleFile(entry.isEmpty() ? "." : entry);
+                        if (root.resolve(parts[0]).resolve("__init__.py").isRegularFile() || root.resolve(parts[0] + ".py").isRegularFile()) {
+                            resolve(root, "", parts, ref.names, searchPath, optimize);
+                            break;
+                        }
+                    }
+                }
+            } catch (SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+                LOGGER.log(Level.FINEST, e, () -> "Cannot resolve import of " + ref.module);
+            }
+        }
+    }
+
+    /**
+     * Walks the packages named by {@code parts} starting in {@code dir} and prefetches each package
+     * and the final module. {@code qualifiedName} is {@code null} for relative imports, whose
+     * qualified names are not known here.
+     */
+    private void resolve(TruffleFile dir, String qualifiedName, String[] parts, String[] names, String[] searchPath, int optimize) {
+        TruffleFile current = dir;
+        String qualified = qualifiedName;
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i];
+            qualified = qualified == null ? null : qualified.isEmpty() ? part : qualified + "." + part;
+            TruffleFile init = current.resolve(part).resolve("__init__.py");
+            if (init.isRegularFile()) {
+                prefetch(init, qualified, optimize, searchPath);
+                current = current.resolve(part);
+            } else {
+                if (i == parts.length - 1) {
+                    prefetch(current.resolve(part + ".py"), qualified, optimize, searchPath);
+                }
+                return;
+            }
+        }
+        if (names != null) {
+            for (String name : names) {
+                if (name.equals("*")) {
+                    continue;
+                }
+                String qualifiedSub = qualified == null ? null : qualified.isEmpty() ? name : qualified + "." + name;
+                TruffleFile init = current.resolve(name).resolve("__init__.py");
+                prefetch(init.isRegularFile() ? init : current.resolve(name + ".py"), qualifiedSub, optimize, searchPath);
+            }
+        }
+    }
+
+    private void prefetch(TruffleFile file, String qualifiedName, int optimize, String[] searchPath) {
+        if (entries.size() >= MAX_ENTRIES || (qualifiedName != null && loadedModules.contains(qualifiedName)) || !file.isRegularFile()) {
+            return;
+        }
+        String key = canonicalPath(file);
+        if (key == null) {
+            return;
+        }
+        Entry entry = new Entry(file, optimize, searchPath);
+        if (entries.putIfAbsent(key, entry) == null) {
+            queue.offer(() -> compile(entry));
+        }
+    }
+
+    /** Entries are keyed by canonical path so that any path of a file finds its entry. */
+    private static String canonicalPath(TruffleFile file) {
+        try {
+            return file.getCanonicalFile().getPath();
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private void compile(Entry entry) {
+        if (!entry.state.compareAndSet(QUEUED, RUNNING)) {
+            return;
+        }
+        ModTy mod = null;
+        try {
+            byte[] bytes = entry.file.readAllBytes();
+            Charset charset = PythonFileDetector.findEncodingStrict(bytes, bytes.length);
+            String src = charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT).decode(ByteBuffer.wrap(bytes)).toString();
+            Source source = PythonLanguage.setPythonOptions(Source.newBuilder(PythonLanguage.ID, entry.file).content(src), InputType.FILE, entry.optimize, 0).build();
+            ParserCallbacksImpl errorCb = new ParserCallbacksImpl(source, PythonOptions.isPExceptionWithJavaStacktrace(language));
+            mod = (ModTy) Compiler.createParser(src, errorCb, InputType.FILE, false, false).parse();
+            // the context is only needed for top-level code
+            RootCallTarget callTarget = language.compileModule(null, mod, source, false, entry.optimize, null, errorCb, EnumSet.noneOf(FutureFeature.class));
+            if (errorCb.getDeprecationWarningsCount() > 0) {
+                // the warnings must be reported to the importing context's warning filters
+                LOGGER.finer(() -> "Not keeping prefetched code for " + entry.file + " because it has warnings");
+            } else {
+                synchronized (entry) {
+                    entry.source = source;
+                    entry.callTarget = callTarget;
+                }
+                compiledCount.incrementAndGet();
+            }
+        } catch (PythonThreadKillException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            // the importing thread compiles this file again and reports any errors
+            LOGGER.log(Level.FINER, e, () -> "Cannot prefetch " + entry.file);
+            mod = null;
+        } finally {
+            entry.state.set(DONE);
+            entry.done.countDown();
+        }
+        if (mod != null) {
+            List<ImportRef> imports = new ArrayList<>();
+            collectImports(mod, imports);
+            resolveImports(imports, entry.searchPath, entry.file.getParent(), entry.optimize);
+        }
+    }
+
+    /**
+     * Returns the prefetched code for {@code source}, or {@code null} if there is none, in which
+     * case the caller compiles it as usual. Waits if the file is currently being compiled by a
+     * worker. Each prefetched call target is handed out at most once.
+     */
+    @TruffleBoundary
+    public RootCallTarget take(Source source) {
+        String path = source.getPath();
+        String key = null;
+        if (path != null) {
+            try {
+                key = canonicalPath(env.getPublicTruffleFile(path));
+            } catch (SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+        Entry entry = key == null ? null : entries.get(key);
+        if (entry == null || entry.state.compareAndSet(QUEUED, CLAIMED) || entry.state.get() == CLAIMED) {
+            // not prefetched or not started yet, it is faster to compile it right here
+            return null;
+        }
+        if (entry.done.getCount() != 0) {
+            TruffleSafepoint.setBlockedThreadInterruptible(language.unavailableSafepointLocation, CountDownLatch::await, entry.done);
+        }
+        Source prefetchedSource;
+        RootCallTarget callTarget;
+        synchronized (entry) {
+            prefetchedSource = entry.source;
+            callTarget = entry.callTarget;
+            entry.source = null;
+            entry.callTarget = null;
+        }
+        if (callTarget != null && source.equals(prefetchedSource)) {
+            LOGGER.finer(() -> "Using prefetched code for " + path);
+            usedCount.incrementAndGet();
+            return callTarget;
+        }
+        return null;
+    }
+
+    /** The number of files that were compiled in the background and are ready to be used. */
+    public int getCompiledCount() {
+        return compiledCount.get();
+    }
+
+    /** The number of prefetched files that were actually used by an import. */
+    public int getUsedCount() {
+        return usedCount.get();
+    }
+}
@@ -55,6 +55,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet6SockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.InvalidAddressException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.InvalidUnixSocketPathException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.OpenPtyResult;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PollResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixErrnoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PwdResult;
@@ -197,6 +198,72 @@ public class LoggingPosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    final int readInto(int fd, byte[] buf, int offset, int len,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("readInto", "%d, %d, %d", fd, offset, len);
+        try {
+            return logExit("readInto", "%d", lib.readInto(delegate, fd, buf, offset, len));
+        } catch (PosixException e) {
+            throw logException("readInto", e);
+        }
+    }
+
+    @ExportMessage
+    final int pread(int fd, byte[] buf, int offset, int len, long position,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pread", "%d, %d, %d, %d", fd, offset, len, position);
+        try {
+            return logExit("pread", "%d", lib.pread(delegate, fd, buf, offset, len, position));
+        } catch (PosixException e) {
+            throw logException("pread", e);
+        }
+    }
+
+    @ExportMessage
+    final int pwrite(int fd, byte[] buf, int offset, int len, long position,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pwrite", "%d, %d, %d, %d", fd, offset, len, position);
+        try {
+            return logExit("pwrite", "%d", lib.pwrite(delegate, fd, buf, offset, len, position));
+        } catch (PosixException e) {
+            throw logException("pwrite", e);
+        }
+    }
+
+    @ExportMessage
+    final long sendfile(int outFd, int inFd, long offset, long count,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("sendfile", "%d, %d, %d, %d", outFd, inFd, offset, count);
+        try {
+            return logExit("sendfile", "%d", lib.sendfile(delegate, outFd, inFd, offset, count));
+        } catch (PosixException e) {
+            throw logException("sendfile", e);
+        }
+    }
+
+    @ExportMessage
+    final long copyFileRange(int inFd, long inOffset, int outFd, long outOffset, long count,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("copyFileRange", "%d, %d, %d, %d, %d", inFd, inOffset, outFd, outOffset, count);
+        try {
+            return logExit("copyFileRange", "%d", lib.copyFileRange(delegate, inFd, inOffset, outFd, outOffset, count));
+        } catch (PosixException e) {
+            throw logException("copyFileRange", e);
+        }
+    }
+
+    @ExportMessage
+    final long splice(int inFd, long inOffset, int outFd, long outOffset, long count, int flags,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("splice", "%d, %d, %d, %d, %d, %d", inFd, inOffset, outFd, outOffset, count, flags);
+        try {
+            return logExit("splice", "%d", lib.splice(delegate, inFd, inOffset, outFd, outOffset, count, flags));
+        } catch (PosixException e) {
+            throw logException("splice", e);
+        }
+    }
+
     @ExportMessage
     final int dup(int fd,
                     @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
@@ -275,6 +342,68 @@ public class LoggingPosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    public Object pollerCreate(
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pollerCreate", "");
+        try {
+            return logExit("pollerCreate", "%s", lib.pollerCreate(delegate));
+        } catch (PosixException e) {
+            throw logException("pollerCreate", e);
+        }
+    }
+
+    @ExportMessage
+    public boolean pollerRegister(Object poller, int fd, int events,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pollerRegister", "%s %d %d", poller, fd, events);
+        try {
+            return logExit("pollerRegister", "%s", lib.pollerRegister(delegate, poller, fd, events));
+        } catch (PosixException e) {
+            throw logException("pollerRegister", e);
+        }
+    }
+
+    @ExportMessage
+    public boolean pollerModify(Object poller, int fd, int events,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pollerModify", "%s %d %d", poller, fd, events);
+        try {
+            return logExit("pollerModify", "%s", lib.pollerModify(delegate, poller, fd, events));
+        } catch (PosixException e) {
+            throw logException("pollerModify", e);
+        }
+    }
+
+    @ExportMessage
+    public boolean pollerUnregister(Object poller, int fd,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pollerUnregister", "%s %d", poller, fd);
+        try {
+            return logExit("pollerUnregister", "%s", lib.pollerUnregister(delegate, poller, fd));
+        } catch (PosixException e) {
+            throw logException("pollerUnregister", e);
+        }
+    }
+
+    @ExportMessage
+    public PollResult pollerWait(Object poller, Timeval timeout,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pollerWait", "%s %s", poller, timeout);
+        try {
+            return logExit("pollerWait", "%s", lib.pollerWait(delegate, poller, timeout));
+        } catch (PosixException e) {
+            throw logException("pollerWait", e);
+        }
+    }
+
+    @ExportMessage
+    public void pollerClose(Object poller,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) {
+        logEnter("pollerClose", "%s", poller);
+        lib.pollerClose(delegate, poller);
+    }
+
     @ExportMessage
     final long lseek(int fd, long offset, int how,
                     @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.SystemError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.CALL;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.C_RAISE;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.C_RETURN;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.EVENTS;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.EVENT_NAMES;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.LOCAL_EVENTS;
+import static com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport.TOOLS;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.WeakHashMap;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins;
+import com.oracle.graal.python.builtins.objects.function.PArguments;
+import com.oracle.graal.python.builtins.objects.function.PFunction;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.bytecode.instrumentation.MonitoringSupport;
+import com.oracle.graal.python.nodes.bytecode_dsl.PBytecodeDSLRootNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+
+/**
+ * The per-context part of {@code sys.monitoring}: tool names, the global and per-code events of
+ * each tool, the locations disabled by {@code DISABLE} and the registered callbacks. The compiled
+ * {@link MonitoringSupport} masks live on root nodes, which all contexts of an engine share. In
+ * single-context mode they are an exact copy of this state. With several contexts they only
+ * accumulate the local events of all contexts and never disable a location, and {@link #fire}
+ * filters by the state of the current context.
+ */
+public final class MonitoringState {
+    private final Object disable;
+    private final Object missing;
+    private final Object[] toolNames = new Object[TOOLS];
+    private final int[] events = new int[TOOLS];
+    private final Object[][] callbacks = new Object[TOOLS][EVENTS];
+    private final WeakHashMap<MonitoringSupport, CodeState> codeStates = new WeakHashMap<>();
+
+    /** The local events and disabled locations of one code object in this context. */
+    private static final class CodeState {
+        private final int[] localEvents = new int[TOOLS];
+        /* Tools disabled per location, keyed by bci * LOCAL_EVENTS + event. */
+        private final HashMap<Integer, Integer> disabledTools = new HashMap<>();
+
+        private boolean isDisabled(int bci, int event, int tool) {
+            Integer disabled = disabledTools.get(bci * LOCAL_EVENTS + event);
+            return disabled != null && (disabled & (1 << tool)) != 0;
+        }
+    }
+
+    MonitoringState(PythonLanguage language) {
+        disable = PFactory.createPythonObject(PythonBuiltinClassType.PythonObject, PythonBuiltinClassType.PythonObject.getInstanceShape(language));
+        missing = PFactory.createPythonObject(PythonBuiltinClassType.PythonObject, PythonBuiltinClassType.PythonObject.getInstanceShape(language));
+    }
+
+    /** The {@code sys.monitoring.DISABLE} sentinel. */
+    public Object getDisable() {
+        return disable;
+    }
+
+    /** The {@code sys.monitoring.MISSING} sentinel, passed as {@code arg0} of argumentless calls. */
+    public Object getMissing() {
+        return missing;
+    }
+
+    public Object getToolName(int tool) {
+        return toolNames[tool];
+    }
+
+    public boolean isToolInUse(int tool) {
+        return toolNames[tool] != null;
+    }
+
+    public void useTool(int tool, Object name) {
+        assert toolNames[tool] == null;
+        toolNames[tool] = name;
+    }
+
+    @TruffleBoundary
+    public void freeTool(Node location, PythonLanguage language, int tool) {
+        toolNames[tool] = null;
+        Arrays.fill(callbacks[tool], null);
+        setEvents(location, language, tool, 0);
+        for (CodeState codeState : codeStates.values()) {
+            codeState.localEvents[tool] = 0;
+            codeState.disabledTools.replaceAll((index, tools) -> tools & ~(1 << tool));
+        }
+        if (language.isSingleContext()) {
+            language.monitoringEvents.freeTool(tool);
+        }
+    }
+
+    public int getEvents(int tool) {
+        return events[tool];
+    }
+
+    @TruffleBoundary
+    public void setEvents(Node location, PythonLanguage language, int tool, int eventSet) {
+        events[tool] = eventSet;
+        boolean exact = language.isSingleContext();
+        for (int event = 0; event < EVENTS; event++) {
+            int subscriptionEvent = event == C_RETURN || event == C_RAISE ? CALL : event;
+            int mask = 0;
+            for (int t = 0; t < TOOLS; t++) {
+                if ((events[t] & (1 << subscriptionEvent)) != 0) {
+                    mask |= 1 << t;
+                }
+            }
+            language.monitoringEvents.setTools(event, mask, exact);
+        }
+        if (eventSet != 0) {
+            enableMonitoring(location, language);
+        }
+    }
+
+    @TruffleBoundary
+    public int getLocalEvents(MonitoringSupport support, int tool) {
+        CodeState codeState = codeStates.get(support);
+        return codeState != null ? codeState.localEvents[tool] : 0;
+    }
+
+    @TruffleBoundary
+    public void setLocalEvents(Node location, PythonLanguage language, MonitoringSupport support, int tool, int eventSet) {
+        codeStates.computeIfAbsent(support, s -> new CodeState()).localEvents[tool] = eventSet;
+        support.setLocalEvents(tool, eventSet, language.isSingleContext());
+        if (eventSet != 0) {
+            enableMonitoring(location, language);
+        }
+    }
+
+    /** Re-enables all locations disabled by returning {@code DISABLE} from a callback. */
+    @TruffleBoundary
+    public void restartEvents(PythonLanguage language) {
+        for (CodeState codeState : codeStates.values()) {
+            codeState.disabledTools.clear();
+        }
+        if (language.isSingleContext()) {
+            language.monitoringEvents.restartEvents();
+        }
+    }
+
+    /**
+     * Registers {@code callback} (or removes it if {@code null}) and returns the previous one.
+     */
+    public Object registerCallback(int tool, int event, Object callback) {
+        Object previous = callbacks[tool][event];
+        callbacks[tool][event] = callback;
+        return previous;
+    }
+
+    /**
+     * Invalidates the assumption that keeps the monitoring probes out of the compiled code and
+     * switches the Bytecode DSL interpreter to the configuration with instrumentation operations.
+     */
+    @TruffleBoundary
+    public static void enableMonitoring(Node location, PythonLanguage language) {
+        if (language.noMonitoringAssumption.isValid()) {
+            language.noMonitoringAssumption.invalidate();
+        }
+        try {
+            PBytecodeDSLRootNode.updateAllToTracingConfig(language);
+        } catch (MarshalModuleBuiltins.ReparseError e) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw PRaiseNode.raiseStatic(location, SystemError, ErrorMessages.FAILED_TO_REPARSE_BYTECODE_FILE);
+        }
+    }
+
+    /**
+     * Calls the callbacks of {@code tools} registered for {@code event}. The callback receives the
+     * code object, {@code offset} (the bytecode index, or the line number for {@code LINE} events)
+     * and {@code arg0} and {@code arg1} unless they are {@code null}. Tools that return
+     * {@code DISABLE} no longer receive the event at this location until
+     * {@code sys.monitoring.restart_events()} is called.
+     */
+    public void fire(VirtualFrame frame, Node location, CallNode callNode, PythonThreadState threadState, MonitoringSupport support, int tools, int event, int bci, int offset,
+                    Object arg0, Object arg1) {
+        if (threadState.isMonitoring() || threadState.isTracing() || threadState.isProfiling()) {
+            return;
+        }
+        Object code = getCode(frame);
+        int disabledTools = 0;
+        threadState.monitoringStart();
+        try {
+            for (int tool = 0; tool < TOOLS; tool++) {
+                if ((tools & (1 << tool)) == 0) {
+                    continue;
+                }
+                Object callback = callbacks[tool][event];
+                if (callback == null || !isSubscribed(support, tool, event, bci)) {
+                    continue;
+                }
+                Object result;
+                if (arg0 == null) {
+                    result = callNode.execute(frame, callback, code, offset);
+                } else if (arg1 == null) {
+                    result = callNode.execute(frame, callback, code, offset, arg0);
+                } else {
+                    result = callNode.execute(frame, callback, code, offset, arg0, arg1);
+                }
+                if (result == disable) {
+                    disabledTools |= 1 << tool;
+                }
+            }
+        } finally {
+            threadState.monitoringStop();
+        }
+        if (disabledTools != 0) {
+            disable(location, support, disabledTools, event, bci);
+        }
+    }
+
+    @TruffleBoundary
+    private boolean isSubscribed(MonitoringSupport support, int tool, int event, int bci) {
+        int subscriptionEvent = event == C_RETURN || event == C_RAISE ? CALL : event;
+        int subscribed = events[tool];
+        CodeState codeState = subscriptionEvent < LOCAL_EVENTS ? codeStates.get(support) : null;
+        if (codeState != null) {
+            if (codeState.isDisabled(bci, subscriptionEvent, tool)) {
+                return false;
+            }
+            subscribed |= codeState.localEvents[tool];
+        }
+        return (subscribed & (1 << subscriptionEvent)) != 0;
+    }
+
+    @TruffleBoundary
+    private void disable(Node location, MonitoringSupport support, int disabledTools, int event, int bci) {
+        int subscriptionEvent = event == C_RETURN || event == C_RAISE ? CALL : event;
+        if (subscriptionEvent < LOCAL_EVENTS) {
+            codeStates.computeIfAbsent(support, s -> new CodeState()).disabledTools.merge(bci * LOCAL_EVENTS + subscriptionEvent, disabledTools, (a, b) -> a | b);
+            if (PythonLanguage.get(location).isSingleContext()) {
+                // other contexts may still want this event here, so only fold it into the shared
+                // root when there are none
+                support.disable(bci, subscriptionEvent, disabledTools);
+            }
+        } else {
+            for (int tool = 0; tool < TOOLS; tool++) {
+                if ((disabledTools & (1 << tool)) != 0) {
+                    callbacks[tool][event] = null;
+                }
+            }
+            throw PRaiseNode.raiseStatic(location, ValueError, ErrorMessages.CANNOT_DISABLE_S_EVENTS, EVENT_NAMES[event]);
+        }
+    }
+
+    private static Object getCode(VirtualFrame frame) {
+        Object functionOrCode = PArguments.getFunctionOrCodeObject(frame);
+        if (functionOrCode instanceof PFunction function) {
+            return function.getCode();
+        }
+        return functionOrCode;
+    }
+}
@@ -86,6 +86,7 @@ import static com.oracle.truffle.api.CompilerDirectives.shouldNotReachHere;
 import static com.oracle.truffle.api.strings.TruffleString.Encoding.UTF_8;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.logging.Level;
 
 import org.graalvm.nativeimage.ImageInfo;
@@ -107,6 +108,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet6SockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.InvalidAddressException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.InvalidUnixSocketPathException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.OpenPtyResult;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PollResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixErrnoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PwdResult;
@@ -206,6 +208,21 @@ public final class NativePosixSupport extends PosixSupport {
         @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, POINTER, SINT64})
         abstract long call_write(int fd, long buf, long count);
 
+        @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, POINTER, SINT64, SINT64})
+        abstract long call_pread(int fd, long buf, long count, long offset);
+
+        @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, POINTER, SINT64, SINT64})
+        abstract long call_pwrite(int fd, long buf, long count, long offset);
+
+        @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, SINT32, SINT64, SINT64})
+        abstract long call_sendfile(int outFd, int inFd, long offset, long count);
+
+        @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, SINT64, SINT32, SINT64, SINT64})
+        abstract long call_copy_file_range(int inFd, long inOffset, int outFd, long outOffset, long count);
+
+        @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, SINT64, SINT32, SINT64, SINT64, SINT32})
+        abstract long call_splice(int inFd, long inOffset, int outFd, long outOffset, long count, int flags);
+
         @DowncallSignature(returnType = SINT32, argumentTypes = {SINT32})
         abstract int call_dup(int fd);
 
@@ -221,6 +238,9 @@ public final class NativePosixSupport extends PosixSupport {
         @DowncallSignature(returnType = SINT32, argumentTypes = {SINT32, SINT32, SINT64, SINT64})
         abstract int call_poll(int fd, int writing, long timeoutSec, long timeoutUsec);
 
+        @DowncallSignature(returnType = SINT32, argumentTypes = {POINTER, POINTER, SINT32, SINT64, SINT64, POINTER, POINTER})
+        abstract int call_poll_many(long fds, long events, int nfds, long timeoutSec, long timeoutUsec, long readyFds, long readyEvents);
+
         @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, SINT64, SINT32})
         abstract long call_lseek(int fd, long offset, int whence);
 
@@ -782,6 +802,106 @@ public final class NativePosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    public int readInto(int fd, byte[] buf, int offset, int len) throws PosixException {
+        checkBounds(buf, offset, len);
+        long nativeBuffer = NativeMemory.mallocByteArrayOrNull(len);
+        try {
+            posixNativeFunctionInvoker.set_errno(0);
+            long n = posixNativeFunctionInvoker.call_read(fd, nativeBuffer, len);
+            if (n < 0) {
+                throw getErrnoAndThrowPosixException();
+            }
+            NativeMemory.readByteArrayElements(nativeBuffer, 0, buf, offset, (int) n);
+            return (int) n;
+        } finally {
+            NativeMemory.free(nativeBuffer);
+        }
+    }
+
+    @ExportMessage
+    public int pread(int fd, byte[] buf, int offset, int len, long position) throws PosixException {
+        checkBounds(buf, offset, len);
+        long nativeBuffer = NativeMemory.mallocByteArrayOrNull(len);
+        try {
+            posixNativeFunctionInvoker.set_errno(0);
+            long n = posixNativeFunctionInvoker.call_pread(fd, nativeBuffer, len, position);
+            if (n < 0) {
+                throw getErrnoAndThrowPosixException();
+            }
+            NativeMemory.readByteArrayElements(nativeBuffer, 0, buf, offset, (int) n);
+            return (int) n;
+        } finally {
+            NativeMemory.free(nativeBuffer);
+        }
+    }
+
+    @ExportMessage
+    public int pwrite(int fd, byte[] buf, int offset, int len, long position) throws PosixException {
+        checkBounds(buf, offset, len);
+        long nativeBuffer = NativeMemory.mallocByteArrayOrNull(len);
+        try {
+            NativeMemory.writeByteArrayElements(nativeBuffer, 0, buf, offset, len);
+            posixNativeFunctionInvoker.set_errno(0);
+            long n = posixNativeFunctionInvoker.call_pwrite(fd, nativeBuffer, len, position);
+            if (n < 0) {
+                throw getErrnoAndThrowPosixException();
+            }
+            return (int) n;
+        } finally {
+            NativeMemory.free(nativeBuffer);
+        }
+    }
+
+    /*
+     * The zero-copy transfer functions are only provided by libposix on Linux. Darwin's sendfile
+     * only supports sockets as destination and has a different signature, callers fall back to
+     * read/write loops there.
+     */
+    private static void checkTransferSupported(String name) throws UnsupportedPosixFeatureException {
+        if (PythonLanguage.getPythonOS() != PythonOS.PLATFORM_LINUX) {
+            throw createUnsupportedFeature(name);
+        }
+    }
+
+    @TruffleBoundary
+    private static UnsupportedPosixFeatureException createUnsupportedFeature(String name) {
+        return new UnsupportedPosixFeatureException(name + " is not available on the current platform");
+    }
+
+    @ExportMessage
+    public long sendfile(int outFd, int inFd, long offset, long count) throws PosixException {
+        checkTransferSupported("sendfile");
+        posixNativeFunctionInvoker.set_errno(0);
+        long n = posixNativeFunctionInvoker.call_sendfile(outFd, inFd, offset, count);
+        if (n < 0) {
+            throw getErrnoAndThrowPosixException();
+        }
+        return n;
+    }
+
+    @ExportMessage
+    public long copyFileRange(int inFd, long inOffset, int outFd, long outOffset, long count) throws PosixException {
+        checkTransferSupported("copy_file_range");
+        posixNativeFunctionInvoker.set_errno(0);
+        long n = posixNativeFunctionInvoker.call_copy_file_range(inFd, inOffset, outFd, outOffset, count);
+        if (n < 0) {
+            throw getErrnoAndThrowPosixException();
+        }
+        return n;
+    }
+
+    @ExportMessage
+    public long splice(int inFd, long inOffset, int outFd, long outOffset, long count, int flags) throws PosixException {
+        checkTransferSupported("splice");
+        posixNativeFunctionInvoker.set_errno(0);
+        long n = posixNativeFunctionInvoker.call_splice(inFd, inOffset, outFd, outOffset, count, flags);
+        if (n < 0) {
+            throw getErrnoAndThrowPosixException();
+        }
+        return n;
+    }
+
     @ExportMessage
     public int dup(int fd) throws PosixException {
         int newFd = posixNativeFunctionInvoker.call_dup(fd);
@@ -914,6 +1034,125 @@ public final class NativePosixSupport extends PosixSupport {
         }
     }
 
+    /**
+     * Registered descriptors of a poller. The set is kept on the Java side and passed to
+     * {@code poll(2)} in one downcall, so registering is O(1) and nothing needs to be rebuilt from
+     * Python objects on every wait.
+     */
+    static final class NativePoller {
+        private final HashMap<Integer, Integer> slots = new HashMap<>();
+        private int[] fds = new int[8];
+        private int[] events = new int[8];
+        private int size;
+
+        synchronized boolean register(int fd, int eventMask) {
+            if (slots.containsKey(fd)) {
+                return false;
+            }
+            if (size == fds.length) {
+                fds = PythonUtils.arrayCopyOf(fds, size * 2);
+                events = PythonUtils.arrayCopyOf(events, size * 2);
+            }
+            fds[size] = fd;
+            events[size] = eventMask;
+            slots.put(fd, size++);
+            return true;
+        }
+
+        synchronized boolean modify(int fd, int eventMask) {
+            Integer slot = slots.get(fd);
+            if (slot == null) {
+                return false;
+            }
+            events[slot] = eventMask;
+            return true;
+        }
+
+        synchronized boolean unregister(int fd) {
+            Integer slot = slots.remove(fd);
+            if (slot == null) {
+                return false;
+            }
+            int last = --size;
+            if (slot != last) {
+                fds[slot] = fds[last];
+                events[slot] = events[last];
+                slots.put(fds[slot], slot);
+            }
+            return true;
+        }
+    }
+
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    public Object pollerCreate() {
+        return new NativePoller();
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    @SuppressWarnings("static-method")
+    public boolean pollerRegister(Object poller, int fd, int events) {
+        return ((NativePoller) poller).register(fd, events);
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    @SuppressWarnings("static-method")
+    public boolean pollerModify(Object poller, int fd, int events) {
+        return ((NativePoller) poller).modify(fd, events);
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    @SuppressWarnings("static-method")
+    public boolean pollerUnregister(Object poller, int fd) {
+        return ((NativePoller) poller).unregister(fd);
+    }
+
+    @ExportMessage
+    public PollResult pollerWait(Object pollerObj, Timeval timeout) throws PosixException {
+        NativePoller poller = (NativePoller) pollerObj;
+        long secs = -1, usecs = -1;
+        if (timeout != null) {
+            secs = timeout.getSeconds();
+            usecs = timeout.getMicroseconds();
+        }
+        long nativeFds = NULLPTR;
+        long nativeEvents = NULLPTR;
+        long nativeReadyFds = NULLPTR;
+        long nativeReadyEvents = NULLPTR;
+        try {
+            int nfds;
+            // the GIL is released while waiting, other threads may modify the poller
+            synchronized (poller) {
+                nfds = poller.size;
+                nativeFds = NativeMemory.copyToNativeIntArrayOrNull(poller.fds, 0, nfds);
+                nativeEvents = NativeMemory.copyToNativeIntArrayOrNull(poller.events, 0, nfds);
+            }
+            if (nfds > 0) {
+                nativeReadyFds = NativeMemory.mallocIntArray(nfds);
+                nativeReadyEvents = NativeMemory.mallocIntArray(nfds);
+            }
+            int result = posixNativeFunctionInvoker.call_poll_many(nativeFds, nativeEvents, nfds, secs, usecs, nativeReadyFds, nativeReadyEvents);
+            if (result < 0) {
+                throw getErrnoAndThrowPosixException();
+            }
+            return new PollResult(NativeMemory.readIntArrayElements(nativeReadyFds, 0, result), NativeMemory.readIntArrayElements(nativeReadyEvents, 0, result));
+        } finally {
+            NativeMemory.free(nativeReadyEvents);
+            NativeMemory.free(nativeReadyFds);
+            NativeMemory.free(nativeEvents);
+            NativeMemory.free(nativeFds);
+        }
+    }
+
+    @ExportMessage
+    @SuppressWarnings({"static-method", "unused"})
+    public void pollerClose(Object poller) {
+        // nothing to release, the descriptor set lives on the Java heap
+    }
+
     @ExportMessage
     public long lseek(int fd, long offset, int how) throws PosixException {
         long res = posixNativeFunctionInvoker.call_lseek(fd, offset, how);
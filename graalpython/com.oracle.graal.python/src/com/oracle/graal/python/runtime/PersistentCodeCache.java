@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import static com.oracle.graal.python.util.PythonUtils.ARRAY_ACCESSOR_LE;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.zip.CRC32C;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins;
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.pegparser.FutureFeature;
+import com.oracle.graal.python.pegparser.InputType;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLogger;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Persistent, content-addressed cache of compiled module code (see
+ * {@link PythonOptions#CodeCacheDir}). Unlike {@code .pyc} files, entries do not live next to the
+ * sources and need no timestamp validation: each entry is named after a SHA-256 digest of
+ * everything that influences the compiler output (source text and path, optimization level,
+ * future flags, bytecode format and GraalPy version), so a changed source simply maps to a
+ * different entry.
+ * <p>
+ * The file layout starts with the same 16 bytes as a {@code .pyc} header (magic number, flags,
+ * 64-bit cache key) because {@link MarshalModuleBuiltins#fromBytecodeFile} may lazily re-read
+ * serialized DSL bytecode from the file and validates it against that header. It is followed by
+ * the full digest, the payload length and a CRC32C of the payload, which protects against
+ * truncated or corrupted entries. Any entry that fails validation is ignored and overwritten after
+ * the module has been compiled normally.
+ * <p>
+ * The directory is bounded by {@link PythonOptions#CodeCacheMaxSize}. The modification time of an
+ * entry serves as its last use time and is refreshed on hits, and a process that adds entries
+ * deletes the least recently used ones once the directory exceeds the limit. Processes that keep
+ * running while their entries are evicted recompile lazily loaded code from the sources, unless
+ * {@link PythonOptions#KeepBytecodeInMemory} is set.
+ */
+public final class PersistentCodeCache {
+    private static final TruffleLogger LOGGER = PythonLanguage.getLogger(PersistentCodeCache.class);
+
+    /*
+     * Deliberately not a valid combination of pyc flags, so that these files are never mistaken
+     * for pycs by __graalpython__.load_bytecode_file.
+     */
+    private static final int FORMAT_FLAGS = 0x47500001;
+    private static final int DIGEST_SIZE = 32;
+    private static final int DIGEST_OFFSET = 16;
+    private static final int LENGTH_OFFSET = DIGEST_OFFSET + DIGEST_SIZE;
+    private static final int CHECKSUM_OFFSET = LENGTH_OFFSET + 4;
+    private static final int HEADER_SIZE = CHECKSUM_OFFSET + 4;
+    private static final String SUFFIX = ".gpyc";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /** Hits refresh the last use time of entries that were last used longer ago than this. */
+    private static final long TOUCH_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+    /** Temporary files older than this are left over from processes that died while storing. */
+    private static final long STALE_TMP_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final AtomicInteger tempFileCounter = new AtomicInteger();
+
+    private final TruffleFile directory;
+    private final long maxSize;
+    /** Bytes stored since the last {@link #prune}, or -1 if this process has not pruned yet. */
+    private final AtomicLong storedSincePrune = new AtomicLong(-1);
+
+    private PersistentCodeCache(TruffleFile directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cache for the directory configured in {@code context}, or {@code null} if the
+     * cache is disabled or the directory cannot be used.
+     */
+    @TruffleBoundary
+    static PersistentCodeCache create(PythonContext context) {
+        TruffleString dir = context.getOption(PythonOptions.CodeCacheDir);
+        if (dir.isEmpty()) {
+            return null;
+        }
+        try {
+            TruffleFile directory = context.getEnv().getPublicTruffleFile(dir.toJavaStringUncached());
+            if (!directory.isDirectory()) {
+                directory.createDirectories();
+            }
+            return new PersistentCodeCache(directory, context.getOption(PythonOptions.CodeCacheMaxSize) * 1024L * 1024L);
+        } catch (IOException | SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Cannot use code cache directory " + dir + ", the code cache is disabled");
+            return null;
+        }
+    }
+
+    /**
+     * Only whole modules compiled from an actual file are cached. Interactive input, top-level
+     * scripts and functions with argument names are always compiled afresh.
+     */
+    public static boolean isCacheable(Source source, InputType type, boolean topLevel, boolean interactiveTerminal, List<String> argumentNames) {
+        return type == InputType.FILE && !topLevel && !interactiveTerminal && argumentNames == null && source.getPath() != null && !source.isInternal();
+    }
+
+    @TruffleBoundary
+    public static byte[] digest(Source source, int optimize, EnumSet<FutureFeature> futureFeatures) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] ints = new byte[4 * 6];
+        ARRAY_ACCESSOR_LE.putInt(ints, 0, PythonLanguage.MAGIC_NUMBER);
+        ARRAY_ACCESSOR_LE.putInt(ints, 4, PythonOptions.ENABLE_BYTECODE_DSL_INTERPRETER ? 1 : 0);
+        ARRAY_ACCESSOR_LE.putInt(ints, 8, optimize);
+        int futureFlags = 0;
+        if (futureFeatures != null) {
+            for (FutureFeature feature : futureFeatures) {
+                futureFlags |= feature.flagValue;
+            }
+        }
+        ARRAY_ACCESSOR_LE.putInt(ints, 12, futureFlags);
+        ARRAY_ACCESSOR_LE.putInt(ints, 16, PythonLanguage.GRAALVM_MAJOR * 10000 + PythonLanguage.GRAALVM_MINOR * 100 + PythonLanguage.GRAALVM_MICRO);
+        ARRAY_ACCESSOR_LE.putInt(ints, 20, FORMAT_FLAGS);
+        md.update(ints);
+        md.update(PythonLanguage.VERSION.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        md.update(source.getPath().getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        md.update(source.getCharacters().toString().getBytes(StandardCharsets.UTF_8));
+        return md.digest();
+    }
+
+    private TruffleFile entryFile(byte[] digest) {
+        return directory.resolve(HexFormat.of().formatHex(digest) + SUFFIX);
+    }
+
+    private static long cacheKey(byte[] digest) {
+        long key = ARRAY_ACCESSOR_LE.getLong(digest, 0);
+        // 0 means "no cache key" to the code loader
+        return key == 0 ? 1 : key;
+    }
+
+    /**
+     * Looks up the compiled code for {@code source}. Returns {@code null} on a miss or if the entry
+     * is unusable, in which case the caller compiles as usual and calls {@link #store}.
+     */
+    @TruffleBoundary
+    public RootCallTarget load(PythonContext context, Source source, byte[] digest) {
+        TruffleFile file = entryFile(digest);
+        try {
+            if (!file.isRegularFile()) {
+                return null;
+            }
+            byte[] bytes = file.readAllBytes();
+            long cacheKey = cacheKey(digest);
+            if (bytes.length < HEADER_SIZE || !Arrays.equals(bytes, 0, 4, PythonLanguage.MAGIC_NUMBER_BYTES, 0, 4) || ARRAY_ACCESSOR_LE.getInt(bytes, 4) != FORMAT_FLAGS ||
+                            ARRAY_ACCESSOR_LE.getLong(bytes, 8) != cacheKey || !Arrays.equals(bytes, DIGEST_OFFSET, DIGEST_OFFSET + DIGEST_SIZE, digest, 0, DIGEST_SIZE)) {
+                LOGGER.fine(() -> "Ignoring invalid code cache entry " + file);
+                return null;
+            }
+            int length = ARRAY_ACCESSOR_LE.getInt(bytes, LENGTH_OFFSET);
+            if (length != bytes.length - HEADER_SIZE) {
+                LOGGER.fine(() -> "Ignoring truncated code cache entry " + file);
+                return null;
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(bytes, HEADER_SIZE, length);
+            if ((int) crc.getValue() != ARRAY_ACCESSOR_LE.getInt(bytes, CHECKSUM_OFFSET)) {
+                LOGGER.fine(() -> "Ignoring corrupted code cache entry " + file);
+                return null;
+            }
+            TruffleFile sourceFile = context.getEnv().getPublicTruffleFile(source.getPath());
+            Object code = MarshalModuleBuiltins.fromBytecodeFile(context.getLanguage(), file, sourceFile, bytes, HEADER_SIZE, length, cacheKey);
+            if (code instanceof PCode pcode) {
+                LOGGER.finer(() -> "Loaded " + source.getPath() + " from code cache entry " + file);
+                touch(file);
+                return pcode.getRootCallTarget();
+            }
+            return null;
+        } catch (IOException | SecurityException | UnsupportedOperationException | IllegalArgumentException | MarshalModuleBuiltins.ReparseError e) {
+            LOGGER.log(Level.FINE, e, () -> "Cannot read code cache entry " + file);
+            return null;
+        }
+    }
+
+    /**
+     * Persists freshly compiled module code. The entry is written to a temporary file first and
+     * then atomically moved into place, so concurrent processes sharing the directory never observe
+     * partially written entries.
+     */
+    @TruffleBoundary
+    public void store(PythonContext context, Source source, byte[] digest, RootCallTarget callTarget) {
+        TruffleFile file = entryFile(digest);
+        TruffleFile tmp = null;
+        try {
+            PCode code = PFactory.createCode(context.getLanguage(), callTarget, toTruffleStringUncached(source.getPath()));
+            byte[] payload = MarshalModuleBuiltins.toBytecodeFile(context.getLanguage(), code);
+            byte[] header = new byte[HEADER_SIZE];
+            System.arraycopy(PythonLanguage.MAGIC_NUMBER_BYTES, 0, header, 0, 4);
+            ARRAY_ACCESSOR_LE.putInt(header, 4, FORMAT_FLAGS);
+            ARRAY_ACCESSOR_LE.putLong(header, 8, cacheKey(digest));
+            System.arraycopy(digest, 0, header, DIGEST_OFFSET, DIGEST_SIZE);
+            ARRAY_ACCESSOR_LE.putInt(header, LENGTH_OFFSET, payload.length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            ARRAY_ACCESSOR_LE.putInt(header, CHECKSUM_OFFSET, (int) crc.getValue());
+            tmp = directory.resolve(file.getName() + "." + ProcessHandle.current().pid() + "." + tempFileCounter.incrementAndGet() + TMP_SUFFIX);
+            try (OutputStream out = tmp.newOutputStream()) {
+                out.write(header);
+                out.write(payload);
+            }
+            tmp.move(file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+            pruneIfNeeded(header.length + payload.length);
+        } catch (IOException | SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+            LOGGER.log(Level.FINE, e, () -> "Cannot write code cache entry " + file);
+        } finally {
+            if (tmp != null) {
+                try {
+                    tmp.delete();
+                } catch (IOException | SecurityException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private static void touch(TruffleFile file) {
+        try {
+            long now = System.currentTimeMillis();
+            if (now - file.getLastModifiedTime().toMillis() > TOUCH_INTERVAL_MILLIS) {
+                file.setLastModifiedTime(FileTime.fromMillis(now));
+            }
+        } catch (IOException | SecurityException | UnsupportedOperationException e) {
+            // only makes the entry more likely to be evicted
+        }
+    }
+
+    /**
+     * Prunes the directory on the first store of this process, since the cache only grows when
+     * entries are stored, and again whenever this process stored another eighth of the limit.
+     */
+    private void pruneIfNeeded(long stored) {
+        if (maxSize <= 0) {
+            return;
+        }
+        long previous = storedSincePrune.getAndUpdate(n -> n < 0 || n + stored >= maxSize / 8 ? 0 : n + stored);
+        if (previous < 0 || previous + stored >= maxSize / 8) {
+            prune();
+        }
+    }
+
+    private record CacheEntry(TruffleFile file, long lastUsed, long size) {
+    }
+
+    /**
+     * Deletes stale temporary files and, if the entries exceed the size limit, the least recently
+     * used entries until they take up at most three quarters of the limit, so that the next stores
+     * do not immediately prune again.
+     */
+    private synchronized void prune() {
+        List<CacheEntry> entries = new ArrayList<>();
+        long total = 0;
+        long now = System.currentTimeMillis();
+        try {
+            for (TruffleFile file : directory.list()) {
+                String name = file.getName();
+                try {
+                    if (name.endsWith(SUFFIX)) {
+                        CacheEntry entry = new CacheEntry(file, file.getLastModifiedTime().toMillis(), file.size());
+                        entries.add(entry);
+                        total += entry.size;
+                    } else if (name.endsWith(TMP_SUFFIX) && now - file.getLastModifiedTime().toMillis() > STALE_TMP_MILLIS) {
+                        file.delete();
+                    }
+                } catch (IOException e) {
+                    // removed concurrently
+                }
+            }
+        } catch (IOException | SecurityException | UnsupportedOperationException e) {
+            LOGGER.log(Level.FINE, e, () -> "Cannot prune code cache directory " + directory);
+            return;
+        }
+        if (total <= maxSize) {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(CacheEntry::lastUsed));
+        long target = maxSize / 4 * 3;
+        for (CacheEntry entry : entries) {
+            if (total <= target) {
+                break;
+            }
+            try {
+                entry.file.delete();
+            } catch (IOException | SecurityException e) {
+                // removed concurrently
+            }
+            total -= entry.size;
+        }
+        long remaining = total;
+        LOGGER.fine(() -> "Pruned code cache directory " + directory + " to " + remaining + " bytes");
+    }
+}
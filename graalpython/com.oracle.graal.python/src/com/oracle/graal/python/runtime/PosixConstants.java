@@ -201,6 +201,9 @@ public final class PosixConstants {
     public static final MandatoryIntConstant RTLD_NOW;
     public static final MandatoryIntConstant RTLD_GLOBAL;
     public static final MandatoryIntConstant RTLD_LOCAL;
+    public static final OptionalIntConstant SPLICE_F_MOVE;
+    public static final OptionalIntConstant SPLICE_F_NONBLOCK;
+    public static final OptionalIntConstant SPLICE_F_MORE;
     public static final OptionalIntConstant LOAD_LIBRARY_SEARCH_DEFAULT_DIRS;
     public static final OptionalIntConstant LOAD_LIBRARY_SEARCH_APPLICATION_DIR;
     public static final OptionalIntConstant LOAD_LIBRARY_SEARCH_SYSTEM32;
@@ -393,6 +396,7 @@ public final class PosixConstants {
     public static final IntConstant[] accessMode;
     public static final IntConstant[] exitStatus;
     public static final IntConstant[] rtld;
+    public static final IntConstant[] spliceFlags;
     public static final IntConstant[] winapiLoadLibraryFlags;
     public static final IntConstant[] socketFamily;
     public static final IntConstant[] socketType;
@@ -534,6 +538,9 @@ public final class PosixConstants {
         RTLD_NOW = reg.createMandatoryInt("RTLD_NOW");
         RTLD_GLOBAL = reg.createMandatoryInt("RTLD_GLOBAL");
         RTLD_LOCAL = reg.createMandatoryInt("RTLD_LOCAL");
+        SPLICE_F_MOVE = reg.createOptionalInt("SPLICE_F_MOVE");
+        SPLICE_F_NONBLOCK = reg.createOptionalInt("SPLICE_F_NONBLOCK");
+        SPLICE_F_MORE = reg.createOptionalInt("SPLICE_F_MORE");
         LOAD_LIBRARY_SEARCH_DEFAULT_DIRS = reg.createOptionalInt("LOAD_LIBRARY_SEARCH_DEFAULT_DIRS");
         LOAD_LIBRARY_SEARCH_APPLICATION_DIR = reg.createOptionalInt("LOAD_LIBRARY_SEARCH_APPLICATION_DIR");
         LOAD_LIBRARY_SEARCH_SYSTEM32 = reg.createOptionalInt("LOAD_LIBRARY_SEARCH_SYSTEM32");
@@ -729,6 +736,7 @@ public final class PosixConstants {
         exitStatus = new IntConstant[]{EX_OK, EX_USAGE, EX_DATAERR, EX_NOINPUT, EX_NOUSER, EX_NOHOST, EX_UNAVAILABLE, EX_SOFTWARE, EX_OSERR, EX_OSFILE, EX_CANTCREAT, EX_IOERR, EX_TEMPFAIL,
                         EX_PROTOCOL, EX_NOPERM, EX_CONFIG, EX_NOTFOUND};
         rtld = new IntConstant[]{RTLD_LAZY, RTLD_NOW, RTLD_GLOBAL, RTLD_LOCAL};
+        spliceFlags = new IntConstant[]{SPLICE_F_MOVE, SPLICE_F_NONBLOCK, SPLICE_F_MORE};
         winapiLoadLibraryFlags = new IntConstant[]{LOAD_LIBRARY_SEARCH_DEFAULT_DIRS, LOAD_LIBRARY_SEARCH_APPLICATION_DIR, LOAD_LIBRARY_SEARCH_SYSTEM32, LOAD_LIBRARY_SEARCH_USER_DIRS,
                         LOAD_LIBRARY_SEARCH_DLL_LOAD_DIR};
         socketFamily = new IntConstant[]{AF_UNSPEC, AF_INET, AF_INET6, AF_PACKET, AF_UNIX};
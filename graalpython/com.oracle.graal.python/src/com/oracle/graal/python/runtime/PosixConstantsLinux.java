@@ -156,6 +156,9 @@ class PosixConstantsLinux {
         constants.put("RTLD_NOW", 0x00000002);
         constants.put("RTLD_GLOBAL", 0x00000100);
         constants.put("RTLD_LOCAL", 0x00000000);
+        constants.put("SPLICE_F_MOVE", 1);
+        constants.put("SPLICE_F_NONBLOCK", 2);
+        constants.put("SPLICE_F_MORE", 4);
         constants.put("AF_UNSPEC", 0);
         constants.put("AF_INET", 2);
         constants.put("AF_INET6", 10);
@@ -80,6 +80,15 @@ public abstract class PosixSupportLibrary extends Library {
     public static final int ST_MODE = 0;
     public static final int ST_SIZE = 6;
 
+    // Event masks used by the poller messages. The values match poll.h on Linux and Darwin, and
+    // the corresponding EPOLL* constants on Linux.
+    public static final int POLLIN = 0x001;
+    public static final int POLLPRI = 0x002;
+    public static final int POLLOUT = 0x004;
+    public static final int POLLERR = 0x008;
+    public static final int POLLHUP = 0x010;
+    public static final int POLLNVAL = 0x020;
+
     public abstract TruffleString getBackend(Object recevier);
 
     public abstract TruffleString strerror(Object receiver, int errorCode);
@@ -96,6 +105,54 @@ public abstract class PosixSupportLibrary extends Library {
 
     public abstract long write(Object receiver, int fd, Buffer data) throws PosixException;
 
+    /**
+     * Reads at most {@code len} bytes from {@code fd} directly into {@code buf} starting at
+     * {@code offset}, without allocating an intermediate {@link Buffer}.
+     *
+     * @return the number of bytes read, 0 at end of file
+     */
+    public abstract int readInto(Object receiver, int fd, byte[] buf, int offset, int len) throws PosixException;
+
+    /**
+     * Like {@link #readInto} but reads from the given file position without changing the file
+     * offset of {@code fd}.
+     */
+    public abstract int pread(Object receiver, int fd, byte[] buf, int offset, int len, long position) throws PosixException;
+
+    /**
+     * Writes {@code len} bytes from {@code buf} starting at {@code offset} to the given file
+     * position without changing the file offset of {@code fd}.
+     */
+    public abstract int pwrite(Object receiver, int fd, byte[] buf, int offset, int len, long position) throws PosixException;
+
+    /**
+     * Offset argument of {@link #sendfile}, {@link #copyFileRange} and {@link #splice} that stands
+     * for {@code NULL}, i.e. the file offset of the descriptor is used and updated.
+     */
+    public static final long USE_FILE_OFFSET = Long.MIN_VALUE;
+
+    /**
+     * Copies up to {@code count} bytes from {@code inFd} to {@code outFd} without passing the data
+     * through Java arrays. If {@code offset} is {@link #USE_FILE_OFFSET}, the file offset of
+     * {@code inFd} is used and updated, otherwise it is left unchanged. Other negative offsets fail
+     * with {@code EINVAL}.
+     *
+     * @return the number of bytes transferred, 0 at end of file
+     */
+    public abstract long sendfile(Object receiver, int outFd, int inFd, long offset, long count) throws PosixException;
+
+    /**
+     * Copies up to {@code count} bytes between two files. Offsets are treated as in
+     * {@link #sendfile}.
+     */
+    public abstract long copyFileRange(Object receiver, int inFd, long inOffset, int outFd, long outOffset, long count) throws PosixException;
+
+    /**
+     * Moves up to {@code count} bytes between two descriptors, one of which should be a pipe.
+     * Offsets are treated as in {@link #copyFileRange}.
+     */
+    public abstract long splice(Object receiver, int inFd, long inOffset, int outFd, long outOffset, long count, int flags) throws PosixException;
+
     public abstract int dup(Object receiver, int fd) throws PosixException;
 
     public abstract int dup2(Object receiver, int fd, int fd2, boolean inheritable) throws PosixException;
@@ -110,6 +167,32 @@ public abstract class PosixSupportLibrary extends Library {
 
     public abstract boolean poll(Object receiver, int fd, boolean forWriting, Timeval timeout) throws PosixException;
 
+    /**
+     * Creates a long-lived poller that keeps its set of registered file descriptors between calls
+     * to {@link #pollerWait}, unlike {@link #select} which needs the whole set on every call.
+     */
+    public abstract Object pollerCreate(Object receiver) throws PosixException;
+
+    /**
+     * Registers {@code fd} with the poller. Returns {@code false} and leaves the poller unchanged if
+     * {@code fd} is already registered.
+     */
+    public abstract boolean pollerRegister(Object receiver, Object poller, int fd, int events) throws PosixException;
+
+    /**
+     * Changes the event mask of {@code fd}. Returns {@code false} if {@code fd} is not registered.
+     */
+    public abstract boolean pollerModify(Object receiver, Object poller, int fd, int events) throws PosixException;
+
+    /**
+     * Removes {@code fd} from the poller. Returns {@code false} if {@code fd} was not registered.
+     */
+    public abstract boolean pollerUnregister(Object receiver, Object poller, int fd) throws PosixException;
+
+    public abstract PollResult pollerWait(Object receiver, Object poller, Timeval timeout) throws PosixException;
+
+    public abstract void pollerClose(Object receiver, Object poller);
+
     public abstract long lseek(Object receiver, int fd, long offset, int how) throws PosixException;
 
     public abstract void ftruncate(Object receiver, int fd, long length) throws PosixException;
@@ -1223,6 +1306,36 @@ public abstract class PosixSupportLibrary extends Library {
         }
     }
 
+    /**
+     * Result of {@link PosixSupportLibrary#pollerWait}: only the file descriptors that are ready,
+     * each paired with its {@code POLL*} event mask.
+     */
+    @ValueType
+    public static final class PollResult {
+        private final int[] fds;
+        private final int[] revents;
+
+        public PollResult(int[] fds, int[] revents) {
+            assert fds.length == revents.length;
+            this.fds = fds;
+            this.revents = revents;
+        }
+
+        public int[] getFds() {
+            return fds;
+        }
+
+        public int[] getRevents() {
+            return revents;
+        }
+
+        @Override
+        public String toString() {
+            CompilerAsserts.neverPartOfCompilation();
+            return String.format("poll[fds = %s; revents = %s]", Arrays.toString(fds), Arrays.toString(revents));
+        }
+    }
+
     // from stat.h macros
     private static boolean istype(long mode, int mask) {
         return (mode & S_IFMT.value) == mask;
@@ -54,6 +54,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet6SockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.InvalidAddressException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.InvalidUnixSocketPathException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.OpenPtyResult;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PollResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PwdResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvfromResult;
@@ -211,6 +212,50 @@ public class PreInitPosixSupport extends PosixSupport {
         return nativeLib.write(nativePosixSupport, fd, data);
     }
 
+    @ExportMessage
+    final int readInto(int fd, byte[] buf, int offset, int len,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        if (inPreInitialization) {
+            return PosixSupportLibrary.getUncached().readInto(emulatedPosixSupport, fd, buf, offset, len);
+        }
+        return nativeLib.readInto(nativePosixSupport, fd, buf, offset, len);
+    }
+
+    @ExportMessage
+    final int pread(int fd, byte[] buf, int offset, int len, long position,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pread(nativePosixSupport, fd, buf, offset, len, position);
+    }
+
+    @ExportMessage
+    final int pwrite(int fd, byte[] buf, int offset, int len, long position,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pwrite(nativePosixSupport, fd, buf, offset, len, position);
+    }
+
+    @ExportMessage
+    final long sendfile(int outFd, int inFd, long offset, long count,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.sendfile(nativePosixSupport, outFd, inFd, offset, count);
+    }
+
+    @ExportMessage
+    final long copyFileRange(int inFd, long inOffset, int outFd, long outOffset, long count,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.copyFileRange(nativePosixSupport, inFd, inOffset, outFd, outOffset, count);
+    }
+
+    @ExportMessage
+    final long splice(int inFd, long inOffset, int outFd, long outOffset, long count, int flags,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.splice(nativePosixSupport, inFd, inOffset, outFd, outOffset, count, flags);
+    }
+
     @ExportMessage
     final int dup(int fd,
                     @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
@@ -262,6 +307,48 @@ public class PreInitPosixSupport extends PosixSupport {
         return nativeLib.poll(nativePosixSupport, fd, forWriting, timeout);
     }
 
+    @ExportMessage
+    final Object pollerCreate(
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pollerCreate(nativePosixSupport);
+    }
+
+    @ExportMessage
+    final boolean pollerRegister(Object poller, int fd, int events,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pollerRegister(nativePosixSupport, poller, fd, events);
+    }
+
+    @ExportMessage
+    final boolean pollerModify(Object poller, int fd, int events,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pollerModify(nativePosixSupport, poller, fd, events);
+    }
+
+    @ExportMessage
+    final boolean pollerUnregister(Object poller, int fd,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pollerUnregister(nativePosixSupport, poller, fd);
+    }
+
+    @ExportMessage
+    final PollResult pollerWait(Object poller, Timeval timeout,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pollerWait(nativePosixSupport, poller, timeout);
+    }
+
+    @ExportMessage
+    final void pollerClose(Object poller,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) {
+        checkNotInPreInitialization();
+        nativeLib.pollerClose(nativePosixSupport, poller);
+    }
+
     @ExportMessage
     final long lseek(int fd, long offset, int how,
                     @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
@@ -95,6 +95,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -415,6 +416,9 @@ public final class PythonContext extends Python3Core {
         /* Keep track of execution to avoid profiling code inside the profile function. */
         boolean profiling;
 
+        /* Keep track of execution to avoid monitoring code inside sys.monitoring callbacks. */
+        boolean monitoring;
+
         /* The event currently being traced, only useful if tracing is true. */
         TraceEvent tracingWhat;
 
@@ -448,6 +452,12 @@ public final class PythonContext extends Python3Core {
          */
         public int recursionDepth;
 
+        /*
+         * The container whose critical section lock this thread currently holds (free-threading
+         * mode only), see CriticalSection.
+         */
+        CriticalSection.Lockable criticalSection;
+
         /*
          * The constructor needs to have this particular signature such that we can use it for
          * ContextThreadLocal.
@@ -657,6 +667,19 @@ public final class PythonContext extends Python3Core {
             this.profiling = false;
         }
 
+        public boolean isMonitoring() {
+            return monitoring;
+        }
+
+        public void monitoringStart() {
+            assert !this.monitoring : "Attempt made to monitor an event while inside a monitoring callback. Did you forget to check isMonitoring?";
+            this.monitoring = true;
+        }
+
+        public void monitoringStop() {
+            this.monitoring = false;
+        }
+
         public Object getAsyncgenFirstIter() {
             return asyncgenFirstIter;
         }
@@ -757,6 +780,7 @@ public final class PythonContext extends Python3Core {
     private static final TruffleString T_LIB_PYTHON_3 = tsLiteral("/lib/python" + PythonLanguage.MAJOR + "." + PythonLanguage.MINOR);
     private static final TruffleString T_LIB_GRAALPYTHON = tsLiteral("/lib/graalpy" + PythonLanguage.GRAALVM_MAJOR + "." + PythonLanguage.GRAALVM_MINOR);
     private static final TruffleString T_STD_LIB_PLACEHOLDER = tsLiteral("!stdLibHome!");
+    private static final TruffleString T_PATH_IMPORTER_CACHE = tsLiteral("path_importer_cache");
     private static final String J_NO_CORE_FATAL = "could not determine Graal.Python's core path - you must pass --python.CoreHome.";
     private static final String J_NO_PREFIX_WARNING = "could not determine Graal.Python's sys prefix path - you may need to pass --python.SysPrefix.";
     private static final String J_NO_CORE_WARNING = "could not determine Graal.Python's core path - you may need to pass --python.CoreHome.";
@@ -818,18 +842,11 @@ public final class PythonContext extends Python3Core {
 
     private TruffleString soABI;
 
-    private static final class GlobalInterpreterLock extends ReentrantLock {
-        private static final long serialVersionUID = 1L;
-
-        public GlobalInterpreterLock() {
-            super(true);
-        }
+    private PersistentCodeCache persistentCodeCache;
+    private boolean persistentCodeCacheInitialized;
 
-        @Override
-        public Thread getOwner() {
-            return super.getOwner();
-        }
-    }
+    private ImportPrefetcher importPrefetcher;
+    private boolean importPrefetcherInitialized;
 
     private final GlobalInterpreterLock globalInterpreterLock = new GlobalInterpreterLock();
 
@@ -862,6 +879,9 @@ public final class PythonContext extends Python3Core {
     private final ChildContextData childContextData;
     private final SharedMultiprocessingData sharedMultiprocessingData;
 
+    private MonitoringState monitoringState;
+    private volatile TracemallocState tracemallocState;
+
     private boolean codecsInitialized;
     private final List<Object> codecSearchPath = new ArrayList<>();
     private final Map<TruffleString, PTuple> codecSearchCache = new HashMap<>();
@@ -1043,6 +1063,21 @@ public final class PythonContext extends Python3Core {
          */
         private final ConcurrentHashMap<Integer, Integer> fdRefCount = new ConcurrentHashMap<>();
 
+        /**
+         * Incremented whenever data is added to a pipe in {@link #pipeData} or a pipe end is
+         * closed. Waiting for this counter to change lets a select wait on any number of pipes at
+         * once without polling each queue. Guarded by {@link #pipeEventLock}.
+         */
+        private long pipeEventCount;
+        private final Object pipeEventLock = new Object();
+
+        /**
+         * Callbacks run on every pipe event in addition to waking up {@link #awaitPipeEvent}. A
+         * select that also waits on real file descriptors registers one that writes to its wakeup
+         * pipe.
+         */
+        private final Set<Runnable> pipeEventListeners = ConcurrentHashMap.newKeySet();
+
         public SharedMultiprocessingData(ConcurrentHashMap<TruffleString, Semaphore> namedSemaphores) {
             this.namedSemaphores = namedSemaphores;
         }
@@ -1091,10 +1126,11 @@ public final class PythonContext extends Python3Core {
 
         /**
          * Adding pipe data needs no special synchronization, since we guarantee there is only ever
-         * one or no queue registered for a given fd.
+         * one or no queue registered for a given fd. The data is either a {@code byte[]} chunk or a
+         * {@link com.oracle.graal.python.builtins.modules.multiprocessing.SharedPayload}.
          */
         @TruffleBoundary
-        public void addPipeData(int fd, byte[] bytes, Runnable noFDHandler, Runnable brokenPipeHandler) {
+        public void addPipeData(int fd, Object data, Runnable noFDHandler, Runnable brokenPipeHandler) {
             assert isWriteFD(fd);
             LinkedBlockingQueue<Object> q = pipeData.get(fd);
             if (q == null) {
@@ -1108,7 +1144,8 @@ public final class PythonContext extends Python3Core {
                 brokenPipeHandler.run();
                 throw CompilerDirectives.shouldNotReachHere();
             }
-            q.add(bytes);
+            q.add(data);
+            signalPipeEvent();
         }
 
         /**
@@ -1123,6 +1160,63 @@ public final class PythonContext extends Python3Core {
             if (q != null && isWriteFD(fd)) {
                 q.offer(SENTINEL);
             }
+            if (q != null) {
+                signalPipeEvent();
+            }
+        }
+
+        private void signalPipeEvent() {
+            synchronized (pipeEventLock) {
+                pipeEventCount++;
+                pipeEventLock.notifyAll();
+            }
+            for (Runnable listener : pipeEventListeners) {
+                listener.run();
+            }
+        }
+
+        /**
+         * Returns the current pipe event count. Read it before checking the pipes with
+         * {@link #isBlocking} and pass it to {@link #awaitPipeEvent}, so that no event between the
+         * check and the wait is lost.
+         */
+        @TruffleBoundary
+        public long getPipeEventCount() {
+            synchronized (pipeEventLock) {
+                return pipeEventCount;
+            }
+        }
+
+        /**
+         * Blocks until the pipe event count differs from {@code seenCount} or the timeout elapses.
+         * A negative timeout waits indefinitely.
+         */
+        @TruffleBoundary
+        public void awaitPipeEvent(long seenCount, long timeoutNanos) throws InterruptedException {
+            long deadline = System.nanoTime() + timeoutNanos;
+            synchronized (pipeEventLock) {
+                while (pipeEventCount == seenCount) {
+                    if (timeoutNanos < 0) {
+                        pipeEventLock.wait();
+                    } else {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            return;
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(pipeEventLock, remaining);
+                    }
+                }
+            }
+        }
+
+        @TruffleBoundary
+        public void addPipeEventListener(Runnable listener) {
+            pipeEventListeners.add(listener);
+        }
+
+        @TruffleBoundary
+        public void removePipeEventListener(Runnable listener) {
+            pipeEventListeners.remove(listener);
         }
 
         /**
@@ -1291,6 +1385,26 @@ public final class PythonContext extends Python3Core {
         return sharedMultiprocessingData;
     }
 
+    @TruffleBoundary
+    public MonitoringState getMonitoringState() {
+        if (monitoringState == null) {
+            monitoringState = new MonitoringState(getLanguage());
+        }
+        return monitoringState;
+    }
+
+    @TruffleBoundary
+    public synchronized TracemallocState getTracemallocState() {
+        if (tracemallocState == null) {
+            tracemallocState = new TracemallocState(this);
+        }
+        return tracemallocState;
+    }
+
+    TracemallocState getTracemallocStateIfCreated() {
+        return tracemallocState;
+    }
+
     public long spawnTruffleContext(int fd, int sentinel, int[] fdsToKeep) {
         ChildContextData data = new ChildContextData(isChildContext() ? childContextData.parentCtx : this);
         Builder childContextBuilder = data.parentCtx.env.newInnerContextBuilder().//
@@ -1584,6 +1698,9 @@ public final class PythonContext extends Python3Core {
     }
 
     public void initialize() {
+        if (getLanguage().isFreeThreading()) {
+            globalInterpreterLock.disable();
+        }
         try {
             acquireGil();
         } catch (InterruptedException e) {
@@ -1591,14 +1708,20 @@ public final class PythonContext extends Python3Core {
         }
         try {
             mainThread = new WeakReference<>(Thread.currentThread());
+            if (!env.isPreInitialization()) {
+                initializeGilStatistics();
+            }
             initializePosixSupport();
             initialize(this);
             setupRuntimeInformation(false);
             postInitialize(env);
             if (!env.isPreInitialization()) {
                 importSiteIfForced();
-            } else if (posixSupport instanceof PreInitPosixSupport) {
-                ((PreInitPosixSupport) posixSupport).checkLeakingResources();
+            } else {
+                importPreInitializedModules();
+                if (posixSupport instanceof PreInitPosixSupport) {
+                    ((PreInitPosixSupport) posixSupport).checkLeakingResources();
+                }
             }
         } finally {
             if (env.isPreInitialization()) {
@@ -1609,6 +1732,58 @@ public final class PythonContext extends Python3Core {
         PythonOptions.checkBytecodeDSLEnv();
     }
 
+    /**
+     * Imports the application modules listed in {@link PythonOptions#PreInitializeModules} into a
+     * context that is being pre-initialized, so that they are stored in the image heap together
+     * with the core. This runs after the standard library paths were replaced by placeholders, so
+     * the paths of these modules are kept as they are.
+     * <p>
+     * During pre-initialization, the home directories are {@code "."} (see
+     * {@link #initializeHomeAndPrefixPaths}), so the default entries of {@code sys.path} would find
+     * modules in the working directory of the image build. The imports therefore only search the
+     * build-time {@link PythonOptions#PythonPath}, the standard library is frozen anyway.
+     */
+    private void importPreInitializedModules() {
+        assert env.isPreInitialization();
+        String modules = getOption(PythonOptions.PreInitializeModules).toJavaStringUncached();
+        if (modules.isEmpty()) {
+            return;
+        }
+        PythonModule sys = getSysModule();
+        Object originalPath = sys.getAttribute(T_PATH);
+        sys.setAttribute(T_PATH, PFactory.createList(getLanguage(), getPreInitializationPath()));
+        try {
+            for (String name : modules.split(",")) {
+                String moduleName = name.strip();
+                if (!moduleName.isEmpty()) {
+                    Python3Core.writeInfo(() -> "Pre-initializing module " + moduleName);
+                    AbstractImportNode.importModule(toTruffleStringUncached(moduleName));
+                }
+            }
+        } finally {
+            sys.setAttribute(T_PATH, originalPath);
+        }
+        // the cached path entry finders refer to directories of the build machine
+        sys.setAttribute(T_PATH_IMPORTER_CACHE, PFactory.createDict(getLanguage()));
+    }
+
+    private Object[] getPreInitializationPath() {
+        ArrayList<Object> path = new ArrayList<>();
+        for (String entry : getOption(PythonOptions.PythonPath).toJavaStringUncached().split(env.getPathSeparator())) {
+            // an empty entry would also mean the working directory
+            if (!entry.isEmpty()) {
+                path.add(toTruffleStringUncached(entry));
+            }
+        }
+        return path.toArray();
+    }
+
+    private void initializeGilStatistics() {
+        if (getOption(PythonOptions.GilStatistics)) {
+            globalInterpreterLock.enableStatistics();
+        }
+    }
+
     public void resetPerfCounter() {
         perfCounterStart = System.nanoTime();
     }
@@ -1622,6 +1797,7 @@ public final class PythonContext extends Python3Core {
         try {
             mainThread = new WeakReference<>(Thread.currentThread());
             setEnv(newEnv);
+            initializeGilStatistics();
             setupRuntimeInformation(true);
             postInitialize(newEnv);
             importSiteIfForced();
@@ -2185,6 +2361,9 @@ public final class PythonContext extends Python3Core {
             freeContextMemory();
             // destroy thread state data, if anything is still running, it will crash now
             disposeThreadStates();
+            if (tracemallocState != null) {
+                tracemallocState.stop();
+            }
         }
         // interrupt and join or kill system threads
         joinSystemThreads();
@@ -2537,20 +2716,6 @@ public final class PythonContext extends Python3Core {
         return globalInterpreterLock.isHeldByCurrentThread();
     }
 
-    /**
-     * Should not be used outside of {@link AsyncHandler}
-     */
-    Thread getGilOwner() {
-        return globalInterpreterLock.getOwner();
-    }
-
-    /**
-     * Should not be used outside of {@link AsyncHandler}
-     */
-    boolean gilHasQueuedThreads() {
-        return globalInterpreterLock.hasQueuedThreads();
-    }
-
     /**
      * Should not be called directly.
      *
@@ -2558,13 +2723,8 @@ public final class PythonContext extends Python3Core {
      */
     @TruffleBoundary
     boolean tryAcquireGil() {
-        try {
-            // Using tryLock with empty timeout to ensure fairness
-            return globalInterpreterLock.tryLock(0, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
-        }
+        // does not overtake threads that are already waiting to ensure fairness
+        return globalInterpreterLock.tryLock();
     }
 
     /**
@@ -2574,7 +2734,7 @@ public final class PythonContext extends Python3Core {
      */
     @TruffleBoundary
     void acquireGil() throws InterruptedException {
-        assert !ownsGil() : dumpStackOnAssertionHelper("trying to acquire the GIL more than once");
+        assert getLanguage().isFreeThreading() || !ownsGil() : dumpStackOnAssertionHelper("trying to acquire the GIL more than once");
         globalInterpreterLock.lockInterruptibly();
     }
 
@@ -2611,6 +2771,32 @@ public final class PythonContext extends Python3Core {
         }
     }
 
+    /**
+     * Sets the interval after which a thread waiting for the GIL asks the current owner to drop it.
+     *
+     * @see GlobalInterpreterLock
+     */
+    public void setGilSwitchInterval(long nanos) {
+        globalInterpreterLock.setSwitchIntervalNs(nanos);
+    }
+
+    /**
+     * Should not be used outside of {@link AsyncHandler}
+     */
+    void setGilDropRequestHandler(Consumer<Thread> handler) {
+        globalInterpreterLock.setDropRequestHandler(handler);
+    }
+
+    /**
+     * Returns a snapshot of the per-thread GIL wait and hold time histograms, or {@code null} if
+     * {@link PythonOptions#GilStatistics} is disabled.
+     */
+    @TruffleBoundary
+    public Map<Thread, GlobalInterpreterLock.GilStatistics.ThreadStatistics> getGilStatistics() {
+        GlobalInterpreterLock.GilStatistics statistics = globalInterpreterLock.getStatistics();
+        return statistics != null ? statistics.snapshot() : null;
+    }
+
     /**
      * Should not be called directly.
      *
@@ -2877,6 +3063,32 @@ public final class PythonContext extends Python3Core {
         return cApiContext;
     }
 
+    /**
+     * Returns the on-disk code cache configured by {@link PythonOptions#CodeCacheDir}, or
+     * {@code null} if it is disabled.
+     */
+    @TruffleBoundary
+    public synchronized PersistentCodeCache getPersistentCodeCache() {
+        if (!persistentCodeCacheInitialized) {
+            persistentCodeCache = PersistentCodeCache.create(this);
+            persistentCodeCacheInitialized = true;
+        }
+        return persistentCodeCache;
+    }
+
+    /**
+     * Returns the background compiler for imported modules configured by
+     * {@link PythonOptions#ImportPrefetchThreads}, or {@code null} if it is disabled.
+     */
+    @TruffleBoundary
+    public synchronized ImportPrefetcher getImportPrefetcher() {
+        if (!importPrefetcherInitialized) {
+            importPrefetcher = ImportPrefetcher.create(this);
+            importPrefetcherInitialized = true;
+        }
+        return importPrefetcher;
+    }
+
     public ReentrantLock getcApiInitializationLock() {
         return cApiInitializationLock;
     }
@@ -204,6 +204,47 @@ public final class PythonOptions {
                     "Equivalent to setting the PYTHONPYCACHEPREFIX environment variable for the standard launcher.", usageSyntax = "<path>", stability = OptionStability.STABLE) //
     public static final OptionKey<TruffleString> PyCachePrefix = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
 
+    @Option(category = OptionCategory.EXPERT, help = "If this is set, GraalPy persists the compiled bytecode of every module it compiles from a source file into this directory " +
+                    "and reuses it in later runs, skipping the parser and compiler. Entries are keyed by a digest of the source text, path, compiler flags and GraalPy version, " +
+                    "so no invalidation is needed when sources change.", usageSyntax = "<path>") //
+    public static final OptionKey<TruffleString> CodeCacheDir = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
+
+    @Option(category = OptionCategory.EXPERT, help = "Maximum size of the python.CodeCacheDir directory in megabytes. When a process adds entries to a larger cache, " +
+                    "the least recently used entries are deleted. 0 means no limit.", usageSyntax = "<megabytes>") //
+    public static final OptionKey<Integer> CodeCacheMaxSize = new OptionKey<>(256);
+
+    @Option(category = OptionCategory.EXPERT, help = "Number of worker threads that parse and compile the modules imported by a module while it is being imported, " +
+                    "following the import statements at the module level. 0 disables the prefetching.", usageSyntax = "<threads>", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> ImportPrefetchThreads = new OptionKey<>(0);
+
+    @Option(category = OptionCategory.EXPERT, help = "Minimal length of a list that list.sort sorts on multiple threads with the GIL released. This applies to lists of ints or floats " +
+                    "and to sorts with a key function that returns only ints, only floats or only strings. 0 disables parallel sorting.", usageSyntax = "<length>", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> ParallelSortMinLength = new OptionKey<>(1 << 17);
+
+    @Option(category = OptionCategory.EXPERT, help = "Make cProfile estimate the profile from the CPU sampler instead of recording every call of a Python function. " +
+                    "Sampling has a lower overhead, but reports no exact call counts.", usageSyntax = "true|false", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> ProfileSampling = new OptionKey<>(false);
+
+    @Option(category = OptionCategory.EXPERT, help = "Trace only every n-th object allocation while tracemalloc is tracing. " +
+                    "1 traces every allocation.", usageSyntax = "<n>", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> TraceMallocSampleInterval = new OptionKey<>(1);
+
+    @Option(category = OptionCategory.EXPERT, help = "Trace one object allocation per the given number of allocated bytes while tracemalloc is tracing. " +
+                    "0 uses python.TraceMallocSampleInterval instead.", usageSyntax = "<bytes>", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> TraceMallocSampleBytes = new OptionKey<>(0);
+
+    @EngineOption @Option(category = OptionCategory.EXPERT, help = "Maximum number of compiled regular expressions that are shared by all contexts of an engine. " +
+                    "0 disables the shared cache.", usageSyntax = "<n>", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> RegexCacheSize = new OptionKey<>(512);
+
+    @Option(category = OptionCategory.EXPERT, help = """
+                    Comma-separated list of modules to import when a context is pre-initialized at native image build time, for example using \
+                    -Dpolyglot.image-build-time.PreinitializeContexts=python -Dpolyglot.python.PreInitializeModules=app,app.handlers. \
+                    The modules are found on the python.PythonPath given at build time and become part of the image heap, so a context \
+                    created from the image does not need to import them again. Only pure Python modules and frozen standard library modules can \
+                    be imported this way, and their top-level code must not start threads, keep files open or capture the environment.""", usageSyntax = "<module>,<module>,...", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<TruffleString> PreInitializeModules = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
+
     @Option(category = OptionCategory.USER, help = "Equivalent to setting the PYTHONWARNINGS environment variable for the standard launcher.", //
                     usageSyntax = "<action>[:<message>[:<category>[:<module>[:<line>]]]][,<action>[:<message>[:<category>[:<module>[:<line>]]]]]", stability = OptionStability.STABLE) //
     public static final OptionKey<TruffleString> WarnOptions = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
@@ -289,6 +330,10 @@ public final class PythonOptions {
     @Option(category = OptionCategory.EXPERT, usageSyntax = "<numFiles>", help = "Prints parser time statistics after number of parsed files, set by this option. 0 or <0 means no statistics are printed.") //
     public static final OptionKey<Integer> ParserStatistics = new OptionKey<>(0);
 
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Collect per-thread histograms of the time spent waiting for and holding the GIL. " +
+                    "They can be queried with __graalpython__.gil_statistics().") //
+    public static final OptionKey<Boolean> GilStatistics = new OptionKey<>(false);
+
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "<maxDepth>", help = "") //
     public static final OptionKey<Integer> AttributeAccessInlineCacheMaxDepth = new OptionKey<>(5);
 
@@ -398,6 +443,10 @@ public final class PythonOptions {
     @Option(category = OptionCategory.INTERNAL, usageSyntax = "<megabytes>", help = "The minimum RSS memory (in megabytes) to start calling System.gc(). (default: 4 GB).") //
     public static final OptionKey<Integer> BackgroundGCTaskMinimum = new OptionKey<>(4096);
 
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<count>", help = "Maximum number of unreachable native objects that a thread deallocates inline when polling the C API reference queue. " +
+                    "The remaining objects are deallocated in batches of this size by a background thread. (default: 1024).") //
+    public static final OptionKey<Integer> NativeReleaseBatchSize = new OptionKey<>(1024);
+
     @EngineOption @Option(category = OptionCategory.USER, usageSyntax = "true|false", help = "Emulate some Jython features that can cause performance degradation", stability = OptionStability.STABLE) //
     public static final OptionKey<Boolean> EmulateJython = new OptionKey<>(false);
 
@@ -437,6 +486,10 @@ public final class PythonOptions {
     @EngineOption @Option(category = OptionCategory.INTERNAL, usageSyntax = "true|false", help = "If true, uses native storage strategy for primitive types") //
     public static final OptionKey<Boolean> UseNativePrimitiveStorageStrategy = new OptionKey<>(false);
 
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Run Python threads without the global interpreter lock (GIL). " +
+                    "Operations on builtin dicts and lists lock the container instead. Native extensions cannot be loaded in this mode.", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> FreeThreading = new OptionKey<>(false);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Print warnings when using experimental features at runtime.", stability = OptionStability.STABLE) //
     public static final OptionKey<Boolean> WarnExperimentalFeatures = new OptionKey<>(true);
 
@@ -445,6 +498,12 @@ public final class PythonOptions {
                     such as when settrace instrumentation is enabled. This option avoids rereading bytecode files by keeping the original bytecode form in memory""") //
     public static final OptionKey<Boolean> KeepBytecodeInMemory = new OptionKey<>(false);
 
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = """
+                    Compile the bodies of nested functions only when they are first called, and create their code objects without materializing the bytecode. \
+                    This speeds up importing large libraries of which only a few functions are used. Syntax errors and warnings that are reported by the bytecode compiler \
+                    rather than the parser are reported on the first call of the function. Only supported by the Bytecode DSL interpreter.""", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> LazyFunctionBodies = new OptionKey<>(false);
+
     @EngineOption @Option(category = OptionCategory.INTERNAL, help = "", stability = OptionStability.EXPERIMENTAL) //
     public static final OptionKey<Boolean> ForceUncachedInterpreter = new OptionKey<>(false);
 
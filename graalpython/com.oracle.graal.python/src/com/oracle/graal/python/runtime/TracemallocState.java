@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.WeakHashMap;
+
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.builtins.objects.generator.PGenerator;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.nodes.PRootNode;
+import com.oracle.graal.python.runtime.exception.ExceptionUtils;
+import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.WeakIdentityHashMap;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.frame.FrameInstance;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.utilities.CyclicAssumption;
+
+/**
+ * The per-context state of {@code tracemalloc}. Objects created through
+ * {@link com.oracle.graal.python.runtime.object.PFactory} are reported to
+ * {@link #traceAllocation(Object)} while some context is tracing (see
+ * {@link #isAnyContextTracing()}). Every {@code python.TraceMallocSampleInterval}-th allocation, or
+ * one allocation per {@code python.TraceMallocSampleBytes} bytes, is traced with the Python frames
+ * that created it. The tracebacks are interned, so a trace only costs its size and a reference to a
+ * shared traceback. The sizes are estimates, objects do not have a precise size on the JVM.
+ */
+public final class TracemallocState {
+    public static final int MAX_NFRAME = 65535;
+
+    private static final int OBJECT_SIZE = 32;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int TRACE_SIZE = 48;
+
+    /*
+     * Compiled code folds anyContextTracing, so the object factory does not report allocations
+     * while no context is tracing. The assumption is invalidated whenever the flag changes.
+     */
+    private static final CyclicAssumption TRACING_ASSUMPTION = new CyclicAssumption("tracemalloc tracing state");
+    @CompilationFinal private static boolean anyContextTracing;
+    private static int tracingContexts; // guarded by TRACING_ASSUMPTION
+
+    private final int sampleInterval;
+    private final long sampleBytes;
+
+    private boolean tracing;
+    private boolean suspended;
+    private int tracebackLimit = 1;
+    private int allocationsUntilSample;
+    private long bytesUntilSample;
+
+    private long tracedMemory;
+    private long peakTracedMemory;
+
+    private final WeakIdentityHashMap<Object, Trace> objectTraces = new WeakIdentityHashMap<>();
+    private final HashSet<Trace> traces = new HashSet<>();
+    private final ReferenceQueue<Object> freed = new ReferenceQueue<>();
+    private final HashMap<Traceback, Traceback> tracebacks = new HashMap<>();
+    private final WeakHashMap<RootNode, TruffleString> filenames = new WeakHashMap<>();
+
+    TracemallocState(PythonContext context) {
+        sampleInterval = Math.max(1, context.getOption(PythonOptions.TraceMallocSampleInterval));
+        sampleBytes = Math.max(0, context.getOption(PythonOptions.TraceMallocSampleBytes));
+    }
+
+    /**
+     * The Python frames of a traced allocation, most recent first.
+     */
+    public static final class Traceback {
+        private final TruffleString[] filenames;
+        private final int[] lines;
+        private final int totalFrames;
+
+        Traceback(TruffleString[] filenames, int[] lines, int totalFrames) {
+            this.filenames = filenames;
+            this.lines = lines;
+            this.totalFrames = totalFrames;
+        }
+
+        public int getFrameCount() {
+            return lines.length;
+        }
+
+        public TruffleString getFilename(int i) {
+            return filenames[i];
+        }
+
+        public int getLine(int i) {
+            return lines[i];
+        }
+
+        public int getTotalFrames() {
+            return totalFrames;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Traceback other && totalFrames == other.totalFrames && Arrays.equals(lines, other.lines) && Arrays.equals(filenames, other.filenames);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(lines) + Arrays.hashCode(filenames);
+        }
+    }
+
+    public static final class Trace extends WeakReference<Object> {
+        private final long size;
+        private final Traceback traceback;
+
+        Trace(Object object, ReferenceQueue<Object> queue, long size, Traceback traceback) {
+            super(object, queue);
+            this.size = size;
+            this.traceback = traceback;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public Traceback getTraceback() {
+            return traceback;
+        }
+    }
+
+    /**
+     * Reports a new object. Called from the object factory only while some context traces
+     * allocations.
+     */
+    @TruffleBoundary
+    public static void traceAllocation(Object object) {
+        PythonContext context = PythonContext.get(null);
+        if (context != null) {
+            TracemallocState state = context.getTracemallocStateIfCreated();
+            if (state != null) {
+                state.trace(object);
+            }
+        }
+    }
+
+    private synchronized void trace(Object object) {
+        if (!tracing || suspended) {
+            return;
+        }
+        long size = estimateSize(object);
+        if (sampleBytes > 0) {
+            bytesUntilSample -= size;
+            if (bytesUntilSample > 0) {
+                return;
+            }
+            bytesUntilSample = sampleBytes;
+        } else if (--allocationsUntilSample > 0) {
+            return;
+        } else {
+            allocationsUntilSample = sampleInterval;
+        }
+        Traceback traceback;
+        // walking the stack must not report allocations to this state again
+        suspended = true;
+        try {
+            traceback = captureTraceback();
+        } finally {
+            suspended = false;
+        }
+        if (traceback == null) {
+            return;
+        }
+        expungeFreed();
+        Trace trace = new Trace(object, freed, size, traceback);
+        Trace previous = objectTraces.put(object, trace);
+        if (previous != null) {
+            remove(previous);
+        }
+        traces.add(trace);
+        tracedMemory += size;
+        peakTracedMemory = Math.max(peakTracedMemory, tracedMemory);
+    }
+
+    private Traceback captureTraceback() {
+        ArrayList<TruffleString> frameFilenames = new ArrayList<>();
+        ArrayList<Integer> frameLines = new ArrayList<>();
+        int[] totalFrames = new int[1];
+        Truffle.getRuntime().iterateFrames(frameInstance -> {
+            RootNode rootNode = PGenerator.unwrapContinuationRoot(((RootCallTarget) frameInstance.getCallTarget()).getRootNode());
+            if (!(rootNode instanceof PRootNode)) {
+                return null;
+            }
+            Frame frame = frameInstance.getFrame(FrameInstance.FrameAccess.READ_ONLY);
+            Node location = frameInstance.getCallNode();
+            int line = ExceptionUtils.getLineno(frame, location != null ? location : rootNode, frameInstance);
+            if (line < 0) {
+                return null;
+            }
+            if (totalFrames[0]++ < tracebackLimit) {
+                frameFilenames.add(filenames.computeIfAbsent(rootNode, PCode::extractFileName));
+                frameLines.add(line);
+            }
+            return null;
+        });
+        if (totalFrames[0] == 0) {
+            return null;
+        }
+        int[] lines = new int[frameLines.size()];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = frameLines.get(i);
+        }
+        Traceback traceback = new Traceback(frameFilenames.toArray(new TruffleString[0]), lines, totalFrames[0]);
+        Traceback interned = tracebacks.putIfAbsent(traceback, traceback);
+        return interned != null ? interned : traceback;
+    }
+
+    private static long estimateSize(Object object) {
+        long size = OBJECT_SIZE;
+        if (object instanceof PSequence sequence) {
+            SequenceStorage storage = sequence.getSequenceStorage();
+            int elementSize = switch (storage.getElementType()) {
+                case Boolean, Byte -> 1;
+                case Int -> 4;
+                case Long, Double, Generic -> REFERENCE_SIZE;
+                default -> 0;
+            };
+            size += (long) storage.getCapacity() * elementSize;
+        } else if (object instanceof PInt pInt) {
+            size += pInt.getValue().bitLength() / 8 + 1;
+        }
+        return size;
+    }
+
+    private void expungeFreed() {
+        Reference<?> ref;
+        while ((ref = freed.poll()) != null) {
+            remove((Trace) ref);
+        }
+    }
+
+    private void remove(Trace trace) {
+        if (traces.remove(trace)) {
+            tracedMemory -= trace.size;
+        }
+    }
+
+    public synchronized boolean isTracing() {
+        return tracing;
+    }
+
+    public synchronized int getTracebackLimit() {
+        return tracebackLimit;
+    }
+
+    public synchronized void start(int nframe) {
+        tracebackLimit = nframe;
+        if (tracing) {
+            return;
+        }
+        tracing = true;
+        allocationsUntilSample = 1;
+        bytesUntilSample = sampleBytes;
+        updateTracingContexts(1);
+    }
+
+    public synchronized void stop() {
+        if (tracing) {
+            tracing = false;
+            updateTracingContexts(-1);
+        }
+        clearTraces();
+    }
+
+    /**
+     * Whether any context in this VM is tracing. Allocations only need to be reported to
+     * {@link #traceAllocation(Object)} if this returns {@code true}.
+     */
+    public static boolean isAnyContextTracing() {
+        if (!TRACING_ASSUMPTION.getAssumption().isValid()) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+        }
+        return anyContextTracing;
+    }
+
+    private static void updateTracingContexts(int delta) {
+        synchronized (TRACING_ASSUMPTION) {
+            tracingContexts += delta;
+            assert tracingContexts >= 0;
+            boolean anyTracing = tracingContexts > 0;
+            if (anyTracing != anyContextTracing) {
+                anyContextTracing = anyTracing;
+                TRACING_ASSUMPTION.invalidate();
+            }
+        }
+    }
+
+    public synchronized void clearTraces() {
+        objectTraces.clear();
+        traces.clear();
+        tracebacks.clear();
+        while (freed.poll() != null) {
+            // drop the references of traces that were already cleared
+        }
+        tracedMemory = 0;
+        peakTracedMemory = 0;
+    }
+
+    public synchronized long getTracedMemory() {
+        expungeFreed();
+        return tracedMemory;
+    }
+
+    public synchronized long getPeakTracedMemory() {
+        return peakTracedMemory;
+    }
+
+    public synchronized void resetPeak() {
+        expungeFreed();
+        peakTracedMemory = tracedMemory;
+    }
+
+    /**
+     * An estimate of the memory used to store the traces and tracebacks.
+     */
+    public synchronized long getTracemallocMemory() {
+        long size = (long) traces.size() * TRACE_SIZE;
+        for (Traceback traceback : tracebacks.keySet()) {
+            size += OBJECT_SIZE + (long) traceback.getFrameCount() * (REFERENCE_SIZE + Integer.BYTES);
+        }
+        return size;
+    }
+
+    public synchronized Traceback getObjectTraceback(Object object) {
+        Trace trace = objectTraces.get(object);
+        return trace != null ? trace.traceback : null;
+    }
+
+    /**
+     * Returns the traces of the live traced objects. Allocations are not traced until
+     * {@link #resume} is called, so that the caller can convert the traces to Python objects.
+     */
+    public synchronized Trace[] suspendAndGetTraces() {
+        expungeFreed();
+        suspended = true;
+        ArrayList<Trace> result = new ArrayList<>(traces.size());
+        for (Trace trace : traces) {
+            if (!trace.refersTo(null)) {
+                result.add(trace);
+            }
+        }
+        return result.toArray(new Trace[0]);
+    }
+
+    public synchronized void resume() {
+        suspended = false;
+    }
+}
@@ -0,0 +1,579 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime.arrow;
+
+import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.NULLPTR;
+
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.ToArrayNode;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.arrow.ArrowArray;
+import com.oracle.graal.python.nodes.arrow.ArrowSchema;
+import com.oracle.graal.python.nodes.arrow.InvokeArrowReleaseCallbackNodeGen;
+import com.oracle.graal.python.runtime.AsyncHandler;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.nativeaccess.NativeMemory;
+import com.oracle.graal.python.runtime.native_memory.NativeBuffer;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.NativeIntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.NativeObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.OverflowException;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+import sun.misc.Unsafe;
+
+/**
+ * Conversion between Python sequences or buffers of primitives and single columns (i.e. arrays
+ * without children) of the Arrow C data interface.
+ * <p>
+ * Exported columns are always copied into native memory, because the managed storages may move.
+ * This includes lists whose storage has been moved to native memory by a C extension, since the
+ * items of those are object pointers.
+ * Imported {@code int32} columns without nulls are wrapped in a {@link NativeIntSequenceStorage}
+ * without copying, everything else is copied into a managed storage.
+ */
+public final class ArrowColumns {
+
+    private static final Unsafe unsafe = PythonUtils.initUnsafe();
+
+    public static final String FORMAT_NULL = "n";
+    public static final String FORMAT_BOOL = "b";
+    public static final String FORMAT_INT8 = "c";
+    public static final String FORMAT_UINT8 = "C";
+    public static final String FORMAT_INT16 = "s";
+    public static final String FORMAT_UINT16 = "S";
+    public static final String FORMAT_INT32 = "i";
+    public static final String FORMAT_UINT32 = "I";
+    public static final String FORMAT_INT64 = "l";
+    public static final String FORMAT_UINT64 = "L";
+    public static final String FORMAT_FLOAT16 = "e";
+    public static final String FORMAT_FLOAT32 = "f";
+    public static final String FORMAT_FLOAT64 = "g";
+
+    private static final long ARROW_FLAG_NULLABLE = 2;
+
+    private ArrowColumns() {
+    }
+
+    /**
+     * A column in native memory that has not been handed over to an {@link ArrowArray} yet.
+     */
+    public static final class NativeColumn {
+        final String format;
+        final long length;
+        final long nullCount;
+        final long validity;
+        final long data;
+
+        NativeColumn(String format, long length, long nullCount, long validity, long data) {
+            this.format = format;
+            this.length = length;
+            this.nullCount = nullCount;
+            this.validity = validity;
+            this.data = data;
+        }
+
+        public String getFormat() {
+            return format;
+        }
+
+        public void free() {
+            if (validity != NULLPTR) {
+                NativeMemory.free(validity);
+            }
+            if (data != NULLPTR) {
+                NativeMemory.free(data);
+            }
+        }
+    }
+
+    // export
+
+    @TruffleBoundary
+    public static ArrowSchema exportSchema(PythonContext context, Node location, String format) {
+        byte[] formatBytes = format.getBytes(StandardCharsets.US_ASCII);
+        long formatPtr = NativeMemory.copyToNativeZeroTerminatedByteArray(formatBytes, 0, formatBytes.length);
+        return ArrowSchema.allocate(formatPtr, NULLPTR, NULLPTR, ARROW_FLAG_NULLABLE, 0, NULLPTR, NULLPTR, context.arrowSupport.getArrowSchemaRelease(location), NULLPTR);
+    }
+
+    /**
+     * Creates an {@link ArrowArray} that owns the memory of the column.
+     */
+    @TruffleBoundary
+    public static ArrowArray exportArray(PythonContext context, Node location, NativeColumn column) {
+        int nBuffers = FORMAT_NULL.equals(column.format) ? 0 : 2;
+        long buffers = NativeMemory.callocPtrArray(2);
+        if (nBuffers == 2) {
+            NativeMemory.writePtrArrayElement(buffers, 0, column.validity);
+            NativeMemory.writePtrArrayElement(buffers, 1, column.data);
+        }
+        return ArrowArray.allocate(column.length, column.nullCount, 0, nBuffers, 0, buffers, NULLPTR, NULLPTR, context.arrowSupport.getArrowArrayRelease(location), NULLPTR);
+    }
+
+    private static long allocate(long sizeInBytes) {
+        // zero-sized buffers are allowed to be NULL, but not all consumers expect it
+        return NativeMemory.calloc(Math.max(sizeInBytes, 8));
+    }
+
+    private static long allocateBitmap(long length) {
+        return allocate((length + 7) / 8);
+    }
+
+    private static void setBit(long bitmap, long index) {
+        long addr = bitmap + (index >> 3);
+        NativeMemory.writeByte(addr, (byte) (NativeMemory.readByte(addr) | (1 << (index & 7))));
+    }
+
+    private static boolean getBit(long bitmap, long index) {
+        return (NativeMemory.readByte(bitmap + (index >> 3)) & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * Returns the Arrow format that {@link #fromStorage} would produce, without copying anything
+     * to native memory.
+     */
+    @TruffleBoundary
+    public static String formatOfStorage(Node location, Object list, SequenceStorage storage) {
+        if (storage instanceof EmptySequenceStorage) {
+            return FORMAT_NULL;
+        } else if (storage instanceof IntSequenceStorage || storage instanceof NativeIntSequenceStorage) {
+            return FORMAT_INT32;
+        } else if (storage instanceof LongSequenceStorage) {
+            return FORMAT_INT64;
+        } else if (storage instanceof DoubleSequenceStorage) {
+            return FORMAT_FLOAT64;
+        } else if (storage instanceof BoolSequenceStorage) {
+            return FORMAT_BOOL;
+        } else if (storage instanceof ObjectSequenceStorage s) {
+            return formatOfObjects(location, s.getInternalObjectArray(), s.length());
+        } else if (storage instanceof NativeObjectSequenceStorage s) {
+            return formatOfObjects(location, ToArrayNode.executeUncached(s), s.length());
+        }
+        throw PRaiseNode.raiseStatic(location, PythonBuiltinClassType.TypeError, ErrorMessages.CANNOT_EXPORT_P_TO_ARROW, list);
+    }
+
+    @TruffleBoundary
+    public static NativeColumn fromStorage(Node location, Object list, SequenceStorage storage) {
+        int length = storage.length();
+        if (storage instanceof EmptySequenceStorage) {
+            return new NativeColumn(FORMAT_NULL, 0, 0, NULLPTR, NULLPTR);
+        } else if (storage instanceof IntSequenceStorage s) {
+            long data = allocate((long) length * Integer.BYTES);
+            unsafe.copyMemory(s.getInternalIntArray(), Unsafe.ARRAY_INT_BASE_OFFSET, null, data, (long) length * Integer.BYTES);
+            return new NativeColumn(FORMAT_INT32, length, 0, NULLPTR, data);
+        } else if (storage instanceof NativeIntSequenceStorage s) {
+            long data = allocate((long) length * Integer.BYTES);
+            NativeMemory.memcpy(data, s.getValueBufferAddr(), (long) length * Integer.BYTES);
+            return new NativeColumn(FORMAT_INT32, length, 0, NULLPTR, data);
+        } else if (storage instanceof LongSequenceStorage s) {
+            long data = allocate((long) length * Long.BYTES);
+            unsafe.copyMemory(s.getInternalLongArray(), Unsafe.ARRAY_LONG_BASE_OFFSET, null, data, (long) length * Long.BYTES);
+            return new NativeColumn(FORMAT_INT64, length, 0, NULLPTR, data);
+        } else if (storage instanceof DoubleSequenceStorage s) {
+            long data = allocate((long) length * Double.BYTES);
+            unsafe.copyMemory(s.getInternalDoubleArray(), Unsafe.ARRAY_DOUBLE_BASE_OFFSET, null, data, (long) length * Double.BYTES);
+            return new NativeColumn(FORMAT_FLOAT64, length, 0, NULLPTR, data);
+        } else if (storage instanceof BoolSequenceStorage s) {
+            boolean[] values = s.getInternalBoolArray();
+            long data = allocateBitmap(length);
+            for (int i = 0; i < length; i++) {
+                if (values[i]) {
+                    setBit(data, i);
+                }
+            }
+            return new NativeColumn(FORMAT_BOOL, length, 0, NULLPTR, data);
+        } else if (storage instanceof ObjectSequenceStorage s) {
+            return fromObjects(location, s.getInternalObjectArray(), length);
+        } else if (storage instanceof NativeObjectSequenceStorage s) {
+            // the list has been passed to a C extension, its items are native object pointers
+            return fromObjects(location, ToArrayNode.executeUncached(s), length);
+        }
+        throw PRaiseNode.raiseStatic(location, PythonBuiltinClassType.TypeError, ErrorMessages.CANNOT_EXPORT_P_TO_ARROW, list);
+    }
+
+    /**
+     * Determines the column format of a list of ints, floats or bools with {@code None} as null
+     * values. Like pyarrow, lists that mix ints and floats become a float column.
+     */
+    private static String formatOfObjects(Node location, Object[] values, int length) {
+        boolean hasBool = false;
+        boolean hasInt = false;
+        boolean hasFloat = false;
+        for (int i = 0; i < length; i++) {
+            Object value = values[i];
+            if (value instanceof Boolean) {
+                hasBool = true;
+            } else if (value instanceof Integer || value instanceof Long || value instanceof PInt) {
+                hasInt = true;
+            } else if (value instanceof Double) {
+                hasFloat = true;
+            } else if (value != PNone.NONE) {
+                throw PRaiseNode.raiseStatic(location, PythonBuiltinClassType.TypeError, ErrorMessages.CANNOT_EXPORT_LIST_ELEMENT_P_TO_ARROW, value);
+            }
+        }
+        if (hasFloat) {
+            return FORMAT_FLOAT64;
+        } else if (hasInt) {
+            return FORMAT_INT64;
+        } else if (hasBool) {
+            return FORMAT_BOOL;
+        }
+        return FORMAT_NULL;
+    }
+
+    /**
+     * Exports a list of ints, floats or bools, see {@link #formatOfObjects}.
+     */
+    private static NativeColumn fromObjects(Node location, Object[] values, int length) {
+        String format = formatOfObjects(location, values, length);
+        if (FORMAT_NULL.equals(format)) {
+            return new NativeColumn(format, length, length, NULLPTR, NULLPTR);
+        }
+        int nullCount = 0;
+        for (int i = 0; i < length; i++) {
+            if (values[i] == PNone.NONE) {
+                nullCount++;
+            }
+        }
+        long validity = NULLPTR;
+        if (nullCount > 0) {
+            validity = allocateBitmap(length);
+            for (int i = 0; i < length; i++) {
+                if (values[i] != PNone.NONE) {
+                    setBit(validity, i);
+                }
+            }
+        }
+        long data;
+        if (FORMAT_FLOAT64.equals(format)) {
+            data = allocate((long) length * Double.BYTES);
+            for (int i = 0; i < length; i++) {
+                Object value = values[i];
+                if (value != PNone.NONE) {
+                    NativeMemory.writeDouble(data + (long) i * Double.BYTES, value instanceof Double d ? d : (double) toLong(location, value));
+                }
+            }
+        } else if (FORMAT_INT64.equals(format)) {
+            data = allocate((long) length * Long.BYTES);
+            for (int i = 0; i < length; i++) {
+                Object value = values[i];
+                if (value != PNone.NONE) {
+                    NativeMemory.writeLong(data + (long) i * Long.BYTES, toLong(location, value));
+                }
+            }
+        } else {
+            data = allocateBitmap(length);
+            for (int i = 0; i < length; i++) {
+                if (values[i] == Boolean.TRUE) {
+                    setBit(data, i);
+                }
+            }
+        }
+        return new NativeColumn(format, length, nullCount, validity, data);
+    }
+
+    private static long toLong(Node location, Object value) {
+        if (value instanceof Integer i) {
+            return i;
+        } else if (value instanceof Long l) {
+            return l;
+        } else if (value instanceof Boolean b) {
+            return b ? 1 : 0;
+        }
+        try {
+            return ((PInt) value).longValueExact();
+        } catch (OverflowException e) {
+            throw PRaiseNode.raiseStatic(location, PythonBuiltinClassType.OverflowError, ErrorMessages.PYTHON_INT_TOO_LARGE_TO_CONV_TO, "int64");
+        }
+    }
+
+    /**
+     * Maps a native-endian struct module format of a single item to the Arrow format, or returns
+     * {@code null}.
+     */
+    @TruffleBoundary
+    public static String bufferFormatToArrow(TruffleString bufferFormat, int itemSize) {
+        String format = bufferFormat.toJavaStringUncached();
+        if (format.length() == 2) {
+            char byteOrder = format.charAt(0);
+            boolean littleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+            if (byteOrder == '@' || byteOrder == '=' || (byteOrder == '<' && littleEndian) || ((byteOrder == '>' || byteOrder == '!') && !littleEndian)) {
+                format = format.substring(1);
+            }
+        }
+        if (format.length() != 1) {
+            return null;
+        }
+        char c = format.charAt(0);
+        switch (c) {
+            case 'b', 'B', 'h', 'H', 'i', 'I', 'l', 'L', 'q', 'Q', 'n', 'N':
+                boolean signed = Character.isLowerCase(c);
+                return switch (itemSize) {
+                    case 1 -> signed ? FORMAT_INT8 : FORMAT_UINT8;
+                    case 2 -> signed ? FORMAT_INT16 : FORMAT_UINT16;
+                    case 4 -> signed ? FORMAT_INT32 : FORMAT_UINT32;
+                    case 8 -> signed ? FORMAT_INT64 : FORMAT_UINT64;
+                    default -> null;
+                };
+            case 'e':
+                return FORMAT_FLOAT16;
+            case 'f':
+                return FORMAT_FLOAT32;
+            case 'd':
+                return FORMAT_FLOAT64;
+            case '?':
+                return FORMAT_BOOL;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Exports the contents of a buffer whose format was mapped with {@link #bufferFormatToArrow}.
+     */
+    @TruffleBoundary
+    public static NativeColumn fromBuffer(byte[] bytes, int byteLength, String arrowFormat, int itemSize) {
+        long length = byteLength / itemSize;
+        long data;
+        if (FORMAT_BOOL.equals(arrowFormat)) {
+            data = allocateBitmap(length);
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != 0) {
+                    setBit(data, i);
+                }
+            }
+        } else {
+            data = allocate(byteLength);
+            unsafe.copyMemory(bytes, Unsafe.ARRAY_BYTE_BASE_OFFSET, null, data, byteLength);
+        }
+        return new NativeColumn(arrowFormat, length, 0, NULLPTR, data);
+    }
+
+    // import
+
+    /**
+     * Creates a list storage with the contents of an Arrow column. Only if the storage is backed
+     * by the Arrow memory directly, the array is moved out of {@code arrowArray} and released once
+     * the storage is garbage collected.
+     */
+    @TruffleBoundary
+    public static SequenceStorage toStorage(PythonContext context, Node location, ArrowSchema arrowSchema, ArrowArray arrowArray) {
+        if (arrowArray.isReleased() || arrowSchema.isReleased()) {
+            throw PRaiseNode.raiseStatic(location, PythonBuiltinClassType.ValueError, ErrorMessages.ARROW_ARRAY_ALREADY_RELEASED);
+        }
+        String format = arrowSchema.formatString();
+        if (arrowSchema.nChildren() != 0 || arrowSchema.dictionary() != NULLPTR || arrowArray.length() > Integer.MAX_VALUE) {
+            throw PRaiseNode.raiseStatic(location, PythonBuiltinClassType.NotImplementedError, ErrorMessages.ARROW_FORMAT_S_NOT_SUPPORTED, format);
+        }
+        int length = (int) arrowArray.length();
+        long offset = arrowArray.offset();
+        if (FORMAT_NULL.equals(format)) {
+            Object[] values = new Object[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = PNone.NONE;
+            }
+            return new ObjectSequenceStorage(values);
+        }
+        int itemSize = switch (format) {
+            case FORMAT_BOOL -> 0;
+            case FORMAT_INT8, FORMAT_UINT8 -> 1;
+            case FORMAT_INT16, FORMAT_UINT16 -> 2;
+            case FORMAT_INT32, FORMAT_UINT32, FORMAT_FLOAT32 -> 4;
+            case FORMAT_INT64, FORMAT_UINT64, FORMAT_FLOAT64 -> 8;
+            default -> throw PRaiseNode.raiseStatic(location, PythonBuiltinClassType.NotImplementedError, ErrorMessages.ARROW_FORMAT_S_NOT_SUPPORTED, format);
+        };
+        long validity = arrowArray.buffer(0);
+        long data = arrowArray.buffer(1);
+        boolean hasNulls = validity != NULLPTR && arrowArray.nullCount() != 0;
+        if (!hasNulls && FORMAT_INT32.equals(format) && length > 0) {
+            return wrapInts(context, arrowArray, data + offset * Integer.BYTES, length);
+        }
+        if (hasNulls) {
+            PythonLanguage language = context.getLanguage();
+            Object[] values = new Object[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = getBit(validity, offset + i) ? readValue(language, format, data, offset + i, itemSize) : PNone.NONE;
+            }
+            return new ObjectSequenceStorage(values);
+        }
+        switch (format) {
+            case FORMAT_BOOL: {
+                boolean[] values = new boolean[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = getBit(data, offset + i);
+                }
+                return new BoolSequenceStorage(values);
+            }
+            case FORMAT_INT8:
+            case FORMAT_UINT8:
+            case FORMAT_INT16:
+            case FORMAT_UINT16:
+            case FORMAT_INT32: {
+                int[] values = new int[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = (int) readLong(format, data, offset + i, itemSize);
+                }
+                return new IntSequenceStorage(values);
+            }
+            case FORMAT_UINT32:
+            case FORMAT_INT64: {
+                long[] values = new long[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = readLong(format, data, offset + i, itemSize);
+                }
+                return new LongSequenceStorage(values);
+            }
+            case FORMAT_UINT64: {
+                PythonLanguage language = context.getLanguage();
+                Object[] values = new Object[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = readValue(language, format, data, offset + i, itemSize);
+                }
+                return new ObjectSequenceStorage(values);
+            }
+            case FORMAT_FLOAT32: {
+                double[] values = new double[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = NativeMemory.readFloat(data + (offset + i) * Float.BYTES);
+                }
+                return new DoubleSequenceStorage(values);
+            }
+            case FORMAT_FLOAT64: {
+                double[] values = new double[length];
+                unsafe.copyMemory(null, data + offset * Double.BYTES, values, Unsafe.ARRAY_DOUBLE_BASE_OFFSET, (long) length * Double.BYTES);
+                return new DoubleSequenceStorage(values);
+            }
+            default:
+                throw PRaiseNode.raiseStatic(location, PythonBuiltinClassType.NotImplementedError, ErrorMessages.ARROW_FORMAT_S_NOT_SUPPORTED, format);
+        }
+    }
+
+    private static long readLong(String format, long data, long index, int itemSize) {
+        long addr = data + index * itemSize;
+        return switch (format) {
+            case FORMAT_INT8 -> NativeMemory.readByte(addr);
+            case FORMAT_UINT8 -> Byte.toUnsignedInt(NativeMemory.readByte(addr));
+            case FORMAT_INT16 -> NativeMemory.readShort(addr);
+            case FORMAT_UINT16 -> Short.toUnsignedInt(NativeMemory.readShort(addr));
+            case FORMAT_INT32 -> NativeMemory.readInt(addr);
+            case FORMAT_UINT32 -> Integer.toUnsignedLong(NativeMemory.readInt(addr));
+            default -> NativeMemory.readLong(addr);
+        };
+    }
+
+    private static Object readValue(PythonLanguage language, String format, long data, long index, int itemSize) {
+        switch (format) {
+            case FORMAT_BOOL:
+                return getBit(data, index);
+            case FORMAT_FLOAT32:
+                return (double) NativeMemory.readFloat(data + index * Float.BYTES);
+            case FORMAT_FLOAT64:
+                return NativeMemory.readDouble(data + index * Double.BYTES);
+            case FORMAT_UINT64: {
+                long value = NativeMemory.readLong(data + index * Long.BYTES);
+                if (value < 0) {
+                    return PFactory.createInt(language, new BigInteger(Long.toUnsignedString(value)));
+                }
+                return value;
+            }
+            default: {
+                long value = readLong(format, data, index, itemSize);
+                if (value == (int) value) {
+                    return (int) value;
+                }
+                return value;
+            }
+        }
+    }
+
+    private static SequenceStorage wrapInts(PythonContext context, ArrowArray arrowArray, long values, int length) {
+        ArrowArray moved = arrowArray.move();
+        NativeBuffer buffer = NativeBuffer.wrapUnowned(values, (long) length * Integer.BYTES);
+        NativeIntSequenceStorage storage = context.nativeBufferContext.createNativeIntStorage(buffer, length);
+        new ImportedArrowArrayReference(storage, moved, context.getSharedFinalizer());
+        return storage;
+    }
+
+    /**
+     * Releases an imported Arrow array once the storage that wraps its memory is collected.
+     */
+    private static final class ImportedArrowArrayReference extends AsyncHandler.SharedFinalizer.FinalizableReference {
+
+        ImportedArrowArrayReference(NativeIntSequenceStorage referent, ArrowArray arrowArray, AsyncHandler.SharedFinalizer finalizer) {
+            super(referent, arrowArray, finalizer);
+        }
+
+        @Override
+        public AsyncHandler.AsyncAction release() {
+            if (isReleased()) {
+                return null;
+            }
+            return (context, access) -> {
+                if (!isReleased()) {
+                    markReleased();
+                    ArrowArray arrowArray = (ArrowArray) getReference();
+                    if (!arrowArray.isReleased()) {
+                        InvokeArrowReleaseCallbackNodeGen.getUncached().execute(null, arrowArray.releaseCallback(), arrowArray.memoryAddress());
+                    }
+                    NativeMemory.free(arrowArray.memoryAddress());
+                }
+            };
+        }
+    }
+}
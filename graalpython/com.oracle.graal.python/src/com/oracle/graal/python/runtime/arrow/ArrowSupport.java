@@ -42,6 +42,8 @@ package com.oracle.graal.python.runtime.arrow;
 
 import com.oracle.graal.python.nodes.arrow.capsule.ArrowArrayCapsuleDestructor;
 import com.oracle.graal.python.nodes.arrow.capsule.ArrowSchemaCapsuleDestructor;
+import com.oracle.graal.python.nodes.arrow.release.ArrowArrayReleaseCallback;
+import com.oracle.graal.python.nodes.arrow.release.ArrowSchemaReleaseCallback;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerAsserts;
@@ -68,6 +70,12 @@ public class ArrowSupport {
     private Object arrowSchemaDestructorNFIClosure;
     @CompilationFinal private long arrowSchemaDestructor;
 
+    // release callbacks of the structures we export
+    private Object arrowArrayReleaseNFIClosure;
+    @CompilationFinal private long arrowArrayRelease;
+    private Object arrowSchemaReleaseNFIClosure;
+    @CompilationFinal private long arrowSchemaRelease;
+
     public long getArrowSchemaDestructor(Node location) {
         if (arrowSchemaDestructor == 0) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -84,6 +92,22 @@ public class ArrowSupport {
         return arrowArrayDestructor;
     }
 
+    public long getArrowArrayRelease(Node location) {
+        if (arrowArrayRelease == 0L) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            initArrowArrayRelease(location);
+        }
+        return arrowArrayRelease;
+    }
+
+    public long getArrowSchemaRelease(Node location) {
+        if (arrowSchemaRelease == 0L) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            initArrowSchemaRelease(location);
+        }
+        return arrowSchemaRelease;
+    }
+
     @TruffleBoundary
     private void initArrowArrayDestructor(Node location) {
         CompilerAsserts.neverPartOfCompilation();
@@ -101,4 +125,20 @@ public class ArrowSupport {
         this.arrowSchemaDestructorNFIClosure = SignatureLibrary.getUncached().createClosure(signature, executable);
         this.arrowSchemaDestructor = PythonUtils.coerceToLong(arrowSchemaDestructorNFIClosure, InteropLibrary.getUncached());
     }
+
+    @TruffleBoundary
+    private void initArrowArrayRelease(Node location) {
+        CompilerAsserts.neverPartOfCompilation();
+        var signature = ArrowUtil.createNfiSignature(location, "(POINTER):VOID", ctx);
+        this.arrowArrayReleaseNFIClosure = SignatureLibrary.getUncached().createClosure(signature, new ArrowArrayReleaseCallback());
+        this.arrowArrayRelease = PythonUtils.coerceToLong(arrowArrayReleaseNFIClosure, InteropLibrary.getUncached());
+    }
+
+    @TruffleBoundary
+    private void initArrowSchemaRelease(Node location) {
+        CompilerAsserts.neverPartOfCompilation();
+        var signature = ArrowUtil.createNfiSignature(location, "(POINTER):VOID", ctx);
+        this.arrowSchemaReleaseNFIClosure = SignatureLibrary.getUncached().createClosure(signature, new ArrowSchemaReleaseCallback());
+        this.arrowSchemaRelease = PythonUtils.coerceToLong(arrowSchemaReleaseNFIClosure, InteropLibrary.getUncached());
+    }
 }
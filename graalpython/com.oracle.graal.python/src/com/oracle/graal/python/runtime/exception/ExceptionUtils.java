@@ -124,7 +124,7 @@ public final class ExceptionUtils {
         return stack;
     }
 
-    private static int getLineno(Frame frame, Node location, FrameInstance frameInstance) {
+    public static int getLineno(Frame frame, Node location, FrameInstance frameInstance) {
         if (frame != null && frame.getFrameDescriptor().getInfo() instanceof FrameInfo frameInfo) {
             if (PythonOptions.ENABLE_BYTECODE_DSL_INTERPRETER) {
                 BytecodeNode bytecodeNode = null;
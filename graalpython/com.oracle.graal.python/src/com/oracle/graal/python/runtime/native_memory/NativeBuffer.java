@@ -48,44 +48,77 @@ public class NativeBuffer {
     private static final Unsafe unsafe = PythonUtils.initUnsafe();
     private long memoryAddress;
     private long capacityInBytes;
+    /**
+     * Whether the memory was allocated by us. Memory that is not owned belongs to someone else
+     * (e.g. an imported Arrow array), so it must neither be written to, nor freed.
+     */
+    private boolean owned;
 
-    private NativeBuffer(long memoryAddress, long capacityInBytes) {
+    private NativeBuffer(long memoryAddress, long capacityInBytes, boolean owned) {
         this.memoryAddress = memoryAddress;
         this.capacityInBytes = capacityInBytes;
+        this.owned = owned;
     }
 
     public void reallocate(long newCapacityInBytes) {
         assert newCapacityInBytes >= 0;
         long newMemoryAddr = unsafe.allocateMemory(newCapacityInBytes);
-        unsafe.copyMemory(memoryAddress, newMemoryAddr, newCapacityInBytes);
-        unsafe.freeMemory(memoryAddress);
+        unsafe.copyMemory(memoryAddress, newMemoryAddr, Math.min(capacityInBytes, newCapacityInBytes));
+        if (owned) {
+            unsafe.freeMemory(memoryAddress);
+        }
         memoryAddress = newMemoryAddr;
         capacityInBytes = newCapacityInBytes;
+        owned = true;
+    }
+
+    /**
+     * Copies the contents into memory owned by this buffer, unless it already owns its memory.
+     */
+    public void ensureOwned() {
+        if (!owned) {
+            reallocate(capacityInBytes);
+        }
+    }
+
+    public boolean isOwned() {
+        return owned;
     }
 
     public NativeBuffer copy() {
         long newAddr = unsafe.allocateMemory(capacityInBytes);
         unsafe.copyMemory(memoryAddress, newAddr, capacityInBytes);
 
-        return new NativeBuffer(newAddr, capacityInBytes);
+        return new NativeBuffer(newAddr, capacityInBytes, true);
     }
 
     public NativeBuffer copy(long newCapacityInBytes) {
         assert newCapacityInBytes >= 0;
         long newAddr = unsafe.allocateMemory(newCapacityInBytes);
-        unsafe.copyMemory(memoryAddress, newAddr, capacityInBytes);
+        unsafe.copyMemory(memoryAddress, newAddr, Math.min(capacityInBytes, newCapacityInBytes));
 
-        return new NativeBuffer(newAddr, newCapacityInBytes);
+        return new NativeBuffer(newAddr, newCapacityInBytes, true);
     }
 
     public void release() {
-        unsafe.freeMemory(memoryAddress);
+        if (owned) {
+            unsafe.freeMemory(memoryAddress);
+        }
     }
 
     public static NativeBuffer allocateNew(long capacityInBytes) {
         assert capacityInBytes >= 0;
         long adr = unsafe.allocateMemory(capacityInBytes);
-        return new NativeBuffer(adr, capacityInBytes);
+        return new NativeBuffer(adr, capacityInBytes, true);
+    }
+
+    /**
+     * Wraps memory that is owned by someone else. Users must call {@link #ensureOwned()} before
+     * writing to it. The wrapped memory is never freed by this buffer.
+     */
+    public static NativeBuffer wrapUnowned(long memoryAddress, long capacityInBytes) {
+        assert capacityInBytes >= 0;
+        return new NativeBuffer(memoryAddress, capacityInBytes, false);
     }
 
     public long getMemoryAddress() {
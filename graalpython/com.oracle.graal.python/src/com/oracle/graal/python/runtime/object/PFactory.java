@@ -67,6 +67,7 @@ import com.oracle.graal.python.builtins.modules.io.PTextIO;
 import com.oracle.graal.python.builtins.modules.json.PJSONEncoder;
 import com.oracle.graal.python.builtins.modules.json.PJSONEncoder.FastEncode;
 import com.oracle.graal.python.builtins.modules.json.PJSONScanner;
+import com.oracle.graal.python.builtins.modules.lsprof.LsprofInstrument;
 import com.oracle.graal.python.builtins.modules.lsprof.Profiler;
 import com.oracle.graal.python.builtins.modules.lzma.LZMAObject;
 import com.oracle.graal.python.builtins.modules.multiprocessing.PGraalPySemLock;
@@ -196,6 +197,7 @@ import com.oracle.graal.python.builtins.objects.range.PIntRange;
 import com.oracle.graal.python.builtins.objects.referencetype.PReferenceType;
 import com.oracle.graal.python.builtins.objects.reversed.PSequenceReverseIterator;
 import com.oracle.graal.python.builtins.objects.reversed.PStringReverseIterator;
+import com.oracle.graal.python.builtins.objects.select.PPoller;
 import com.oracle.graal.python.builtins.objects.set.PBaseSet;
 import com.oracle.graal.python.builtins.objects.set.PFrozenSet;
 import com.oracle.graal.python.builtins.objects.set.PSet;
@@ -239,6 +241,7 @@ import com.oracle.graal.python.nodes.bytecode_dsl.BytecodeDSLCodeUnit;
 import com.oracle.graal.python.nodes.bytecode_dsl.PBytecodeDSLRootNode;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.TracemallocState;
 import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
@@ -267,11 +270,22 @@ public final class PFactory {
     private PFactory() {
     }
 
+    /**
+     * Reports a new object to {@code tracemalloc}. While no context is tracing, this is a
+     * no-op that folds away in compiled code.
+     */
+    private static <T> T traced(T object) {
+        if (TracemallocState.isAnyContextTracing()) {
+            TracemallocState.traceAllocation(object);
+        }
+        return object;
+    }
+
     /*
      * Python objects
      */
     public static PythonObject createPythonObject(Object cls, Shape shape) {
-        return new PythonObject(cls, shape);
+        return traced(new PythonObject(cls, shape));
     }
 
     public static TruffleObjectNativeWrapper createPythonForeignObject(PythonLanguage language, Object clazz, Object foreignObject) {
@@ -304,7 +318,7 @@ public final class PFactory {
     }
 
     public static PInt createInt(Object cls, Shape shape, BigInteger value) {
-        return new PInt(cls, shape, value);
+        return traced(new PInt(cls, shape, value));
     }
 
     public static PFloat createFloat(PythonLanguage language, double value) {
@@ -312,7 +326,7 @@ public final class PFactory {
     }
 
     public static PFloat createFloat(Object cls, Shape shape, double value) {
-        return new PFloat(cls, shape, value);
+        return traced(new PFloat(cls, shape, value));
     }
 
     public static PString createString(PythonLanguage language, TruffleString string) {
@@ -320,7 +334,7 @@ public final class PFactory {
     }
 
     public static PString createString(Object cls, Shape shape, TruffleString string) {
-        return new PString(cls, shape, string);
+        return traced(new PString(cls, shape, string));
     }
 
     public static PBytes createEmptyBytes(PythonLanguage language) {
@@ -348,7 +362,7 @@ public final class PFactory {
     }
 
     public static PBytes createBytes(Object cls, Shape shape, SequenceStorage storage) {
-        return new PBytes(cls, shape, storage);
+        return traced(new PBytes(cls, shape, storage));
     }
 
     public static PTuple createEmptyTuple(PythonLanguage language) {
@@ -372,7 +386,7 @@ public final class PFactory {
     }
 
     public static PTuple createTuple(Object cls, Shape shape, SequenceStorage store) {
-        return new PTuple(cls, shape, store);
+        return traced(new PTuple(cls, shape, store));
     }
 
     public static PTuple createStructSeq(PythonLanguage language, BuiltinTypeDescriptor desc, Object... values) {
@@ -635,7 +649,7 @@ public final class PFactory {
     }
 
     public static PList createList(Object cls, Shape shape, SequenceStorage storage, PList.ListOrigin origin) {
-        return new PList(cls, shape, storage, origin);
+        return traced(new PList(cls, shape, storage, origin));
     }
 
     public static PSet createSet(PythonLanguage language) {
@@ -651,7 +665,7 @@ public final class PFactory {
     }
 
     public static PSet createSet(Object cls, Shape shape, HashingStorage storage) {
-        return new PSet(cls, shape, storage);
+        return traced(new PSet(cls, shape, storage));
     }
 
     public static PFrozenSet createFrozenSet(PythonLanguage language) {
@@ -663,7 +677,7 @@ public final class PFactory {
     }
 
     public static PFrozenSet createFrozenSet(Object cls, Shape shape, HashingStorage storage) {
-        return new PFrozenSet(cls, shape, storage);
+        return traced(new PFrozenSet(cls, shape, storage));
     }
 
     public static PDict createDict(PythonLanguage language) {
@@ -679,7 +693,7 @@ public final class PFactory {
     }
 
     public static PDict createDict(Object cls, Shape shape, HashingStorage storage) {
-        return new PDict(cls, shape, storage);
+        return traced(new PDict(cls, shape, storage));
     }
 
     public static POrderedDict createOrderedDict(Object cls, Shape shape) {
@@ -967,7 +981,7 @@ public final class PFactory {
     }
 
     public static PByteArray createByteArray(Object cls, Shape shape, SequenceStorage storage) {
-        return new PByteArray(cls, shape, storage);
+        return traced(new PByteArray(cls, shape, storage));
     }
 
     /*
@@ -1103,6 +1117,10 @@ public final class PFactory {
                         codeUnit.varnames.length, -1, -1, null, null, null, null, null, filename, codeUnit.name, codeUnit.qualname, -1, null);
     }
 
+    public static PCode createLazyCode(PythonLanguage language, BytecodeDSLCodeUnit codeUnit, boolean internal, TruffleString filename) {
+        return new PCode(PythonBuiltinClassType.PCode, PythonBuiltinClassType.PCode.getInstanceShape(language), codeUnit, internal, filename);
+    }
+
     public static PCode createCode(PythonLanguage language, RootNode rootNode, Signature signature, int nlocals,
                     int stacksize, int flags, Object[] constants,
                     TruffleString[] names, TruffleString[] varnames,
@@ -1122,6 +1140,18 @@ public final class PFactory {
         return new PSocket(cls, shape);
     }
 
+    /*
+     * Select
+     */
+
+    public static PPoller createPoller(PythonLanguage language, PythonContext context, Object handle) {
+        return createPoller(context, PythonBuiltinClassType.PPoll, PythonBuiltinClassType.PPoll.getInstanceShape(language), handle);
+    }
+
+    public static PPoller createPoller(PythonContext context, Object cls, Shape shape, Object handle) {
+        return new PPoller(cls, shape, context, handle);
+    }
+
     /*
      * Threading
      */
@@ -1691,4 +1721,8 @@ public final class PFactory {
     public static Profiler createProfiler(Object cls, Shape shape, CPUSampler sampler) {
         return new Profiler(cls, shape, sampler);
     }
+
+    public static Profiler createProfiler(Object cls, Shape shape, LsprofInstrument.Tracer tracer, PythonContext context) {
+        return new Profiler(cls, shape, tracer, context);
+    }
 }
@@ -64,6 +64,7 @@ public class NativeIntSequenceStorage extends NativePrimitiveSequenceStorage {
     }
 
     public void setIntItemNormalized(int idx, int value) {
+        ensureWritable();
         long indexInBytes = (long) idx * Integer.BYTES;
         unsafe.putInt(getValueBufferAddr() + indexInBytes, value);
     }
@@ -42,6 +42,9 @@ package com.oracle.graal.python.runtime.sequence.storage;
 
 import com.oracle.graal.python.runtime.native_memory.NativeBuffer;
 import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
 import sun.misc.Unsafe;
 
 public abstract class NativePrimitiveSequenceStorage extends SequenceStorage {
@@ -64,6 +67,22 @@ public abstract class NativePrimitiveSequenceStorage extends SequenceStorage {
         return valueBufferAddr;
     }
 
+    /**
+     * Must be called before modifying the values in place, because the value buffer may wrap memory
+     * we do not own (see {@link NativeBuffer#wrapUnowned}).
+     */
+    public final void ensureWritable() {
+        if (CompilerDirectives.injectBranchProbability(CompilerDirectives.UNLIKELY_PROBABILITY, !valueBuffer.isOwned())) {
+            makeOwned();
+        }
+    }
+
+    @TruffleBoundary
+    private void makeOwned() {
+        valueBuffer.ensureOwned();
+        this.valueBufferAddr = valueBuffer.getMemoryAddress();
+    }
+
     public final void reallocate(int capacity) {
         long newCapacityInBytes = itemSize * capacity;
         valueBuffer.reallocate(newCapacityInBytes);
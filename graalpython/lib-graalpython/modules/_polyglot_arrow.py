@@ -42,14 +42,56 @@ import java
 import gc
 import atexit
 
-try:
-    java.type("org.apache.arrow.vector.BaseFixedWidthVector")
-except KeyError:
-    raise ImportError(
-        "It is not possible to import Apache Arrow Vector classes because arrow-vector package is not on the class path. Please add this library to your project.")
 
-if not __graalpython__.host_import_enabled:
-    raise NotImplementedError("Host lookup is not allowed. You can allow it while building python context.")
+def _check_java_arrow():
+    if not __graalpython__.host_import_enabled:
+        raise NotImplementedError("Host lookup is not allowed. You can allow it while building python context.")
+    try:
+        java.type("org.apache.arrow.vector.BaseFixedWidthVector")
+    except KeyError:
+        raise ImportError(
+            "It is not possible to import Apache Arrow Vector classes because arrow-vector package is not on the class path. Please add this library to your project.")
+
+
+class ArrowColumn:
+    """
+    Wraps a list of ints, floats or bools (with None as missing values), an array.array, a
+    memoryview or any other buffer of primitives, so that it can be passed to consumers of the
+    Arrow PyCapsule interface, e.g. pyarrow.array(). The data is copied into native memory once,
+    when the consumer asks for it.
+    """
+
+    def __init__(self, obj):
+        self.obj = obj
+
+    def __len__(self):
+        return len(self.obj)
+
+    def __arrow_c_schema__(self):
+        return __graalpython__.export_arrow_column(self.obj, True)
+
+    def __arrow_c_array__(self, requested_schema=None):
+        # we only produce one representation, consumers cast it if they need to
+        return __graalpython__.export_arrow_column(self.obj, False)
+
+
+def to_arrow(obj):
+    """
+    Returns an Arrow PyCapsule producer for a list or buffer of primitives, see ArrowColumn.
+    """
+    return ArrowColumn(obj)
+
+
+def from_arrow(obj):
+    """
+    Creates a list from any producer of the Arrow PyCapsule interface, i.e. an object with an
+    __arrow_c_array__ method, like a pyarrow.Array or, after enable_java_integration(), a Java
+    Arrow vector. Primitive arrays without children are supported. Arrays of 32-bit ints without
+    missing values are wrapped without copying, the memory is released once the list's storage
+    is garbage collected.
+    """
+    schema_capsule, array_capsule = obj.__arrow_c_array__()
+    return __graalpython__.import_arrow_column(schema_capsule, array_capsule)
 
 
 class TinyIntVector:
@@ -129,17 +171,15 @@ class Table:
         return Data.export_table(self)
 
 class ArrowArray:
-    _jarrow_array_class = java.type("org.apache.arrow.c.ArrowArray")
-    _graalpy_arrow_array_class = java.type("com.oracle.graal.python.nodes.arrow.ArrowArray")
 
     @staticmethod
     def allocate_new(allocator):
-        return ArrowArray._jarrow_array_class.allocateNew(allocator)
+        return java.type("org.apache.arrow.c.ArrowArray").allocateNew(allocator)
 
     @staticmethod
     def transfer_to_managed(arrow_array):
         snapshot = arrow_array.snapshot()
-        managed_arrow_array = ArrowArray._graalpy_arrow_array_class.allocate(
+        managed_arrow_array = java.type("com.oracle.graal.python.nodes.arrow.ArrowArray").allocate(
             snapshot.length,
             snapshot.null_count,
             snapshot.offset,
@@ -157,17 +197,15 @@ class ArrowArray:
 
 
 class ArrowSchema:
-    _jarrow_schema_class = java.type("org.apache.arrow.c.ArrowSchema")
-    _graalpy_arrow_schema_class = java.type("com.oracle.graal.python.nodes.arrow.ArrowSchema")
 
     @staticmethod
     def allocate_new(allocator):
-        return ArrowSchema._jarrow_schema_class.allocateNew(allocator)
+        return java.type("org.apache.arrow.c.ArrowSchema").allocateNew(allocator)
 
     @staticmethod
     def transfer_to_managed(arrow_schema):
         snapshot = arrow_schema.snapshot()
-        managed_arrow_schema = ArrowSchema._graalpy_arrow_schema_class.allocate(
+        managed_arrow_schema = java.type("com.oracle.graal.python.nodes.arrow.ArrowSchema").allocate(
             snapshot.format,
             snapshot.name,
             snapshot.metadata,
@@ -183,7 +221,6 @@ class ArrowSchema:
 
 
 class Data:
-    _jdata_class = java.type("org.apache.arrow.c.Data")
 
     @staticmethod
     def export_table(table: Table):
@@ -191,7 +228,7 @@ class Data:
         allocator = vector_schema_root.getFieldVectors().getFirst().getAllocator().getRoot()
         arrow_array = ArrowArray.allocate_new(allocator)
         arrow_schema = ArrowSchema.allocate_new(allocator)
-        Data._jdata_class.exportVectorSchemaRoot(allocator, vector_schema_root, None, arrow_array, arrow_schema)
+        java.type("org.apache.arrow.c.Data").exportVectorSchemaRoot(allocator, vector_schema_root, None, arrow_array, arrow_schema)
         vector_schema_root.close()
         managed_arrow_array = ArrowArray.transfer_to_managed(arrow_array)
         managed_arrow_schema = ArrowSchema.transfer_to_managed(arrow_schema)
@@ -204,7 +241,7 @@ class Data:
         arrow_array = ArrowArray.allocate_new(allocator)
         arrow_schema = ArrowSchema.allocate_new(allocator)
 
-        Data._jdata_class.exportVector(allocator, vector, None, arrow_array, arrow_schema)
+        java.type("org.apache.arrow.c.Data").exportVector(allocator, vector, None, arrow_array, arrow_schema)
         managed_arrow_array = ArrowArray.transfer_to_managed(arrow_array)
         managed_arrow_schema = ArrowSchema.transfer_to_managed(arrow_schema)
 
@@ -224,6 +261,7 @@ def enable_java_integration(allow_method_overwrites: bool = False):
     """
     global __enabled_java_integration
     if not __enabled_java_integration:
+        _check_java_arrow()
         __enabled_java_integration = True
         # Ints
         int8_vector_class = java.type("org.apache.arrow.vector.TinyIntVector")
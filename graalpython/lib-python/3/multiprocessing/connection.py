@@ -231,6 +231,13 @@ class _ConnectionBase:
         """Send a (picklable) object"""
         self._check_closed()
         self._check_writable()
+        # Begin Truffle change
+        if self._handle < 0 and _default_context._is_graalpy():
+            from _multiprocessing_graalpy import _write_object
+            # objects built from builtin immutable values are passed without pickling
+            if _write_object(self._handle, obj):
+                return
+        # End Truffle change
         self._send_bytes(_ForkingPickler.dumps(obj))
 
     def recv_bytes(self, maxlength=None):
@@ -275,6 +282,14 @@ class _ConnectionBase:
         """Receive a (picklable) object"""
         self._check_closed()
         self._check_readable()
+        # Begin Truffle change
+        if self._handle < 0 and _default_context._is_graalpy():
+            from _multiprocessing_graalpy import _read_object
+            transferred, value = _read_object(self._handle)
+            if transferred:
+                return value
+            return _ForkingPickler.loads(value)
+        # End Truffle change
         buf = self._recv_bytes()
         return _ForkingPickler.loads(buf.getbuffer())
 
@@ -487,10 +502,13 @@ class Connection(_ConnectionBase):
 
     # Begin Truffle change
     def _recv_mp_read(self, size):
-        # size is irelevant, _multiprocessing._read returns
+        # size is irelevant, _multiprocessing._read_object returns
         # the whole byte array at once
-        from _multiprocessing_graalpy import _read
-        chunk = _read(self._handle, size)
+        from _multiprocessing_graalpy import _read_object
+        transferred, chunk = _read_object(self._handle)
+        if transferred:
+            # the peer sent an object without pickling it
+            chunk = _ForkingPickler.dumps(chunk)
         return io.BytesIO(chunk)
 
     def _send_mp_write(self, bytes):
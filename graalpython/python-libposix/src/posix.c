@@ -85,6 +85,11 @@ int32_t signal_self_segv(void);
 #include <pty.h>
 #endif
 
+#ifdef __gnu_linux__
+#include <sys/sendfile.h>
+#include <sys/syscall.h>
+#endif
+
 #ifndef _WIN32
 #include <time.h>
 #include <poll.h>
@@ -141,6 +146,62 @@ int64_t call_write(int32_t fd, void *buf, uint64_t count) {
     return write(fd, buf, count);
 }
 
+int64_t call_pread(int32_t fd, void *buf, uint64_t count, int64_t offset) {
+    return pread(fd, buf, count, offset);
+}
+
+int64_t call_pwrite(int32_t fd, void *buf, uint64_t count, int64_t offset) {
+    return pwrite(fd, buf, count, offset);
+}
+
+#ifdef __gnu_linux__
+// USE_FILE_OFFSET stands for NULL, i.e. use and update the file offset of the descriptor.
+// Must match PosixSupportLibrary.USE_FILE_OFFSET. Other negative offsets fail with EINVAL.
+#define USE_FILE_OFFSET INT64_MIN
+
+static int check_transfer_offsets(int64_t inOffset, int64_t outOffset) {
+    if ((inOffset < 0 && inOffset != USE_FILE_OFFSET) || (outOffset < 0 && outOffset != USE_FILE_OFFSET)) {
+        errno = EINVAL;
+        return -1;
+    }
+    return 0;
+}
+
+int64_t call_sendfile(int32_t outFd, int32_t inFd, int64_t offset, uint64_t count) {
+    if (check_transfer_offsets(offset, USE_FILE_OFFSET) < 0) {
+        return -1;
+    }
+    if (offset == USE_FILE_OFFSET) {
+        return sendfile(outFd, inFd, NULL, count);
+    }
+    off_t off = offset;
+    return sendfile(outFd, inFd, &off, count);
+}
+
+int64_t call_copy_file_range(int32_t inFd, int64_t inOffset, int32_t outFd, int64_t outOffset, uint64_t count) {
+#ifdef SYS_copy_file_range
+    if (check_transfer_offsets(inOffset, outOffset) < 0) {
+        return -1;
+    }
+    loff_t inOff = inOffset;
+    loff_t outOff = outOffset;
+    return syscall(SYS_copy_file_range, inFd, inOffset == USE_FILE_OFFSET ? NULL : &inOff, outFd, outOffset == USE_FILE_OFFSET ? NULL : &outOff, count, 0);
+#else
+    errno = ENOSYS;
+    return -1;
+#endif
+}
+
+int64_t call_splice(int32_t inFd, int64_t inOffset, int32_t outFd, int64_t outOffset, uint64_t count, int32_t flags) {
+    if (check_transfer_offsets(inOffset, outOffset) < 0) {
+        return -1;
+    }
+    loff_t inOff = inOffset;
+    loff_t outOff = outOffset;
+    return splice(inFd, inOffset == USE_FILE_OFFSET ? NULL : &inOff, outFd, outOffset == USE_FILE_OFFSET ? NULL : &outOff, count, flags);
+}
+#endif
+
 int32_t call_dup(int32_t fd) {
     return fcntl(fd, F_DUPFD_CLOEXEC, 0);
 }
@@ -223,6 +284,25 @@ int32_t call_select(int32_t nfds, int32_t* readfds, int32_t readfdsLen,
     return (int32_t) result;
 }
 
+#ifndef _WIN32
+static int poll_timeout_ms(int64_t timeoutSec, int64_t timeoutUsec, int *timeout_ms) {
+    if (timeoutSec < 0) {
+        *timeout_ms = -1;
+    } else if (timeoutSec > INT_MAX / 1000) {
+        errno = EINVAL;
+        return -1;
+    } else {
+        int64_t timeout_ms_64 = timeoutSec * 1000 + timeoutUsec / 1000;
+        if (timeout_ms_64 > INT_MAX) {
+            errno = EINVAL;
+            return -1;
+        }
+        *timeout_ms = (int)timeout_ms_64;
+    }
+    return 0;
+}
+#endif
+
 int32_t call_poll(int32_t fd, int32_t writing, int64_t timeoutSec, int64_t timeoutUsec) {
 #ifdef _WIN32
     // for windows, use select() as a worse fallback
@@ -238,20 +318,55 @@ int32_t call_poll(int32_t fd, int32_t writing, int64_t timeoutSec, int64_t timeo
     pollfd.events = writing ? POLLOUT : POLLIN;
 
     int timeout_ms;
-    if (timeoutSec < 0) {
-        timeout_ms = -1;
-    } else if (timeoutSec > INT_MAX / 1000) {
-        errno = EINVAL;
+    if (poll_timeout_ms(timeoutSec, timeoutUsec, &timeout_ms) < 0) {
         return -1;
-    } else {
-        int64_t timeout_ms_64 = timeoutSec * 1000 + timeoutUsec / 1000;
-        if (timeout_ms_64 > INT_MAX) {
-            errno = EINVAL;
+    }
+    return poll(&pollfd, 1, timeout_ms);
+#endif
+}
+
+// fds and events describe the set of descriptors to wait for, the descriptors that
+// are ready and their revents are written to the beginning of readyFds and
+// readyEvents, the return value is their count
+int32_t call_poll_many(int32_t* fds, int32_t* events, int32_t nfds, int64_t timeoutSec, int64_t timeoutUsec,
+    int32_t* readyFds, int32_t* readyEvents) {
+#ifdef _WIN32
+    errno = ENOTSUP;
+    return -1;
+#else
+    int timeout_ms;
+    if (poll_timeout_ms(timeoutSec, timeoutUsec, &timeout_ms) < 0) {
+        return -1;
+    }
+    struct pollfd *pollfds = NULL;
+    if (nfds > 0) {
+        pollfds = (struct pollfd *) malloc(nfds * sizeof(struct pollfd));
+        if (pollfds == NULL) {
+            errno = ENOMEM;
             return -1;
         }
-        timeout_ms = (int)timeout_ms_64;
     }
-    return poll(&pollfd, 1, timeout_ms);
+    for (int32_t i = 0; i < nfds; ++i) {
+        pollfds[i].fd = fds[i];
+        pollfds[i].events = (short) events[i];
+        pollfds[i].revents = 0;
+    }
+    int result = poll(pollfds, (nfds_t) nfds, timeout_ms);
+    if (result > 0) {
+        int32_t ready = 0;
+        for (int32_t i = 0; i < nfds && ready < result; ++i) {
+            if (pollfds[i].revents != 0) {
+                readyFds[ready] = pollfds[i].fd;
+                readyEvents[ready] = pollfds[i].revents;
+                ready++;
+            }
+        }
+        result = ready;
+    }
+    int saved_errno = errno;
+    free(pollfds);
+    errno = saved_errno;
+    return (int32_t) result;
 #endif
 }
 
@@ -277,6 +277,11 @@ u x S_IFCHR
 0 x RTLD_GLOBAL
 0 x RTLD_LOCAL
 
+[spliceFlags]
+* i SPLICE_F_MOVE
+* i SPLICE_F_NONBLOCK
+* i SPLICE_F_MORE
+
 [winapiLoadLibraryFlags]
 * i LOAD_LIBRARY_SEARCH_DEFAULT_DIRS
 * i LOAD_LIBRARY_SEARCH_APPLICATION_DIR